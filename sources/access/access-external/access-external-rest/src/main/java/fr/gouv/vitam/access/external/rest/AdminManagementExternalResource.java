@@ -110,6 +110,7 @@ import fr.gouv.vitam.ingest.internal.common.exception.IngestInternalClientServer
 import fr.gouv.vitam.logbook.common.exception.LogbookClientAlreadyExistsException;
 import fr.gouv.vitam.logbook.common.exception.LogbookClientServerException;
 import fr.gouv.vitam.logbook.common.parameters.LogbookOperationParameters;
+import fr.gouv.vitam.security.internal.filter.InternalSecurityCache;
 
 import javax.ws.rs.ApplicationPath;
 import javax.ws.rs.Consumes;
@@ -1729,6 +1730,8 @@ public class AdminManagementExternalResource extends ApplicationStatusResource {
             Update update = updateParserSingle.getRequest();
             update.setQuery(QueryHelper.eq(IDENTIFIER, identifier));
             RequestResponse response = client.updateContext(identifier, update.getFinalUpdate());
+            // Permissions or status of the context may have changed
+            InternalSecurityCache.getInstance().invalidateContext(identifier);
             return getResponse(response);
         } catch (ReferentialNotFoundException e) {
             LOGGER.error(e);
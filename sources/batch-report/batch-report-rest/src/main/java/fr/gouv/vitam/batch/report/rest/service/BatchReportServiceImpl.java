@@ -72,25 +72,35 @@ import fr.gouv.vitam.common.guid.GUIDFactory;
 import fr.gouv.vitam.common.json.JsonHandler;
 import fr.gouv.vitam.common.logging.VitamLogger;
 import fr.gouv.vitam.common.logging.VitamLoggerFactory;
+import fr.gouv.vitam.common.thread.VitamThreadPoolExecutor;
 import fr.gouv.vitam.worker.core.distribution.JsonLineModel;
 import fr.gouv.vitam.worker.core.distribution.JsonLineWriter;
 import fr.gouv.vitam.workspace.api.exception.ContentAddressableStorageServerException;
 import fr.gouv.vitam.workspace.client.WorkspaceClient;
 import fr.gouv.vitam.workspace.client.WorkspaceClientFactory;
+import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.bson.Document;
 
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
+import java.io.FilterInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.io.PipedInputStream;
+import java.io.PipedOutputStream;
 import java.nio.file.Files;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiFunction;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import static fr.gouv.vitam.batch.report.model.PurgeAccessionRegisterModel.OPI;
@@ -110,6 +120,7 @@ public class BatchReportServiceImpl {
     private static final VitamLogger LOGGER = VitamLoggerFactory.getInstance(BatchReportServiceImpl.class);
     private static final String JSONL_EXTENSION = ".jsonl";
     private static final String REPORT_JSONL = "report.jsonl";
+    private static final int REPORT_PIPE_BUFFER_SIZE = 1024 * 1024;
 
     private final EliminationActionUnitRepository eliminationActionUnitRepository;
     private final PurgeUnitRepository purgeUnitRepository;
@@ -349,12 +360,48 @@ public class BatchReportServiceImpl {
         }
     }
 
-    private void storeReportToWorkspace(String processId, File report)
+    /**
+     * Streams the report to the workspace while it is being written : report lines are piped from a writer thread
+     * to an atomic chunked upload, so no local copy of the report is needed. A failure while writing aborts the
+     * upload, and no partial report is made visible in the workspace.
+     */
+    private void storeReportToWorkspace(String processId, ReportContentWriter reportContentWriter)
         throws IOException, ContentAddressableStorageServerException {
 
+        PipedInputStream pipedInputStream = new PipedInputStream(REPORT_PIPE_BUFFER_SIZE);
+        PipedOutputStream pipedOutputStream = new PipedOutputStream(pipedInputStream);
+        AtomicReference<Exception> writeFailure = new AtomicReference<>();
+
+        Future<?> writer = VitamThreadPoolExecutor.getDefaultExecutor().submit(() -> {
+            try {
+                JsonLineWriter reportWriter = new JsonLineWriter(pipedOutputStream);
+                reportContentWriter.write(reportWriter);
+                reportWriter.close();
+            } catch (Exception e) {
+                LOGGER.error("Could not write report of process " + processId, e);
+                writeFailure.set(e);
+                IOUtils.closeQuietly(pipedOutputStream);
+            }
+        });
+
         try (WorkspaceClient workspaceClient = workspaceClientFactory.getClient();
-            InputStream inputStream = new FileInputStream(report)) {
-            workspaceClient.putAtomicObject(processId, REPORT_JSONL, inputStream, report.length());
+            InputStream inputStream = new WriteFailureAwareInputStream(pipedInputStream, writeFailure)) {
+            workspaceClient.putAtomicObject(processId, REPORT_JSONL, inputStream);
+        } finally {
+            // Unblocks the writer if the upload did not consume the whole report
+            IOUtils.closeQuietly(pipedInputStream);
+            awaitWriterTermination(writer);
+        }
+    }
+
+    private void awaitWriterTermination(Future<?> writer) {
+        try {
+            writer.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new VitamRuntimeException(e);
+        } catch (ExecutionException e) {
+            throw new VitamRuntimeException(e.getCause());
         }
     }
 
@@ -400,83 +447,56 @@ public class BatchReportServiceImpl {
         reportSummary.setExtendedInfo(getExtendedInfo(reportInfo));
         reportSummary.setVitamResults(getReportResults(reportInfo));
 
-        File tempReport =
-            File.createTempFile(REPORT_JSONL, JSONL_EXTENSION, new File(VitamConfiguration.getVitamTmpFolder()));
+        List<Supplier<MongoCursor<Document>>> entries = new ArrayList<>();
+        switch (reportSummary.getReportType()) {
+            case ELIMINATION_ACTION:
+
+                // ELIMINATION_ACTION report will contain :
+                // - ELIMINATION_ACTION_UNIT entries
+                // - PURGE_UNIT entries
+                // - PURGE_OBJECTGROUP entries
+                entries.add(() -> eliminationActionUnitRepository.findCollectionByProcessIdTenant(processId, tenantId));
+                entries.add(() -> purgeUnitRepository.findCollectionByProcessIdTenant(processId, tenantId));
+                entries.add(() -> purgeObjectGroupRepository.findCollectionByProcessIdTenant(processId, tenantId));
+                break;
+            case TRANSFER_REPLY:
+
+                // TRANSFER_REPLY report will contain :
+                // - TRANSFER_REPLY_UNIT entries
+                // - PURGE_UNIT entries
+                // - PURGE_OBJECTGROUP entries
+                entries.add(() -> transferReplyUnitRepository.findCollectionByProcessIdTenant(processId, tenantId));
+                entries.add(() -> purgeUnitRepository.findCollectionByProcessIdTenant(processId, tenantId));
+                entries.add(() -> purgeObjectGroupRepository.findCollectionByProcessIdTenant(processId, tenantId));
+                break;
+            case PRESERVATION:
+                entries.add(() -> preservationReportRepository.findCollectionByProcessIdTenant(processId, tenantId));
+                break;
+            case AUDIT:
+                entries.add(() -> auditReportRepository
+                    .findCollectionByProcessIdTenantAndStatus(processId, tenantId, "WARNING", "KO"));
+                break;
+            case EVIDENCE_AUDIT:
+                entries.add(() -> evidenceAuditReportRepository
+                    .findCollectionByProcessIdTenantAndStatus(processId, tenantId, EvidenceStatus.WARN.name(),
+                        EvidenceStatus.KO.name()));
+                break;
+            case UPDATE_UNIT:
+                entries.add(() -> updateUnitReportRepository.findCollectionByProcessIdTenant(processId, tenantId));
+                break;
+            default:
+                throw new UnsupportedOperationException(
+                    String.format("Unsupported report type : '%s'.", reportSummary.getReportType()));
+        }
 
-        try (JsonLineWriter reportWriter = new JsonLineWriter(new FileOutputStream(tempReport))) {
+        storeReportToWorkspace(processId, reportWriter -> {
             reportWriter.addEntry(operationSummary);
             reportWriter.addEntry(reportSummary);
             reportWriter.addEntry(reportInfo.getContext());
-
-            switch (reportSummary.getReportType()) {
-                case ELIMINATION_ACTION: {
-
-                    // ELIMINATION_ACTION report will contain :
-                    // - ELIMINATION_ACTION_UNIT entries
-                    // - PURGE_UNIT entries
-                    // - PURGE_OBJECTGROUP entries
-                    MongoCursor<Document> eliminationArchiveUnitIterator =
-                        eliminationActionUnitRepository.findCollectionByProcessIdTenant(processId, tenantId);
-                    writeDocumentsInFile(reportWriter, eliminationArchiveUnitIterator);
-
-                    MongoCursor<Document> purgeUnitIterator =
-                        purgeUnitRepository.findCollectionByProcessIdTenant(processId, tenantId);
-                    writeDocumentsInFile(reportWriter, purgeUnitIterator);
-
-                    MongoCursor<Document> objectGroupIterator =
-                        purgeObjectGroupRepository.findCollectionByProcessIdTenant(processId, tenantId);
-                    writeDocumentsInFile(reportWriter, objectGroupIterator);
-                    break;
-                }
-                case TRANSFER_REPLY: {
-
-                    // TRANSFER_REPLY report will contain :
-                    // - TRANSFER_REPLY_UNIT entries
-                    // - PURGE_UNIT entries
-                    // - PURGE_OBJECTGROUP entries
-                    MongoCursor<Document> transferReplyUnitIterator =
-                        transferReplyUnitRepository.findCollectionByProcessIdTenant(processId, tenantId);
-                    writeDocumentsInFile(reportWriter, transferReplyUnitIterator);
-
-                    MongoCursor<Document> purgeUnitIterator =
-                        purgeUnitRepository.findCollectionByProcessIdTenant(processId, tenantId);
-                    writeDocumentsInFile(reportWriter, purgeUnitIterator);
-
-                    MongoCursor<Document> objectGroupIterator =
-                        purgeObjectGroupRepository.findCollectionByProcessIdTenant(processId, tenantId);
-                    writeDocumentsInFile(reportWriter, objectGroupIterator);
-                    break;
-                }
-                case PRESERVATION:
-                    MongoCursor<Document> preservationIterator =
-                        preservationReportRepository.findCollectionByProcessIdTenant(processId, tenantId);
-                    writeDocumentsInFile(reportWriter, preservationIterator);
-                    break;
-                case AUDIT:
-                    MongoCursor<Document> auditIterator =
-                        auditReportRepository
-                            .findCollectionByProcessIdTenantAndStatus(processId, tenantId, "WARNING", "KO");
-                    writeDocumentsInFile(reportWriter, auditIterator);
-                    break;
-                case EVIDENCE_AUDIT:
-                    MongoCursor<Document> evidenceAuditIterator =
-                        evidenceAuditReportRepository
-                            .findCollectionByProcessIdTenantAndStatus(processId, tenantId, EvidenceStatus.WARN.name(),
-                                EvidenceStatus.KO.name());
-                    writeDocumentsInFile(reportWriter, evidenceAuditIterator);
-                    break;
-                case UPDATE_UNIT:
-                    MongoCursor<Document> updates =
-                        updateUnitReportRepository.findCollectionByProcessIdTenant(processId, tenantId);
-                    writeDocumentsInFile(reportWriter, updates);
-                    break;
-                default:
-                    throw new UnsupportedOperationException(
-                        String.format("Unsupported report type : '%s'.", reportSummary.getReportType()));
+            for (Supplier<MongoCursor<Document>> entry : entries) {
+                writeDocumentsInFile(reportWriter, entry.get());
             }
-        }
-
-        storeReportToWorkspace(processId, tempReport);
+        });
     }
 
     /**
@@ -646,4 +666,40 @@ public class BatchReportServiceImpl {
             throw new VitamRuntimeException(e);
         }
     }
+
+    @FunctionalInterface
+    private interface ReportContentWriter {
+        void write(JsonLineWriter reportWriter) throws IOException, InvalidParseOperationException;
+    }
+
+
+    /**
+     * Input stream that reports a failure of the report writer instead of a premature end of stream
+     */
+    private static class WriteFailureAwareInputStream extends FilterInputStream {
+
+        private final AtomicReference<Exception> writeFailure;
+
+        WriteFailureAwareInputStream(InputStream inputStream, AtomicReference<Exception> writeFailure) {
+            super(inputStream);
+            this.writeFailure = writeFailure;
+        }
+
+        @Override
+        public int read() throws IOException {
+            return checkEndOfStream(super.read());
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            return checkEndOfStream(super.read(b, off, len));
+        }
+
+        private int checkEndOfStream(int read) throws IOException {
+            if (read == -1 && writeFailure.get() != null) {
+                throw new IOException("Report generation failed", writeFailure.get());
+            }
+            return read;
+        }
+    }
 }
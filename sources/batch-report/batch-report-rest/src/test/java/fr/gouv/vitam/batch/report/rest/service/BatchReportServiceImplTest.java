@@ -28,6 +28,7 @@ package fr.gouv.vitam.batch.report.rest.service;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.JsonNode;
+import com.mongodb.client.MongoCursor;
 import fr.gouv.vitam.batch.report.model.AuditFullStatusCount;
 import fr.gouv.vitam.batch.report.model.AuditStatsModel;
 import fr.gouv.vitam.batch.report.model.EvidenceAuditFullStatusCount;
@@ -104,6 +105,7 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import static fr.gouv.vitam.batch.report.model.entry.PreservationReportEntry.ACTION;
 import static fr.gouv.vitam.batch.report.model.entry.PreservationReportEntry.ANALYSE_RESULT;
@@ -122,12 +124,13 @@ import static fr.gouv.vitam.batch.report.model.entry.ReportEntry.OUTCOME;
 import static fr.gouv.vitam.common.model.administration.ActionTypePreservation.ANALYSE;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.Assertions.tuple;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -327,6 +330,67 @@ public class BatchReportServiceImplTest {
         assertThat(new String(Files.readAllBytes(report))).isEqualTo(accumulatorExpected);
     }
 
+    @Test
+    public void should_stream_large_preservation_report() throws Exception {
+        // Given
+        String processId = "aeeaaaaaacgw45nxaaopkalhchougsiaaaaq";
+        when(workspaceClientFactory.getClient()).thenReturn(workspaceClient);
+        Path report = initialisePathWithFileName("report.jsonl");
+        initialiseMockWhenPutAtomicObjectInWorkspace(report);
+
+        int nbEntries = 20_000;
+        List<Document> preservationData = IntStream.range(0, nbEntries)
+            .mapToObj(i -> getPreservationDocument(processId))
+            .collect(Collectors.toList());
+        when(preservationReportRepository.findCollectionByProcessIdTenant(processId, TENANT_ID))
+            .thenReturn(new FakeMongoCursor<>(preservationData));
+        when(preservationReportRepository.stats(processId, TENANT_ID))
+            .thenReturn(new PreservationStatsModel(0, 1, 0, 1, 0, 0, 0, new HashMap<>(), 0));
+
+        Report reportInfo = new Report(
+            new OperationSummary(TENANT_ID, processId, "", "", "", "", JsonHandler.createObjectNode(),
+                JsonHandler.createObjectNode()),
+            new ReportSummary(null, null, ReportType.PRESERVATION, new ReportResults(1, 0, 0, 1),
+                JsonHandler.createObjectNode()),
+            JsonHandler.createObjectNode());
+
+        // When
+        batchReportServiceImpl.storeReportToWorkspace(reportInfo);
+
+        // Then
+        assertThat(Files.readAllLines(report)).hasSize(3 + nbEntries);
+    }
+
+    @Test
+    public void should_fail_report_upload_when_report_generation_fails() throws Exception {
+        // Given
+        String processId = "aeeaaaaaacgw45nxaaopkalhchougsiaaaaq";
+        when(workspaceClientFactory.getClient()).thenReturn(workspaceClient);
+        Path report = initialisePathWithFileName("report.jsonl");
+        initialiseMockWhenPutAtomicObjectInWorkspace(report);
+
+        MongoCursor<Document> failingCursor = mock(MongoCursor.class);
+        when(failingCursor.hasNext()).thenReturn(true);
+        when(failingCursor.next()).thenReturn(getPreservationDocument(processId))
+            .thenThrow(new IllegalStateException("cursor failure"));
+        when(preservationReportRepository.findCollectionByProcessIdTenant(processId, TENANT_ID))
+            .thenReturn(failingCursor);
+        when(preservationReportRepository.stats(processId, TENANT_ID))
+            .thenReturn(new PreservationStatsModel(0, 1, 0, 1, 0, 0, 0, new HashMap<>(), 0));
+
+        Report reportInfo = new Report(
+            new OperationSummary(TENANT_ID, processId, "", "", "", "", JsonHandler.createObjectNode(),
+                JsonHandler.createObjectNode()),
+            new ReportSummary(null, null, ReportType.PRESERVATION, new ReportResults(1, 0, 0, 1),
+                JsonHandler.createObjectNode()),
+            JsonHandler.createObjectNode());
+
+        // When / Then
+        assertThatThrownBy(() -> batchReportServiceImpl.storeReportToWorkspace(reportInfo))
+            .isInstanceOf(IOException.class)
+            .hasMessageContaining("Report generation failed");
+    }
+
     private Path initialisePathWithFileName(String filename) throws IOException {
         File folder = this.folder.newFolder();
         return Paths.get(folder.getAbsolutePath(), filename);
@@ -677,6 +741,6 @@ public class BatchReportServiceImplTest {
             InputStream argumentAt = invocation.getArgument(2);
             Files.copy(argumentAt, report);
             return null;
-        }).when(workspaceClient).putAtomicObject(anyString(), anyString(), any(InputStream.class), anyLong());
+        }).when(workspaceClient).putAtomicObject(anyString(), anyString(), any(InputStream.class));
     }
 }
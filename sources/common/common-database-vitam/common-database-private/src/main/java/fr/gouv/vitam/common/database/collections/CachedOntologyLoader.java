@@ -26,10 +26,14 @@
  */
 package fr.gouv.vitam.common.database.collections;
 
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.cache.CacheBuilder;
 import com.google.common.cache.CacheLoader;
 import com.google.common.cache.LoadingCache;
+import fr.gouv.vitam.common.VitamConfiguration;
 import fr.gouv.vitam.common.client.OntologyLoader;
+import fr.gouv.vitam.common.logging.VitamLogger;
+import fr.gouv.vitam.common.logging.VitamLoggerFactory;
 import fr.gouv.vitam.common.model.administration.OntologyModel;
 import fr.gouv.vitam.common.thread.VitamThreadUtils;
 import org.apache.commons.lang3.StringUtils;
@@ -37,11 +41,32 @@ import org.apache.commons.lang3.StringUtils;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
 
+/**
+ * Ontology loader sharing a versioned ontology snapshot between requests.<br>
+ * Each request is pinned to the snapshot it first loaded, so a single request always sees one ontology version.
+ * The snapshot is reloaded by a new request when older than the refresh interval, or after an explicit invalidation.
+ */
 public class CachedOntologyLoader implements OntologyLoader {
-    private final LoadingCache<String, List<OntologyModel>> cache;
+    private static final VitamLogger LOGGER = VitamLoggerFactory.getInstance(CachedOntologyLoader.class);
+
+    private final LoadingCache<String, OntologyIndex> cache;
     private static final String GET_FROM_SAME_CACHE = "GET-FROM-SAME-CACHE-VALUE-ONTOLOGY";
 
+    private final OntologyLoader loadOntology;
+    private final long refreshIntervalInMillis;
+
+    private volatile OntologyIndex snapshot;
+    private volatile long snapshotLoadTime;
+
     public CachedOntologyLoader(int maxEntriesInCache, int cacheTimeoutInSeconds, OntologyLoader loadOntology) {
+        this(maxEntriesInCache, cacheTimeoutInSeconds, VitamConfiguration.getOntologyCacheRefreshIntervalInSeconds(),
+            loadOntology);
+    }
+
+    public CachedOntologyLoader(int maxEntriesInCache, int cacheTimeoutInSeconds, int refreshIntervalInSeconds,
+        OntologyLoader loadOntology) {
+        this.loadOntology = loadOntology;
+        this.refreshIntervalInMillis = TimeUnit.SECONDS.toMillis(refreshIntervalInSeconds);
         CacheBuilder<Object, Object> objectObjectCacheBuilder = CacheBuilder.newBuilder();
         // Max entries in cache
         objectObjectCacheBuilder.maximumSize(maxEntriesInCache);
@@ -49,10 +74,10 @@ public class CachedOntologyLoader implements OntologyLoader {
         objectObjectCacheBuilder.expireAfterAccess(cacheTimeoutInSeconds, TimeUnit.SECONDS);
         // Okay to GC
         objectObjectCacheBuilder.weakValues();
-        this.cache = objectObjectCacheBuilder.build(new CacheLoader<String, List<OntologyModel>>() {
+        this.cache = objectObjectCacheBuilder.build(new CacheLoader<String, OntologyIndex>() {
             @Override
-            public List<OntologyModel> load(String key) {
-                return loadOntology.loadOntologies();
+            public OntologyIndex load(String key) {
+                return getCurrentSnapshot();
             }
         });
     }
@@ -64,4 +89,43 @@ public class CachedOntologyLoader implements OntologyLoader {
             : VitamThreadUtils.getVitamSession().getRequestId();
         return this.cache.getUnchecked(id);
     }
+
+    /**
+     * Force reloading of ontology by next requests (requests in progress keep their current snapshot)
+     */
+    public void invalidate() {
+        this.snapshotLoadTime = 0L;
+        this.cache.invalidate(GET_FROM_SAME_CACHE);
+    }
+
+    @VisibleForTesting
+    long getSnapshotVersion() {
+        OntologyIndex currentSnapshot = this.snapshot;
+        return currentSnapshot == null ? -1L : currentSnapshot.getVersion();
+    }
+
+    private OntologyIndex getCurrentSnapshot() {
+        OntologyIndex currentSnapshot = this.snapshot;
+        if (currentSnapshot != null && !isExpired()) {
+            return currentSnapshot;
+        }
+        synchronized (this) {
+            if (this.snapshot != null && !isExpired()) {
+                return this.snapshot;
+            }
+            List<OntologyModel> ontologyModels = loadOntology.loadOntologies();
+            if (this.snapshot == null) {
+                this.snapshot = new OntologyIndex(0L, ontologyModels);
+            } else if (!this.snapshot.hasSameTypes(ontologyModels)) {
+                this.snapshot = new OntologyIndex(this.snapshot.getVersion() + 1, ontologyModels);
+                LOGGER.info("Ontology changed, new ontology version " + this.snapshot.getVersion());
+            }
+            this.snapshotLoadTime = System.currentTimeMillis();
+            return this.snapshot;
+        }
+    }
+
+    private boolean isExpired() {
+        return System.currentTimeMillis() - snapshotLoadTime >= refreshIntervalInMillis;
+    }
 }
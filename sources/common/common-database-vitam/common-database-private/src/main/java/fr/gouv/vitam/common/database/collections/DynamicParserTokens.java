@@ -31,18 +31,16 @@ import fr.gouv.vitam.common.logging.VitamLoggerFactory;
 import fr.gouv.vitam.common.model.administration.OntologyModel;
 
 import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
 
 public class DynamicParserTokens {
     private static final VitamLogger LOGGER = VitamLoggerFactory.getInstance(DynamicParserTokens.class);
 
     private final VitamDescriptionResolver vitamDescriptionResolver;
-    private final Map<String, OntologyModel> ontologyModelsByName;
+    private final OntologyIndex ontologyIndex;
 
     public DynamicParserTokens(VitamDescriptionResolver vitamDescriptionResolver, List<OntologyModel> ontologyModels) {
         this.vitamDescriptionResolver = vitamDescriptionResolver;
-        this.ontologyModelsByName = ontologyModels.stream().collect(Collectors.toMap(OntologyModel::getIdentifier, o -> o));
+        this.ontologyIndex = OntologyIndex.of(ontologyModels);
     }
 
     public boolean isNotAnalyzed(String name) {
@@ -52,7 +50,7 @@ public class DynamicParserTokens {
             return !description.getType().equals(VitamDescriptionType.VitamType.text);
         }
 
-        OntologyModel ontologyModel = ontologyModelsByName.get(name);
+        OntologyModel ontologyModel = ontologyIndex.getByIdentifier(name);
         if (ontologyModel != null) {
             return !ontologyModel.getType().isAnalyzed();
         }
@@ -0,0 +1,120 @@
+/*
+ * Copyright French Prime minister Office/SGMAP/DINSIC/Vitam Program (2015-2020)
+ *
+ * contact.vitam@culture.gouv.fr
+ *
+ * This software is a computer program whose purpose is to implement a digital archiving back-office system managing
+ * high volumetry securely and efficiently.
+ *
+ * This software is governed by the CeCILL 2.1 license under French law and abiding by the rules of distribution of free
+ * software. You can use, modify and/ or redistribute the software under the terms of the CeCILL 2.1 license as
+ * circulated by CEA, CNRS and INRIA at the following URL "https://cecill.info".
+ *
+ * As a counterpart to the access to the source code and rights to copy, modify and redistribute granted by the license,
+ * users are provided only with a limited warranty and the software's author, the holder of the economic rights, and the
+ * successive licensors have only limited liability.
+ *
+ * In this respect, the user's attention is drawn to the risks associated with loading, using, modifying and/or
+ * developing or reproducing the software by the user in light of its specific status of free software, that may mean
+ * that it is complicated to manipulate, and that also therefore means that it is reserved for developers and
+ * experienced professionals having in-depth computer knowledge. Users are therefore encouraged to load and test the
+ * software's suitability as regards their requirements in conditions enabling the security of their systems and/or data
+ * to be ensured and, more generally, to use and operate it in the same conditions as regards security.
+ *
+ * The fact that you are presently reading this means that you have had knowledge of the CeCILL 2.1 license and that you
+ * accept its terms.
+ */
+package fr.gouv.vitam.common.database.collections;
+
+import fr.gouv.vitam.common.model.administration.OntologyModel;
+
+import java.util.AbstractList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Immutable ontology snapshot, with a precompiled index of ontology models by identifier.<br>
+ * Loaded once and shared between requests, so that request processing never rebuilds the index.
+ */
+public final class OntologyIndex extends AbstractList<OntologyModel> implements RandomAccess {
+
+    private final long version;
+    private final List<OntologyModel> ontologyModels;
+    private final Map<String, OntologyModel> ontologyModelsByIdentifier;
+
+    public OntologyIndex(long version, List<OntologyModel> ontologyModels) {
+        this.version = version;
+        this.ontologyModels = Collections.unmodifiableList(ontologyModels);
+        this.ontologyModelsByIdentifier = Collections.unmodifiableMap(
+            ontologyModels.stream().collect(Collectors.toMap(OntologyModel::getIdentifier, Function.identity())));
+    }
+
+    /**
+     * Get an index of the given ontology models. No copy is made if ontology models are already indexed.
+     *
+     * @param ontologyModels ontology models
+     * @return the ontology index
+     */
+    public static OntologyIndex of(List<OntologyModel> ontologyModels) {
+        if (ontologyModels instanceof OntologyIndex) {
+            return (OntologyIndex) ontologyModels;
+        }
+        return new OntologyIndex(0L, ontologyModels);
+    }
+
+    /**
+     * @return the snapshot version, incremented each time a change is detected in the ontology referential
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * @param identifier ontology identifier
+     * @return the ontology model, or null if the identifier is not declared in ontology
+     */
+    public OntologyModel getByIdentifier(String identifier) {
+        return ontologyModelsByIdentifier.get(identifier);
+    }
+
+    /**
+     * @return an unmodifiable view of ontology models by identifier
+     */
+    public Map<String, OntologyModel> asMap() {
+        return ontologyModelsByIdentifier;
+    }
+
+    /**
+     * Check whether the given ontology models declare the same fields with the same types as this snapshot
+     *
+     * @param otherOntologyModels ontology models to compare
+     * @return true if identifiers and types are unchanged
+     */
+    public boolean hasSameTypes(List<OntologyModel> otherOntologyModels) {
+        if (otherOntologyModels.size() != ontologyModels.size()) {
+            return false;
+        }
+        for (OntologyModel other : otherOntologyModels) {
+            OntologyModel current = ontologyModelsByIdentifier.get(other.getIdentifier());
+            if (current == null || !Objects.equals(current.getType(), other.getType())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public OntologyModel get(int index) {
+        return ontologyModels.get(index);
+    }
+
+    @Override
+    public int size() {
+        return ontologyModels.size();
+    }
+}
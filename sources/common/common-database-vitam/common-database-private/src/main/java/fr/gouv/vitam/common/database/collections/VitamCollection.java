@@ -36,6 +36,7 @@ import com.mongodb.client.MongoDatabase;
 import fr.gouv.vitam.common.VitamConfiguration;
 import fr.gouv.vitam.common.database.server.elasticsearch.ElasticsearchAccess;
 import fr.gouv.vitam.common.database.server.mongodb.VitamDocument;
+import fr.gouv.vitam.common.database.translators.mongodb.JsonNodeCodec;
 import fr.gouv.vitam.common.database.translators.mongodb.VitamDocumentCodec;
 import org.bson.codecs.configuration.CodecRegistries;
 import org.bson.codecs.configuration.CodecRegistry;
@@ -173,11 +174,13 @@ public class VitamCollection {
     public static MongoClientOptions getMongoClientOptions(List<Class<?>> claszList) {
         if (claszList == null || claszList.isEmpty()) {
             final CodecRegistry codecRegistry =
-                CodecRegistries.fromRegistries(MongoClient.getDefaultCodecRegistry());
+                CodecRegistries.fromRegistries(CodecRegistries.fromCodecs(new JsonNodeCodec()),
+                    MongoClient.getDefaultCodecRegistry());
 
             return MongoClientOptions.builder().codecRegistry(codecRegistry).build();
         }
         final List<CodecRegistry> codecs = new ArrayList<>();
+        codecs.add(CodecRegistries.fromCodecs(new JsonNodeCodec()));
         for (final Class<?> clasz : claszList) {
             codecs.add(CodecRegistries.fromCodecs(new VitamDocumentCodec(clasz)));
         }
@@ -191,7 +194,8 @@ public class VitamCollection {
     @SuppressWarnings({"rawtypes", "unchecked"})
     public static MongoClientOptions getMongoClientOptions() {
 
-        final CodecRegistry codecRegistry = CodecRegistries.fromRegistries(MongoClient.getDefaultCodecRegistry());
+        final CodecRegistry codecRegistry = CodecRegistries
+            .fromRegistries(CodecRegistries.fromCodecs(new JsonNodeCodec()), MongoClient.getDefaultCodecRegistry());
 
         return getMongoClientOptions(codecRegistry);
     }
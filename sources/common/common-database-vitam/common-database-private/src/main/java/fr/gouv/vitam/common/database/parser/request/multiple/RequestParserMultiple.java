@@ -415,4 +415,18 @@ public abstract class RequestParserMultiple extends AbstractParser<RequestMultip
         return 0;
     }
 
+    /**
+     * get SearchAfter
+     *
+     * @return the search after cursor, or empty if search after pagination is not requested
+     */
+    public String getFinalSearchAfter() {
+        final JsonNode node = request.getFilter()
+            .get(SELECTFILTER.SEARCH_AFTER.exactToken());
+        if (node != null) {
+            return node.asText();
+        }
+        return "";
+    }
+
 }
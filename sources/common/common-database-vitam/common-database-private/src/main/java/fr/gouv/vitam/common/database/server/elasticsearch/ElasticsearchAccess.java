@@ -35,9 +35,11 @@ import fr.gouv.vitam.common.database.builder.request.configuration.GlobalDatas;
 import fr.gouv.vitam.common.database.server.mongodb.VitamDocument;
 import fr.gouv.vitam.common.exception.BadRequestException;
 import fr.gouv.vitam.common.exception.DatabaseException;
+import fr.gouv.vitam.common.exception.InvalidParseOperationException;
 import fr.gouv.vitam.common.exception.VitamException;
 import fr.gouv.vitam.common.exception.VitamFatalRuntimeException;
 import fr.gouv.vitam.common.json.BsonHelper;
+import fr.gouv.vitam.common.json.JsonHandler;
 import fr.gouv.vitam.common.logging.VitamLogger;
 import fr.gouv.vitam.common.logging.VitamLoggerFactory;
 import fr.gouv.vitam.common.server.application.configuration.DatabaseConnection;
@@ -72,6 +74,8 @@ import org.elasticsearch.action.support.DefaultShardOperationFailedException;
 import org.elasticsearch.action.support.IndicesOptions;
 import org.elasticsearch.action.support.WriteRequest;
 import org.elasticsearch.action.support.master.AcknowledgedResponse;
+import org.elasticsearch.action.update.UpdateRequest;
+import org.elasticsearch.action.update.UpdateResponse;
 import org.elasticsearch.client.GetAliasesResponse;
 import org.elasticsearch.client.RequestOptions;
 import org.elasticsearch.client.RestClient;
@@ -84,15 +88,22 @@ import org.elasticsearch.cluster.metadata.AliasMetaData;
 import org.elasticsearch.common.settings.Settings;
 import org.elasticsearch.common.settings.Settings.Builder;
 import org.elasticsearch.common.unit.TimeValue;
+import org.elasticsearch.common.xcontent.XContentHelper;
 import org.elasticsearch.common.xcontent.XContentType;
 import org.elasticsearch.index.query.QueryBuilder;
 import org.elasticsearch.index.reindex.BulkByScrollResponse;
 import org.elasticsearch.index.reindex.DeleteByQueryRequest;
 import org.elasticsearch.index.reindex.ScrollableHitSource;
 import org.elasticsearch.rest.RestStatus;
+import org.elasticsearch.script.Script;
+import org.elasticsearch.script.ScriptType;
+import org.elasticsearch.search.SearchHit;
 import org.elasticsearch.search.aggregations.AggregationBuilder;
 import org.elasticsearch.search.builder.SearchSourceBuilder;
+import org.elasticsearch.search.sort.FieldSortBuilder;
 import org.elasticsearch.search.sort.SortBuilder;
+import org.elasticsearch.search.sort.SortBuilders;
+import org.elasticsearch.search.sort.SortOrder;
 
 import java.io.IOException;
 import java.util.Collection;
@@ -125,6 +136,28 @@ public class ElasticsearchAccess implements DatabaseConnection {
      */
     public static final String SCROLL_ACTIVATE_KEYWORD = "START";
 
+    /**
+     * Unique field used as last sort criteria of search after requests, so that sort values identify a single document.<br>
+     * Sorting on _id loads its fielddata in elasticsearch heap : search after is only used when explicitly enabled
+     * (see VitamConfiguration#isElasticSearchSearchAfterPagination).
+     */
+    private static final String SEARCH_AFTER_TIE_BREAKER = "_id";
+
+    /**
+     * Painless script appending elements to an array field and setting top level fields, only if the indexed
+     * document is at the expected version
+     */
+    private static final String APPEND_TO_ENTRY_SCRIPT =
+        "def version = ctx._source[params.versionField];" +
+            "if (version == null || ((Number) version).longValue() != ((Number) params.expectedVersion).longValue()) {" +
+            "  ctx.op = 'noop';" +
+            "} else {" +
+            "  if (ctx._source[params.arrayField] == null) { ctx._source[params.arrayField] = new ArrayList(); }" +
+            "  ctx._source[params.arrayField].addAll(params.elements);" +
+            "  ctx._source.putAll(params.fields);" +
+            "}";
+    private static final int APPEND_TO_ENTRY_RETRY_ON_CONFLICT = 3;
+
     /**
      * The ES Builder
      */
@@ -493,6 +526,55 @@ public class ElasticsearchAccess implements DatabaseConnection {
         }
     }
 
+    /**
+     * Partially update one element : append elements to an array field and set top level fields, without sending
+     * the full document. The update is only applied if the indexed document is at the expected version.
+     *
+     * @param collectionName
+     * @param tenantId
+     * @param id
+     * @param versionField name of the version field
+     * @param expectedVersion version of the indexed document required to apply the update
+     * @param fields top level fields to set (replacing existing values)
+     * @param arrayField name of the array field
+     * @param elements elements to append to the array field
+     * @return true if the document was updated, false if the indexed document is not at the expected version
+     */
+    public boolean appendToEntry(String collectionName, Integer tenantId, String id, String versionField,
+        long expectedVersion, Document fields, String arrayField, List<? extends Document> elements)
+        throws DatabaseException {
+
+        Map<String, Object> params = XContentHelper.convertToMap(XContentType.JSON.xContent(),
+            BsonHelper.stringify(new Document("fields", fields).append("elements", elements)), false);
+        params.put("versionField", versionField);
+        params.put("expectedVersion", expectedVersion);
+        params.put("arrayField", arrayField);
+
+        UpdateRequest request = new UpdateRequest(getAliasName(collectionName, tenantId), id)
+            .script(new Script(ScriptType.INLINE, Script.DEFAULT_SCRIPT_LANG, APPEND_TO_ENTRY_SCRIPT, params))
+            .retryOnConflict(APPEND_TO_ENTRY_RETRY_ON_CONFLICT)
+            .setRefreshPolicy(WriteRequest.RefreshPolicy.IMMEDIATE)
+            .timeout(TimeValue.timeValueMillis(VitamConfiguration.getElasticSearchTimeoutWaitRequestInMilliseconds()));
+
+        UpdateResponse updateResponse;
+        try {
+            updateResponse = getClient().update(request, RequestOptions.DEFAULT);
+        } catch (IOException | ElasticsearchException e) {
+            throw new DatabaseException(e);
+        }
+
+        switch (updateResponse.getResult()) {
+            case UPDATED:
+                return true;
+            case NOOP:
+                return false;
+            default:
+                throw new DatabaseException(String
+                    .format("Could not update document on ES. Id=%s, collection=%s, status=%s", id, collectionName,
+                        updateResponse.status()));
+        }
+    }
+
     public final SearchResponse search(final String collectionName, final Integer tenantId,
         final QueryBuilder query)
         throws DatabaseException, BadRequestException {
@@ -518,6 +600,24 @@ public class ElasticsearchAccess implements DatabaseConnection {
         int offset, Integer limit,
         final List<AggregationBuilder> facets, final String scrollId, final Integer scrollTimeout)
         throws DatabaseException, BadRequestException {
+        return search(collectionName, tenantId, query, filter, esProjection, sorts, offset, limit, facets, scrollId,
+            scrollTimeout, null);
+    }
+
+    /**
+     * Search documents, with scroll pagination when scrollId is set, or with search after pagination when searchAfter
+     * is set.<br>
+     * Search after pagination does not keep any search context on elasticsearch side : each page is a new search
+     * request starting after the sort values of the last hit of the previous page (see
+     * {@link #getSearchAfter(SearchResponse)}). Use {@link #SCROLL_ACTIVATE_KEYWORD} as searchAfter for the first
+     * page, the only one for which total hits are exactly computed.
+     */
+    public final SearchResponse search(final String collectionName, final Integer tenantId,
+        final QueryBuilder query, final QueryBuilder filter, String[] esProjection, final List<SortBuilder> sorts,
+        int offset, Integer limit,
+        final List<AggregationBuilder> facets, final String scrollId, final Integer scrollTimeout,
+        final String searchAfter)
+        throws DatabaseException, BadRequestException {
 
         SearchResponse response;
         SearchSourceBuilder searchSourceBuilder = SearchSourceBuilder.searchSource()
@@ -544,7 +644,34 @@ public class ElasticsearchAccess implements DatabaseConnection {
 
 
 
-        if (scrollId != null && !scrollId.isEmpty()) {
+        if (searchAfter != null && !searchAfter.isEmpty()) {
+            int limitES = (limit != null && limit > 0) ? limit : DEFAULT_LIMIT_SCROLL;
+            searchSourceBuilder.size(limitES);
+            if (sorts == null || sorts.stream().noneMatch(ElasticsearchAccess::isSearchAfterTieBreaker)) {
+                searchSourceBuilder.sort(SortBuilders.fieldSort(SEARCH_AFTER_TIE_BREAKER).order(SortOrder.ASC));
+            }
+            if (searchAfter.equals(SCROLL_ACTIVATE_KEYWORD)) {
+                searchSourceBuilder.trackTotalHits(true);
+            } else {
+                searchSourceBuilder.searchAfter(parseSearchAfter(searchAfter));
+            }
+
+            LOGGER.debug("ESReq: {}", searchRequest);
+
+            try {
+                response = getClient().search(searchRequest, RequestOptions.DEFAULT);
+            } catch (final ElasticsearchException e) {
+                switch (e.status()) {
+                    case BAD_REQUEST:
+                        throw new BadRequestException(e);
+                    default:
+                        throw new DatabaseException(e);
+                }
+            } catch (IOException e) {
+                throw new DatabaseException(e);
+            }
+
+        } else if (scrollId != null && !scrollId.isEmpty()) {
             int limitES = (limit != null && limit > 0) ? limit : DEFAULT_LIMIT_SCROLL;
             int scrollTimeoutES =
                 (scrollTimeout != null && scrollTimeout > 0) ? scrollTimeout : DEFAULT_SCROLL_TIMEOUT;
@@ -603,6 +730,31 @@ public class ElasticsearchAccess implements DatabaseConnection {
         return response;
     }
 
+    /**
+     * @param response a search after response
+     * @return the searchAfter of the page following the given response, or null if the response has no hit
+     */
+    public static String getSearchAfter(SearchResponse response) {
+        SearchHit[] hits = response.getHits().getHits();
+        if (hits.length == 0) {
+            return null;
+        }
+        return JsonHandler.unprettyPrint(hits[hits.length - 1].getSortValues());
+    }
+
+    private static Object[] parseSearchAfter(String searchAfter) throws BadRequestException {
+        try {
+            return JsonHandler.getFromString(searchAfter, Object[].class);
+        } catch (InvalidParseOperationException e) {
+            throw new BadRequestException("Invalid searchAfter " + searchAfter, e);
+        }
+    }
+
+    private static boolean isSearchAfterTieBreaker(SortBuilder sort) {
+        return sort instanceof FieldSortBuilder &&
+            SEARCH_AFTER_TIE_BREAKER.equals(((FieldSortBuilder) sort).getFieldName());
+    }
+
     public void clearScroll(String scrollId) throws DatabaseException {
         ClearScrollRequest request = new ClearScrollRequest();
         request.addScrollId(scrollId);
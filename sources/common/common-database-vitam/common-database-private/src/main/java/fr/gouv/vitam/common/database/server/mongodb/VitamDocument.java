@@ -39,9 +39,9 @@ import com.fasterxml.jackson.databind.JsonNode;
 
 import difflib.DiffUtils;
 import difflib.Patch;
+import fr.gouv.vitam.common.database.translators.mongodb.JsonNodeCodec;
 import fr.gouv.vitam.common.exception.InvalidGuidOperationException;
 import fr.gouv.vitam.common.guid.GUIDReader;
-import fr.gouv.vitam.common.json.JsonHandler;
 import fr.gouv.vitam.common.logging.VitamLogger;
 import fr.gouv.vitam.common.logging.VitamLoggerFactory;
 
@@ -110,7 +110,7 @@ public abstract class VitamDocument<E> extends Document {
      * @throws IllegalArgumentException if Id is not a GUID
      */
     public VitamDocument(JsonNode content) {
-        super(Document.parse(JsonHandler.unprettyPrint(content)));
+        super(JsonNodeCodec.toDocument(content));
         checkId();
     }
 
@@ -0,0 +1,300 @@
+/*
+ * Copyright French Prime minister Office/SGMAP/DINSIC/Vitam Program (2015-2020)
+ *
+ * contact.vitam@culture.gouv.fr
+ *
+ * This software is a computer program whose purpose is to implement a digital archiving back-office system managing
+ * high volumetry securely and efficiently.
+ *
+ * This software is governed by the CeCILL 2.1 license under French law and abiding by the rules of distribution of free
+ * software. You can use, modify and/ or redistribute the software under the terms of the CeCILL 2.1 license as
+ * circulated by CEA, CNRS and INRIA at the following URL "https://cecill.info".
+ *
+ * As a counterpart to the access to the source code and rights to copy, modify and redistribute granted by the license,
+ * users are provided only with a limited warranty and the software's author, the holder of the economic rights, and the
+ * successive licensors have only limited liability.
+ *
+ * In this respect, the user's attention is drawn to the risks associated with loading, using, modifying and/or
+ * developing or reproducing the software by the user in light of its specific status of free software, that may mean
+ * that it is complicated to manipulate, and that also therefore means that it is reserved for developers and
+ * experienced professionals having in-depth computer knowledge. Users are therefore encouraged to load and test the
+ * software's suitability as regards their requirements in conditions enabling the security of their systems and/or data
+ * to be ensured and, more generally, to use and operate it in the same conditions as regards security.
+ *
+ * The fact that you are presently reading this means that you have had knowledge of the CeCILL 2.1 license and that you
+ * accept its terms.
+ */
+package fr.gouv.vitam.common.database.translators.mongodb;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map.Entry;
+
+import org.bson.BsonDocument;
+import org.bson.BsonReader;
+import org.bson.BsonType;
+import org.bson.BsonValue;
+import org.bson.BsonWriter;
+import org.bson.Document;
+import org.bson.codecs.BsonTypeClassMap;
+import org.bson.codecs.BsonTypeCodecMap;
+import org.bson.codecs.BsonValueCodec;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+import org.bson.types.Decimal128;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.BooleanNode;
+import com.fasterxml.jackson.databind.node.DoubleNode;
+import com.fasterxml.jackson.databind.node.IntNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.JsonNodeType;
+import com.fasterxml.jackson.databind.node.LongNode;
+import com.fasterxml.jackson.databind.node.NullNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.node.TextNode;
+import com.mongodb.MongoClient;
+
+import fr.gouv.vitam.common.json.BsonHelper;
+import fr.gouv.vitam.common.json.JsonHandler;
+
+/**
+ * MongoDB Codec reading and writing Jackson JsonNode directly from and to BSON, without any intermediate String.<br>
+ * <br>
+ * The produced values are the same as the ones of the former String based path, i.e.
+ * <code>Document.parse(JsonHandler.unprettyPrint(node))</code> when writing and
+ * <code>JsonHandler.getFromString(BsonHelper.stringify(document))</code> when reading:
+ * <ul>
+ * <li>integral numbers are written as Int32 when possible, Int64 otherwise, and read back as IntNode when possible,
+ * LongNode otherwise</li>
+ * <li>floating numbers are written as Double and read back as DoubleNode</li>
+ * <li>sub-documents whose first field starts with '$' (extended Json such as $date or $numberLong) are still parsed
+ * from their Json form</li>
+ * <li>other Bson types (dates, ObjectId...) are read through the {@link BsonHelper} mapping</li>
+ * </ul>
+ */
+public class JsonNodeCodec implements Codec<JsonNode> {
+
+    private static final JsonNodeFactory FACTORY = JsonNodeFactory.instance;
+    private static final String EXTENDED_JSON_PREFIX = "$";
+    private static final String WRAPPER_FIELD = "v";
+
+    private final BsonValueCodec bsonValueCodec = new BsonValueCodec();
+    private final BsonTypeCodecMap bsonTypeCodecMap =
+        new BsonTypeCodecMap(new BsonTypeClassMap(), MongoClient.getDefaultCodecRegistry());
+
+    @Override
+    public void encode(BsonWriter writer, JsonNode value, EncoderContext encoderContext) {
+        if (!value.isObject()) {
+            throw new IllegalArgumentException("Only Json object can be encoded as a document: " + value.getNodeType());
+        }
+        writeValue(writer, value, encoderContext);
+    }
+
+    @Override
+    public JsonNode decode(BsonReader reader, DecoderContext decoderContext) {
+        reader.readStartDocument();
+        final ObjectNode node = readDocumentContent(reader, decoderContext);
+        reader.readEndDocument();
+        return node;
+    }
+
+    @Override
+    public Class<JsonNode> getEncoderClass() {
+        return JsonNode.class;
+    }
+
+    /**
+     * Convert a Json object to a mongo Document without going through its String form
+     *
+     * @param node the Json object
+     * @return the equivalent Document
+     * @throws IllegalArgumentException if node is not a Json object
+     */
+    public static Document toDocument(JsonNode node) {
+        if (!node.isObject()) {
+            throw new IllegalArgumentException("Only Json object can be converted to a document: " + node.getNodeType());
+        }
+        if (isExtendedJson(node)) {
+            return Document.parse(JsonHandler.unprettyPrint(node));
+        }
+        final Document document = new Document();
+        final Iterator<Entry<String, JsonNode>> fields = node.fields();
+        while (fields.hasNext()) {
+            final Entry<String, JsonNode> field = fields.next();
+            document.put(field.getKey(), toValue(field.getValue()));
+        }
+        return document;
+    }
+
+    private static Object toValue(JsonNode node) {
+        switch (node.getNodeType()) {
+            case OBJECT:
+                if (isExtendedJson(node)) {
+                    return parseExtendedJson(node).get(WRAPPER_FIELD);
+                }
+                return toDocument(node);
+            case ARRAY:
+                final List<Object> list = new ArrayList<>(node.size());
+                for (final JsonNode item : node) {
+                    list.add(toValue(item));
+                }
+                return list;
+            case STRING:
+            case BINARY:
+                return node.asText();
+            case BOOLEAN:
+                return node.booleanValue();
+            case NULL:
+                return null;
+            case NUMBER:
+                if (node.isIntegralNumber()) {
+                    if (node.canConvertToInt()) {
+                        return node.intValue();
+                    }
+                    if (node.canConvertToLong()) {
+                        return node.longValue();
+                    }
+                }
+                return toDouble(node);
+            default:
+                return parseExtendedJson(node).get(WRAPPER_FIELD);
+        }
+    }
+
+    private void writeValue(BsonWriter writer, JsonNode node, EncoderContext encoderContext) {
+        final JsonNodeType type = node.getNodeType();
+        if (type == JsonNodeType.OBJECT && !isExtendedJson(node)) {
+            writer.writeStartDocument();
+            final Iterator<Entry<String, JsonNode>> fields = node.fields();
+            while (fields.hasNext()) {
+                final Entry<String, JsonNode> field = fields.next();
+                writer.writeName(field.getKey());
+                writeValue(writer, field.getValue(), encoderContext);
+            }
+            writer.writeEndDocument();
+            return;
+        }
+        switch (type) {
+            case ARRAY:
+                writer.writeStartArray();
+                for (final JsonNode item : node) {
+                    writeValue(writer, item, encoderContext);
+                }
+                writer.writeEndArray();
+                break;
+            case STRING:
+            case BINARY:
+                writer.writeString(node.asText());
+                break;
+            case BOOLEAN:
+                writer.writeBoolean(node.booleanValue());
+                break;
+            case NULL:
+                writer.writeNull();
+                break;
+            case NUMBER:
+                if (node.isIntegralNumber() && node.canConvertToInt()) {
+                    writer.writeInt32(node.intValue());
+                } else if (node.isIntegralNumber() && node.canConvertToLong()) {
+                    writer.writeInt64(node.longValue());
+                } else {
+                    writer.writeDouble(toDouble(node));
+                }
+                break;
+            default:
+                final BsonValue value =
+                    BsonDocument.parse(JsonHandler.unprettyPrint(wrap(node))).get(WRAPPER_FIELD);
+                bsonValueCodec.encode(writer, value, encoderContext);
+                break;
+        }
+    }
+
+    private ObjectNode readDocumentContent(BsonReader reader, DecoderContext decoderContext) {
+        final ObjectNode node = FACTORY.objectNode();
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            final String name = reader.readName();
+            node.set(name, readValue(reader, decoderContext));
+        }
+        return node;
+    }
+
+    private JsonNode readValue(BsonReader reader, DecoderContext decoderContext) {
+        final BsonType bsonType = reader.getCurrentBsonType();
+        switch (bsonType) {
+            case DOCUMENT:
+                reader.readStartDocument();
+                final ObjectNode node = readDocumentContent(reader, decoderContext);
+                reader.readEndDocument();
+                return node;
+            case ARRAY:
+                reader.readStartArray();
+                final ArrayNode array = FACTORY.arrayNode();
+                while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+                    array.add(readValue(reader, decoderContext));
+                }
+                reader.readEndArray();
+                return array;
+            case STRING:
+                return TextNode.valueOf(reader.readString());
+            case BOOLEAN:
+                return BooleanNode.valueOf(reader.readBoolean());
+            case NULL:
+                reader.readNull();
+                return NullNode.getInstance();
+            case INT32:
+                return IntNode.valueOf(reader.readInt32());
+            case INT64:
+                final long longValue = reader.readInt64();
+                if (longValue == (int) longValue) {
+                    return IntNode.valueOf((int) longValue);
+                }
+                return LongNode.valueOf(longValue);
+            case DOUBLE:
+                return fromDouble(reader.readDouble());
+            case DECIMAL128:
+                final Decimal128 decimal = reader.readDecimal128();
+                if (decimal.isNaN() || decimal.isInfinite()) {
+                    return TextNode.valueOf(decimal.toString());
+                }
+                return DoubleNode.valueOf(Double.parseDouble(decimal.toString()));
+            default:
+                final Object value = bsonTypeCodecMap.get(bsonType).decode(reader, decoderContext);
+                return BsonHelper.toJsonNode(value);
+        }
+    }
+
+    private static JsonNode fromDouble(double value) {
+        // Non finite values are quoted by the Json serializer, so they are read back as text
+        if (Double.isNaN(value) || Double.isInfinite(value)) {
+            return TextNode.valueOf(Double.toString(value));
+        }
+        return DoubleNode.valueOf(value);
+    }
+
+    private static double toDouble(JsonNode node) {
+        if (node.isDouble()) {
+            return node.doubleValue();
+        }
+        // Float, BigDecimal and BigInteger are parsed back from their Json representation
+        return Double.parseDouble(node.asText());
+    }
+
+    private static boolean isExtendedJson(JsonNode node) {
+        final Iterator<String> names = node.fieldNames();
+        return names.hasNext() && names.next().startsWith(EXTENDED_JSON_PREFIX);
+    }
+
+    private static Document parseExtendedJson(JsonNode node) {
+        return Document.parse(JsonHandler.unprettyPrint(wrap(node)));
+    }
+
+    private static ObjectNode wrap(JsonNode node) {
+        final ObjectNode wrapper = FACTORY.objectNode();
+        wrapper.set(WRAPPER_FIELD, node);
+        return wrapper;
+    }
+}
@@ -37,7 +37,10 @@ import fr.gouv.vitam.common.model.RequestResponse;
 import fr.gouv.vitam.common.model.RequestResponseOK;
 
 /**
- * ScrollSpliterator
+ * ScrollSpliterator<br>
+ * Iterates over all results of a query, either with a scroll, or with search after pagination that does not keep any
+ * search context opened between two pages. Pages are read on demand : wrap the spliterator in a
+ * PrefetchingSpliterator to read the next pages while the current one is consumed.
  * @param <T>
  */
 public class ScrollSpliterator<T> extends AbstractSpliterator<T> {
@@ -51,6 +54,9 @@ public class ScrollSpliterator<T> extends AbstractSpliterator<T> {
     private RequestResponseOK<T> requestResponse;
     private Iterator<T> results;
     private String scrollId;
+    private final boolean searchAfterMode;
+    private String searchAfter;
+    private long total;
 
     /**
      * Constructor 
@@ -69,6 +75,25 @@ public class ScrollSpliterator<T> extends AbstractSpliterator<T> {
         this.limit = limit;
         this.size = 0;
         this.scrollId = "START";
+        this.searchAfterMode = false;
+    }
+
+    /**
+     * Constructor for search after pagination
+     *
+     * @param query the select query
+     * @param repository the repository
+     * @param limit the limit
+     */
+    public ScrollSpliterator(SelectMultiQuery query, Function<SelectMultiQuery, RequestResponse<T>> repository,
+        int limit) {
+        super(Long.MAX_VALUE, DISTINCT | SIZED | NONNULL);
+        this.query = query;
+        this.repository = repository;
+        this.limit = limit;
+        this.size = 0;
+        this.searchAfter = "START";
+        this.searchAfterMode = true;
     }
 
     @Override
@@ -80,6 +105,17 @@ public class ScrollSpliterator<T> extends AbstractSpliterator<T> {
             applyAndIncrementSize(action);
             return true;
         }
+        if (searchAfterMode) {
+            if (searchAfter == null || size >= total) {
+                return false;
+            }
+            executeQuery();
+            if (!results.hasNext()) {
+                return false;
+            }
+            applyAndIncrementSize(action);
+            return true;
+        }
         if (size < hits.getTotal()) {
             executeQuery();
             applyAndIncrementSize(action);
@@ -98,10 +134,14 @@ public class ScrollSpliterator<T> extends AbstractSpliterator<T> {
         if (requestResponse == null) {
             executeQuery();
         }
-        return hits.getTotal();
+        return searchAfterMode ? total : hits.getTotal();
     }
 
     private void executeQuery() {
+        if (searchAfterMode) {
+            executeSearchAfterQuery();
+            return;
+        }
         query.setScrollFilter(scrollId, scrollTimeout, limit);
         requestResponse = (RequestResponseOK<T>) repository.apply(query);
         hits = requestResponse.getHits();
@@ -109,4 +149,16 @@ public class ScrollSpliterator<T> extends AbstractSpliterator<T> {
         scrollId = hits.getScrollId();
     }
 
+    private void executeSearchAfterQuery() {
+        boolean firstPage = requestResponse == null;
+        query.setSearchAfterFilter(searchAfter, limit);
+        requestResponse = (RequestResponseOK<T>) repository.apply(query);
+        hits = requestResponse.getHits();
+        results = requestResponse.getResults().iterator();
+        searchAfter = hits.getSearchAfter();
+        if (firstPage) {
+            total = hits.getTotal();
+        }
+    }
+
 }
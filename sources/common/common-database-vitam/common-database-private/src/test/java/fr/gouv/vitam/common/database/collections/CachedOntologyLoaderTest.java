@@ -142,4 +142,101 @@ public class CachedOntologyLoaderTest {
         assertThat(result).isEqualTo(ontologyModels);
         verify(loader, times(2)).loadOntologies();
     }
+
+    @Test
+    @RunWithCustomExecutor
+    public void testSnapshotSharedBetweenRequests() {
+
+        // Given
+        VitamThreadUtils.getVitamSession().setTenantId(3);
+
+        List<OntologyModel> ontologyModels = Arrays.asList(
+            new OntologyModel().setType(OntologyType.KEYWORD).setIdentifier("_id"),
+            new OntologyModel().setType(OntologyType.TEXT).setIdentifier("Title")
+        );
+
+        OntologyLoader loader = mock(OntologyLoader.class);
+        given(loader.loadOntologies()).willReturn(ontologyModels);
+
+        CachedOntologyLoader cachedOntologyLoader = new CachedOntologyLoader(10, 60, 60, loader);
+
+        // When
+        List<OntologyModel> result = null;
+        for (int i = 0; i < 10; i++) {
+            VitamThreadUtils.getVitamSession().setRequestId(GUIDFactory.newRequestIdGUID(3));
+            result = cachedOntologyLoader.loadOntologies();
+        }
+
+        // Then
+        assertThat(result).isEqualTo(ontologyModels);
+        assertThat(OntologyIndex.of(result).getByIdentifier("Title").getType()).isEqualTo(OntologyType.TEXT);
+        verify(loader, times(1)).loadOntologies();
+    }
+
+    @Test
+    @RunWithCustomExecutor
+    public void testRequestKeepsItsVersionAfterInvalidation() {
+
+        // Given
+        VitamThreadUtils.getVitamSession().setTenantId(3);
+        GUID guid = GUIDFactory.newRequestIdGUID(3);
+        VitamThreadUtils.getVitamSession().setRequestId(guid);
+
+        List<OntologyModel> ontologyModels = Arrays.asList(
+            new OntologyModel().setType(OntologyType.KEYWORD).setIdentifier("_id"),
+            new OntologyModel().setType(OntologyType.TEXT).setIdentifier("Title")
+        );
+        List<OntologyModel> updatedOntologyModels = Arrays.asList(
+            new OntologyModel().setType(OntologyType.KEYWORD).setIdentifier("_id"),
+            new OntologyModel().setType(OntologyType.KEYWORD).setIdentifier("Title")
+        );
+
+        OntologyLoader loader = mock(OntologyLoader.class);
+        given(loader.loadOntologies()).willReturn(ontologyModels, updatedOntologyModels);
+
+        CachedOntologyLoader cachedOntologyLoader = new CachedOntologyLoader(10, 60, 60, loader);
+        List<OntologyModel> initialResult = cachedOntologyLoader.loadOntologies();
+
+        // When
+        cachedOntologyLoader.invalidate();
+        List<OntologyModel> sameRequestResult = cachedOntologyLoader.loadOntologies();
+        VitamThreadUtils.getVitamSession().setRequestId(GUIDFactory.newRequestIdGUID(3));
+        List<OntologyModel> newRequestResult = cachedOntologyLoader.loadOntologies();
+
+        // Then
+        assertThat(sameRequestResult).isSameAs(initialResult);
+        assertThat(OntologyIndex.of(initialResult).getVersion()).isEqualTo(0L);
+        assertThat(newRequestResult).isEqualTo(updatedOntologyModels);
+        assertThat(OntologyIndex.of(newRequestResult).getVersion()).isEqualTo(1L);
+        assertThat(cachedOntologyLoader.getSnapshotVersion()).isEqualTo(1L);
+        verify(loader, times(2)).loadOntologies();
+    }
+
+    @Test
+    @RunWithCustomExecutor
+    public void testUnchangedOntologyKeepsSnapshotVersion() throws InterruptedException {
+
+        // Given
+        VitamThreadUtils.getVitamSession().setTenantId(3);
+        VitamThreadUtils.getVitamSession().setRequestId(GUIDFactory.newRequestIdGUID(3));
+
+        OntologyLoader loader = mock(OntologyLoader.class);
+        given(loader.loadOntologies()).willReturn(
+            Arrays.asList(new OntologyModel().setType(OntologyType.TEXT).setIdentifier("Title")),
+            Arrays.asList(new OntologyModel().setType(OntologyType.TEXT).setIdentifier("Title")));
+
+        CachedOntologyLoader cachedOntologyLoader = new CachedOntologyLoader(10, 60, 1, loader);
+        List<OntologyModel> initialResult = cachedOntologyLoader.loadOntologies();
+
+        TimeUnit.SECONDS.sleep(2);
+
+        // When
+        VitamThreadUtils.getVitamSession().setRequestId(GUIDFactory.newRequestIdGUID(3));
+        List<OntologyModel> result = cachedOntologyLoader.loadOntologies();
+
+        // Then
+        assertThat(result).isSameAs(initialResult);
+        assertThat(cachedOntologyLoader.getSnapshotVersion()).isEqualTo(0L);
+        verify(loader, times(2)).loadOntologies();
+    }
 }
@@ -0,0 +1,147 @@
+/*
+ * Copyright French Prime minister Office/SGMAP/DINSIC/Vitam Program (2015-2020)
+ *
+ * contact.vitam@culture.gouv.fr
+ *
+ * This software is a computer program whose purpose is to implement a digital archiving back-office system managing
+ * high volumetry securely and efficiently.
+ *
+ * This software is governed by the CeCILL 2.1 license under French law and abiding by the rules of distribution of free
+ * software. You can use, modify and/ or redistribute the software under the terms of the CeCILL 2.1 license as
+ * circulated by CEA, CNRS and INRIA at the following URL "https://cecill.info".
+ *
+ * As a counterpart to the access to the source code and rights to copy, modify and redistribute granted by the license,
+ * users are provided only with a limited warranty and the software's author, the holder of the economic rights, and the
+ * successive licensors have only limited liability.
+ *
+ * In this respect, the user's attention is drawn to the risks associated with loading, using, modifying and/or
+ * developing or reproducing the software by the user in light of its specific status of free software, that may mean
+ * that it is complicated to manipulate, and that also therefore means that it is reserved for developers and
+ * experienced professionals having in-depth computer knowledge. Users are therefore encouraged to load and test the
+ * software's suitability as regards their requirements in conditions enabling the security of their systems and/or data
+ * to be ensured and, more generally, to use and operate it in the same conditions as regards security.
+ *
+ * The fact that you are presently reading this means that you have had knowledge of the CeCILL 2.1 license and that you
+ * accept its terms.
+ */
+package fr.gouv.vitam.common.database.translators.mongodb;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import fr.gouv.vitam.common.json.BsonHelper;
+import fr.gouv.vitam.common.json.JsonHandler;
+import fr.gouv.vitam.common.logging.VitamLogger;
+import fr.gouv.vitam.common.logging.VitamLoggerFactory;
+import org.bson.BsonBinaryReader;
+import org.bson.BsonBinaryWriter;
+import org.bson.Document;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.DocumentCodec;
+import org.bson.codecs.EncoderContext;
+import org.bson.io.BasicOutputBuffer;
+import org.junit.Assume;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares the String based JsonNode / Bson conversion against {@link JsonNodeCodec}, on a lifecycle like document
+ */
+public class JsonNodeCodecBenchmarkTest {
+
+    private static final VitamLogger LOGGER = VitamLoggerFactory.getInstance(JsonNodeCodecBenchmarkTest.class);
+
+    /**
+     * Set to true to run the benchmark (opt-in, not run by the default test suite)
+     */
+    private static final String BENCHMARK_PROPERTY = "vitam.test.benchmark";
+
+    private static final int NB_WARMUP_ITERATIONS = 2_000;
+    private static final int NB_ITERATIONS = 20_000;
+
+    private final JsonNodeCodec jsonNodeCodec = new JsonNodeCodec();
+    private final DocumentCodec documentCodec = new DocumentCodec();
+
+    @Test
+    public void benchmarkJsonNodeConversion() throws Exception {
+        Assume.assumeTrue("Benchmark disabled, set -D" + BENCHMARK_PROPERTY + "=true to run it",
+            Boolean.getBoolean(BENCHMARK_PROPERTY));
+        final JsonNode json = buildLifecycle();
+        final byte[] bson = encode(Document.parse(JsonHandler.unprettyPrint(json)));
+
+        // Write path
+        final Conversion stringWrite = () -> encode(Document.parse(JsonHandler.unprettyPrint(json)));
+        final Conversion codecWrite = () -> {
+            final BasicOutputBuffer buffer = new BasicOutputBuffer();
+            jsonNodeCodec.encode(new BsonBinaryWriter(buffer), json, EncoderContext.builder().build());
+            return buffer.toByteArray();
+        };
+        assertThat((byte[]) codecWrite.convert()).isEqualTo(stringWrite.convert());
+
+        // Read path
+        final Conversion stringRead = () -> JsonHandler.getFromString(BsonHelper.stringify(
+            documentCodec.decode(new BsonBinaryReader(ByteBuffer.wrap(bson)), DecoderContext.builder().build())));
+        final Conversion codecRead = () -> jsonNodeCodec.decode(new BsonBinaryReader(ByteBuffer.wrap(bson)),
+            DecoderContext.builder().build());
+        assertThat(codecRead.convert()).isEqualTo(stringRead.convert());
+
+        log("String write", run(stringWrite));
+        log("Codec write", run(codecWrite));
+        log("String read", run(stringRead));
+        log("Codec read", run(codecRead));
+    }
+
+    private long run(Conversion conversion) throws Exception {
+        for (int i = 0; i < NB_WARMUP_ITERATIONS; i++) {
+            conversion.convert();
+        }
+        final long start = System.nanoTime();
+        for (int i = 0; i < NB_ITERATIONS; i++) {
+            conversion.convert();
+        }
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+    }
+
+    private void log(String name, long duration) {
+        LOGGER.info(String.format("%s: %d documents in %d ms (%d/s)", name, NB_ITERATIONS, duration,
+            NB_ITERATIONS * 1000L / Math.max(duration, 1L)));
+    }
+
+    private byte[] encode(Document document) {
+        final BasicOutputBuffer buffer = new BasicOutputBuffer();
+        documentCodec.encode(new BsonBinaryWriter(buffer), document, EncoderContext.builder().build());
+        return buffer.toByteArray();
+    }
+
+    private JsonNode buildLifecycle() {
+        final ObjectNode lifecycle = JsonHandler.createObjectNode();
+        lifecycle.put("_id", "aeaqaaaaaaevelkyaa6jwaldq3ffkjiaaaaq");
+        lifecycle.put("_tenant", 0);
+        lifecycle.put("_v", 12L);
+        lifecycle.put("_lastPersistedDate", "2019-01-01T00:00:00.123");
+        final ArrayNode events = lifecycle.putArray("events");
+        for (int i = 0; i < 20; i++) {
+            final ObjectNode event = events.addObject();
+            event.put("evId", "aedqaaaaaceveylkyaa6jwaldq3ffkjiaaaaq" + i);
+            event.put("evType", "LFC.CHECK_MANIFEST");
+            event.put("evDateTime", "2019-01-01T00:00:00.123");
+            event.put("outcome", "OK");
+            event.put("outMessg", "Succès de la vérification");
+            event.put("evDetData", "{\"diff\": \"-  Title : Titre\\n+  Title : Nouveau titre\"}");
+            event.put("_lastPersistedDate", "2019-01-01T00:00:00.123");
+            event.put("size", 1024L * 1024L * 1024L * 8L);
+            event.put("ratio", 0.75d);
+            event.putArray("tags").add(i).add("tag").addArray().add(1.5d).add(2);
+        }
+        return lifecycle;
+    }
+
+    @FunctionalInterface
+    private interface Conversion {
+        Object convert() throws Exception;
+    }
+}
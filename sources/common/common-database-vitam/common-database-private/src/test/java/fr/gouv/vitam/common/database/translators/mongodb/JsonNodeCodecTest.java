@@ -0,0 +1,166 @@
+/*
+ * Copyright French Prime minister Office/SGMAP/DINSIC/Vitam Program (2015-2020)
+ *
+ * contact.vitam@culture.gouv.fr
+ *
+ * This software is a computer program whose purpose is to implement a digital archiving back-office system managing
+ * high volumetry securely and efficiently.
+ *
+ * This software is governed by the CeCILL 2.1 license under French law and abiding by the rules of distribution of free
+ * software. You can use, modify and/ or redistribute the software under the terms of the CeCILL 2.1 license as
+ * circulated by CEA, CNRS and INRIA at the following URL "https://cecill.info".
+ *
+ * As a counterpart to the access to the source code and rights to copy, modify and redistribute granted by the license,
+ * users are provided only with a limited warranty and the software's author, the holder of the economic rights, and the
+ * successive licensors have only limited liability.
+ *
+ * In this respect, the user's attention is drawn to the risks associated with loading, using, modifying and/or
+ * developing or reproducing the software by the user in light of its specific status of free software, that may mean
+ * that it is complicated to manipulate, and that also therefore means that it is reserved for developers and
+ * experienced professionals having in-depth computer knowledge. Users are therefore encouraged to load and test the
+ * software's suitability as regards their requirements in conditions enabling the security of their systems and/or data
+ * to be ensured and, more generally, to use and operate it in the same conditions as regards security.
+ *
+ * The fact that you are presently reading this means that you have had knowledge of the CeCILL 2.1 license and that you
+ * accept its terms.
+ */
+package fr.gouv.vitam.common.database.translators.mongodb;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.DecimalNode;
+import com.fasterxml.jackson.databind.node.FloatNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import fr.gouv.vitam.common.json.BsonHelper;
+import fr.gouv.vitam.common.json.JsonHandler;
+import org.bson.BsonBinaryReader;
+import org.bson.BsonBinaryWriter;
+import org.bson.Document;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.DocumentCodec;
+import org.bson.codecs.EncoderContext;
+import org.bson.io.BasicOutputBuffer;
+import org.bson.types.Decimal128;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class JsonNodeCodecTest {
+
+    private final JsonNodeCodec jsonNodeCodec = new JsonNodeCodec();
+    private final DocumentCodec documentCodec = new DocumentCodec();
+
+    @Test
+    public void givenJsonWhenEncodeThenSameDocumentAsStringPath() throws Exception {
+        // Given
+        final JsonNode json = buildJson();
+
+        // When
+        final Document encoded = documentCodec.decode(toBson(json), DecoderContext.builder().build());
+        final Document converted = JsonNodeCodec.toDocument(json);
+
+        // Then
+        final Document expected = Document.parse(JsonHandler.unprettyPrint(json));
+        assertThat(encoded).isEqualTo(expected);
+        assertThat(converted).isEqualTo(expected);
+        assertThat(converted.get("LongValue")).isInstanceOf(Long.class);
+        assertThat(converted.get("SmallLong")).isInstanceOf(Integer.class);
+        assertThat(converted.get("ExtendedDate")).isInstanceOf(Date.class);
+        assertThat(converted.get("ExtendedLong")).isEqualTo(12L);
+    }
+
+    @Test
+    public void givenDocumentWhenDecodeThenSameJsonAsStringPath() throws Exception {
+        // Given
+        final Document document = new Document("_id", "aeaqaaaaaaevelkyaa")
+            .append("Date", new Date(1546300800123L))
+            .append("StringDate", "2019-01-01T00:00:00.123")
+            .append("IntValue", 42)
+            .append("SmallLong", 42L)
+            .append("LongValue", 1L << 40)
+            .append("Decimal", 12.5d)
+            .append("Decimal128", new Decimal128(new BigDecimal("12.50")))
+            .append("Unicode", "Données à archiver")
+            .append("Null", null)
+            .append("Boolean", true)
+            .append("Nested", Arrays.asList(Arrays.asList(1, Arrays.asList(2.5d, "a")), new Document("Id", 3L),
+                Arrays.asList()))
+            .append("Sub", new Document("Dates", Arrays.asList(new Date(0L), "1970-01-01")));
+
+        // When
+        final BasicOutputBuffer buffer = new BasicOutputBuffer();
+        documentCodec.encode(new BsonBinaryWriter(buffer), document, EncoderContext.builder().build());
+        final JsonNode decoded = jsonNodeCodec.decode(
+            new BsonBinaryReader(ByteBuffer.wrap(buffer.toByteArray())), DecoderContext.builder().build());
+
+        // Then
+        final JsonNode expected = JsonHandler.getFromString(BsonHelper.stringify(document));
+        assertThat(decoded).isEqualTo(expected);
+        assertThat(decoded.get("LongValue").isLong()).isTrue();
+        assertThat(decoded.get("SmallLong").isInt()).isTrue();
+        assertThat(decoded.get("Date").isTextual()).isTrue();
+    }
+
+    @Test
+    public void givenJsonWhenRoundTripThenSameJson() throws Exception {
+        // Given
+        final ObjectNode json = JsonHandler.createObjectNode();
+        json.put("_id", "aeaqaaaaaaevelkyaa");
+        json.put("Date", "2019-01-01T00:00:00.123");
+        json.put("IntValue", 42);
+        json.put("LongValue", Long.MAX_VALUE);
+        json.put("Decimal", 0.1d);
+        json.putNull("Null");
+        json.putArray("Nested").add(JsonHandler.createArrayNode().add(1).add(Long.MIN_VALUE))
+            .add(JsonHandler.createObjectNode().put("Title", "Titre"));
+
+        // When
+        final JsonNode decoded = jsonNodeCodec.decode(toBson(json), DecoderContext.builder().build());
+
+        // Then
+        assertThat(decoded).isEqualTo(json);
+    }
+
+    @Test
+    public void givenNonObjectJsonWhenEncodeThenThrowIllegalArgumentException() {
+        final ArrayNode array = JsonHandler.createArrayNode().add(1);
+
+        assertThatThrownBy(() -> toBson(array)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> JsonNodeCodec.toDocument(array)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private BsonBinaryReader toBson(JsonNode json) {
+        final BasicOutputBuffer buffer = new BasicOutputBuffer();
+        jsonNodeCodec.encode(new BsonBinaryWriter(buffer), json, EncoderContext.builder().build());
+        return new BsonBinaryReader(ByteBuffer.wrap(buffer.toByteArray()));
+    }
+
+    private JsonNode buildJson() throws Exception {
+        final ObjectNode json = (ObjectNode) JsonHandler.getFromString("{" +
+            "\"_id\": \"aeaqaaaaaaevelkyaa\"," +
+            "\"StartDate\": \"2019-01-01T00:00:00.123\"," +
+            "\"ExtendedDate\": { \"$date\": \"2019-01-01T00:00:00.123Z\" }," +
+            "\"ExtendedLong\": { \"$numberLong\": \"12\" }," +
+            "\"IntValue\": 42," +
+            "\"LongValue\": 1099511627776," +
+            "\"Decimal\": 12.5," +
+            "\"Unicode\": \"Données à archiver\"," +
+            "\"Null\": null," +
+            "\"Boolean\": false," +
+            "\"Nested\": [ [ 1, [ 2.5, \"a\", { \"Id\": 3 } ] ], [], {} ]" +
+            "}");
+        json.put("SmallLong", 42L);
+        json.set("Float", FloatNode.valueOf(1.1f));
+        json.set("BigDecimal", DecimalNode.valueOf(new BigDecimal("1.10")));
+        json.set("BigInteger", JsonNodeFactory.instance.numberNode(new BigInteger("123456789012")));
+        return json;
+    }
+}
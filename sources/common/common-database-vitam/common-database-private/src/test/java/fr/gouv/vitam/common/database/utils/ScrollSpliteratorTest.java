@@ -33,11 +33,15 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Spliterator;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 
+import fr.gouv.vitam.common.database.builder.request.configuration.BuilderToken.SELECTFILTER;
 import fr.gouv.vitam.common.database.builder.request.multiple.SelectMultiQuery;
+import fr.gouv.vitam.common.model.RequestResponse;
 import fr.gouv.vitam.common.model.RequestResponseOK;
 import org.junit.Test;
 
@@ -89,4 +93,69 @@ public class ScrollSpliteratorTest {
         verify(function, times(2)).apply(query);
     }
 
+    @Test
+    public void should_request_pages_after_sort_values_of_previous_page() {
+        // Given
+        RequestResponseOK<Long> requestResponseOK1 = new RequestResponseOK<>();
+        requestResponseOK1.addResult(1L);
+        requestResponseOK1.addResult(2L);
+        requestResponseOK1.setHits(5, 0, 2, 2);
+        requestResponseOK1.getHits().setSearchAfter("[\"2\"]");
+
+        RequestResponseOK<Long> requestResponseOK2 = new RequestResponseOK<>();
+        requestResponseOK2.addResult(3L);
+        requestResponseOK2.addResult(4L);
+        requestResponseOK2.setHits(5, 0, 2, 2);
+        requestResponseOK2.getHits().setSearchAfter("[\"4\"]");
+
+        RequestResponseOK<Long> requestResponseOK3 = new RequestResponseOK<>();
+        requestResponseOK3.addResult(5L);
+        requestResponseOK3.setHits(5, 0, 2, 1);
+        requestResponseOK3.getHits().setSearchAfter("[\"5\"]");
+
+        List<String> requestedSearchAfters = new ArrayList<>();
+        List<RequestResponseOK<Long>> pages = List.of(requestResponseOK1, requestResponseOK2, requestResponseOK3);
+        Function<SelectMultiQuery, RequestResponse<Long>> function = query -> {
+            requestedSearchAfters.add(query.getFilter().get(SELECTFILTER.SEARCH_AFTER.exactToken()).asText());
+            return pages.get(requestedSearchAfters.size() - 1);
+        };
+
+        Spliterator<Long> longSpliterator = new ScrollSpliterator<>(new SelectMultiQuery(), function, 2);
+        List<Long> results = new ArrayList<>();
+
+        // When
+        longSpliterator.forEachRemaining(results::add);
+
+        // Then
+        assertThat(results).containsExactly(1L, 2L, 3L, 4L, 5L);
+        assertThat(longSpliterator.estimateSize()).isEqualTo(5);
+        assertThat(requestedSearchAfters).containsExactly("START", "[\"2\"]", "[\"4\"]");
+    }
+
+    @Test
+    public void should_stop_search_after_iteration_on_empty_page() {
+        // Given
+        RequestResponseOK<Long> requestResponseOK1 = new RequestResponseOK<>();
+        requestResponseOK1.addResult(1L);
+        requestResponseOK1.setHits(3, 0, 1, 1);
+        requestResponseOK1.getHits().setSearchAfter("[\"1\"]");
+
+        RequestResponseOK<Long> requestResponseOK2 = new RequestResponseOK<>();
+        requestResponseOK2.setHits(1, 0, 1, 0);
+
+        Function function = mock(Function.class);
+        given(function.apply(any(SelectMultiQuery.class))).willReturn(requestResponseOK1)
+            .willReturn(requestResponseOK2);
+
+        SelectMultiQuery query = new SelectMultiQuery();
+        Spliterator<Long> longSpliterator = new ScrollSpliterator<>(query, function, 1);
+        AtomicInteger counter = new AtomicInteger(0);
+
+        // When
+        longSpliterator.forEachRemaining(item -> counter.incrementAndGet());
+
+        // Then
+        assertThat(counter.get()).isEqualTo(1);
+        verify(function, times(2)).apply(query);
+    }
 }
@@ -272,6 +272,7 @@ public abstract class AbstractRequest {
             filter = JsonHandler.createObjectNode();
         }
         selectResetLimitFilter();
+        filter.remove(SELECTFILTER.SEARCH_AFTER.exactToken());
         if (scrollId != null && !scrollId.isEmpty()) {
             filter.put(SELECTFILTER.SCROLL_ID.exactToken(), scrollId);
         }
@@ -284,6 +285,27 @@ public abstract class AbstractRequest {
         return this;
     }
 
+    /**
+     * @param searchAfter ignored if empty or null
+     * @param limit ignored if 0
+     * @return this Query
+     */
+    protected final AbstractRequest selectSetSearchAfterFilter(final String searchAfter, final int limit) {
+        if (filter == null) {
+            filter = JsonHandler.createObjectNode();
+        }
+        selectResetLimitFilter();
+        filter.remove(SELECTFILTER.SCROLL_ID.exactToken());
+        filter.remove(SELECTFILTER.SCROLL_TIMEOUT.exactToken());
+        if (searchAfter != null && !searchAfter.isEmpty()) {
+            filter.put(SELECTFILTER.SEARCH_AFTER.exactToken(), searchAfter);
+        }
+        if (limit > 0) {
+            filter.put(SELECTFILTER.LIMIT.exactToken(), limit);
+        }
+        return this;
+    }
+
     /**
      * @param offset ignored if 0
      * @param limit ignored if 0
@@ -340,6 +362,9 @@ public abstract class AbstractRequest {
             }
             selectSetScrollFilter(scrollId, timeout, limit);
         }
+        if (filterContent.has(SELECTFILTER.SEARCH_AFTER.exactToken())) {
+            selectSetSearchAfterFilter(filterContent.get(SELECTFILTER.SEARCH_AFTER.exactToken()).asText(), limit);
+        }
 
         return selectSetLimitFilter(offset, limit);
     }
@@ -353,6 +353,10 @@ public abstract class BuilderToken {
          * scrollTimeout expiry time for scrollId
          */
         SCROLL_TIMEOUT("scrollTimeout"),
+        /**
+         * searchAfter sort values of the last element of the previous page, for search after pagination $searchAfter
+         */
+        SEARCH_AFTER("searchAfter"),
         /**
          * According to an orderby, start to return the elements from rank start<br>
          * $offset : start
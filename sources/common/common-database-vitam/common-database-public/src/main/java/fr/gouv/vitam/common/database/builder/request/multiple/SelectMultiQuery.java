@@ -418,6 +418,17 @@ public class SelectMultiQuery extends RequestMultiple {
         return this;
     }
 
+    /**
+     * @param searchAfter sort values of the last element of the previous page, or START for the first page, ignored
+     * if empty or null
+     * @param limit ignored if 0
+     * @return this Query
+     */
+    public final SelectMultiQuery setSearchAfterFilter(final String searchAfter, final int limit) {
+        selectSetSearchAfterFilter(searchAfter, limit);
+        return this;
+    }
+
     /**
      * Getter for threshold
      *
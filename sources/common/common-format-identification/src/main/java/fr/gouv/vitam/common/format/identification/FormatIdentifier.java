@@ -34,7 +34,10 @@ import fr.gouv.vitam.common.format.identification.model.FormatIdentifierInfo;
 import fr.gouv.vitam.common.format.identification.model.FormatIdentifierResponse;
 
 import java.nio.file.Path;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Format identifier interface
@@ -64,5 +67,30 @@ public interface FormatIdentifier {
         throws FileFormatNotFoundException, FormatIdentifierTechnicalException, FormatIdentifierBadRequestException,
         FormatIdentifierNotFoundException;
 
+    /**
+     * Identify the formats of several files.<br>
+     * Files for which no format is found are mapped to an empty list. Implementations may leave out of the result
+     * files they could not identify in batch, which should then be identified one by one with
+     * {@link #analysePath(Path)}.
+     *
+     * @param pathsToFiles the paths to the files to be identified
+     * @return the formats of the files by path
+     * @throws FormatIdentifierBadRequestException if a given path dont match a file
+     * @throws FormatIdentifierNotFoundException if the given identifier could not responds
+     * @throws FormatIdentifierTechnicalException for any other technical exception
+     */
+    default Map<Path, List<FormatIdentifierResponse>> analysePaths(List<Path> pathsToFiles)
+        throws FormatIdentifierTechnicalException, FormatIdentifierBadRequestException,
+        FormatIdentifierNotFoundException {
+        Map<Path, List<FormatIdentifierResponse>> formats = new HashMap<>();
+        for (Path pathToFile : pathsToFiles) {
+            try {
+                formats.put(pathToFile, analysePath(pathToFile));
+            } catch (FileFormatNotFoundException e) {
+                formats.put(pathToFile, Collections.emptyList());
+            }
+        }
+        return formats;
+    }
 }
 
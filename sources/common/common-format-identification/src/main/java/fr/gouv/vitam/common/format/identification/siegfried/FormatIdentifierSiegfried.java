@@ -47,6 +47,9 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -152,19 +155,75 @@ public class FormatIdentifierSiegfried implements FormatIdentifier {
         }
     }
 
+    /**
+     * Identify files by directory : files of a same directory are identified by a single scan of their directory.
+     * Files that are not part of the scan result are left out of the returned map.
+     */
+    @Override
+    public Map<Path, List<FormatIdentifierResponse>> analysePaths(List<Path> pathsToFiles)
+        throws FormatIdentifierTechnicalException, FormatIdentifierBadRequestException,
+        FormatIdentifierNotFoundException {
+        Map<Path, List<Path>> pathsByDirectory = new LinkedHashMap<>();
+        for (Path pathToFile : pathsToFiles) {
+            Path absolutePath = pathToFile.toAbsolutePath().normalize();
+            pathsByDirectory.computeIfAbsent(absolutePath.getParent(), directory -> new ArrayList<>())
+                .add(pathToFile);
+        }
+
+        Map<Path, List<FormatIdentifierResponse>> formats = new HashMap<>();
+        try (SiegfriedClient siegfriedClient = siegfriedClientFactory.getClient()) {
+            for (Map.Entry<Path, List<Path>> directory : pathsByDirectory.entrySet()) {
+                if (LOGGER.isDebugEnabled()) {
+                    LOGGER.debug("identify formats for " + directory.getValue().size() + " files of " +
+                        directory.getKey());
+                }
+                final RequestResponse<JsonNode> response = siegfriedClient.analysePath(directory.getKey());
+                final ArrayNode files = (ArrayNode) response.toJsonNode().get("$results").get(0).get("files");
+                if (files == null) {
+                    throw new FormatIdentifierBadRequestException("The given path is not link to a directory");
+                }
+
+                Map<Path, JsonNode> filesByPath = new HashMap<>();
+                for (JsonNode file : files) {
+                    JsonNode fileName = file.get("filename");
+                    if (fileName != null) {
+                        filesByPath.put(Paths.get(fileName.asText()).toAbsolutePath().normalize(), file);
+                    }
+                }
+
+                for (Path pathToFile : directory.getValue()) {
+                    JsonNode file = filesByPath.get(pathToFile.toAbsolutePath().normalize());
+                    if (file == null) {
+                        continue;
+                    }
+                    try {
+                        formats.put(pathToFile, extractFileFormat(file, pathToFile));
+                    } catch (FileFormatNotFoundException e) {
+                        formats.put(pathToFile, Collections.emptyList());
+                    }
+                }
+            }
+        }
+        return formats;
+    }
+
     private List<FormatIdentifierResponse> extractFormat(JsonNode siegfriedResponse, Path path)
         throws FileFormatNotFoundException, FormatIdentifierBadRequestException {
         if (LOGGER.isDebugEnabled()) {
             LOGGER.debug("extract format from siegfried response");
         }
 
-        final List<FormatIdentifierResponse> matchesFormats = new ArrayList<>();
-
         final ArrayNode files = (ArrayNode) siegfriedResponse.get("files");
         if (files == null || files.size() != 1) {
             throw new FormatIdentifierBadRequestException("The given path is not link to an unique file");
         }
-        final JsonNode file = files.get(0);
+        return extractFileFormat(files.get(0), path);
+    }
+
+    private List<FormatIdentifierResponse> extractFileFormat(JsonNode file, Path path)
+        throws FileFormatNotFoundException {
+
+        final List<FormatIdentifierResponse> matchesFormats = new ArrayList<>();
 
         final ArrayNode matches = (ArrayNode) file.get("matches");
         for (final JsonNode match : matches) {
@@ -29,14 +29,19 @@ package fr.gouv.vitam.common.format.identification.siegfried;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 
 import fr.gouv.vitam.common.format.identification.FormatIdentifier;
 import fr.gouv.vitam.common.format.identification.FormatIdentifierFactory;
@@ -173,4 +178,37 @@ public class FormatIdentifierSiegfriedTest {
         siegfried.analysePath(FILE_PATH);
     }
 
+    @Test
+    public void testSiegfriedIdentifyFilesByDirectory() throws Exception {
+        reset(siegfriedClientRest);
+        Path directory = Paths.get("content").toAbsolutePath();
+        Path zipFile = directory.resolve("file1.zip");
+        Path unknownFile = directory.resolve("file2.bin");
+        Path notScannedFile = directory.resolve("file3.pdf");
+        Path otherDirectoryFile = Paths.get("other").toAbsolutePath().resolve("file4.zip");
+
+        JsonNode directoryResponse = JsonHandler.getFromString("{\"files\":[" +
+            "{\"filename\":\"" + zipFile + "\",\"matches\":[{\"ns\":\"pronom\",\"id\":\"x-fmt/263\"," +
+            "\"format\":\"ZIP Format\",\"mime\":\"application/zip\"}]}," +
+            "{\"filename\":\"" + unknownFile + "\",\"matches\":[{\"ns\":\"pronom\",\"id\":\"UNKNOWN\"," +
+            "\"format\":\"\",\"mime\":\"\"}]}]}");
+        JsonNode otherDirectoryResponse = JsonHandler.getFromString("{\"files\":[" +
+            "{\"filename\":\"" + otherDirectoryFile + "\",\"matches\":[{\"ns\":\"pronom\",\"id\":\"x-fmt/263\"," +
+            "\"format\":\"ZIP Format\",\"mime\":\"application/zip\"}]}]}");
+        when(siegfriedClientRest.analysePath(directory))
+            .thenReturn(new RequestResponseOK().addResult(directoryResponse));
+        when(siegfriedClientRest.analysePath(otherDirectoryFile.getParent()))
+            .thenReturn(new RequestResponseOK().addResult(otherDirectoryResponse));
+
+        final Map<Path, List<FormatIdentifierResponse>> formats =
+            siegfried.analysePaths(Arrays.asList(zipFile, unknownFile, notScannedFile, otherDirectoryFile));
+
+        assertEquals(3, formats.size());
+        assertEquals(1, formats.get(zipFile).size());
+        assertEquals("x-fmt/263", formats.get(zipFile).get(0).getPuid());
+        assertTrue(formats.get(unknownFile).isEmpty());
+        assertFalse(formats.containsKey(notScannedFile));
+        assertEquals("x-fmt/263", formats.get(otherDirectoryFile).get(0).getPuid());
+        verify(siegfriedClientRest, times(2)).analysePath(any());
+    }
 }
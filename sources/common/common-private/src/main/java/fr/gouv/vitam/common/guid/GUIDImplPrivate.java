@@ -30,13 +30,13 @@ import java.lang.reflect.Method;
 import java.security.AccessController;
 import java.security.PrivilegedAction;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
 
 import com.fasterxml.jackson.annotation.JsonTypeInfo;
 
 import fr.gouv.vitam.common.ServerIdentity;
 import fr.gouv.vitam.common.SystemPropertyUtil;
 import fr.gouv.vitam.common.exception.InvalidGuidOperationException;
-import fr.gouv.vitam.common.logging.SysErrLogger;
 import fr.gouv.vitam.common.logging.VitamLogger;
 import fr.gouv.vitam.common.logging.VitamLoggerFactory;
 
@@ -68,7 +68,6 @@ final class GUIDImplPrivate extends GUIDImpl {
         VitamLoggerFactory.getInstance(GUIDImplPrivate.class);
 
     private static final String FR_GOUV_VITAM_PROCESS_ID = "fr.gouv.vitam.processId";
-    private static final Object FORSYNC = new Object();
     /**
      * So MAX value on 3 bytes (64 system use 2^22 id)
      */
@@ -87,13 +86,18 @@ final class GUIDImplPrivate extends GUIDImpl {
     }
 
     /**
-     * Counter part
+     * Counter part: 3 bytes
      */
-    private static volatile int counter = 0;
+    private static final int COUNTER_BITS = 24;
+    private static final long MAX_COUNTER = 0xFFFFFF;
     /**
-     * Counter reset
+     * Timestamps are stored relatively to this base in the state, so that they fit with the counter in a long
      */
-    private static volatile long lastTimeStamp = 0;
+    private static final long BASE_TIMESTAMP = System.currentTimeMillis();
+    /**
+     * Last (timestamp - BASE_TIMESTAMP, counter) pair, updated lock-free
+     */
+    private static final AtomicLong TIMESTAMP_AND_COUNTER = new AtomicLong(0);
 
     /**
      * Constructor that generates a new GUID using the current process id, Platform Id and timestamp with no object type
@@ -196,28 +200,9 @@ final class GUIDImplPrivate extends GUIDImpl {
         }
 
         // atomically
-        final long time;
-        final int count;
-        synchronized (FORSYNC) {
-            long tmptime = System.currentTimeMillis();
-            if (lastTimeStamp != tmptime) {
-                counter = 0;
-                lastTimeStamp = tmptime;
-            }
-            count = ++counter;
-            if (count > 0xFFFFFF) {
-                try {
-                    FORSYNC.wait(1);
-                } catch (final InterruptedException e) {
-                    // ignore
-                    SysErrLogger.FAKE_LOGGER.ignoreLog(e);
-                }
-                tmptime = System.currentTimeMillis();
-                counter = 0;
-                lastTimeStamp = tmptime;
-            }
-            time = tmptime;
-        }
+        final long timestampAndCounter = nextTimestampAndCounter();
+        final long time = BASE_TIMESTAMP + (timestampAndCounter >>> COUNTER_BITS);
+        final int count = (int) (timestampAndCounter & MAX_COUNTER);
         // 2 bytes = Version (8) + Object Id (8)
         guid[HEADER_POS] = (byte) VERSION;
         guid[HEADER_POS + 1] = (byte) (objectTypeId & 0xFF);
@@ -279,6 +264,32 @@ final class GUIDImplPrivate extends GUIDImpl {
 
     }
 
+    /**
+     * Reserves a unique (timestamp, counter) pair with a CAS loop instead of a global lock.<br>
+     * The counter is reset when the clock moves forward. When it overflows within the same millisecond, or when the
+     * clock goes backward, the last timestamp is kept or moved one millisecond ahead, so that pairs never repeat.
+     *
+     * @return (timestamp - BASE_TIMESTAMP) on the high bits, counter on the {@link #COUNTER_BITS} low bits
+     */
+    private static long nextTimestampAndCounter() {
+        final long now = System.currentTimeMillis() - BASE_TIMESTAMP;
+        while (true) {
+            final long current = TIMESTAMP_AND_COUNTER.get();
+            final long lastTime = current >>> COUNTER_BITS;
+            final long next;
+            if (now > lastTime) {
+                next = now << COUNTER_BITS | 1;
+            } else if ((current & MAX_COUNTER) < MAX_COUNTER) {
+                next = current + 1;
+            } else {
+                next = (lastTime + 1) << COUNTER_BITS | 1;
+            }
+            if (TIMESTAMP_AND_COUNTER.compareAndSet(current, next)) {
+                return next;
+            }
+        }
+    }
+
     /**
      * Constructor that takes a byte array as this GUID's content
      *
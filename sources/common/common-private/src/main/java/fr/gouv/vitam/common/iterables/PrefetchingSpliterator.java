@@ -0,0 +1,247 @@
+/*
+ * Copyright French Prime minister Office/SGMAP/DINSIC/Vitam Program (2015-2020)
+ *
+ * contact.vitam@culture.gouv.fr
+ *
+ * This software is a computer program whose purpose is to implement a digital archiving back-office system managing
+ * high volumetry securely and efficiently.
+ *
+ * This software is governed by the CeCILL 2.1 license under French law and abiding by the rules of distribution of free
+ * software. You can use, modify and/ or redistribute the software under the terms of the CeCILL 2.1 license as
+ * circulated by CEA, CNRS and INRIA at the following URL "https://cecill.info".
+ *
+ * As a counterpart to the access to the source code and rights to copy, modify and redistribute granted by the license,
+ * users are provided only with a limited warranty and the software's author, the holder of the economic rights, and the
+ * successive licensors have only limited liability.
+ *
+ * In this respect, the user's attention is drawn to the risks associated with loading, using, modifying and/or
+ * developing or reproducing the software by the user in light of its specific status of free software, that may mean
+ * that it is complicated to manipulate, and that also therefore means that it is reserved for developers and
+ * experienced professionals having in-depth computer knowledge. Users are therefore encouraged to load and test the
+ * software's suitability as regards their requirements in conditions enabling the security of their systems and/or data
+ * to be ensured and, more generally, to use and operate it in the same conditions as regards security.
+ *
+ * The fact that you are presently reading this means that you have had knowledge of the CeCILL 2.1 license and that you
+ * accept its terms.
+ */
+package fr.gouv.vitam.common.iterables;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators.AbstractSpliterator;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Spliterator that reads its source in background, by chunks, while previous chunks are consumed.<br>
+ * At most maxBufferedChunks chunks are kept in memory : the background task waits for the consumer when the buffer
+ * is full. Time spent by the consumer waiting for the source, and time spent processing entries, are measured.<br>
+ * The source must not be used by the caller once wrapped. The spliterator must be closed if not fully consumed.<br>
+ * A source that can not stay idle too long (ex: an elasticsearch scroll, whose context expires) is given a max idle
+ * time : when the consumer is so slow that the background task could not read the source for longer than that, the
+ * consumer gets an explicit failure after the buffered entries, instead of the source being read after expiration.
+ *
+ * Not thread safe.
+ */
+public class PrefetchingSpliterator<T> extends AbstractSpliterator<T> implements AutoCloseable {
+
+    private static final int OFFER_TIMEOUT_IN_MILLISECONDS = 100;
+
+    private final Spliterator<T> source;
+    private final int chunkSize;
+    private final Executor executor;
+    private final BlockingQueue<Chunk<T>> buffer;
+    private final long estimatedSize;
+    private final long maxSourceIdleNanos;
+
+    private volatile boolean closed = false;
+    private boolean started = false;
+    private boolean endOfStream = false;
+    private Iterator<T> currentChunk;
+    private long startNanos;
+    private long endNanos;
+    private long waitingNanos;
+
+    /**
+     * @param source the spliterator to read in background
+     * @param chunkSize number of entries of a chunk
+     * @param maxBufferedChunks maximum number of chunks read in advance
+     * @param executor executor of the background read task
+     */
+    public PrefetchingSpliterator(Spliterator<T> source, int chunkSize, int maxBufferedChunks, Executor executor) {
+        this(source, chunkSize, maxBufferedChunks, executor, 0L);
+    }
+
+    /**
+     * @param source the spliterator to read in background
+     * @param chunkSize number of entries of a chunk
+     * @param maxBufferedChunks maximum number of chunks read in advance
+     * @param executor executor of the background read task
+     * @param maxSourceIdleTimeInMillis max time between two reads of the source (0 : unbounded)
+     */
+    public PrefetchingSpliterator(Spliterator<T> source, int chunkSize, int maxBufferedChunks, Executor executor,
+        long maxSourceIdleTimeInMillis) {
+        super(Long.MAX_VALUE, source.characteristics() & (ORDERED | DISTINCT | SIZED | NONNULL));
+        this.source = source;
+        this.chunkSize = chunkSize;
+        this.executor = executor;
+        this.buffer = new ArrayBlockingQueue<>(maxBufferedChunks);
+        this.maxSourceIdleNanos = TimeUnit.MILLISECONDS.toNanos(maxSourceIdleTimeInMillis);
+        // Read before the background task starts, the source being not thread safe
+        this.estimatedSize = source.estimateSize();
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action) {
+        if (!started) {
+            start();
+        }
+        while (currentChunk == null || !currentChunk.hasNext()) {
+            if (endOfStream) {
+                return false;
+            }
+            currentChunk = takeNextChunk();
+        }
+        action.accept(currentChunk.next());
+        return true;
+    }
+
+    @Override
+    public long estimateSize() {
+        return estimatedSize;
+    }
+
+    /**
+     * @return time spent by the consumer waiting for entries of the source, in milliseconds
+     */
+    public long getWaitingTimeInMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(waitingNanos);
+    }
+
+    /**
+     * @return time spent by the consumer processing entries (elapsed time except waiting time), in milliseconds
+     */
+    public long getProcessingTimeInMillis() {
+        if (!started) {
+            return 0L;
+        }
+        long elapsedNanos = (endOfStream ? endNanos : System.nanoTime()) - startNanos;
+        return TimeUnit.NANOSECONDS.toMillis(elapsedNanos - waitingNanos);
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        buffer.clear();
+    }
+
+    private void start() {
+        started = true;
+        startNanos = System.nanoTime();
+        executor.execute(this::prefetch);
+    }
+
+    private Iterator<T> takeNextChunk() {
+        long waitStart = System.nanoTime();
+        Chunk<T> chunk;
+        try {
+            chunk = buffer.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for next entries", e);
+        } finally {
+            waitingNanos += System.nanoTime() - waitStart;
+        }
+
+        if (chunk.failure != null) {
+            endOfStream = true;
+            endNanos = System.nanoTime();
+            if (chunk.failure instanceof RuntimeException) {
+                throw (RuntimeException) chunk.failure;
+            }
+            if (chunk.failure instanceof Error) {
+                throw (Error) chunk.failure;
+            }
+            throw new IllegalStateException("Could not read next entries", chunk.failure);
+        }
+        if (chunk.lastChunk) {
+            endOfStream = true;
+            endNanos = System.nanoTime();
+        }
+        return chunk.entries.iterator();
+    }
+
+    private void prefetch() {
+        Chunk<T> lastChunk;
+        try {
+            List<T> entries = new ArrayList<>(chunkSize);
+            while (!closed && source.tryAdvance(entries::add)) {
+                if (entries.size() >= chunkSize) {
+                    long enqueueStart = System.nanoTime();
+                    if (!enqueue(new Chunk<>(entries, false, null))) {
+                        return;
+                    }
+                    checkSourceIdleTime(System.nanoTime() - enqueueStart);
+                    entries = new ArrayList<>(chunkSize);
+                }
+            }
+            lastChunk = new Chunk<>(entries, true, null);
+        } catch (Throwable e) {
+            // Any failure, including errors and interruptions, must reach the consumer blocked on the buffer
+            lastChunk = new Chunk<>(new ArrayList<>(), true, e);
+        }
+        enqueueLastChunk(lastChunk);
+    }
+
+    private void checkSourceIdleTime(long idleNanos) {
+        if (maxSourceIdleNanos > 0 && idleNanos > maxSourceIdleNanos) {
+            throw new IllegalStateException(String.format(
+                "Source could not be read for %d ms (max %d ms) : entries are consumed too slowly",
+                TimeUnit.NANOSECONDS.toMillis(idleNanos), TimeUnit.NANOSECONDS.toMillis(maxSourceIdleNanos)));
+        }
+    }
+
+    private void enqueueLastChunk(Chunk<T> lastChunk) {
+        boolean interrupted = false;
+        try {
+            while (true) {
+                try {
+                    enqueue(lastChunk);
+                    return;
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private boolean enqueue(Chunk<T> chunk) throws InterruptedException {
+        while (!closed) {
+            if (buffer.offer(chunk, OFFER_TIMEOUT_IN_MILLISECONDS, TimeUnit.MILLISECONDS)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static class Chunk<T> {
+        private final List<T> entries;
+        private final boolean lastChunk;
+        private final Throwable failure;
+
+        private Chunk(List<T> entries, boolean lastChunk, Throwable failure) {
+            this.entries = entries;
+            this.lastChunk = lastChunk;
+            this.failure = failure;
+        }
+    }
+}
@@ -32,6 +32,7 @@ import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.PropertyNamingStrategy;
 import com.fasterxml.jackson.databind.SerializationFeature;
@@ -82,4 +83,14 @@ public class BsonHelper {
             throw new RuntimeException(e);
         }
     }
+
+    /**
+     * Convert a mongo value to a JsonNode, with the same mapping as {@link #stringify(Object)}
+     *
+     * @param object
+     * @return the JsonNode representation of the object
+     */
+    public static JsonNode toJsonNode(Object object) {
+        return OBJECT_MAPPER.valueToTree(object);
+    }
 }
@@ -49,6 +49,9 @@ public class UnitRuleModel {
     @JsonProperty("#management")
     private ManagementModel managementModel = new ManagementModel();
 
+    @JsonProperty("#version")
+    private Integer version;
+
     public UnitRuleModel() {
         // Empty constructor for deserialization
     }
@@ -84,4 +87,12 @@ public class UnitRuleModel {
     public void setManagementModel(ManagementModel managementModel) {
         this.managementModel = managementModel;
     }
+
+    public Integer getVersion() {
+        return version;
+    }
+
+    public void setVersion(Integer version) {
+        this.version = version;
+    }
 }
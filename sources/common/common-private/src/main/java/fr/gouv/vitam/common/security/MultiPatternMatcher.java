@@ -0,0 +1,207 @@
+/*
+ * Copyright French Prime minister Office/SGMAP/DINSIC/Vitam Program (2015-2020)
+ *
+ * contact.vitam@culture.gouv.fr
+ *
+ * This software is a computer program whose purpose is to implement a digital archiving back-office system managing
+ * high volumetry securely and efficiently.
+ *
+ * This software is governed by the CeCILL 2.1 license under French law and abiding by the rules of distribution of free
+ * software. You can use, modify and/ or redistribute the software under the terms of the CeCILL 2.1 license as
+ * circulated by CEA, CNRS and INRIA at the following URL "https://cecill.info".
+ *
+ * As a counterpart to the access to the source code and rights to copy, modify and redistribute granted by the license,
+ * users are provided only with a limited warranty and the software's author, the holder of the economic rights, and the
+ * successive licensors have only limited liability.
+ *
+ * In this respect, the user's attention is drawn to the risks associated with loading, using, modifying and/or
+ * developing or reproducing the software by the user in light of its specific status of free software, that may mean
+ * that it is complicated to manipulate, and that also therefore means that it is reserved for developers and
+ * experienced professionals having in-depth computer knowledge. Users are therefore encouraged to load and test the
+ * software's suitability as regards their requirements in conditions enabling the security of their systems and/or data
+ * to be ensured and, more generally, to use and operate it in the same conditions as regards security.
+ *
+ * The fact that you are presently reading this means that you have had knowledge of the CeCILL 2.1 license and that you
+ * accept its terms.
+ */
+package fr.gouv.vitam.common.security;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.List;
+import java.util.TreeSet;
+
+/**
+ * Precompiled multi-pattern matcher (Aho-Corasick automaton) checking whether a text contains any of a set of
+ * patterns in a single pass over the text.
+ */
+final class MultiPatternMatcher {
+
+    private static final int ROOT = 0;
+    private static final int ASCII_SIZE = 128;
+    private static final int BUFFER_SIZE = 8192;
+
+    /**
+     * Sorted distinct characters used by patterns
+     */
+    private final char[] alphabet;
+    private final int[] asciiIndexes = new int[ASCII_SIZE];
+    /**
+     * Full transition table : next state by state and alphabet index
+     */
+    private final int[][] transitions;
+    private final boolean[] terminal;
+    private final boolean matchesEverything;
+
+    MultiPatternMatcher(Collection<String> patterns) {
+        TreeSet<Character> chars = new TreeSet<>();
+        boolean emptyPattern = false;
+        for (String pattern : patterns) {
+            if (pattern == null) {
+                continue;
+            }
+            emptyPattern |= pattern.isEmpty();
+            for (int i = 0; i < pattern.length(); i++) {
+                chars.add(pattern.charAt(i));
+            }
+        }
+        this.matchesEverything = emptyPattern;
+        this.alphabet = new char[chars.size()];
+        int index = 0;
+        for (Character c : chars) {
+            alphabet[index++] = c;
+        }
+        Arrays.fill(asciiIndexes, -1);
+        for (int i = 0; i < alphabet.length; i++) {
+            if (alphabet[i] < ASCII_SIZE) {
+                asciiIndexes[alphabet[i]] = i;
+            }
+        }
+
+        // Trie of patterns
+        List<int[]> trie = new ArrayList<>();
+        List<Boolean> terminalStates = new ArrayList<>();
+        trie.add(newState());
+        terminalStates.add(false);
+        for (String pattern : patterns) {
+            if (pattern == null || pattern.isEmpty()) {
+                continue;
+            }
+            int state = ROOT;
+            for (int i = 0; i < pattern.length(); i++) {
+                int c = indexOf(pattern.charAt(i));
+                if (trie.get(state)[c] < 0) {
+                    trie.get(state)[c] = trie.size();
+                    trie.add(newState());
+                    terminalStates.add(false);
+                }
+                state = trie.get(state)[c];
+            }
+            terminalStates.set(state, true);
+        }
+
+        // Failure links, computed breadth first, are folded into a full transition table
+        this.transitions = trie.toArray(new int[0][]);
+        this.terminal = new boolean[transitions.length];
+        for (int i = 0; i < terminal.length; i++) {
+            terminal[i] = terminalStates.get(i);
+        }
+        int[] failures = new int[transitions.length];
+        Deque<Integer> queue = new ArrayDeque<>();
+        for (int c = 0; c < alphabet.length; c++) {
+            int next = transitions[ROOT][c];
+            if (next < 0) {
+                transitions[ROOT][c] = ROOT;
+            } else {
+                failures[next] = ROOT;
+                queue.add(next);
+            }
+        }
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            terminal[state] |= terminal[failures[state]];
+            for (int c = 0; c < alphabet.length; c++) {
+                int next = transitions[state][c];
+                if (next < 0) {
+                    transitions[state][c] = transitions[failures[state]][c];
+                } else {
+                    failures[next] = transitions[failures[state]][c];
+                    queue.add(next);
+                }
+            }
+        }
+    }
+
+    private int[] newState() {
+        int[] state = new int[alphabet.length];
+        Arrays.fill(state, -1);
+        return state;
+    }
+
+    private int indexOf(char c) {
+        if (c < ASCII_SIZE) {
+            return asciiIndexes[c];
+        }
+        int index = Arrays.binarySearch(alphabet, c);
+        return index < 0 ? -1 : index;
+    }
+
+    private int next(int state, char c) {
+        int index = indexOf(c);
+        return index < 0 ? ROOT : transitions[state][index];
+    }
+
+    /**
+     * @param text text to check
+     * @return true if the text contains any of the patterns
+     */
+    boolean containsAny(CharSequence text) {
+        if (matchesEverything) {
+            return true;
+        }
+        int state = ROOT;
+        for (int i = 0; i < text.length(); i++) {
+            state = next(state, text.charAt(i));
+            if (terminal[state]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Stream the reader and check whether any of its lines contains any of the patterns.<br>
+     * Matches never span line breaks, as when checking each line returned by {@link java.io.BufferedReader#readLine()}.
+     *
+     * @param reader reader to check
+     * @return true if a line contains any of the patterns
+     * @throws IOException on read error
+     */
+    boolean anyLineContainsAny(Reader reader) throws IOException {
+        if (matchesEverything) {
+            return reader.read() >= 0;
+        }
+        char[] buffer = new char[BUFFER_SIZE];
+        int state = ROOT;
+        int read;
+        while ((read = reader.read(buffer)) >= 0) {
+            for (int i = 0; i < read; i++) {
+                char c = buffer[i];
+                if (c == '\n' || c == '\r') {
+                    state = ROOT;
+                    continue;
+                }
+                state = next(state, c);
+                if (terminal[state]) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+}
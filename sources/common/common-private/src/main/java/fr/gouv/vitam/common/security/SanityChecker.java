@@ -103,6 +103,11 @@ public class SanityChecker {
     // ISSUE with integration
     private static final Validator ESAPI = init();
 
+    /**
+     * Precompiled matcher of forbidden tags (StringUtils.RULES)
+     */
+    private static final MultiPatternMatcher RULES_MATCHER = new MultiPatternMatcher(StringUtils.RULES);
+
     private SanityChecker() {
         // Empty constructor
     }
@@ -385,11 +390,8 @@ public class SanityChecker {
      */
     protected static final void checkXmlSanityTags(File xmlFile) throws InvalidParseOperationException, IOException {
         try (final Reader fileReader = new FileReader(xmlFile)) {
-            try (final BufferedReader bufReader = new BufferedReader(fileReader)) {
-                String line = null;
-                while ((line = bufReader.readLine()) != null) {
-                    checkXmlSanityTags(line);
-                }
+            if (RULES_MATCHER.anyLineContainsAny(fileReader)) {
+                throw new InvalidParseOperationException("Invalid tag sanity check");
             }
         }
     }
@@ -401,8 +403,8 @@ public class SanityChecker {
      * @throws InvalidParseOperationException when Sanity Check is in error
      */
     private static final void checkXmlSanityTags(String line) throws InvalidParseOperationException {
-        for (final String rule : StringUtils.RULES) {
-            checkSanityTags(line, rule);
+        if (line != null && RULES_MATCHER.containsAny(line)) {
+            throw new InvalidParseOperationException("Invalid tag sanity check");
         }
     }
 
@@ -444,19 +446,6 @@ public class SanityChecker {
         }
     }
 
-    /**
-     * checkSanityTags : check if there is an invalid tag
-     *
-     * @param invalidTag data to check as String
-     * @throws InvalidParseOperationException when Sanity Check is in error
-     */
-    private static final void checkSanityTags(String dataLine, String invalidTag)
-        throws InvalidParseOperationException {
-        if (dataLine != null && invalidTag != null && dataLine.contains(invalidTag)) {
-            throw new InvalidParseOperationException("Invalid tag sanity check");
-        }
-    }
-
     /**
      * checkHtmlPattern : check against Html Pattern within value (not allowed)
      *
@@ -491,13 +480,18 @@ public class SanityChecker {
 
                 if (value.isArray()) {
                     ArrayNode nodes = (ArrayNode) value;
+                    boolean hasValueNode = false;
                     for (JsonNode jsonNode : nodes) {
                         if (!jsonNode.isValueNode()) {
                             checkJsonSanity(jsonNode);
                         } else {
-                            validateJSONField(value);
+                            hasValueNode = true;
                         }
                     }
+                    // Scalar values are checked within the whole serialized array, once
+                    if (hasValueNode) {
+                        validateJSONField(value);
+                    }
                 } else if (!value.isValueNode()) {
                     checkJsonSanity(value);
                 } else {
@@ -29,28 +29,53 @@ package fr.gouv.vitam.common.security.merkletree;
 import static fr.gouv.vitam.common.security.merkletree.MerkleTree.EMPTY_LEAF;
 
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
 import java.util.List;
 
 import com.google.common.annotations.VisibleForTesting;
-import com.google.common.collect.Iterables;
 
-import fr.gouv.vitam.common.digest.Digest;
 import fr.gouv.vitam.common.digest.DigestType;
 
 /**
- * MerkleTreeAlgo
+ * MerkleTreeAlgo<br>
+ * Leaves are hashed as they are added : only the roots of the complete sub-trees not yet merged are kept (at most
+ * log2(n) + 1 hashes). Missing leaves up to the next power of 2 are padded with {@link MerkleTree#EMPTY_LEAF}.
  */
 public class MerkleTreeAlgo {
 
-    private final DigestType digestType;
-    private List<MerkleTree> leaves = new ArrayList<>();
+    private final MessageDigest messageDigest;
+    private final boolean keepTree;
+    /**
+     * Complete sub-trees not yet merged, from the highest level (bottom) to the lowest level (top)
+     */
+    private final List<PendingNode> pendingNodes = new ArrayList<>();
+    /**
+     * Roots of padding sub-trees, by level
+     */
+    private final List<PendingNode> emptyNodes = new ArrayList<>();
+    private long numberOfLeaves = 0;
 
     /**
      * @param digestType
      */
     public MerkleTreeAlgo(DigestType digestType) {
-        this.digestType = digestType;
+        this(digestType, true);
+    }
+
+    /**
+     * @param digestType
+     * @param keepTree if false, only the root hash is computed, and the generated MerkleTree has no leaves
+     */
+    public MerkleTreeAlgo(DigestType digestType, boolean keepTree) {
+        this.keepTree = keepTree;
+        try {
+            this.messageDigest = MessageDigest.getInstance(digestType.getName());
+        } catch (final NoSuchAlgorithmException e) {
+            throw new IllegalArgumentException("Algo unknown", e);
+        }
+        this.emptyNodes.add(new PendingNode(0, EMPTY_LEAF.getRoot(), EMPTY_LEAF));
     }
 
     /**
@@ -69,14 +94,35 @@ public class MerkleTreeAlgo {
      * @param data
      */
     public void addLeaf(byte[] data) {
-        Digest digest = new Digest(digestType);
-        MerkleTree tree = new MerkleTree(digest.update(data).digest(), null, null);
-        leaves.add(tree);
+        byte[] hash = messageDigest.digest(data);
+        PendingNode node = new PendingNode(0, hash, keepTree ? new MerkleTree(hash, null, null) : null);
+        numberOfLeaves++;
+        // Merge complete sub-trees of same level
+        while (!pendingNodes.isEmpty() && last(pendingNodes).level == node.level) {
+            node = merge(pendingNodes.remove(pendingNodes.size() - 1), node);
+        }
+        pendingNodes.add(node);
+    }
+
+    @VisibleForTesting
+    long numberOfLeaves() {
+        return numberOfLeaves;
     }
 
     @VisibleForTesting
-    int numberOfLeaves() {
-        return leaves.size();
+    int numberOfPendingNodes() {
+        return pendingNodes.size();
+    }
+
+    /**
+     * @return number of leaves once padded to a power of 2
+     */
+    @VisibleForTesting
+    long numberOfPaddedLeaves() {
+        if (numberOfLeaves == 0 || Long.bitCount(numberOfLeaves) == 1) {
+            return numberOfLeaves;
+        }
+        return Long.highestOneBit(2 * numberOfLeaves);
     }
 
     /**
@@ -87,44 +133,63 @@ public class MerkleTreeAlgo {
      * @return byte[] generated Hash
      */
     private byte[] concat(byte[] left, byte[] right) {
-        final Digest digest = new Digest(digestType);
-        digest.update(left);
-        digest.update(right);
-        return digest.digest();
+        messageDigest.update(left);
+        messageDigest.update(right);
+        return messageDigest.digest();
+    }
+
+    private PendingNode merge(PendingNode left, PendingNode right) {
+        byte[] hash = concat(left.hash, right.hash);
+        return new PendingNode(left.level + 1, hash, keepTree ? new MerkleTree(hash, left.tree, right.tree) : null);
     }
 
     /**
-     * adds padding when leaf number isn't 2^n
+     * @param level level of the padding sub-tree
+     * @return the padding sub-tree made of 2^level empty leaves
      */
-    @VisibleForTesting
-    void addPadding() {
-        int numberOfLeaf = leaves.size();
-        if (Long.bitCount(numberOfLeaf) == 1) {
-            return;
-        }
-
-        long l = Long.highestOneBit(2 * numberOfLeaf);
-        for (int j = 0; j < l - numberOfLeaf; j++) {
-            leaves.add(EMPTY_LEAF);
+    private PendingNode emptyNode(int level) {
+        while (emptyNodes.size() <= level) {
+            PendingNode previous = last(emptyNodes);
+            emptyNodes.add(merge(previous, previous));
         }
+        return emptyNodes.get(level);
     }
 
     /**
-     * @return MerkleTree
+     * @return MerkleTree, or null if no leaf has been added
      */
     public MerkleTree generateMerkle() {
-        addPadding();
-        MerkleTree tree = Iterables.getFirst(leaves, null);
-        while (leaves.size() > 1) {
-            final List<MerkleTree> nextList = new ArrayList<>();
-            for (int i = 0; i < leaves.size(); i = i + 2) {
-                byte[] hash = concat(leaves.get(i).getRoot(), leaves.get(i + 1).getRoot());
-                tree = new MerkleTree(hash, leaves.get(i), leaves.get(i + 1));
-                nextList.add(tree);
+        if (pendingNodes.isEmpty()) {
+            return null;
+        }
+        int index = pendingNodes.size() - 1;
+        PendingNode node = pendingNodes.get(index);
+        while (index > 0) {
+            PendingNode left = pendingNodes.get(index - 1);
+            if (left.level == node.level) {
+                node = merge(left, node);
+                index--;
+            } else {
+                // Pad on the right with empty leaves
+                node = merge(node, emptyNode(node.level));
             }
-            leaves = nextList;
         }
-        return tree;
+        return keepTree ? node.tree : new MerkleTree(node.hash, null, null);
+    }
+
+    private static PendingNode last(List<PendingNode> nodes) {
+        return nodes.get(nodes.size() - 1);
     }
 
+    private static final class PendingNode {
+        private final int level;
+        private final byte[] hash;
+        private final MerkleTree tree;
+
+        private PendingNode(int level, byte[] hash, MerkleTree tree) {
+            this.level = level;
+            this.hash = hash;
+            this.tree = tree;
+        }
+    }
 }
@@ -0,0 +1,108 @@
+/*
+ * Copyright French Prime minister Office/SGMAP/DINSIC/Vitam Program (2015-2020)
+ *
+ * contact.vitam@culture.gouv.fr
+ *
+ * This software is a computer program whose purpose is to implement a digital archiving back-office system managing
+ * high volumetry securely and efficiently.
+ *
+ * This software is governed by the CeCILL 2.1 license under French law and abiding by the rules of distribution of free
+ * software. You can use, modify and/ or redistribute the software under the terms of the CeCILL 2.1 license as
+ * circulated by CEA, CNRS and INRIA at the following URL "https://cecill.info".
+ *
+ * As a counterpart to the access to the source code and rights to copy, modify and redistribute granted by the license,
+ * users are provided only with a limited warranty and the software's author, the holder of the economic rights, and the
+ * successive licensors have only limited liability.
+ *
+ * In this respect, the user's attention is drawn to the risks associated with loading, using, modifying and/or
+ * developing or reproducing the software by the user in light of its specific status of free software, that may mean
+ * that it is complicated to manipulate, and that also therefore means that it is reserved for developers and
+ * experienced professionals having in-depth computer knowledge. Users are therefore encouraged to load and test the
+ * software's suitability as regards their requirements in conditions enabling the security of their systems and/or data
+ * to be ensured and, more generally, to use and operate it in the same conditions as regards security.
+ *
+ * The fact that you are presently reading this means that you have had knowledge of the CeCILL 2.1 license and that you
+ * accept its terms.
+ */
+package fr.gouv.vitam.common.guid;
+
+import fr.gouv.vitam.common.logging.VitamLogger;
+import fr.gouv.vitam.common.logging.VitamLoggerFactory;
+import org.junit.Assume;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares GUID generation throughput from 1 to 64 threads, with generation serialized by a global lock (as done by
+ * the former generator) and with the lock-free {@link GUIDImplPrivate} generator
+ */
+public class GUIDImplPrivateBenchmarkTest {
+
+    private static final VitamLogger LOGGER = VitamLoggerFactory.getInstance(GUIDImplPrivateBenchmarkTest.class);
+
+    /**
+     * Set to true to run the benchmark (opt-in, not run by the default test suite)
+     */
+    private static final String BENCHMARK_PROPERTY = "vitam.test.benchmark";
+
+    private static final int NB_GUIDS = 1_000_000;
+    private static final int[] NB_THREADS = {1, 2, 4, 8, 16, 32, 64};
+
+    @Test
+    public void benchmarkGuidGeneration() throws Exception {
+        Assume.assumeTrue("Benchmark disabled, set -D" + BENCHMARK_PROPERTY + "=true to run it",
+            Boolean.getBoolean(BENCHMARK_PROPERTY));
+        final Object lock = new Object();
+        // Warm up
+        run(4, () -> new GUIDImplPrivate(1, 2));
+
+        for (final int nbThreads : NB_THREADS) {
+            final long lockedDuration = run(nbThreads, () -> {
+                synchronized (lock) {
+                    return new GUIDImplPrivate(1, 2);
+                }
+            });
+            final long lockFreeDuration = run(nbThreads, () -> new GUIDImplPrivate(1, 2));
+
+            LOGGER.info(String.format("%d threads: locked %d GUID/s, lock-free %d GUID/s", nbThreads,
+                NB_GUIDS * 1000L / Math.max(lockedDuration, 1L), NB_GUIDS * 1000L / Math.max(lockFreeDuration, 1L)));
+        }
+    }
+
+    private long run(int nbThreads, Supplier<GUIDImplPrivate> generator) throws Exception {
+        final int nbGuidsPerThread = NB_GUIDS / nbThreads;
+        final ExecutorService executorService = Executors.newFixedThreadPool(nbThreads);
+        try {
+            final CountDownLatch startLatch = new CountDownLatch(1);
+            final List<Future<GUIDImplPrivate>> futures = new ArrayList<>();
+            for (int thread = 0; thread < nbThreads; thread++) {
+                futures.add(executorService.submit(() -> {
+                    startLatch.await();
+                    GUIDImplPrivate last = null;
+                    for (int i = 0; i < nbGuidsPerThread; i++) {
+                        last = generator.get();
+                    }
+                    return last;
+                }));
+            }
+            final long start = System.nanoTime();
+            startLatch.countDown();
+            for (final Future<GUIDImplPrivate> future : futures) {
+                assertThat(future.get()).isNotNull();
+            }
+            return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        } finally {
+            executorService.shutdown();
+        }
+    }
+}
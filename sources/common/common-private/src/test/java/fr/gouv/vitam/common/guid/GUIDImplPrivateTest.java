@@ -32,11 +32,18 @@ import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Date;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.junit.Test;
 
@@ -402,6 +409,42 @@ public class GUIDImplPrivateTest {
         checkConsecutive(set.toArray(new GUIDImplPrivate[0]));
     }
 
+    @Test
+    public void testConcurrentGenerationUniquenessAndFields() throws Exception {
+        final int numThreads = 64;
+        final int step = NB / numThreads;
+        final Set<String> timestampsAndCounters = ConcurrentHashMap.newKeySet();
+        final ExecutorService executorService = Executors.newFixedThreadPool(numThreads);
+        try {
+            final CountDownLatch startLatch = new CountDownLatch(1);
+            final List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < numThreads; i++) {
+                final int tenantId = i;
+                futures.add(executorService.submit(() -> {
+                    startLatch.await();
+                    for (int j = 0; j < step; j++) {
+                        final GUIDImplPrivate uuid = new GUIDImplPrivate(3, tenantId, 5, j % 2 == 0);
+                        assertEquals(3, uuid.getObjectId());
+                        assertEquals(tenantId, uuid.getTenantId());
+                        assertEquals(5, uuid.getPlatformId());
+                        assertEquals(j % 2 == 0, uuid.isWorm());
+                        assertEquals(GUIDImplPrivate.jvmProcessId(), uuid.getProcessId());
+                        // Uniqueness must not depend on tenant nor worm fields
+                        timestampsAndCounters.add(uuid.toHex().substring(GUIDImpl.TIME_POS * 2));
+                    }
+                    return null;
+                }));
+            }
+            startLatch.countDown();
+            for (final Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executorService.shutdown();
+        }
+        assertEquals(step * numThreads, timestampsAndCounters.size());
+    }
+
     @Test
     public void testJsonXml() {
         final GUIDImplPrivate uuid = new GUIDImplPrivate(1, 2);
@@ -0,0 +1,216 @@
+/*
+ * Copyright French Prime minister Office/SGMAP/DINSIC/Vitam Program (2015-2020)
+ *
+ * contact.vitam@culture.gouv.fr
+ *
+ * This software is a computer program whose purpose is to implement a digital archiving back-office system managing
+ * high volumetry securely and efficiently.
+ *
+ * This software is governed by the CeCILL 2.1 license under French law and abiding by the rules of distribution of free
+ * software. You can use, modify and/ or redistribute the software under the terms of the CeCILL 2.1 license as
+ * circulated by CEA, CNRS and INRIA at the following URL "https://cecill.info".
+ *
+ * As a counterpart to the access to the source code and rights to copy, modify and redistribute granted by the license,
+ * users are provided only with a limited warranty and the software's author, the holder of the economic rights, and the
+ * successive licensors have only limited liability.
+ *
+ * In this respect, the user's attention is drawn to the risks associated with loading, using, modifying and/or
+ * developing or reproducing the software by the user in light of its specific status of free software, that may mean
+ * that it is complicated to manipulate, and that also therefore means that it is reserved for developers and
+ * experienced professionals having in-depth computer knowledge. Users are therefore encouraged to load and test the
+ * software's suitability as regards their requirements in conditions enabling the security of their systems and/or data
+ * to be ensured and, more generally, to use and operate it in the same conditions as regards security.
+ *
+ * The fact that you are presently reading this means that you have had knowledge of the CeCILL 2.1 license and that you
+ * accept its terms.
+ */
+package fr.gouv.vitam.common.iterables;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class PrefetchingSpliteratorTest {
+
+    private ExecutorService executor;
+
+    @Before
+    public void setUp() {
+        executor = Executors.newSingleThreadExecutor();
+    }
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testEmpty() {
+
+        // Given
+        PrefetchingSpliterator<Integer> instance =
+            new PrefetchingSpliterator<>(Collections.<Integer>emptyList().spliterator(), 10, 2, executor);
+
+        // When / Then
+        assertThat(instance.estimateSize()).isEqualTo(0L);
+        assertThat(instance.tryAdvance(i -> {
+        })).isFalse();
+    }
+
+    @Test
+    public void testAllEntriesInOrder() {
+
+        // Given
+        List<Integer> entries = IntStream.range(0, 1055).boxed().collect(Collectors.toList());
+        PrefetchingSpliterator<Integer> instance =
+            new PrefetchingSpliterator<>(entries.spliterator(), 100, 2, executor);
+
+        // When
+        List<Integer> result = StreamSupport.stream(instance, false).collect(Collectors.toList());
+
+        // Then
+        assertThat(instance.estimateSize()).isEqualTo(1055L);
+        assertThat(result).containsExactlyElementsOf(entries);
+    }
+
+    @Test
+    public void testFailureOfSourceIsRethrownAfterPreviousEntries() {
+
+        // Given
+        RuntimeException failure = new IllegalStateException("metadata unavailable");
+        AtomicInteger readEntries = new AtomicInteger();
+        Spliterator<Integer> source = new Spliterators.AbstractSpliterator<Integer>(Long.MAX_VALUE, 0) {
+            @Override
+            public boolean tryAdvance(Consumer<? super Integer> action) {
+                int entry = readEntries.getAndIncrement();
+                if (entry == 25) {
+                    throw failure;
+                }
+                action.accept(entry);
+                return true;
+            }
+        };
+        PrefetchingSpliterator<Integer> instance = new PrefetchingSpliterator<>(source, 10, 2, executor);
+        List<Integer> result = new ArrayList<>();
+
+        // When / Then
+        assertThatThrownBy(() -> instance.forEachRemaining(result::add)).isSameAs(failure);
+        assertThat(result).containsExactlyElementsOf(IntStream.range(0, 20).boxed().collect(Collectors.toList()));
+    }
+
+    @Test
+    public void testErrorOfSourceIsRethrownInsteadOfBlockingConsumer() {
+
+        // Given
+        Error failure = new OutOfMemoryError("fake");
+        AtomicInteger readEntries = new AtomicInteger();
+        Spliterator<Integer> source = new Spliterators.AbstractSpliterator<Integer>(Long.MAX_VALUE, 0) {
+            @Override
+            public boolean tryAdvance(Consumer<? super Integer> action) {
+                int entry = readEntries.getAndIncrement();
+                if (entry == 15) {
+                    throw failure;
+                }
+                action.accept(entry);
+                return true;
+            }
+        };
+        PrefetchingSpliterator<Integer> instance = new PrefetchingSpliterator<>(source, 10, 2, executor);
+        List<Integer> result = new ArrayList<>();
+
+        // When / Then
+        assertThatThrownBy(() -> instance.forEachRemaining(result::add)).isSameAs(failure);
+        assertThat(result).containsExactlyElementsOf(IntStream.range(0, 10).boxed().collect(Collectors.toList()));
+    }
+
+    @Test
+    public void testBufferIsBoundedAndReleasedOnClose() throws Exception {
+
+        // Given
+        AtomicInteger readEntries = new AtomicInteger();
+        Spliterator<Integer> source = IntStream.range(0, 10_000).boxed()
+            .peek(i -> readEntries.incrementAndGet())
+            .spliterator();
+        PrefetchingSpliterator<Integer> instance = new PrefetchingSpliterator<>(source, 10, 2, executor);
+
+        // When
+        assertThat(instance.tryAdvance(i -> {
+        })).isTrue();
+        TimeUnit.MILLISECONDS.sleep(500);
+
+        // Then : 1 chunk consumed, 2 chunks buffered, and 1 chunk waiting for room in buffer
+        assertThat(readEntries.get()).isLessThanOrEqualTo(40);
+
+        instance.close();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    public void testSlowConsumerFailsExplicitlyWhenSourceIdleTimeExceeded() {
+
+        // Given
+        AtomicInteger readEntries = new AtomicInteger();
+        Spliterator<Integer> source = IntStream.range(0, 100).boxed()
+            .peek(i -> readEntries.incrementAndGet())
+            .spliterator();
+        PrefetchingSpliterator<Integer> instance = new PrefetchingSpliterator<>(source, 10, 1, executor, 50L);
+        List<Integer> result = new ArrayList<>();
+
+        // When / Then : source is not read anymore once consumer kept it idle too long
+        assertThatThrownBy(() -> instance.forEachRemaining(i -> {
+            if (i == 0) {
+                sleep(200);
+            }
+            result.add(i);
+        })).isInstanceOf(IllegalStateException.class).hasMessageContaining("consumed too slowly");
+        assertThat(result).containsExactlyElementsOf(IntStream.range(0, 30).boxed().collect(Collectors.toList()));
+        assertThat(readEntries.get()).isLessThanOrEqualTo(30);
+    }
+
+    @Test
+    public void testWaitingAndProcessingTimes() throws Exception {
+
+        // Given
+        Spliterator<Integer> source = IntStream.range(0, 30).boxed()
+            .peek(i -> {
+                if (i % 10 == 0) {
+                    sleep(100);
+                }
+            })
+            .spliterator();
+        PrefetchingSpliterator<Integer> instance = new PrefetchingSpliterator<>(source, 10, 2, executor);
+
+        // When
+        instance.forEachRemaining(i -> sleep(5));
+
+        // Then
+        assertThat(instance.getWaitingTimeInMillis()).isGreaterThanOrEqualTo(100L);
+        assertThat(instance.getProcessingTimeInMillis()).isGreaterThanOrEqualTo(150L);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            TimeUnit.MILLISECONDS.sleep(millis);
+        } catch (InterruptedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright French Prime minister Office/SGMAP/DINSIC/Vitam Program (2015-2020)
+ *
+ * contact.vitam@culture.gouv.fr
+ *
+ * This software is a computer program whose purpose is to implement a digital archiving back-office system managing
+ * high volumetry securely and efficiently.
+ *
+ * This software is governed by the CeCILL 2.1 license under French law and abiding by the rules of distribution of free
+ * software. You can use, modify and/ or redistribute the software under the terms of the CeCILL 2.1 license as
+ * circulated by CEA, CNRS and INRIA at the following URL "https://cecill.info".
+ *
+ * As a counterpart to the access to the source code and rights to copy, modify and redistribute granted by the license,
+ * users are provided only with a limited warranty and the software's author, the holder of the economic rights, and the
+ * successive licensors have only limited liability.
+ *
+ * In this respect, the user's attention is drawn to the risks associated with loading, using, modifying and/or
+ * developing or reproducing the software by the user in light of its specific status of free software, that may mean
+ * that it is complicated to manipulate, and that also therefore means that it is reserved for developers and
+ * experienced professionals having in-depth computer knowledge. Users are therefore encouraged to load and test the
+ * software's suitability as regards their requirements in conditions enabling the security of their systems and/or data
+ * to be ensured and, more generally, to use and operate it in the same conditions as regards security.
+ *
+ * The fact that you are presently reading this means that you have had knowledge of the CeCILL 2.1 license and that you
+ * accept its terms.
+ */
+package fr.gouv.vitam.common.security;
+
+import fr.gouv.vitam.common.StringUtils;
+import org.junit.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class MultiPatternMatcherTest {
+
+    private static final String ALPHABET = "<>![]&;ltgCDATAENTIYscript \n\ré中";
+
+    @Test
+    public void should_match_any_pattern() {
+        MultiPatternMatcher matcher = new MultiPatternMatcher(StringUtils.RULES);
+
+        assertThat(matcher.containsAny("<![CDATA[test]]>")).isTrue();
+        assertThat(matcher.containsAny("text &lt;script&gt;alert()")).isTrue();
+        assertThat(matcher.containsAny("<<!ENTITY")).isTrue();
+        assertThat(matcher.containsAny("<scrip>t")).isFalse();
+        assertThat(matcher.containsAny("&lt;!ENTIT")).isFalse();
+        assertThat(matcher.containsAny("")).isFalse();
+    }
+
+    @Test
+    public void should_match_overlapping_patterns() {
+        MultiPatternMatcher matcher = new MultiPatternMatcher(Arrays.asList("abcd", "bce", "cé"));
+
+        assertThat(matcher.containsAny("xabce")).isTrue();
+        assertThat(matcher.containsAny("abcabcd")).isTrue();
+        assertThat(matcher.containsAny("abcé")).isTrue();
+        assertThat(matcher.containsAny("abcabc")).isFalse();
+    }
+
+    @Test
+    public void should_match_everything_with_empty_pattern() {
+        MultiPatternMatcher matcher = new MultiPatternMatcher(Collections.singletonList(""));
+
+        assertThat(matcher.containsAny("")).isTrue();
+        assertThat(matcher.containsAny("any")).isTrue();
+    }
+
+    @Test
+    public void should_give_same_results_as_contains() throws IOException {
+        List<String> patterns = StringUtils.RULES;
+        MultiPatternMatcher matcher = new MultiPatternMatcher(patterns);
+        Random random = new Random(42);
+
+        for (int i = 0; i < 20_000; i++) {
+            String text = randomText(random, patterns);
+
+            boolean expected = patterns.stream().anyMatch(text::contains);
+            assertThat(matcher.containsAny(text)).as(text).isEqualTo(expected);
+
+            boolean expectedByLine = false;
+            BufferedReader reader = new BufferedReader(new StringReader(text));
+            String line;
+            while ((line = reader.readLine()) != null) {
+                for (String pattern : patterns) {
+                    expectedByLine |= line.contains(pattern);
+                }
+            }
+            assertThat(matcher.anyLineContainsAny(new StringReader(text))).as(text).isEqualTo(expectedByLine);
+        }
+    }
+
+    private String randomText(Random random, List<String> patterns) {
+        StringBuilder sb = new StringBuilder();
+        int length = random.nextInt(60);
+        while (sb.length() < length) {
+            if (random.nextInt(10) == 0) {
+                // Truncated or complete pattern, possibly split by a line break
+                String pattern = patterns.get(random.nextInt(patterns.size()));
+                String part = pattern.substring(0, 1 + random.nextInt(pattern.length()));
+                int split = random.nextInt(part.length() + 1);
+                sb.append(part, 0, split);
+                if (random.nextInt(4) == 0) {
+                    sb.append('\n');
+                }
+                sb.append(part.substring(split));
+            } else {
+                sb.append(ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+            }
+        }
+        return sb.toString();
+    }
+}
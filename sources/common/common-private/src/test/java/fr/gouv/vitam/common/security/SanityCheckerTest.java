@@ -286,4 +286,19 @@ public class SanityCheckerTest {
         map.add("test", bad);
         SanityChecker.checkHeaders(headers);
     }
+
+    @Test
+    public void checkJsonWithLargeArrayOfValues() throws InvalidParseOperationException {
+        final StringBuilder json = new StringBuilder("{\"$in\":[");
+        for (int i = 0; i < 20_000; i++) {
+            json.append(i == 0 ? "" : ",").append("\"value").append(i).append('"');
+        }
+        json.append("]}");
+        SanityChecker.checkJsonAll(JsonHandler.getFromString(json.toString()));
+    }
+
+    @Test(expected = InvalidParseOperationException.class)
+    public void checkJsonWithHtmlInArrayValues() throws InvalidParseOperationException {
+        SanityChecker.checkJsonAll(JsonHandler.getFromString("{\"Title\":[\"ok\", {\"a\":\"b\"}, \"<b>bold</b>\"]}"));
+    }
 }
@@ -31,11 +31,17 @@ import static org.apache.commons.codec.binary.Base64.decodeBase64;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.Before;
 import org.junit.Test;
 
+import fr.gouv.vitam.common.digest.Digest;
+import fr.gouv.vitam.common.json.JsonHandler;
+
 public class MerkleTreeAlgoTest {
 
     private MerkleTreeAlgo merkleTreeAlgo;
@@ -83,10 +89,11 @@ public class MerkleTreeAlgoTest {
         merkleTreeAlgo.addLeaf("e");
 
         // When
-        merkleTreeAlgo.addPadding();
+        final long numberOfPaddedLeaves = merkleTreeAlgo.numberOfPaddedLeaves();
 
         // Then
-        assertThat(merkleTreeAlgo.numberOfLeaves()).isEqualTo(8);
+        assertThat(merkleTreeAlgo.numberOfLeaves()).isEqualTo(5);
+        assertThat(numberOfPaddedLeaves).isEqualTo(8);
 
     }
 
@@ -99,10 +106,78 @@ public class MerkleTreeAlgoTest {
         merkleTreeAlgo.addLeaf("d");
 
         // When
-        merkleTreeAlgo.addPadding();
+        final long numberOfPaddedLeaves = merkleTreeAlgo.numberOfPaddedLeaves();
+
+        // Then
+        assertThat(numberOfPaddedLeaves).isEqualTo(4);
+    }
+
+    @Test
+    public void should_return_null_when_no_leaf() {
+        assertThat(merkleTreeAlgo.generateMerkle()).isNull();
+    }
+
+    @Test
+    public void should_compute_same_tree_as_fully_padded_tree() throws Exception {
+        for (int numberOfLeaves = 1; numberOfLeaves <= 70; numberOfLeaves++) {
+            // Given
+            final MerkleTreeAlgo streamingAlgo = new MerkleTreeAlgo(SHA512);
+            final MerkleTreeAlgo rootOnlyAlgo = new MerkleTreeAlgo(SHA512, false);
+            final List<MerkleTree> level = new ArrayList<>();
+            for (int i = 0; i < numberOfLeaves; i++) {
+                final byte[] data = ("leaf" + i).getBytes(StandardCharsets.UTF_8);
+                streamingAlgo.addLeaf(data);
+                rootOnlyAlgo.addLeaf(data);
+                level.add(new MerkleTree(new Digest(SHA512).update(data).digest(), null, null));
+            }
+            final MerkleTree expected = generateFullyPaddedTree(level);
+
+            // When
+            final MerkleTree tree = streamingAlgo.generateMerkle();
+            final MerkleTree rootOnlyTree = rootOnlyAlgo.generateMerkle();
+
+            // Then
+            assertThat(tree.getRoot()).isEqualTo(expected.getRoot());
+            assertThat(JsonHandler.unprettyPrint(tree)).isEqualTo(JsonHandler.unprettyPrint(expected));
+            assertThat(rootOnlyTree.getRoot()).isEqualTo(expected.getRoot());
+            assertThat(rootOnlyTree.getLeftLeaf()).isNull();
+            assertThat(streamingAlgo.generateMerkle().getRoot()).isEqualTo(expected.getRoot());
+        }
+    }
+
+    @Test
+    public void should_keep_logarithmic_number_of_pending_hashes() {
+        // Given
+        final MerkleTreeAlgo rootOnlyAlgo = new MerkleTreeAlgo(SHA512, false);
+        final int numberOfLeaves = 1_000_000;
+        int maxPendingNodes = 0;
+
+        // When
+        for (int i = 0; i < numberOfLeaves; i++) {
+            rootOnlyAlgo.addLeaf(Integer.toString(i));
+            maxPendingNodes = Math.max(maxPendingNodes, rootOnlyAlgo.numberOfPendingNodes());
+        }
+        final MerkleTree tree = rootOnlyAlgo.generateMerkle();
 
         // Then
-        assertThat(merkleTreeAlgo.numberOfLeaves()).isEqualTo(4);
+        assertThat(tree.getRoot()).isNotEmpty();
+        assertThat(maxPendingNodes).isLessThanOrEqualTo(20);
     }
 
+    private MerkleTree generateFullyPaddedTree(List<MerkleTree> leaves) {
+        List<MerkleTree> level = new ArrayList<>(leaves);
+        while (Long.bitCount(level.size()) != 1) {
+            level.add(MerkleTree.EMPTY_LEAF);
+        }
+        while (level.size() > 1) {
+            final List<MerkleTree> nextLevel = new ArrayList<>();
+            for (int i = 0; i < level.size(); i += 2) {
+                final byte[] hash = new Digest(SHA512).update(level.get(i).getRoot())
+                    .update(level.get(i + 1).getRoot()).digest();
+                nextLevel.add(new MerkleTree(hash, level.get(i), level.get(i + 1)));
+            }
+            level = nextLevel;
+        }
+        return level.get(0);
+    }
 }
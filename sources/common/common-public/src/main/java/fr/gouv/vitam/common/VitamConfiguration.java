@@ -170,6 +170,14 @@ public class VitamConfiguration {
      * Default Vitam griffin folder for transformed data
      */
     private static String vitamGriffinInputFilesFolder = "/vitam/tmp/worker/griffins";
+    /**
+     * Max number of preservation input binaries downloaded in parallel from storage
+     */
+    private static int preservationFetchThreadPoolSize = 8;
+    /**
+     * Max number of objects sent to a single griffin run (0: whole batch in a single run)
+     */
+    private static int griffinRunMaxObjects = 100;
 
     private static String workspaceWorkflowsFolder = "workflows";
 
@@ -182,6 +190,12 @@ public class VitamConfiguration {
 
     private static Integer elasticSearchScrollLimit = 10_000;
 
+    /**
+     * Use search after pagination instead of scroll in worker scroll spliterators. Disabled by default : search after
+     * sorts on _id as tie breaker, which loads _id fielddata in elasticsearch heap.
+     */
+    private static boolean elasticSearchSearchAfterPagination = false;
+
     /**
      * Default Chunk Size
      */
@@ -326,6 +340,10 @@ public class VitamConfiguration {
      * Restore bulk size
      */
     private static int restoreBulkSize = 1000;
+    /**
+     * Max number of backup files loaded in parallel from offers during a restore
+     */
+    private static int restoreThreadPoolSize = 16;
 
     /*
      * Cache delay = 60 seconds
@@ -430,6 +448,19 @@ public class VitamConfiguration {
     private static long computedInheritedRulesThreshold = 100_000_000L;
     private static int ontologyCacheMaxEntries = 100;
     private static int ontologyCacheTimeoutInSeconds = 300;
+    /**
+     * Min delay between two reloads of the shared ontology snapshot
+     */
+    private static int ontologyCacheRefreshIntervalInSeconds = 1;
+    /**
+     * Max entries of the certificate identity / context cache of external security filters
+     */
+    private static int securityCacheMaxEntries = 1000;
+    /**
+     * Write timeout of the certificate identity / context cache of external security filters (0 disables the cache).
+     * A revoked certificate or a deactivated context stays authorized on a server for up to this delay.
+     */
+    private static int securityCacheTimeoutInSeconds = 5;
     /**
      * Default OriginatingAgency for DIP export with multiple originating agencies
      */
@@ -505,6 +536,11 @@ public class VitamConfiguration {
      */
     private static int reclassificationMaxGuildListSizeInLogbookOperation = 1000;
 
+    /**
+     * Max entries of an ingest identifier map kept in heap before moving it to temporary mapped files (0 to disable)
+     */
+    private static int extractSedaMapSpillThreshold = 500000;
+
     /**
      * classification level for the Vitam plateform useful for worker ingest / mass update / update unit
      */
@@ -632,6 +668,30 @@ public class VitamConfiguration {
         VitamConfiguration.ontologyCacheTimeoutInSeconds = ontologyCacheTimeoutInSeconds;
     }
 
+    public static int getOntologyCacheRefreshIntervalInSeconds() {
+        return ontologyCacheRefreshIntervalInSeconds;
+    }
+
+    public static void setOntologyCacheRefreshIntervalInSeconds(int ontologyCacheRefreshIntervalInSeconds) {
+        VitamConfiguration.ontologyCacheRefreshIntervalInSeconds = ontologyCacheRefreshIntervalInSeconds;
+    }
+
+    public static int getSecurityCacheMaxEntries() {
+        return securityCacheMaxEntries;
+    }
+
+    public static void setSecurityCacheMaxEntries(int securityCacheMaxEntries) {
+        VitamConfiguration.securityCacheMaxEntries = securityCacheMaxEntries;
+    }
+
+    public static int getSecurityCacheTimeoutInSeconds() {
+        return securityCacheTimeoutInSeconds;
+    }
+
+    public static void setSecurityCacheTimeoutInSeconds(int securityCacheTimeoutInSeconds) {
+        VitamConfiguration.securityCacheTimeoutInSeconds = securityCacheTimeoutInSeconds;
+    }
+
     public static int getHttpClientRetry() {
         return httpClientRetry;
     }
@@ -929,6 +989,15 @@ public class VitamConfiguration {
         if (null != parameters.getRestoreBulkSize()) {
             setWorkerBulkSize(parameters.getRestoreBulkSize());
         }
+        if (null != parameters.getRestoreThreadPoolSize()) {
+            setRestoreThreadPoolSize(parameters.getRestoreThreadPoolSize());
+        }
+        if (null != parameters.getPreservationFetchThreadPoolSize()) {
+            setPreservationFetchThreadPoolSize(parameters.getPreservationFetchThreadPoolSize());
+        }
+        if (null != parameters.getGriffinRunMaxObjects()) {
+            setGriffinRunMaxObjects(parameters.getGriffinRunMaxObjects());
+        }
         if (null != parameters.getMaxElasticsearchBulk()) {
             setMaxElasticsearchBulk(parameters.getMaxElasticsearchBulk());
         }
@@ -1022,6 +1091,10 @@ public class VitamConfiguration {
                 parameters.getReclassificationMaxGuildListSizeInLogbookOperation());
         }
 
+        if (null != parameters.getExtractSedaMapSpillThreshold()) {
+            setExtractSedaMapSpillThreshold(parameters.getExtractSedaMapSpillThreshold());
+        }
+
         if (null != parameters.getKeywordMaxLength()) {
             setKeywordMaxLength(parameters.getKeywordMaxLength());
         }
@@ -1057,6 +1130,18 @@ public class VitamConfiguration {
             setOntologyCacheTimeoutInSeconds(parameters.getOntologyCacheTimeoutInSeconds());
         }
 
+        if (null != parameters.getOntologyCacheRefreshIntervalInSeconds()) {
+            setOntologyCacheRefreshIntervalInSeconds(parameters.getOntologyCacheRefreshIntervalInSeconds());
+        }
+
+        if (null != parameters.getSecurityCacheMaxEntries()) {
+            setSecurityCacheMaxEntries(parameters.getSecurityCacheMaxEntries());
+        }
+
+        if (null != parameters.getSecurityCacheTimeoutInSeconds()) {
+            setSecurityCacheTimeoutInSeconds(parameters.getSecurityCacheTimeoutInSeconds());
+        }
+
         if (null != parameters.getHttpClientRetry()) {
             setHttpClientRetry(parameters.getHttpClientRetry());
         }
@@ -1084,6 +1169,10 @@ public class VitamConfiguration {
         if (null != parameters.getElasticSearchScrollLimit()) {
             setElasticSearchScrollLimit(parameters.getElasticSearchScrollLimit());
         }
+
+        if (null != parameters.isElasticSearchSearchAfterPagination()) {
+            setElasticSearchSearchAfterPagination(parameters.isElasticSearchSearchAfterPagination());
+        }
     }
 
     /**
@@ -1930,6 +2019,24 @@ public class VitamConfiguration {
         VitamConfiguration.restoreBulkSize = restoreBulkSize;
     }
 
+    /**
+     * Getter restore thread pool size
+     *
+     * @return restoreThreadPoolSize
+     */
+    public static int getRestoreThreadPoolSize() {
+        return restoreThreadPoolSize;
+    }
+
+    /**
+     * Setter restore thread pool size
+     *
+     * @param restoreThreadPoolSize
+     */
+    public static void setRestoreThreadPoolSize(int restoreThreadPoolSize) {
+        VitamConfiguration.restoreThreadPoolSize = restoreThreadPoolSize;
+    }
+
     /**
      * Getter for cacheControlDelay;
      *
@@ -2393,6 +2500,20 @@ public class VitamConfiguration {
         VitamConfiguration.reclassificationMaxBulkThreshold = reclassificationMaxBulkThreshold;
     }
 
+    /**
+     * Max entries of an ingest identifier map kept in heap before moving it to temporary mapped files
+     */
+    public static int getExtractSedaMapSpillThreshold() {
+        return extractSedaMapSpillThreshold;
+    }
+
+    /**
+     * Max entries of an ingest identifier map kept in heap before moving it to temporary mapped files (0 to disable)
+     */
+    public static void setExtractSedaMapSpillThreshold(int extractSedaMapSpillThreshold) {
+        VitamConfiguration.extractSedaMapSpillThreshold = extractSedaMapSpillThreshold;
+    }
+
     /**
      * Max units to update per reclassification request
      */
@@ -2447,6 +2568,42 @@ public class VitamConfiguration {
         VitamConfiguration.vitamGriffinInputFilesFolder = vitamGriffinInputFilesFolder;
     }
 
+    /**
+     * Getter preservation fetch thread pool size
+     *
+     * @return preservationFetchThreadPoolSize
+     */
+    public static int getPreservationFetchThreadPoolSize() {
+        return preservationFetchThreadPoolSize;
+    }
+
+    /**
+     * Setter preservation fetch thread pool size
+     *
+     * @param preservationFetchThreadPoolSize
+     */
+    public static void setPreservationFetchThreadPoolSize(int preservationFetchThreadPoolSize) {
+        VitamConfiguration.preservationFetchThreadPoolSize = preservationFetchThreadPoolSize;
+    }
+
+    /**
+     * Getter griffin run max objects
+     *
+     * @return griffinRunMaxObjects
+     */
+    public static int getGriffinRunMaxObjects() {
+        return griffinRunMaxObjects;
+    }
+
+    /**
+     * Setter griffin run max objects
+     *
+     * @param griffinRunMaxObjects
+     */
+    public static void setGriffinRunMaxObjects(int griffinRunMaxObjects) {
+        VitamConfiguration.griffinRunMaxObjects = griffinRunMaxObjects;
+    }
+
     public static List<String> getIndexInheritedRulesWithRulesIdByTenant() {
         return indexInheritedRulesWithRulesIdByTenant;
     }
@@ -2489,4 +2646,12 @@ public class VitamConfiguration {
     public static void setElasticSearchScrollLimit(Integer elasticSearchScrollLimit) {
         VitamConfiguration.elasticSearchScrollLimit = elasticSearchScrollLimit;
     }
+
+    public static boolean isElasticSearchSearchAfterPagination() {
+        return elasticSearchSearchAfterPagination;
+    }
+
+    public static void setElasticSearchSearchAfterPagination(boolean elasticSearchSearchAfterPagination) {
+        VitamConfiguration.elasticSearchSearchAfterPagination = elasticSearchSearchAfterPagination;
+    }
 }
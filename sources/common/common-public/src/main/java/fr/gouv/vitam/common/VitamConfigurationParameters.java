@@ -55,6 +55,12 @@ public class VitamConfigurationParameters {
      * Restore bulk size
      */
     private Integer restoreBulkSize;
+    /**
+     * Restore thread pool size
+     */
+    private Integer restoreThreadPoolSize;
+    private Integer preservationFetchThreadPoolSize;
+    private Integer griffinRunMaxObjects;
 
     /**
      *
@@ -330,6 +336,11 @@ public class VitamConfigurationParameters {
      */
     private Integer reclassificationMaxGuildListSizeInLogbookOperation;
 
+    /**
+     * Max entries of an ingest identifier map kept in heap before moving it to temporary mapped files
+     */
+    private Integer extractSedaMapSpillThreshold;
+
     /**
      * classification level for the Vitam plateform useful for worker ingest / mass update / update unit
      */
@@ -349,6 +360,12 @@ public class VitamConfigurationParameters {
 
     private Integer ontologyCacheTimeoutInSeconds = 300;
 
+    private Integer ontologyCacheRefreshIntervalInSeconds = 1;
+
+    private Integer securityCacheMaxEntries;
+
+    private Integer securityCacheTimeoutInSeconds;
+
     private Integer httpClientRetry;
     private Integer httpClientFirstAttemptWaitingTime;
     private Integer httpClientWaitingTime;
@@ -359,6 +376,8 @@ public class VitamConfigurationParameters {
 
     private Integer elasticSearchScrollLimit;
 
+    private Boolean elasticSearchSearchAfterPagination;
+
     /**
      * VitamData empty constructor for YAMLFactory
      */
@@ -1099,6 +1118,54 @@ public class VitamConfigurationParameters {
         this.restoreBulkSize = restoreBulkSize;
     }
 
+    /**
+     * Getter for restore thread pool size
+     *
+     * @return
+     */
+    public Integer getRestoreThreadPoolSize() {
+        return restoreThreadPoolSize;
+    }
+
+    /**
+     * Setter for restore thread pool size
+     */
+    public void setRestoreThreadPoolSize(int restoreThreadPoolSize) {
+        this.restoreThreadPoolSize = restoreThreadPoolSize;
+    }
+
+    /**
+     * Getter for preservation fetch thread pool size
+     *
+     * @return
+     */
+    public Integer getPreservationFetchThreadPoolSize() {
+        return preservationFetchThreadPoolSize;
+    }
+
+    /**
+     * Setter for preservation fetch thread pool size
+     */
+    public void setPreservationFetchThreadPoolSize(int preservationFetchThreadPoolSize) {
+        this.preservationFetchThreadPoolSize = preservationFetchThreadPoolSize;
+    }
+
+    /**
+     * Getter for griffin run max objects
+     *
+     * @return
+     */
+    public Integer getGriffinRunMaxObjects() {
+        return griffinRunMaxObjects;
+    }
+
+    /**
+     * Setter for griffin run max objects
+     */
+    public void setGriffinRunMaxObjects(int griffinRunMaxObjects) {
+        this.griffinRunMaxObjects = griffinRunMaxObjects;
+    }
+
 
     /**
      * Getter for maxElasticsearchBulk;
@@ -1306,6 +1373,20 @@ public class VitamConfigurationParameters {
         this.reclassificationMaxBulkThreshold = reclassificationMaxBulkThreshold;
     }
 
+    /**
+     * Max entries of an ingest identifier map kept in heap before moving it to temporary mapped files
+     */
+    public Integer getExtractSedaMapSpillThreshold() {
+        return extractSedaMapSpillThreshold;
+    }
+
+    /**
+     * Max entries of an ingest identifier map kept in heap before moving it to temporary mapped files
+     */
+    public void setExtractSedaMapSpillThreshold(Integer extractSedaMapSpillThreshold) {
+        this.extractSedaMapSpillThreshold = extractSedaMapSpillThreshold;
+    }
+
     /**
      * Max units to update per reclassification request
      */
@@ -1429,6 +1510,30 @@ public class VitamConfigurationParameters {
         this.ontologyCacheTimeoutInSeconds = ontologyCacheTimeoutInSeconds;
     }
 
+    public Integer getOntologyCacheRefreshIntervalInSeconds() {
+        return ontologyCacheRefreshIntervalInSeconds;
+    }
+
+    public void setOntologyCacheRefreshIntervalInSeconds(int ontologyCacheRefreshIntervalInSeconds) {
+        this.ontologyCacheRefreshIntervalInSeconds = ontologyCacheRefreshIntervalInSeconds;
+    }
+
+    public Integer getSecurityCacheMaxEntries() {
+        return securityCacheMaxEntries;
+    }
+
+    public void setSecurityCacheMaxEntries(Integer securityCacheMaxEntries) {
+        this.securityCacheMaxEntries = securityCacheMaxEntries;
+    }
+
+    public Integer getSecurityCacheTimeoutInSeconds() {
+        return securityCacheTimeoutInSeconds;
+    }
+
+    public void setSecurityCacheTimeoutInSeconds(Integer securityCacheTimeoutInSeconds) {
+        this.securityCacheTimeoutInSeconds = securityCacheTimeoutInSeconds;
+    }
+
     public Integer getElasticSearchScrollTimeoutInMilliseconds() {
         return elasticSearchScrollTimeoutInMilliseconds;
     }
@@ -1454,6 +1559,14 @@ public class VitamConfigurationParameters {
         this.elasticSearchScrollLimit = elasticSearchScrollLimit;
     }
 
+    public Boolean isElasticSearchSearchAfterPagination() {
+        return elasticSearchSearchAfterPagination;
+    }
+
+    public void setElasticSearchSearchAfterPagination(Boolean elasticSearchSearchAfterPagination) {
+        this.elasticSearchSearchAfterPagination = elasticSearchSearchAfterPagination;
+    }
+
 
     public Integer getHttpClientRetry() {
         return httpClientRetry;
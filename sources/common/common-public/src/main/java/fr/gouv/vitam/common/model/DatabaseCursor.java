@@ -52,6 +52,10 @@ public class DatabaseCursor {
     @JsonInclude(Include.NON_NULL)
     private String scrollId;
 
+    @JsonProperty("searchAfter")
+    @JsonInclude(Include.NON_NULL)
+    private String searchAfter;
+
 
     /**
      * For Json
@@ -190,4 +194,21 @@ public class DatabaseCursor {
         this.scrollId = scrollId;
         return this;
     }
+
+    /**
+     * @return the searchAfter of the next page, when using search after pagination
+     */
+    public String getSearchAfter() {
+        return searchAfter;
+    }
+
+    /**
+     * @param searchAfter the searchAfter of the next page
+     *
+     * @return this
+     */
+    public DatabaseCursor setSearchAfter(String searchAfter) {
+        this.searchAfter = searchAfter;
+        return this;
+    }
 }
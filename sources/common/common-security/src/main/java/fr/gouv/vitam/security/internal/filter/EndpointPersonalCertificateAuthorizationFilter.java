@@ -27,6 +27,7 @@
 package fr.gouv.vitam.security.internal.filter;
 
 import java.io.IOException;
+import java.util.Optional;
 
 import javax.ws.rs.container.ContainerRequestContext;
 import javax.ws.rs.container.ContainerRequestFilter;
@@ -35,11 +36,13 @@ import javax.ws.rs.core.Response;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Strings;
+import com.google.common.base.Ticker;
 
 import fr.gouv.vitam.common.BaseXx;
 import fr.gouv.vitam.common.GlobalDataRest;
 import fr.gouv.vitam.common.ServerIdentity;
 import fr.gouv.vitam.common.StringUtils;
+import fr.gouv.vitam.common.VitamConfiguration;
 import fr.gouv.vitam.common.error.VitamCode;
 import fr.gouv.vitam.common.error.VitamCodeHelper;
 import fr.gouv.vitam.common.error.VitamError;
@@ -67,6 +70,8 @@ public class EndpointPersonalCertificateAuthorizationFilter implements Container
 
     private InternalSecurityClient internalSecurityClient;
 
+    private InternalSecurityCache internalSecurityCache;
+
     /**
      * Constructor with permission to filter
      *
@@ -75,6 +80,7 @@ public class EndpointPersonalCertificateAuthorizationFilter implements Container
     public EndpointPersonalCertificateAuthorizationFilter(String permission) {
         this.permission = permission;
         this.internalSecurityClient = InternalSecurityClientFactory.getInstance().getClient();
+        this.internalSecurityCache = InternalSecurityCache.getInstance();
     }
 
     /**
@@ -86,8 +92,24 @@ public class EndpointPersonalCertificateAuthorizationFilter implements Container
     @VisibleForTesting
     public EndpointPersonalCertificateAuthorizationFilter(String permission,
         InternalSecurityClient internalSecurityClient) {
+        this(permission, internalSecurityClient,
+            new InternalSecurityCache(VitamConfiguration.getSecurityCacheMaxEntries(),
+                VitamConfiguration.getSecurityCacheTimeoutInSeconds(), Ticker.systemTicker()));
+    }
+
+    /**
+     * Contructor for tests
+     *
+     * @param permission
+     * @param internalSecurityClient
+     * @param internalSecurityCache
+     */
+    @VisibleForTesting
+    EndpointPersonalCertificateAuthorizationFilter(String permission,
+        InternalSecurityClient internalSecurityClient, InternalSecurityCache internalSecurityCache) {
         this.permission = permission;
         this.internalSecurityClient = internalSecurityClient;
+        this.internalSecurityCache = internalSecurityCache;
     }
 
     /**
@@ -138,14 +160,21 @@ public class EndpointPersonalCertificateAuthorizationFilter implements Container
     private boolean getIsPersonalCertificateRequired()
         throws VitamClientInternalException, InternalSecurityException {
 
-        // A cache may be used (later) for this call
+        Optional<Boolean> cachedIsPersonalCertificateRequired =
+            internalSecurityCache.isPersonalCertificateRequired(permission);
+        if (cachedIsPersonalCertificateRequired.isPresent()) {
+            return cachedIsPersonalCertificateRequired.get();
+        }
+
         IsPersonalCertificateRequiredModel isPersonalCertificateRequired =
             internalSecurityClient.isPersonalCertificateRequiredByPermission(permission);
 
         switch (isPersonalCertificateRequired.getResponse()) {
             case REQUIRED_PERSONAL_CERTIFICATE:
+                internalSecurityCache.putPersonalCertificateRequired(permission, true);
                 return true;
             case IGNORED_PERSONAL_CERTIFICATE:
+                internalSecurityCache.putPersonalCertificateRequired(permission, false);
                 return false;
             case ERROR_UNKNOWN_PERMISSION:
                 throw new IllegalStateException(
@@ -0,0 +1,186 @@
+/*
+ * Copyright French Prime minister Office/SGMAP/DINSIC/Vitam Program (2015-2020)
+ *
+ * contact.vitam@culture.gouv.fr
+ *
+ * This software is a computer program whose purpose is to implement a digital archiving back-office system managing
+ * high volumetry securely and efficiently.
+ *
+ * This software is governed by the CeCILL 2.1 license under French law and abiding by the rules of distribution of free
+ * software. You can use, modify and/ or redistribute the software under the terms of the CeCILL 2.1 license as
+ * circulated by CEA, CNRS and INRIA at the following URL "https://cecill.info".
+ *
+ * As a counterpart to the access to the source code and rights to copy, modify and redistribute granted by the license,
+ * users are provided only with a limited warranty and the software's author, the holder of the economic rights, and the
+ * successive licensors have only limited liability.
+ *
+ * In this respect, the user's attention is drawn to the risks associated with loading, using, modifying and/or
+ * developing or reproducing the software by the user in light of its specific status of free software, that may mean
+ * that it is complicated to manipulate, and that also therefore means that it is reserved for developers and
+ * experienced professionals having in-depth computer knowledge. Users are therefore encouraged to load and test the
+ * software's suitability as regards their requirements in conditions enabling the security of their systems and/or data
+ * to be ensured and, more generally, to use and operate it in the same conditions as regards security.
+ *
+ * The fact that you are presently reading this means that you have had knowledge of the CeCILL 2.1 license and that you
+ * accept its terms.
+ */
+package fr.gouv.vitam.security.internal.filter;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import com.codahale.metrics.Gauge;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Ticker;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import fr.gouv.vitam.common.VitamConfiguration;
+import fr.gouv.vitam.common.digest.Digest;
+import fr.gouv.vitam.common.digest.DigestType;
+import fr.gouv.vitam.common.metrics.VitamMetricRegistry;
+import fr.gouv.vitam.common.model.administration.ContextModel;
+import fr.gouv.vitam.security.internal.common.model.IdentityModel;
+
+/**
+ * Cache of the security information resolved by external security filters, shared by all filters of a server.<br>
+ * Identities are keyed by certificate fingerprint, contexts by identifier and personal certificate policies by
+ * permission. Only successful resolutions are cached, so that a newly imported certificate or context is usable at
+ * once. Entries expire after a write timeout, which bounds the delay before a certificate revocation or a context
+ * update made through another server is taken into account. A timeout of 0 disables the cache.
+ */
+public class InternalSecurityCache {
+
+    private static final InternalSecurityCache INSTANCE = new InternalSecurityCache(
+        VitamConfiguration.getSecurityCacheMaxEntries(), VitamConfiguration.getSecurityCacheTimeoutInSeconds(),
+        Ticker.systemTicker());
+
+    private final Cache<String, IdentityModel> identityCache;
+    private final Cache<String, ContextModel> contextCache;
+    private final Cache<String, Boolean> personalCertificatePolicyCache;
+
+    @VisibleForTesting
+    InternalSecurityCache(int maxEntriesInCache, int cacheTimeoutInSeconds, Ticker ticker) {
+        this.identityCache = newCache(maxEntriesInCache, cacheTimeoutInSeconds, ticker);
+        this.contextCache = newCache(maxEntriesInCache, cacheTimeoutInSeconds, ticker);
+        this.personalCertificatePolicyCache = newCache(maxEntriesInCache, cacheTimeoutInSeconds, ticker);
+    }
+
+    /**
+     * @return the cache shared by the security filters of this server
+     */
+    public static InternalSecurityCache getInstance() {
+        return INSTANCE;
+    }
+
+    private static <V> Cache<String, V> newCache(int maxEntriesInCache, int cacheTimeoutInSeconds, Ticker ticker) {
+        return CacheBuilder.newBuilder()
+            // Max entries in cache
+            .maximumSize(maxEntriesInCache)
+            // Write timeout
+            .expireAfterWrite(cacheTimeoutInSeconds, TimeUnit.SECONDS)
+            .ticker(ticker)
+            .recordStats()
+            .build();
+    }
+
+    /**
+     * @param certificate encoded certificate
+     * @return the cached identity of the certificate, if any
+     */
+    public Optional<IdentityModel> getIdentity(byte[] certificate) {
+        return Optional.ofNullable(identityCache.getIfPresent(fingerprint(certificate)));
+    }
+
+    /**
+     * @param certificate encoded certificate
+     * @param identityModel identity of the certificate
+     */
+    public void putIdentity(byte[] certificate, IdentityModel identityModel) {
+        identityCache.put(fingerprint(certificate), identityModel);
+    }
+
+    /**
+     * @param certificate revoked or updated encoded certificate
+     */
+    public void invalidateIdentity(byte[] certificate) {
+        identityCache.invalidate(fingerprint(certificate));
+    }
+
+    /**
+     * @param contextId context identifier
+     * @return the cached context, if any
+     */
+    public Optional<ContextModel> getContext(String contextId) {
+        return Optional.ofNullable(contextCache.getIfPresent(contextId));
+    }
+
+    /**
+     * @param contextId context identifier
+     * @param contextModel active context
+     */
+    public void putContext(String contextId, ContextModel contextModel) {
+        contextCache.put(contextId, contextModel);
+    }
+
+    /**
+     * @param contextId updated or deleted context identifier
+     */
+    public void invalidateContext(String contextId) {
+        contextCache.invalidate(contextId);
+    }
+
+    /**
+     * @param permission endpoint permission
+     * @return whether a personal certificate is required for the permission, if cached
+     */
+    public Optional<Boolean> isPersonalCertificateRequired(String permission) {
+        return Optional.ofNullable(personalCertificatePolicyCache.getIfPresent(permission));
+    }
+
+    /**
+     * @param permission endpoint permission
+     * @param isPersonalCertificateRequired whether a personal certificate is required for the permission
+     */
+    public void putPersonalCertificateRequired(String permission, boolean isPersonalCertificateRequired) {
+        personalCertificatePolicyCache.put(permission, isPersonalCertificateRequired);
+    }
+
+    public void invalidateAll() {
+        identityCache.invalidateAll();
+        contextCache.invalidateAll();
+        personalCertificatePolicyCache.invalidateAll();
+    }
+
+    public CacheStats identityStats() {
+        return identityCache.stats();
+    }
+
+    public CacheStats contextStats() {
+        return contextCache.stats();
+    }
+
+    public CacheStats personalCertificatePolicyStats() {
+        return personalCertificatePolicyCache.stats();
+    }
+
+    /**
+     * Registers cache hit & miss counters
+     *
+     * @param registry metric registry
+     */
+    public void registerMetrics(VitamMetricRegistry registry) {
+        registry.register("Security identity cache hits", (Gauge<Long>) () -> identityStats().hitCount());
+        registry.register("Security identity cache misses", (Gauge<Long>) () -> identityStats().missCount());
+        registry.register("Security context cache hits", (Gauge<Long>) () -> contextStats().hitCount());
+        registry.register("Security context cache misses", (Gauge<Long>) () -> contextStats().missCount());
+        registry.register("Security personal certificate policy cache hits",
+            (Gauge<Long>) () -> personalCertificatePolicyStats().hitCount());
+        registry.register("Security personal certificate policy cache misses",
+            (Gauge<Long>) () -> personalCertificatePolicyStats().missCount());
+    }
+
+    private static String fingerprint(byte[] certificate) {
+        return new Digest(DigestType.SHA256).update(certificate).digestHex();
+    }
+}
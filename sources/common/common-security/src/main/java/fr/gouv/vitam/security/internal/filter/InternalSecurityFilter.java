@@ -44,6 +44,7 @@ import javax.ws.rs.core.Response;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Strings;
+import com.google.common.base.Ticker;
 import com.google.common.collect.Iterables;
 import fr.gouv.vitam.common.GlobalDataRest;
 import fr.gouv.vitam.common.ServerIdentity;
@@ -61,6 +62,7 @@ import fr.gouv.vitam.common.model.RequestResponse;
 import fr.gouv.vitam.common.model.RequestResponseOK;
 import fr.gouv.vitam.common.model.administration.ContextModel;
 import fr.gouv.vitam.common.model.administration.ContextStatus;
+import fr.gouv.vitam.common.serverv2.application.CommonBusinessApplication;
 import fr.gouv.vitam.common.thread.VitamThreadUtils;
 import fr.gouv.vitam.functional.administration.client.AdminManagementClient;
 import fr.gouv.vitam.functional.administration.client.AdminManagementClientFactory;
@@ -93,19 +95,34 @@ public class InternalSecurityFilter implements ContainerRequestFilter {
 
     private AdminManagementClientFactory adminManagementClientFactory;
 
+    private InternalSecurityCache internalSecurityCache;
+
     public InternalSecurityFilter() {
         super();
         this.internalSecurityClientFactory = InternalSecurityClientFactory.getInstance();
         this.adminManagementClientFactory = AdminManagementClientFactory.getInstance();
+        this.internalSecurityCache = InternalSecurityCache.getInstance();
+        this.internalSecurityCache.registerMetrics(CommonBusinessApplication.getBusinessMetricsRegistry());
     }
 
     @VisibleForTesting
     InternalSecurityFilter(HttpServletRequest httpServletRequest,
         InternalSecurityClientFactory internalSecurityClientFactory,
         AdminManagementClientFactory adminManagementClientFactory) {
+        this(httpServletRequest, internalSecurityClientFactory, adminManagementClientFactory,
+            new InternalSecurityCache(VitamConfiguration.getSecurityCacheMaxEntries(),
+                VitamConfiguration.getSecurityCacheTimeoutInSeconds(), Ticker.systemTicker()));
+    }
+
+    @VisibleForTesting
+    InternalSecurityFilter(HttpServletRequest httpServletRequest,
+        InternalSecurityClientFactory internalSecurityClientFactory,
+        AdminManagementClientFactory adminManagementClientFactory,
+        InternalSecurityCache internalSecurityCache) {
         this.httpServletRequest = httpServletRequest;
         this.internalSecurityClientFactory = internalSecurityClientFactory;
         this.adminManagementClientFactory = adminManagementClientFactory;
+        this.internalSecurityCache = internalSecurityCache;
     }
 
     @Override
@@ -126,11 +143,8 @@ public class InternalSecurityFilter implements ContainerRequestFilter {
 
         final X509Certificate cert = clientCertChain[0];
 
-        try (InternalSecurityClient internalSecurityClient = internalSecurityClientFactory.getClient()) {
-            Optional<IdentityModel> result = internalSecurityClient.findIdentity(cert.getEncoded());
-
-            IdentityModel identityModel = result
-                .orElseThrow(() -> new VitamSecurityException("Certificate revoked or not found in database."));
+        try {
+            final IdentityModel identityModel = getIdentity(cert.getEncoded());
 
             final ContextModel contextModel = getContext(identityModel);
             String uri = requestContext.getUriInfo().getPath();
@@ -264,12 +278,37 @@ public class InternalSecurityFilter implements ContainerRequestFilter {
     }
 
     /**
-     * Get context model from database and set it to VitamSecurityContext
+     * Get identity of the certificate from cache, or from database when not cached
+     *
+     * @param certificate the encoded certificate
+     */
+    private IdentityModel getIdentity(byte[] certificate)
+        throws VitamClientInternalException, InternalSecurityException {
+        Optional<IdentityModel> cachedIdentity = internalSecurityCache.getIdentity(certificate);
+        if (cachedIdentity.isPresent()) {
+            return cachedIdentity.get();
+        }
+
+        try (InternalSecurityClient internalSecurityClient = internalSecurityClientFactory.getClient()) {
+            IdentityModel identityModel = internalSecurityClient.findIdentity(certificate)
+                .orElseThrow(() -> new VitamSecurityException("Certificate revoked or not found in database."));
+            internalSecurityCache.putIdentity(certificate, identityModel);
+            return identityModel;
+        }
+    }
+
+    /**
+     * Get context model from cache, or from database when not cached
      *
      * @param identityModel
      */
     private ContextModel getContext(IdentityModel identityModel) {
         final String contextId = identityModel.getContextId();
+        Optional<ContextModel> cachedContext = internalSecurityCache.getContext(contextId);
+        if (cachedContext.isPresent()) {
+            return cachedContext.get();
+        }
+
         try (AdminManagementClient adminManagementClient = adminManagementClientFactory.getClient()) {
             RequestResponse<ContextModel>
                 contextResponse = adminManagementClient.findContextById(contextId);
@@ -286,6 +325,7 @@ public class InternalSecurityFilter implements ContainerRequestFilter {
                         throw new VitamSecurityException("The context " + contextId + "  is not activated");
                     }
 
+                    internalSecurityCache.putContext(contextId, context);
                     return context;
                 }
             } else {
@@ -52,6 +52,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
@@ -111,6 +112,19 @@ public class EndpointPersonalCertificateAuthorizationFilterTest {
         verify(context).getHeaderString(GlobalDataRest.X_PERSONAL_CERTIFICATE);
     }
 
+    @Test
+    public void should_request_personal_certificate_policy_once_per_permission() throws Exception {
+
+        when(internalSecurityClient.isPersonalCertificateRequiredByPermission(PERMISSION))
+            .thenReturn(new IsPersonalCertificateRequiredModel(IGNORED_PERSONAL_CERTIFICATE));
+
+        instance.filter(context);
+        instance.filter(context);
+
+        verify(internalSecurityClient, times(1)).isPersonalCertificateRequiredByPermission(PERMISSION);
+        verify(context, times(2)).getHeaderString(GlobalDataRest.X_PERSONAL_CERTIFICATE);
+    }
+
     @Test
     @RunWithCustomExecutor
     public void should_not_abort_when_personal_certificate_is_required_and_certificate_ok() throws Exception {
@@ -0,0 +1,124 @@
+/*
+ * Copyright French Prime minister Office/SGMAP/DINSIC/Vitam Program (2015-2020)
+ *
+ * contact.vitam@culture.gouv.fr
+ *
+ * This software is a computer program whose purpose is to implement a digital archiving back-office system managing
+ * high volumetry securely and efficiently.
+ *
+ * This software is governed by the CeCILL 2.1 license under French law and abiding by the rules of distribution of free
+ * software. You can use, modify and/ or redistribute the software under the terms of the CeCILL 2.1 license as
+ * circulated by CEA, CNRS and INRIA at the following URL "https://cecill.info".
+ *
+ * As a counterpart to the access to the source code and rights to copy, modify and redistribute granted by the license,
+ * users are provided only with a limited warranty and the software's author, the holder of the economic rights, and the
+ * successive licensors have only limited liability.
+ *
+ * In this respect, the user's attention is drawn to the risks associated with loading, using, modifying and/or
+ * developing or reproducing the software by the user in light of its specific status of free software, that may mean
+ * that it is complicated to manipulate, and that also therefore means that it is reserved for developers and
+ * experienced professionals having in-depth computer knowledge. Users are therefore encouraged to load and test the
+ * software's suitability as regards their requirements in conditions enabling the security of their systems and/or data
+ * to be ensured and, more generally, to use and operate it in the same conditions as regards security.
+ *
+ * The fact that you are presently reading this means that you have had knowledge of the CeCILL 2.1 license and that you
+ * accept its terms.
+ */
+package fr.gouv.vitam.security.internal.filter;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.google.common.base.Ticker;
+import fr.gouv.vitam.common.model.administration.ContextModel;
+import fr.gouv.vitam.security.internal.common.model.IdentityModel;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class InternalSecurityCacheTest {
+
+    private static final byte[] CERTIFICATE = new byte[] {1, 2, 3};
+    private static final byte[] OTHER_CERTIFICATE = new byte[] {1, 2, 4};
+    private static final String CONTEXT_ID = "CT-000001";
+
+    private final AtomicLong nanos = new AtomicLong();
+    private InternalSecurityCache cache;
+
+    @Before
+    public void setUp() {
+        Ticker ticker = new Ticker() {
+            @Override
+            public long read() {
+                return nanos.get();
+            }
+        };
+        cache = new InternalSecurityCache(10, 60, ticker);
+    }
+
+    @Test
+    public void should_get_identity_by_certificate_fingerprint() {
+        IdentityModel identityModel = new IdentityModel();
+        identityModel.setContextId(CONTEXT_ID);
+
+        assertThat(cache.getIdentity(CERTIFICATE)).isEmpty();
+        cache.putIdentity(CERTIFICATE, identityModel);
+
+        assertThat(cache.getIdentity(new byte[] {1, 2, 3})).contains(identityModel);
+        assertThat(cache.getIdentity(OTHER_CERTIFICATE)).isEmpty();
+        assertThat(cache.identityStats().hitCount()).isEqualTo(1);
+        assertThat(cache.identityStats().missCount()).isEqualTo(2);
+    }
+
+    @Test
+    public void should_expire_entries_after_timeout() {
+        cache.putIdentity(CERTIFICATE, new IdentityModel());
+        cache.putContext(CONTEXT_ID, new ContextModel());
+        cache.putPersonalCertificateRequired("permission", true);
+
+        nanos.addAndGet(TimeUnit.SECONDS.toNanos(59));
+        assertThat(cache.getIdentity(CERTIFICATE)).isPresent();
+        assertThat(cache.getContext(CONTEXT_ID)).isPresent();
+        assertThat(cache.isPersonalCertificateRequired("permission")).contains(true);
+
+        nanos.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        assertThat(cache.getIdentity(CERTIFICATE)).isEmpty();
+        assertThat(cache.getContext(CONTEXT_ID)).isEmpty();
+        assertThat(cache.isPersonalCertificateRequired("permission")).isEmpty();
+    }
+
+    @Test
+    public void should_not_cache_entries_when_timeout_is_zero() {
+        InternalSecurityCache disabledCache = new InternalSecurityCache(10, 0, Ticker.systemTicker());
+
+        disabledCache.putIdentity(CERTIFICATE, new IdentityModel());
+        disabledCache.putContext(CONTEXT_ID, new ContextModel());
+        disabledCache.putPersonalCertificateRequired("permission", true);
+
+        assertThat(disabledCache.getIdentity(CERTIFICATE)).isEmpty();
+        assertThat(disabledCache.getContext(CONTEXT_ID)).isEmpty();
+        assertThat(disabledCache.isPersonalCertificateRequired("permission")).isEmpty();
+    }
+
+    @Test
+    public void should_invalidate_entries() {
+        cache.putIdentity(CERTIFICATE, new IdentityModel());
+        cache.putIdentity(OTHER_CERTIFICATE, new IdentityModel());
+        cache.putContext(CONTEXT_ID, new ContextModel());
+        cache.putContext("CT-000002", new ContextModel());
+
+        cache.invalidateIdentity(CERTIFICATE);
+        cache.invalidateContext(CONTEXT_ID);
+
+        assertThat(cache.getIdentity(CERTIFICATE)).isEmpty();
+        assertThat(cache.getIdentity(OTHER_CERTIFICATE)).isPresent();
+        assertThat(cache.getContext(CONTEXT_ID)).isEmpty();
+        assertThat(cache.getContext("CT-000002")).isPresent();
+
+        cache.invalidateAll();
+
+        assertThat(cache.getIdentity(OTHER_CERTIFICATE)).isEmpty();
+        assertThat(cache.getContext("CT-000002")).isEmpty();
+    }
+}
@@ -90,6 +90,8 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 /**
@@ -229,6 +231,25 @@ public class InternalSecurityFilterTest {
     }
 
 
+    @Test
+    @RunWithCustomExecutor
+    public void whenSameCertificateTwiceThenIdentityAndContextLoadedOnce() throws Exception {
+        when(httpServletRequest.getAttribute("javax.servlet.request.X509Certificate"))
+            .thenReturn(new X509Certificate[] {cert});
+        when(httpServletRequest.getHeader(GlobalDataRest.X_TENANT_ID)).thenReturn(TENANT_ID.toString());
+
+        when(internalSecurityClient.findIdentity(any())).thenReturn(getIdentityModel(cert));
+        when(uriInfo.getPath()).thenReturn("/otherUri");
+        when(adminManagementClient.findContextById(anyString()))
+            .thenReturn(getTestContext(ContextStatus.ACTIVE, true, "fakeAccessContract", null));
+
+        internalSecurityFilter.filter(containerRequestContext);
+        internalSecurityFilter.filter(containerRequestContext);
+
+        verify(internalSecurityClient, times(1)).findIdentity(any());
+        verify(adminManagementClient, times(1)).findContextById(FAKE_CONTEXT_ID);
+    }
+
     /**
      * When the context status is false
      * @throws Exception
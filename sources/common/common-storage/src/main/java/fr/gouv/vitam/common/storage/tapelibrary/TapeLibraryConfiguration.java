@@ -67,6 +67,11 @@ public class TapeLibraryConfiguration {
      */
     private Integer archiveRetentionCacheTimeoutInMinutes = 30;
 
+    /**
+     * Max time a read order may wait before its tape is loaded, even if other read orders of the loaded tapes remain
+     */
+    private Integer readOrderMaxWaitTimeInMinutes = 60;
+
     /**
      * File bucket & bucket configuration
      */
@@ -166,4 +171,13 @@ public class TapeLibraryConfiguration {
         this.archiveRetentionCacheTimeoutInMinutes = archiveRetentionCacheTimeoutInMinutes;
         return this;
     }
+
+    public Integer getReadOrderMaxWaitTimeInMinutes() {
+        return readOrderMaxWaitTimeInMinutes;
+    }
+
+    public TapeLibraryConfiguration setReadOrderMaxWaitTimeInMinutes(Integer readOrderMaxWaitTimeInMinutes) {
+        this.readOrderMaxWaitTimeInMinutes = readOrderMaxWaitTimeInMinutes;
+        return this;
+    }
 }
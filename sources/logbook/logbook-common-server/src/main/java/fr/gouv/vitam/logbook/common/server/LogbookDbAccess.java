@@ -496,6 +496,32 @@ public interface LogbookDbAccess {
     void updateLogbookLifeCycleObjectGroup(LogbookLifeCycleObjectGroupInProcess logbookLifeCycleObjectGrouptInProcess)
         throws LogbookDatabaseException, LogbookNotFoundException;
 
+    /**
+     * Commits a bulk of unit lifeCycles : temporary lifeCycles are copied to the unit lifeCycle collection, creating
+     * new lifeCycles or updating existing ones, with bulk writes
+     *
+     * @param lifeCycleIds ids of the lifeCycles to commit
+     * @return ids of the lifeCycles which were not found in temporary collection or could not be written, and have
+     * not been committed
+     * @throws LogbookDatabaseException
+     * @throws LogbookAlreadyExistsException
+     */
+    List<String> commitBulkLogbookLifeCycleUnit(List<String> lifeCycleIds)
+        throws LogbookDatabaseException, LogbookAlreadyExistsException;
+
+    /**
+     * Commits a bulk of objectGroup lifeCycles : temporary lifeCycles are copied to the objectGroup lifeCycle
+     * collection, creating new lifeCycles or updating existing ones, with bulk writes
+     *
+     * @param lifeCycleIds ids of the lifeCycles to commit
+     * @return ids of the lifeCycles which were not found in temporary collection or could not be written, and have
+     * not been committed
+     * @throws LogbookDatabaseException
+     * @throws LogbookAlreadyExistsException
+     */
+    List<String> commitBulkLogbookLifeCycleObjectGroup(List<String> lifeCycleIds)
+        throws LogbookDatabaseException, LogbookAlreadyExistsException;
+
     /**
      * Rolls back all the created unit lifeCycles during a given operation
      *
@@ -38,6 +38,7 @@ import fr.gouv.vitam.common.logging.VitamLogger;
 import fr.gouv.vitam.common.logging.VitamLoggerFactory;
 import fr.gouv.vitam.logbook.common.server.exception.LogbookException;
 import fr.gouv.vitam.logbook.common.server.exception.LogbookExecutionException;
+import org.bson.Document;
 import org.elasticsearch.action.search.SearchResponse;
 import org.elasticsearch.index.query.QueryBuilder;
 import org.elasticsearch.search.sort.SortBuilder;
@@ -99,6 +100,28 @@ public class LogbookElasticsearchAccess extends ElasticsearchAccess {
         }
     }
 
+    /**
+     * Append events to an entry in the ElasticSearch index, without sending the full document
+     *
+     * @param collection collection of index
+     * @param tenantId tenant Id
+     * @param id the id of the entry
+     * @param previousVersion the version of the entry before the update
+     * @param fields the top level fields of the entry (without events)
+     * @param events the events to append
+     * @return true if appended, false if the indexed entry is not at the previous version (nothing done)
+     */
+    final boolean appendEvents(final LogbookCollections collection, final Integer tenantId, final String id,
+        final int previousVersion, final Document fields, final List<? extends Document> events)
+        throws LogbookExecutionException {
+        try {
+            return super.appendToEntry(collection.getName().toLowerCase(), tenantId, id, LogbookDocument.VERSION,
+                previousVersion, fields, LogbookDocument.EVENTS, events);
+        } catch (DatabaseException e) {
+            throw new LogbookExecutionException(e);
+        }
+    }
+
     /**
      * Search entries in the ElasticSearch index.
      *
@@ -31,9 +31,11 @@ import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.google.common.collect.Lists;
 import com.mongodb.BasicDBObject;
 import com.mongodb.ErrorCategory;
+import com.mongodb.MongoBulkWriteException;
 import com.mongodb.MongoClient;
 import com.mongodb.MongoClientOptions;
 import com.mongodb.MongoException;
+import com.mongodb.bulk.BulkWriteError;
 import com.mongodb.bulk.BulkWriteResult;
 import com.mongodb.client.FindIterable;
 import com.mongodb.client.ListIndexesIterable;
@@ -44,9 +46,11 @@ import com.mongodb.client.model.BulkWriteOptions;
 import com.mongodb.client.model.Filters;
 import com.mongodb.client.model.FindOneAndUpdateOptions;
 import com.mongodb.client.model.InsertOneModel;
+import com.mongodb.client.model.Projections;
 import com.mongodb.client.model.ReturnDocument;
 import com.mongodb.client.model.UpdateOneModel;
 import com.mongodb.client.model.Updates;
+import com.mongodb.client.model.WriteModel;
 import com.mongodb.client.result.DeleteResult;
 import com.mongodb.client.result.UpdateResult;
 import fr.gouv.vitam.common.LocalDateUtil;
@@ -63,6 +67,7 @@ import fr.gouv.vitam.common.database.server.mongodb.MongoDbAccess;
 import fr.gouv.vitam.common.database.server.mongodb.VitamDocument;
 import fr.gouv.vitam.common.database.server.mongodb.VitamMongoCursor;
 import fr.gouv.vitam.common.database.translators.elasticsearch.SelectToElasticsearch;
+import fr.gouv.vitam.common.database.translators.mongodb.JsonNodeCodec;
 import fr.gouv.vitam.common.database.translators.mongodb.QueryToMongodb;
 import fr.gouv.vitam.common.database.translators.mongodb.SelectToMongodb;
 import fr.gouv.vitam.common.database.translators.mongodb.VitamDocumentCodec;
@@ -104,13 +109,20 @@ import org.elasticsearch.search.sort.SortBuilder;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import static com.mongodb.client.model.Filters.and;
 import static com.mongodb.client.model.Filters.eq;
+import static com.mongodb.client.model.Filters.in;
 import static com.mongodb.client.model.Filters.or;
 import static com.mongodb.client.model.Indexes.hashed;
 import static com.mongodb.client.model.Updates.combine;
@@ -151,6 +163,7 @@ public final class LogbookMongoDbAccessImpl extends MongoDbAccess implements Log
     private static final ObjectNode DEFAULT_SLICE = JsonHandler.createObjectNode();
     private static final ObjectNode DEFAULT_SLICE_WITH_ALL_EVENTS = JsonHandler.createObjectNode().put("events", 1);
     private static final ObjectNode DEFAULT_ALLKEYS = JsonHandler.createObjectNode();
+    private static final Bson WITHOUT_EVENTS_PROJECTION = Projections.exclude(LogbookDocument.EVENTS);
 
     private static final int LAST_EVENT_SLICE = -1;
     private static final int TWO_LAST_EVENTS_SLICE = -2;
@@ -236,7 +249,8 @@ public final class LogbookMongoDbAccessImpl extends MongoDbAccess implements Log
         final CodecRegistry codecRegistry = CodecRegistries
             .fromRegistries(CodecRegistries.fromCodecs(operationCodec, lifecycleUnitCodec, lifecycleObjectGroupCodec,
                 lifecycleUnitInProcessCodec, lifecycleObjectGroupInProcessCodec,
-                new VitamDocumentCodec<>(VitamDocument.class)), MongoClient.getDefaultCodecRegistry());
+                new VitamDocumentCodec<>(VitamDocument.class), new JsonNodeCodec()),
+                MongoClient.getDefaultCodecRegistry());
 
 
         return MongoClientOptions.builder().codecRegistry(codecRegistry).build();
@@ -757,12 +771,13 @@ public final class LogbookMongoDbAccessImpl extends MongoDbAccess implements Log
             final VitamDocument<?> result = (VitamDocument<?>) collection.getCollection().findOneAndUpdate(
                 eq(LogbookDocument.ID, mainLogbookDocumentId),
                 combine(listUpdates),
-                new FindOneAndUpdateOptions().returnDocument(ReturnDocument.AFTER));
+                new FindOneAndUpdateOptions().projection(WITHOUT_EVENTS_PROJECTION)
+                    .returnDocument(ReturnDocument.AFTER));
             if (result == null) {
                 throw new LogbookNotFoundException(UPDATE_NOT_FOUND_ITEM + mainLogbookDocumentId);
             }
             if (LogbookCollections.OPERATION.equals(collection)) {
-                updateIntoElasticsearch(collection, result);
+                appendIntoElasticsearch(collection, result, Collections.singletonList(event));
             }
 
         } catch (final MongoException e) {
@@ -1073,13 +1088,14 @@ public final class LogbookMongoDbAccessImpl extends MongoDbAccess implements Log
             final VitamDocument<?> result = (VitamDocument<?>) collection.getCollection().findOneAndUpdate(
                 eq(LogbookDocument.ID, mainLogbookDocumentId),
                 combine(listMaster),
-                new FindOneAndUpdateOptions().returnDocument(ReturnDocument.AFTER));
+                new FindOneAndUpdateOptions().projection(WITHOUT_EVENTS_PROJECTION)
+                    .returnDocument(ReturnDocument.AFTER));
             if (result == null) {
                 throw new LogbookNotFoundException(UPDATE_NOT_FOUND_ITEM + mainLogbookDocumentId);
             }
             // FIXME : to be refactor when other collection are indexed in ES
             if (LogbookCollections.OPERATION.equals(collection)) {
-                updateIntoElasticsearch(collection, result);
+                appendIntoElasticsearch(collection, result, events);
             }
         } catch (final MongoException e) {
             switch (getErrorCategory(e)) {
@@ -1439,6 +1455,142 @@ public final class LogbookMongoDbAccessImpl extends MongoDbAccess implements Log
         }
     }
 
+    @Override
+    public List<String> commitBulkLogbookLifeCycleUnit(List<String> lifeCycleIds)
+        throws LogbookDatabaseException, LogbookAlreadyExistsException {
+        return commitBulkLogbookLifeCycle(LogbookCollections.LIFECYCLE_UNIT_IN_PROCESS,
+            LogbookCollections.LIFECYCLE_UNIT, LogbookLifeCycleUnit::new, lifeCycleIds);
+    }
+
+    @Override
+    public List<String> commitBulkLogbookLifeCycleObjectGroup(List<String> lifeCycleIds)
+        throws LogbookDatabaseException, LogbookAlreadyExistsException {
+        return commitBulkLogbookLifeCycle(LogbookCollections.LIFECYCLE_OBJECTGROUP_IN_PROCESS,
+            LogbookCollections.LIFECYCLE_OBJECTGROUP, LogbookLifeCycleObjectGroup::new, lifeCycleIds);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private List<String> commitBulkLogbookLifeCycle(LogbookCollections inProcessCollection,
+        LogbookCollections collection, Function<String, VitamDocument> lifeCycleFactory, List<String> lifeCycleIds)
+        throws LogbookDatabaseException, LogbookAlreadyExistsException {
+
+        ParametersChecker.checkParameter(ITEM_CANNOT_BE_NULL, lifeCycleIds);
+        String lastPersistedDate = LocalDateUtil.getFormattedDateForMongo(now());
+        try {
+            // 1- Find temporary lifeCycles
+            Map<String, VitamDocument> lifeCyclesInProcess = new HashMap<>();
+            try (MongoCursor<VitamDocument> cursor = inProcessCollection.getCollection()
+                .find(in(LogbookDocument.ID, lifeCycleIds)).iterator()) {
+                while (cursor.hasNext()) {
+                    VitamDocument lifeCycleInProcess = cursor.next();
+                    lifeCyclesInProcess.put(lifeCycleInProcess.getId(), lifeCycleInProcess);
+                }
+            }
+
+            // 2- Check which lifeCycles are creations and which are updates
+            Set<String> existingLifeCycleIds = new HashSet<>();
+            try (MongoCursor<VitamDocument> cursor = collection.getCollection()
+                .find(in(LogbookDocument.ID, lifeCyclesInProcess.keySet())).projection(ID_PROJECTION).iterator()) {
+                while (cursor.hasNext()) {
+                    existingLifeCycleIds.add(cursor.next().getId());
+                }
+            }
+
+            // 3- Copy to Production Collection
+            List<String> notFoundLifeCycleIds = new ArrayList<>();
+            List<WriteModel<VitamDocument>> writes = new ArrayList<>();
+            List<String> writeLifeCycleIds = new ArrayList<>();
+            List<String> lifeCycleIdsToDelete = new ArrayList<>();
+            int nbUpdates = 0;
+            for (String lifeCycleId : new LinkedHashSet<>(lifeCycleIds)) {
+                VitamDocument lifeCycleInProcess = lifeCyclesInProcess.get(lifeCycleId);
+                if (lifeCycleInProcess == null) {
+                    notFoundLifeCycleIds.add(lifeCycleId);
+                    continue;
+                }
+
+                List<Document> events = (List<Document>) lifeCycleInProcess.get(LogbookDocument.EVENTS);
+                for (Document event : events) {
+                    event.append(LAST_PERSISTED_DATE, lastPersistedDate);
+                }
+
+                if (!existingLifeCycleIds.contains(lifeCycleId)) {
+                    VitamDocument lifeCycle = lifeCycleFactory.apply(BsonHelper.stringify(lifeCycleInProcess));
+                    lifeCycle.append(LAST_PERSISTED_DATE, lastPersistedDate);
+                    writes.add(new InsertOneModel<>(lifeCycle));
+                    writeLifeCycleIds.add(lifeCycleId);
+                    continue;
+                }
+
+                final Bson update = combine(
+                    Updates.addEachToSet(LogbookDocument.EVENTS, events),
+                    Updates.inc(LogbookDocument.VERSION, 1),
+                    Updates.set(LAST_PERSISTED_DATE, lastPersistedDate));
+                writes.add(new UpdateOneModel<>(eq(LogbookDocument.ID, lifeCycleId), update));
+                writeLifeCycleIds.add(lifeCycleId);
+                nbUpdates++;
+
+                // Do not delete the temporary lifeCycle when it is on an INGEST process
+                if (!events.isEmpty() && !LogbookTypeProcess.INGEST.equals(LogbookTypeProcess.valueOf(
+                    events.get(0).get(LogbookLifeCycleMongoDbName.eventTypeProcess.getDbname()).toString()))) {
+                    lifeCycleIdsToDelete.add(lifeCycleId);
+                }
+            }
+
+            // Writes are unordered : failed writes do not prevent others, and only failed lifeCycles are reported
+            Set<String> failedLifeCycleIds = new HashSet<>();
+            if (!writes.isEmpty()) {
+                BulkWriteResult bulkWriteResult;
+                try {
+                    bulkWriteResult =
+                        collection.getCollection().bulkWrite(writes, new BulkWriteOptions().ordered(false));
+                } catch (final MongoBulkWriteException e) {
+                    if (e.getWriteConcernError() != null) {
+                        throw e;
+                    }
+                    bulkWriteResult = e.getWriteResult();
+                    for (BulkWriteError writeError : e.getWriteErrors()) {
+                        String failedLifeCycleId = writeLifeCycleIds.get(writeError.getIndex());
+                        LOGGER.error("Could not commit lifeCycle " + failedLifeCycleId + " : " +
+                            writeError.getMessage());
+                        failedLifeCycleIds.add(failedLifeCycleId);
+                    }
+                }
+                long nbFailedUpdates = failedLifeCycleIds.stream().filter(existingLifeCycleIds::contains).count();
+                if (bulkWriteResult.getMatchedCount() != nbUpdates - nbFailedUpdates) {
+                    throw new LogbookDatabaseException(String.format(
+                        "Error while bulk commit of lifeCycles : %s updated lifeCycles != %s expected",
+                        bulkWriteResult.getMatchedCount(), nbUpdates - nbFailedUpdates));
+                }
+            }
+            lifeCycleIdsToDelete.removeAll(failedLifeCycleIds);
+            if (!lifeCycleIdsToDelete.isEmpty()) {
+                inProcessCollection.getCollection().deleteMany(in(LogbookDocument.ID, lifeCycleIdsToDelete));
+            }
+            List<String> notCommittedLifeCycleIds = new ArrayList<>(notFoundLifeCycleIds);
+            notCommittedLifeCycleIds.addAll(failedLifeCycleIds);
+            return notCommittedLifeCycleIds;
+
+        } catch (final MongoBulkWriteException e) {
+            if (e.getWriteErrors().stream()
+                .anyMatch(error -> ErrorCategory.DUPLICATE_KEY.equals(ErrorCategory.fromErrorCode(error.getCode())))) {
+                throw new LogbookAlreadyExistsException(CREATION_ISSUE + ELEMENT_ALREADY_EXISTS, e);
+            }
+            throw new LogbookDatabaseException(CREATION_ISSUE + " (" + e.getMessage() + ")", e);
+        } catch (final MongoException e) {
+            switch (getErrorCategory(e)) {
+                case EXECUTION_TIMEOUT:
+                    throw new LogbookDatabaseException(CREATION_ISSUE + TIMEOUT_OPERATION, e);
+                case UNCATEGORIZED:
+                default:
+                    throw new LogbookDatabaseException(
+                        CREATION_ISSUE + " (" + e.getClass().getName() + " " + e.getMessage() + ": " + e.getCode() +
+                            ")",
+                        e);
+            }
+        }
+    }
+
     @Override
     public void rollBackUnitLifeCyclesByOperation(String operationId)
         throws LogbookNotFoundException, LogbookDatabaseException {
@@ -1553,6 +1705,46 @@ public final class LogbookMongoDbAccessImpl extends MongoDbAccess implements Log
         collection.getEsClient().updateFullDocument(collection, tenantId, id, existingDocument);
     }
 
+    /**
+     * Append new events to a document in ES.<br>
+     * Only the new events and the top level fields are sent. If the indexed document is not at the previous version
+     * (concurrent or missed update), the full document is reindexed from mongodb.
+     *
+     * @param collection the collection
+     * @param updatedDocument the updated document, without events
+     * @param newEvents the events appended by the update
+     * @throws LogbookExecutionException if the ES update was in error
+     * @throws LogbookNotFoundException if the document was not found in mongodb
+     */
+    @SuppressWarnings("unchecked")
+    private void appendIntoElasticsearch(LogbookCollections collection, VitamDocument<?> updatedDocument,
+        List<? extends Document> newEvents)
+        throws LogbookExecutionException, LogbookNotFoundException {
+        Integer tenantId = HeaderIdHelper.getTenantId();
+        LOGGER.debug("appendIntoElasticsearch");
+        String id = (String) updatedDocument.remove(VitamDocument.ID);
+        updatedDocument.remove(VitamDocument.SCORE);
+        logbookTransformData.transformDataForElastic(updatedDocument);
+        updatedDocument.remove(LogbookDocument.EVENTS);
+
+        Document events = new Document(LogbookDocument.EVENTS, newEvents);
+        logbookTransformData.transformDataForElastic(events);
+
+        int previousVersion = updatedDocument.getInteger(VERSION) - 1;
+        if (collection.getEsClient().appendEvents(collection, tenantId, id, previousVersion, updatedDocument,
+            (List<Document>) events.get(LogbookDocument.EVENTS))) {
+            return;
+        }
+
+        LOGGER.warn("Logbook {} not indexed at version {}, full reindex", id, previousVersion);
+        final VitamDocument<?> existingDocument =
+            (VitamDocument<?>) collection.getCollection().find(eq(LogbookDocument.ID, id)).first();
+        if (existingDocument == null) {
+            throw new LogbookNotFoundException(UPDATE_NOT_FOUND_ITEM + id);
+        }
+        updateIntoElasticsearch(collection, existingDocument);
+    }
+
 
     private List<Bson> checkCopyToMaster(LogbookCollections collection, LogbookParameters item) {
         final String mainLogbookDocumentId = getDocumentForUpdate(item).getId();
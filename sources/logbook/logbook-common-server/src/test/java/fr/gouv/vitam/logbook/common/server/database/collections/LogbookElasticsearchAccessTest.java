@@ -63,10 +63,12 @@ import org.junit.rules.TemporaryFolder;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
@@ -209,4 +211,39 @@ public class LogbookElasticsearchAccessTest {
         } catch (LogbookException e) {
         }
     }
+
+    @Test
+    @RunWithCustomExecutor
+    public void testAppendEventsOnlyAppliedAtExpectedVersion() throws Exception {
+        esClient.addIndex(LogbookCollections.OPERATION, tenantId);
+        try {
+            // Given
+            String id = GUIDFactory.newEventGUID(tenantId).getId();
+            LogbookOperation operation = new LogbookOperation(
+                new Document(LogbookMongoDbName.eventType.getDbname(), "IMPORT_FORMAT")
+                    .append(LogbookDocument.VERSION, 0));
+            esClient.indexEntry(LogbookCollections.OPERATION.getName().toLowerCase(), tenantId, id, operation);
+
+            Document fields = new Document(LogbookMongoDbName.eventType.getDbname(), "IMPORT_FORMAT")
+                .append(LogbookDocument.VERSION, 1);
+            List<Document> events = Collections.singletonList(
+                new Document(LogbookMongoDbName.outcomeDetailMessage.getDbname(), "IMPORT_FORMAT.OK"));
+
+            // When
+            boolean appendedWithWrongVersion =
+                esClient.appendEvents(LogbookCollections.OPERATION, tenantId, id, 5, fields, events);
+            boolean appended = esClient.appendEvents(LogbookCollections.OPERATION, tenantId, id, 0, fields, events);
+
+            // Then
+            assertFalse(appendedWithWrongVersion);
+            assertTrue(appended);
+            SearchResponse response = esClient
+                .search(LogbookCollections.OPERATION, tenantId, QueryBuilders.matchAllQuery(), null, null, 0, 10);
+            Map<String, Object> source = response.getHits().getAt(0).getSourceAsMap();
+            assertEquals(1, source.get(LogbookDocument.VERSION));
+            assertEquals(1, ((List<?>) source.get(LogbookDocument.EVENTS)).size());
+        } finally {
+            esClient.deleteIndexByAlias(LogbookCollections.OPERATION.getName().toLowerCase(), tenantId);
+        }
+    }
 }
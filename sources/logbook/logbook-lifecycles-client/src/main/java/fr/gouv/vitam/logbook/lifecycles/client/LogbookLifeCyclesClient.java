@@ -317,6 +317,30 @@ public interface LogbookLifeCyclesClient extends BasicClient {
     void commitObjectGroup(String operationId, String objectGroupId)
         throws LogbookClientBadRequestException, LogbookClientNotFoundException, LogbookClientServerException;
 
+    /**
+     * Commit a bulk of unit lifeCycles, in a single request
+     *
+     * @param operationId the operation id
+     * @param unitIds the unit ids
+     * @return ids of the lifeCycles which were not found or could not be written, and have not been committed
+     * @throws LogbookClientBadRequestException if the argument is incorrect
+     * @throws LogbookClientServerException if the Server got an internal error
+     */
+    List<String> commitUnits(String operationId, List<String> unitIds)
+        throws LogbookClientBadRequestException, LogbookClientServerException;
+
+    /**
+     * Commit a bulk of objectGroup lifeCycles, in a single request
+     *
+     * @param operationId the operation id
+     * @param objectGroupIds the object group ids
+     * @return ids of the lifeCycles which were not found or could not be written, and have not been committed
+     * @throws LogbookClientBadRequestException if the argument is incorrect
+     * @throws LogbookClientServerException if the Server got an internal error
+     */
+    List<String> commitObjectGroups(String operationId, List<String> objectGroupIds)
+        throws LogbookClientBadRequestException, LogbookClientServerException;
+
     /**
      * Remove created unit lifeCycles during the given operation
      *
@@ -300,6 +300,18 @@ class LogbookLifeCyclesClientMock extends AbstractMockClient implements LogbookL
         commitObject(operationId, objectGroupId);
     }
 
+    @Override
+    public List<String> commitUnits(String operationId, List<String> unitIds) {
+        unitIds.forEach(unitId -> commitObject(operationId, unitId));
+        return new ArrayList<>();
+    }
+
+    @Override
+    public List<String> commitObjectGroups(String operationId, List<String> objectGroupIds) {
+        objectGroupIds.forEach(objectGroupId -> commitObject(operationId, objectGroupId));
+        return new ArrayList<>();
+    }
+
     private void commitObject(String operationId, String unitId) {
         if (!lifeCyclesByOperation
             .containsKey(operationId)) {
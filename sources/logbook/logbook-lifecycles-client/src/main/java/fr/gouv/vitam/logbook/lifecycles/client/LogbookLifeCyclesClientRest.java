@@ -62,6 +62,7 @@ import javax.ws.rs.core.Response.Status;
 import java.time.LocalDateTime;
 import java.util.Collection;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import static fr.gouv.vitam.common.GlobalDataRest.X_EVENT_STATUS;
 import static fr.gouv.vitam.common.client.VitamRequestBuilder.delete;
@@ -405,6 +406,32 @@ class LogbookLifeCyclesClientRest extends DefaultClient implements LogbookLifeCy
         }
     }
 
+    @Override
+    public List<String> commitUnits(String operationId, List<String> unitIds)
+        throws LogbookClientBadRequestException, LogbookClientServerException {
+        return commitLifeCycles(operationId, unitIds, "unit");
+    }
+
+    @Override
+    public List<String> commitObjectGroups(String operationId, List<String> objectGroupIds)
+        throws LogbookClientBadRequestException, LogbookClientServerException {
+        return commitLifeCycles(operationId, objectGroupIds, "got");
+    }
+
+    private List<String> commitLifeCycles(String operationId, List<String> idLcs, String type)
+        throws LogbookClientBadRequestException, LogbookClientServerException {
+        String commitPath = OPERATIONS_URL + "/" + operationId + "/bulklifecycles/" + type + "/commit";
+        try (Response response = make(put().withPath(commitPath).withBody(idLcs, "lifeCycle ids has to be provided")
+            .withJson())) {
+            check(response);
+            return ((RequestResponseOK<JsonNode>) RequestResponse.parseFromResponse(response)).getResults().stream()
+                .map(JsonNode::asText)
+                .collect(Collectors.toList());
+        } catch (PreconditionFailedClientException | LogbookClientAlreadyExistsException | LogbookClientNotFoundException | VitamClientInternalException e) {
+            throw new LogbookClientServerException(ErrorMessage.INTERNAL_SERVER_ERROR.getMessage(), e);
+        }
+    }
+
     @Override
     public void rollBackUnitsByOperation(String operationId)
         throws LogbookClientNotFoundException, LogbookClientBadRequestException, LogbookClientServerException {
@@ -81,6 +81,7 @@ import java.util.Set;
 
 import static fr.gouv.vitam.common.GlobalDataRest.X_EVENT_STATUS;
 import static fr.gouv.vitam.common.model.LifeCycleStatusCode.LIFE_CYCLE_COMMITTED;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.Assert.assertNotNull;
@@ -279,6 +280,24 @@ public class LogbookLifeCyclesClientRestTest extends ResteasyTestApplication {
             return mock.put();
         }
 
+        @PUT
+        @Path("/operations/{id_op}/bulklifecycles/unit/commit")
+        @Consumes(MediaType.APPLICATION_JSON)
+        @Produces(MediaType.APPLICATION_JSON)
+        public Response commitUnitLifeCyclesBulkByOperation(@PathParam("id_op") String operationId,
+            List<String> unitLcIds) {
+            return mock.put();
+        }
+
+        @PUT
+        @Path("/operations/{id_op}/bulklifecycles/got/commit")
+        @Consumes(MediaType.APPLICATION_JSON)
+        @Produces(MediaType.APPLICATION_JSON)
+        public Response commitObjectGroupLifeCyclesBulkByOperation(@PathParam("id_op") String operationId,
+            List<String> objGrpIds) {
+            return mock.put();
+        }
+
         @POST
         @Path("/operations/{id_op}/unitlifecycles")
         @Consumes(MediaType.APPLICATION_JSON)
@@ -1016,6 +1035,42 @@ public class LogbookLifeCyclesClientRestTest extends ResteasyTestApplication {
         client.commitUnit(operationId.getId(), unit.getId());
     }
 
+    @Test
+    public void commitUnitsThenReturnNotCommittedIds() throws Exception {
+        GUID operationId = GUIDFactory.newOperationLogbookGUID(0);
+        GUID unitId = GUIDFactory.newUnitGUID(0);
+        GUID unknownUnitId = GUIDFactory.newUnitGUID(0);
+        when(mock.put()).thenReturn(Response.status(Response.Status.OK)
+            .entity(new RequestResponseOK<String>().addResult(unknownUnitId.getId())).build());
+
+        List<String> notCommittedIds =
+            client.commitUnits(operationId.getId(), Arrays.asList(unitId.getId(), unknownUnitId.getId()));
+
+        assertThat(notCommittedIds).containsExactly(unknownUnitId.getId());
+    }
+
+    @Test
+    public void commitObjectGroupsThenReturnOk() throws Exception {
+        GUID operationId = GUIDFactory.newOperationLogbookGUID(0);
+        GUID objectGroupId = GUIDFactory.newObjectGroupGUID(0);
+        when(mock.put()).thenReturn(Response.status(Response.Status.OK)
+            .entity(new RequestResponseOK<String>()).build());
+
+        List<String> notCommittedIds =
+            client.commitObjectGroups(operationId.getId(), Arrays.asList(objectGroupId.getId()));
+
+        assertThat(notCommittedIds).isEmpty();
+    }
+
+    @Test
+    public void commitUnits_ThrowLogbookClientServerException() {
+        when(mock.put()).thenReturn(Response.status(Response.Status.CONFLICT).build());
+        GUID operationId = GUIDFactory.newOperationLogbookGUID(0);
+        GUID unitId = GUIDFactory.newUnitGUID(0);
+        assertThatThrownBy(() -> client.commitUnits(operationId.getId(), Arrays.asList(unitId.getId())))
+            .isInstanceOf(LogbookClientServerException.class);
+    }
+
     @Test
     public void rollBackUnitsByOperationThenReturnOk()
         throws LogbookClientBadRequestException, LogbookClientNotFoundException, LogbookClientServerException {
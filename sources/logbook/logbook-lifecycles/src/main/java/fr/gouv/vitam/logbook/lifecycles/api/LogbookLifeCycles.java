@@ -243,6 +243,30 @@ public interface LogbookLifeCycles {
     void commitObjectGroup(String idOperation, String idLc)
         throws LogbookDatabaseException, LogbookNotFoundException, LogbookAlreadyExistsException;
 
+    /**
+     * Commits a bulk of Unit lifeCycles
+     *
+     * @param idOperation the operation identifier
+     * @param idLcs the lifecycle identifiers
+     * @return identifiers of the lifeCycles which cannot be found or written, and have not been committed
+     * @throws LogbookDatabaseException if errors occur while connecting or writing to the database
+     * @throws LogbookAlreadyExistsException if a LifeCycle already exists
+     */
+    List<String> commitUnits(String idOperation, List<String> idLcs)
+        throws LogbookDatabaseException, LogbookAlreadyExistsException;
+
+    /**
+     * Commits a bulk of ObjectGroup lifeCycles
+     *
+     * @param idOperation the operation identifier
+     * @param idLcs the lifecycle identifiers
+     * @return identifiers of the lifeCycles which cannot be found or written, and have not been committed
+     * @throws LogbookDatabaseException if errors occur while connecting or writing to the database
+     * @throws LogbookAlreadyExistsException if a LifeCycle already exists
+     */
+    List<String> commitObjectGroups(String idOperation, List<String> idLcs)
+        throws LogbookDatabaseException, LogbookAlreadyExistsException;
+
     /**
      * Removes the created unit lifeCycles during a given operation
      *
@@ -29,10 +29,8 @@ package fr.gouv.vitam.logbook.lifecycles.core;
 import java.util.ArrayList;
 import java.util.List;
 
-import fr.gouv.vitam.common.json.BsonHelper;
-import org.bson.Document;
-
 import com.fasterxml.jackson.databind.JsonNode;
+import com.mongodb.client.MongoCollection;
 import com.mongodb.client.MongoCursor;
 import com.mongodb.client.model.Filters;
 import com.mongodb.client.model.Sorts;
@@ -50,7 +48,6 @@ import fr.gouv.vitam.common.database.server.mongodb.VitamDocument;
 import fr.gouv.vitam.common.exception.DatabaseException;
 import fr.gouv.vitam.common.exception.InvalidParseOperationException;
 import fr.gouv.vitam.common.exception.VitamDBException;
-import fr.gouv.vitam.common.json.JsonHandler;
 import fr.gouv.vitam.common.logging.VitamLogger;
 import fr.gouv.vitam.common.logging.VitamLoggerFactory;
 import fr.gouv.vitam.common.model.LifeCycleStatusCode;
@@ -309,6 +306,18 @@ public class LogbookLifeCyclesImpl implements LogbookLifeCycles {
     }
 
 
+    @Override
+    public List<String> commitUnits(String idOperation, List<String> idLcs)
+        throws LogbookDatabaseException, LogbookAlreadyExistsException {
+        return mongoDbAccess.commitBulkLogbookLifeCycleUnit(idLcs);
+    }
+
+    @Override
+    public List<String> commitObjectGroups(String idOperation, List<String> idLcs)
+        throws LogbookDatabaseException, LogbookAlreadyExistsException {
+        return mongoDbAccess.commitBulkLogbookLifeCycleObjectGroup(idLcs);
+    }
+
     @Override
     public void rollBackUnitsByOperation(String idOperation) throws LogbookNotFoundException, LogbookDatabaseException {
         if (VitamConfiguration.isPurgeTemporaryLFC()) {
@@ -385,22 +394,21 @@ public class LogbookLifeCyclesImpl implements LogbookLifeCycles {
 
     private List<JsonNode> getRawLifecyclesByLastPersistedDate(LogbookCollections collection, String startDate,
         String endDate, int limit) throws InvalidParseOperationException {
-        VitamMongoRepository vitamMongoRepository = new VitamMongoRepository(collection.getCollection());
         List<JsonNode> result = new ArrayList<>();
-        try (MongoCursor<Document> lifecycles =
-            vitamMongoRepository.findDocuments(
+        try (MongoCursor<JsonNode> lifecycles =
+            getRawCollection(collection).find(
                 Filters.and(
                     Filters.eq(LogbookDocument.TENANT_ID, VitamThreadUtils.getVitamSession().getTenantId()),
                     Filters.gte(LogbookDocument.LAST_PERSISTED_DATE, startDate),
-                    Filters.lte(LogbookDocument.LAST_PERSISTED_DATE, endDate))
-                , VitamConfiguration.getBatchSize())
+                    Filters.lte(LogbookDocument.LAST_PERSISTED_DATE, endDate)))
+                .batchSize(VitamConfiguration.getBatchSize())
                 .sort(
                     Sorts.ascending(LogbookDocument.LAST_PERSISTED_DATE)
                 )
                 .limit(limit).iterator()) {
 
             while (lifecycles.hasNext()) {
-                result.add(JsonHandler.getFromString(BsonHelper.stringify(lifecycles.next())));
+                result.add(lifecycles.next());
             }
         }
         return result;
@@ -455,34 +463,30 @@ public class LogbookLifeCyclesImpl implements LogbookLifeCycles {
 
     private JsonNode getRawLifecycleById(String id, LogbookCollections collection)
         throws InvalidParseOperationException, LogbookNotFoundException {
-        VitamMongoRepository vitamMongoRepository = new VitamMongoRepository(collection.getCollection());
-
-        Document document = vitamMongoRepository.findDocuments(
+        JsonNode document = getRawCollection(collection).find(
             Filters.and(
                 Filters.eq(LogbookDocument.ID, id),
                 Filters.eq(LogbookDocument.TENANT_ID, VitamThreadUtils.getVitamSession().getTenantId())
-            ), 1).first();
+            )).batchSize(1).first();
 
         if (document == null) {
             throw new LogbookNotFoundException("Could not find raw lifecycle by id " + id);
         }
 
-        return JsonHandler.getFromString(BsonHelper.stringify(document));
+        return document;
     }
 
     private List<JsonNode> getRawLifecycleByIds(List<String> ids, LogbookCollections collection)
         throws InvalidParseOperationException, LogbookNotFoundException {
-        VitamMongoRepository vitamMongoRepository = new VitamMongoRepository(collection.getCollection());
-
-        try(MongoCursor<Document> documents = vitamMongoRepository.findDocuments(
+        try(MongoCursor<JsonNode> documents = getRawCollection(collection).find(
             Filters.and(
                 Filters.in(LogbookDocument.ID, ids),
                 Filters.eq(LogbookDocument.TENANT_ID, VitamThreadUtils.getVitamSession().getTenantId())
-            ), ids.size()).iterator()) {
+            )).batchSize(ids.size()).iterator()) {
 
             List<JsonNode> results = new ArrayList<>();
             while (documents.hasNext()) {
-                results.add(JsonHandler.getFromString(BsonHelper.stringify(documents.next())));
+                results.add(documents.next());
             }
 
             if(results.size() < ids.size()) {
@@ -491,6 +495,14 @@ public class LogbookLifeCyclesImpl implements LogbookLifeCycles {
             return results;
         }
     }
+
+    /**
+     * Raw lifecycles are decoded straight from Bson to JsonNode by the JsonNodeCodec of the collection registry
+     */
+    @SuppressWarnings("unchecked")
+    private MongoCollection<JsonNode> getRawCollection(LogbookCollections collection) {
+        return collection.getCollection().withDocumentClass(JsonNode.class);
+    }
 }
 
 
@@ -55,6 +55,7 @@ import fr.gouv.vitam.logbook.common.parameters.LogbookTypeProcess;
 import fr.gouv.vitam.logbook.common.server.LogbookConfiguration;
 import fr.gouv.vitam.logbook.common.server.LogbookDbAccess;
 import fr.gouv.vitam.logbook.common.server.database.collections.LogbookCollections;
+import fr.gouv.vitam.logbook.common.server.database.collections.LogbookDocument;
 import fr.gouv.vitam.logbook.common.server.database.collections.LogbookElasticsearchAccess;
 import fr.gouv.vitam.logbook.common.server.database.collections.LogbookLifeCycle;
 import fr.gouv.vitam.logbook.common.server.database.collections.LogbookMongoDbAccessFactory;
@@ -70,10 +71,14 @@ import org.junit.rules.TemporaryFolder;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
+import static com.mongodb.client.model.Filters.eq;
+import static com.mongodb.client.model.Updates.set;
 import static fr.gouv.vitam.common.database.builder.query.QueryHelper.exists;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.fail;
 
@@ -254,6 +259,69 @@ public class LogbookLifeCyclesImplWithMongoTest {
             logbookLifeCyclesUnitParametersStart.getParameterValue(LogbookParameterName.objectIdentifier));
     }
 
+    @Test
+    @RunWithCustomExecutor
+    public void givenBulkOfUnitLifeCyclesWhenCommitUnitsThenCommitFoundLifeCycles() throws Exception {
+        VitamThreadUtils.getVitamSession().setTenantId(tenantId);
+        logbookLifeCyclesImpl = new LogbookLifeCyclesImpl(mongoDbAccess);
+        String operationId = GUIDFactory.newOperationLogbookGUID(tenantId).getId();
+        String unitId1 = GUIDFactory.newUnitGUID(tenantId).getId();
+        String unitId2 = GUIDFactory.newUnitGUID(tenantId).getId();
+        String unknownUnitId = GUIDFactory.newUnitGUID(tenantId).getId();
+
+        logbookLifeCyclesImpl.createUnit(operationId, unitId1, newUnitLifeCycleParameters(operationId, unitId1));
+        logbookLifeCyclesImpl.createUnit(operationId, unitId2, newUnitLifeCycleParameters(operationId, unitId2));
+        // unitId1 lifeCycle already committed : it is updated
+        logbookLifeCyclesImpl.commitUnit(operationId, unitId1);
+
+        List<String> notCommittedUnitIds =
+            logbookLifeCyclesImpl.commitUnits(operationId, Arrays.asList(unitId1, unitId2, unknownUnitId));
+
+        assertEquals(Collections.singletonList(unknownUnitId), notCommittedUnitIds);
+        assertNotNull(logbookLifeCyclesImpl.selectLifeCycleById(unitId1, null, false, LogbookCollections.LIFECYCLE_UNIT));
+        assertNotNull(logbookLifeCyclesImpl.selectLifeCycleById(unitId2, null, false, LogbookCollections.LIFECYCLE_UNIT));
+    }
+
+    @Test
+    @RunWithCustomExecutor
+    public void givenBulkOfUnitLifeCyclesWhenOneWriteFailsThenOnlyFailedLifeCycleIsNotCommitted() throws Exception {
+        VitamThreadUtils.getVitamSession().setTenantId(tenantId);
+        logbookLifeCyclesImpl = new LogbookLifeCyclesImpl(mongoDbAccess);
+        String operationId = GUIDFactory.newOperationLogbookGUID(tenantId).getId();
+        String unitId1 = GUIDFactory.newUnitGUID(tenantId).getId();
+        String unitId2 = GUIDFactory.newUnitGUID(tenantId).getId();
+
+        logbookLifeCyclesImpl.createUnit(operationId, unitId1, newUnitLifeCycleParameters(operationId, unitId1));
+        logbookLifeCyclesImpl.createUnit(operationId, unitId2, newUnitLifeCycleParameters(operationId, unitId2));
+        logbookLifeCyclesImpl.commitUnit(operationId, unitId1);
+        // Events of committed unitId1 lifeCycle cannot be appended anymore
+        LogbookCollections.LIFECYCLE_UNIT.getCollection()
+            .updateOne(eq(LogbookDocument.ID, unitId1), set(LogbookDocument.EVENTS, "not an array"));
+
+        List<String> notCommittedUnitIds =
+            logbookLifeCyclesImpl.commitUnits(operationId, Arrays.asList(unitId1, unitId2));
+
+        assertEquals(Collections.singletonList(unitId1), notCommittedUnitIds);
+        assertNotNull(logbookLifeCyclesImpl.selectLifeCycleById(unitId2, null, false, LogbookCollections.LIFECYCLE_UNIT));
+    }
+
+    private LogbookLifeCycleUnitParameters newUnitLifeCycleParameters(String operationId, String unitId) {
+        LogbookLifeCycleUnitParameters parameters = LogbookParameterHelper.newLogbookLifeCycleUnitParameters();
+        parameters.setStatus(StatusCode.OK);
+        parameters.putParameterValue(LogbookParameterName.eventIdentifier,
+            GUIDFactory.newEventGUID(tenantId).getId());
+        parameters.putParameterValue(LogbookParameterName.eventIdentifierProcess, operationId);
+        parameters.putParameterValue(LogbookParameterName.objectIdentifier, unitId);
+        parameters.putParameterValue(LogbookParameterName.eventType, "event");
+        parameters.setTypeProcess(LogbookTypeProcess.INGEST);
+        parameters.putParameterValue(LogbookParameterName.outcomeDetail, "outcomeDetail");
+        parameters.putParameterValue(LogbookParameterName.outcomeDetailMessage, "outcomeDetailMessage");
+        parameters.putParameterValue(LogbookParameterName.eventDateTime, LocalDateUtil.now().toString());
+        parameters.putParameterValue(LogbookParameterName.agentIdentifier,
+            ServerIdentity.getInstance().getJsonIdentity());
+        return parameters;
+    }
+
     @Test(expected = LogbookNotFoundException.class)
     public void given_idNotexists_when_rollback_thenThrow_LogbookNotFoundException() throws Exception {
         logbookLifeCyclesImpl = new LogbookLifeCyclesImpl(mongoDbAccess);
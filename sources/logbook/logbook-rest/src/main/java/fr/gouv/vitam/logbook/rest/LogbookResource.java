@@ -738,6 +738,73 @@ public class LogbookResource extends ApplicationStatusResource {
 
         return Response.status(Response.Status.CREATED).build();
     }
+
+    /**
+     * Commit a bulk of Unit Life Cycles
+     *
+     * @param operationId the operation id
+     * @param unitLcIds the life cycle ids
+     * @return the response with the ids of the life cycles which were not found or could not be written, and have not
+     * been committed
+     */
+    @PUT
+    @Path("/operations/{id_op}/bulklifecycles/unit/commit")
+    @Consumes(MediaType.APPLICATION_JSON)
+    @Produces(MediaType.APPLICATION_JSON)
+    public Response commitUnitLifeCyclesBulkByOperation(@PathParam("id_op") String operationId,
+        List<String> unitLcIds) {
+        LOGGER.debug("UnitLifeCycles commited: " + unitLcIds);
+        try {
+            return commitLifeCyclesBulkResponse(logbookLifeCycle.commitUnits(operationId, unitLcIds));
+        } catch (LogbookDatabaseException e) {
+            LOGGER.error(e);
+            return Response.status(Response.Status.INTERNAL_SERVER_ERROR).build();
+        } catch (LogbookAlreadyExistsException e) {
+            LOGGER.error(e);
+            return Response.status(Response.Status.CONFLICT).build();
+        } catch (IllegalArgumentException e) {
+            LOGGER.error(e);
+            return Response.status(Response.Status.BAD_REQUEST).build();
+        }
+    }
+
+    /**
+     * Commit a bulk of Object Group Life Cycles
+     *
+     * @param operationId the operation id
+     * @param objGrpIds the life cycle ids
+     * @return the response with the ids of the life cycles which were not found or could not be written, and have not
+     * been committed
+     */
+    @PUT
+    @Path("/operations/{id_op}/bulklifecycles/got/commit")
+    @Consumes(MediaType.APPLICATION_JSON)
+    @Produces(MediaType.APPLICATION_JSON)
+    public Response commitObjectGroupLifeCyclesBulkByOperation(@PathParam("id_op") String operationId,
+        List<String> objGrpIds) {
+        LOGGER.debug("ObjectGroupLifeCycles commited: " + objGrpIds);
+        try {
+            return commitLifeCyclesBulkResponse(logbookLifeCycle.commitObjectGroups(operationId, objGrpIds));
+        } catch (LogbookDatabaseException e) {
+            LOGGER.error(e);
+            return Response.status(Response.Status.INTERNAL_SERVER_ERROR).build();
+        } catch (LogbookAlreadyExistsException e) {
+            LOGGER.error(e);
+            return Response.status(Response.Status.CONFLICT).build();
+        } catch (IllegalArgumentException e) {
+            LOGGER.error(e);
+            return Response.status(Response.Status.BAD_REQUEST).build();
+        }
+    }
+
+    private Response commitLifeCyclesBulkResponse(List<String> notCommittedLifeCycleIds) {
+        return Response.status(Status.OK)
+            .entity(new RequestResponseOK<String>()
+                .addAllResults(notCommittedLifeCycleIds)
+                .setHttpCode(Status.OK.getStatusCode()))
+            .build();
+    }
+
         /**
          * Update Unit Life Cycle
          *
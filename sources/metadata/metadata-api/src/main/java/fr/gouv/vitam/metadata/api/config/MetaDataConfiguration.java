@@ -49,6 +49,9 @@ public class MetaDataConfiguration extends DbConfigurationImpl {
     private int schemaValidatorCacheMaxEntries = 100;
     private int schemaValidatorCacheTimeoutInSeconds = 300;
 
+    private int unitRuleCacheMaxEntries = 10000;
+    private int unitRuleCacheTimeoutInSeconds = 60;
+
     private int dipTimeToLiveInMinutes = 60 * 24 * 7;
     private int transfersSIPTimeToLiveInMinutes = 60 * 24 * 7;
 
@@ -175,6 +178,24 @@ public class MetaDataConfiguration extends DbConfigurationImpl {
         return this;
     }
 
+    public int getUnitRuleCacheMaxEntries() {
+        return unitRuleCacheMaxEntries;
+    }
+
+    public MetaDataConfiguration setUnitRuleCacheMaxEntries(int unitRuleCacheMaxEntries) {
+        this.unitRuleCacheMaxEntries = unitRuleCacheMaxEntries;
+        return this;
+    }
+
+    public int getUnitRuleCacheTimeoutInSeconds() {
+        return unitRuleCacheTimeoutInSeconds;
+    }
+
+    public MetaDataConfiguration setUnitRuleCacheTimeoutInSeconds(int unitRuleCacheTimeoutInSeconds) {
+        this.unitRuleCacheTimeoutInSeconds = unitRuleCacheTimeoutInSeconds;
+        return this;
+    }
+
     public String getUrlProcessing() {
         return urlProcessing;
     }
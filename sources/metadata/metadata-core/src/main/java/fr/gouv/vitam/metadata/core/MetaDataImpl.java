@@ -31,8 +31,11 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.Iterables;
+import com.google.common.collect.Lists;
 import com.mongodb.client.MongoCollection;
 import fr.gouv.vitam.common.LocalDateUtil;
+import fr.gouv.vitam.common.VitamConfiguration;
 import fr.gouv.vitam.common.client.OntologyLoader;
 import fr.gouv.vitam.common.database.builder.facet.Facet;
 import fr.gouv.vitam.common.database.builder.facet.FacetHelper;
@@ -91,9 +94,11 @@ import fr.gouv.vitam.metadata.core.database.collections.MetadataCollections;
 import fr.gouv.vitam.metadata.core.database.collections.MongoDbAccessMetadataImpl;
 import fr.gouv.vitam.metadata.core.database.collections.MongoDbVarNameAdapter;
 import fr.gouv.vitam.metadata.core.database.collections.Result;
+import fr.gouv.vitam.metadata.core.model.BulkUpdateResult;
 import fr.gouv.vitam.metadata.core.model.UpdateUnit;
 import fr.gouv.vitam.metadata.core.model.UpdateUnitKey;
 import fr.gouv.vitam.metadata.core.model.UpdatedDocument;
+import fr.gouv.vitam.metadata.core.rules.UnitRuleModelCache;
 import fr.gouv.vitam.metadata.core.utils.MetadataJsonResponseUtils;
 import fr.gouv.vitam.metadata.core.utils.OriginatingAgencyBucketResult;
 import fr.gouv.vitam.metadata.core.validation.CachedArchiveUnitProfileLoader;
@@ -164,16 +169,19 @@ public class MetaDataImpl {
     private final OntologyValidator objectGroupOntologyValidator;
     private final OntologyLoader unitOntologyLoader;
     private final OntologyLoader objectGroupOntologyLoader;
+    private final UnitRuleModelCache unitRuleModelCache;
 
     public MetaDataImpl(MongoDbAccessMetadataImpl mongoDbAccess,
         int ontologyCacheMaxEntries, int ontologyCacheTimeoutInSeconds,
         int archiveUnitProfileCacheMaxEntries, int archiveUnitProfileCacheTimeoutInSeconds,
-        int schemaValidatorCacheMaxEntries, int schemaValidatorCacheTimeoutInSeconds) {
+        int schemaValidatorCacheMaxEntries, int schemaValidatorCacheTimeoutInSeconds,
+        int unitRuleCacheMaxEntries, int unitRuleCacheTimeoutInSeconds) {
 
         this(mongoDbAccess, AdminManagementClientFactory.getInstance(), IndexationHelper.getInstance(),
             new DbRequest(), ontologyCacheMaxEntries, ontologyCacheTimeoutInSeconds,
             archiveUnitProfileCacheMaxEntries, archiveUnitProfileCacheTimeoutInSeconds,
-            schemaValidatorCacheMaxEntries, schemaValidatorCacheTimeoutInSeconds);
+            schemaValidatorCacheMaxEntries, schemaValidatorCacheTimeoutInSeconds,
+            unitRuleCacheMaxEntries, unitRuleCacheTimeoutInSeconds);
     }
 
     @VisibleForTesting
@@ -182,7 +190,8 @@ public class MetaDataImpl {
         IndexationHelper indexationHelper,
         DbRequest dbRequest, int ontologyCacheMaxEntries, int ontologyCacheTimeoutInSeconds,
         int archiveUnitProfileCacheMaxEntries, int archiveUnitProfileCacheTimeoutInSeconds,
-        int schemaValidatorCacheMaxEntries, int schemaValidatorCacheTimeoutInSeconds) {
+        int schemaValidatorCacheMaxEntries, int schemaValidatorCacheTimeoutInSeconds,
+        int unitRuleCacheMaxEntries, int unitRuleCacheTimeoutInSeconds) {
         this.mongoDbAccess = mongoDbAccess;
         this.indexationHelper = indexationHelper;
         this.dbRequest = dbRequest;
@@ -213,6 +222,8 @@ public class MetaDataImpl {
         );
 
         this.unitValidator = new UnitValidator(archiveUnitProfileLoader, schemaValidatorLoader);
+
+        this.unitRuleModelCache = new UnitRuleModelCache(unitRuleCacheMaxEntries, unitRuleCacheTimeoutInSeconds);
     }
 
     /**
@@ -224,11 +235,13 @@ public class MetaDataImpl {
     public static MetaDataImpl newMetadata(MongoDbAccessMetadataImpl mongoDbAccessMetadata,
         int ontologyCacheMaxEntries, int ontologyCacheTimeoutInSeconds,
         int archiveUnitProfileCacheMaxEntries, int archiveUnitProfileCacheTimeoutInSeconds,
-        int schemaValidatorCacheMaxEntries, int schemaValidatorCacheTimeoutInSeconds) {
+        int schemaValidatorCacheMaxEntries, int schemaValidatorCacheTimeoutInSeconds,
+        int unitRuleCacheMaxEntries, int unitRuleCacheTimeoutInSeconds) {
 
         return new MetaDataImpl(mongoDbAccessMetadata, ontologyCacheMaxEntries, ontologyCacheTimeoutInSeconds,
             archiveUnitProfileCacheMaxEntries, archiveUnitProfileCacheTimeoutInSeconds,
-            schemaValidatorCacheMaxEntries, schemaValidatorCacheTimeoutInSeconds);
+            schemaValidatorCacheMaxEntries, schemaValidatorCacheTimeoutInSeconds,
+            unitRuleCacheMaxEntries, unitRuleCacheTimeoutInSeconds);
     }
 
     /**
@@ -238,6 +251,13 @@ public class MetaDataImpl {
         return mongoDbAccess;
     }
 
+    /**
+     * @return the cache of unit graph & rule information, evicted on unit updates
+     */
+    public UnitRuleModelCache getUnitRuleModelCache() {
+        return unitRuleModelCache;
+    }
+
     public void insertUnits(BulkUnitInsertRequest request)
         throws InvalidParseOperationException, MetaDataExecutionException,
         MetaDataNotFoundException {
@@ -256,7 +276,11 @@ public class MetaDataImpl {
     public void deleteUnits(List<String> idList)
         throws IllegalArgumentException, MetaDataExecutionException {
 
-        dbRequest.deleteUnits(idList);
+        try {
+            dbRequest.deleteUnits(idList);
+        } finally {
+            unitRuleModelCache.invalidate(idList);
+        }
 
     }
 
@@ -686,6 +710,9 @@ public class MetaDataImpl {
         String scrollId = (result != null) ? result.getScrollId() : null;
         DatabaseCursor hits = (scrollId != null) ? new DatabaseCursor(total, offset, limit, res.size(), scrollId)
             : new DatabaseCursor(total, offset, limit, res.size());
+        if (result != null && result.getSearchAfter() != null) {
+            hits.setSearchAfter(result.getSearchAfter());
+        }
         return new RequestResponseOK<JsonNode>(queryCopy)
             .addAllResults(res).addAllFacetResults(facetResults).setHits(hits);
     }
@@ -715,85 +742,82 @@ public class MetaDataImpl {
         final RequestMultiple request = updateRequest.getRequest();
         unitIds = request.getRoots();
 
-        List<UpdateUnit> updatedUnits = unitIds.stream()
-            .map(unitId -> updateAndTransformUnit(updateRequest, unitId))
-            .collect(Collectors.toList());
+        List<OntologyModel> ontologyModels = this.unitOntologyLoader.loadOntologies();
+        List<UpdateUnit> updatedUnits = new ArrayList<>();
+        for (List<String> bulkUnitIds : Iterables.partition(unitIds, VitamConfiguration.getBatchSize())) {
+            BulkUpdateResult bulkUpdateResult;
+            try {
+                bulkUpdateResult = dbRequest
+                    .execBulkUpdateRequest(updateRequest, bulkUnitIds, this.unitOntologyValidator, this.unitValidator,
+                        ontologyModels);
+            } finally {
+                unitRuleModelCache.invalidate(bulkUnitIds);
+            }
+            bulkUnitIds.forEach(
+                unitId -> updatedUnits.add(toUpdateUnit(unitId, bulkUpdateResult, "Update unit OK.")));
+        }
 
         return new RequestResponseOK<UpdateUnit>(updateQuery)
             .addAllResults(updatedUnits)
             .setTotal(updatedUnits.size());
     }
 
-    private UpdateUnit updateAndTransformUnit(UpdateParserMultiple updateRequest, String unitId) {
-
-        try {
-
-            UpdatedDocument updatedDocument = dbRequest
-                .execUpdateRequest(updateRequest, unitId, MetadataCollections.UNIT, this.unitOntologyValidator, this.unitValidator, this.unitOntologyLoader.loadOntologies());
-
-            String diffs = String.join("\n", VitamDocument.getConcernedDiffLines(
-                VitamDocument.getUnifiedDiff(JsonHandler.prettyPrint(updatedDocument.getBeforeUpdate()),
-                    JsonHandler.prettyPrint(updatedDocument.getAfterUpdate()))));
-
-            if (diffs.isEmpty()) {
-                LOGGER.warn(String.format("UNKNOWN updates for unit update %s.", unitId));
-                return new UpdateUnit(unitId, StatusCode.OK, UNIT_METADATA_NO_CHANGES, "Unit updated with UNKNOWN changes.", "UNKNOWN diff, there are some changes but they cannot be trace.");
-            }
-
-            return new UpdateUnit(unitId, StatusCode.OK, UNIT_METADATA_UPDATE, "Update unit OK.", diffs);
-
-        } catch (MetadataValidationException e) {
-            LOGGER.error("An error occurred during unit update " + unitId, e);
-            return error(unitId, KO, CHECK_UNIT_SCHEMA, e.getMessage());
-        } catch (MetaDataNotFoundException e) {
-            LOGGER.error("Unit not found during unit update " + unitId, e);
-            return error(unitId, KO, UNIT_UNKNOWN_OR_FORBIDDEN, e.getMessage());
-        } catch (Exception e) {
-            LOGGER.error("An error occurred during unit update " + unitId, e);
-            return error(unitId, FATAL, UNIT_METADATA_UPDATE, e.getMessage());
-        }
-    }
-
     public RequestResponse<UpdateUnit> updateUnitsRules(List<String> unitIds, RuleActions ruleActions,
         Map<String, DurationData> bindRuleToDuration) {
 
-        List<UpdateUnit> unitRules = unitIds.stream()
-            .map(unitId -> updateAndTransformUnitRules(unitId, ruleActions, bindRuleToDuration))
-            .collect(Collectors.toList());
+        List<OntologyModel> ontologyModels = this.unitOntologyLoader.loadOntologies();
+        List<UpdateUnit> unitRules = new ArrayList<>();
+        for (List<String> bulkUnitIds : Iterables.partition(unitIds, VitamConfiguration.getBatchSize())) {
+            BulkUpdateResult bulkUpdateResult;
+            try {
+                bulkUpdateResult = dbRequest
+                    .execBulkRuleRequest(bulkUnitIds, ruleActions, bindRuleToDuration, this.unitOntologyValidator,
+                        unitValidator, ontologyModels);
+            } finally {
+                unitRuleModelCache.invalidate(bulkUnitIds);
+            }
+            bulkUnitIds.forEach(
+                unitId -> unitRules.add(toUpdateUnit(unitId, bulkUpdateResult, "Update unit rules OK.")));
+        }
 
         return new RequestResponseOK<UpdateUnit>()
             .addAllResults(unitRules)
             .setTotal(unitRules.size());
     }
 
-    private UpdateUnit updateAndTransformUnitRules(String unitId, RuleActions ruleActions,
-        Map<String, DurationData> bindRuleToDuration) {
-        try {
-            UpdatedDocument updatedDocument =
-                dbRequest.execRuleRequest(unitId, ruleActions, bindRuleToDuration, this.unitOntologyValidator,
-                    unitValidator, this.unitOntologyLoader.loadOntologies());
+    private UpdateUnit toUpdateUnit(String unitId, BulkUpdateResult bulkUpdateResult, String okMessage) {
+        UpdatedDocument updatedDocument = bulkUpdateResult.getUpdatedDocuments().get(unitId);
+        if (updatedDocument == null) {
+            Exception error = bulkUpdateResult.getErrors().get(unitId);
+            if (error == null) {
+                error = new MetaDataExecutionException("Can not modify document " + unitId);
+            }
+            return toUpdateUnitError(unitId, error);
+        }
 
-            String diffs = String.join("\n", VitamDocument.getConcernedDiffLines(
-                VitamDocument.getUnifiedDiff(JsonHandler.prettyPrint(updatedDocument.getBeforeUpdate()),
-                    JsonHandler.prettyPrint(updatedDocument.getAfterUpdate()))));
+        String diffs = String.join("\n", VitamDocument.getConcernedDiffLines(
+            VitamDocument.getUnifiedDiff(JsonHandler.prettyPrint(updatedDocument.getBeforeUpdate()),
+                JsonHandler.prettyPrint(updatedDocument.getAfterUpdate()))));
 
-            if (diffs.isEmpty()) {
-                LOGGER.warn(String.format("UNKNOWN updates for unit update %s.", unitId));
-                return new UpdateUnit(unitId, StatusCode.OK, UNIT_METADATA_NO_CHANGES, "Unit updated with UNKNOWN changes.", "UNKNOWN diff, there are some changes but they cannot be trace.");
-            }
+        if (diffs.isEmpty()) {
+            LOGGER.warn(String.format("UNKNOWN updates for unit update %s.", unitId));
+            return new UpdateUnit(unitId, StatusCode.OK, UNIT_METADATA_NO_CHANGES, "Unit updated with UNKNOWN changes.", "UNKNOWN diff, there are some changes but they cannot be trace.");
+        }
 
-            return new UpdateUnit(unitId, StatusCode.OK, UNIT_METADATA_UPDATE, "Update unit rules OK.", diffs);
+        return new UpdateUnit(unitId, StatusCode.OK, UNIT_METADATA_UPDATE, okMessage, diffs);
+    }
 
-        } catch (MetadataValidationException e) {
+    private UpdateUnit toUpdateUnitError(String unitId, Exception e) {
+        if (e instanceof MetadataValidationException) {
             LOGGER.error("An error occurred during unit update " + unitId, e);
             return error(unitId, KO, CHECK_UNIT_SCHEMA, e.getMessage());
-        } catch (MetaDataNotFoundException e) {
+        }
+        if (e instanceof MetaDataNotFoundException) {
             LOGGER.error("Unit not found during unit update " + unitId, e);
             return error(unitId, KO, UNIT_UNKNOWN_OR_FORBIDDEN, e.getMessage());
-        } catch (Exception e) {
-            LOGGER.error("An error occurred during unit update " + unitId, e);
-            return error(unitId, FATAL, UNIT_METADATA_UPDATE, e.getMessage());
         }
+        LOGGER.error("An error occurred during unit update " + unitId, e);
+        return error(unitId, FATAL, UNIT_METADATA_UPDATE, e.getMessage());
     }
 
     private UpdateUnit error(String unitId, StatusCode status, UpdateUnitKey key, String message) {
@@ -809,8 +833,13 @@ public class MetaDataImpl {
         final RequestParserMultiple updateRequest = new UpdateParserMultiple(DEFAULT_VARNAME_ADAPTER);
         updateRequest.parse(updateQuery);
 
-        UpdatedDocument updatedDocument = dbRequest
-            .execUpdateRequest(updateRequest, unitId, MetadataCollections.UNIT, this.unitOntologyValidator, this.unitValidator, this.unitOntologyLoader.loadOntologies());
+        UpdatedDocument updatedDocument;
+        try {
+            updatedDocument = dbRequest
+                .execUpdateRequest(updateRequest, unitId, MetadataCollections.UNIT, this.unitOntologyValidator, this.unitValidator, this.unitOntologyLoader.loadOntologies());
+        } finally {
+            unitRuleModelCache.invalidate(singletonList(unitId));
+        }
 
         String diffs = String.join("\n", VitamDocument.getConcernedDiffLines(
             VitamDocument.getUnifiedDiff(JsonHandler.prettyPrint(updatedDocument.getBeforeUpdate()),
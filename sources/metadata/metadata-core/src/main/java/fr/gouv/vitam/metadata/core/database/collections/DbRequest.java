@@ -57,6 +57,7 @@ import fr.gouv.vitam.common.database.collections.DynamicParserTokens;
 import fr.gouv.vitam.common.database.collections.VitamCollection;
 import fr.gouv.vitam.common.database.parser.query.PathQuery;
 import fr.gouv.vitam.common.database.parser.query.helper.QueryDepthHelper;
+import fr.gouv.vitam.common.database.parser.request.adapter.VarNameAdapter;
 import fr.gouv.vitam.common.database.parser.request.multiple.InsertParserMultiple;
 import fr.gouv.vitam.common.database.parser.request.multiple.RequestParserMultiple;
 import fr.gouv.vitam.common.database.parser.request.multiple.UpdateParserMultiple;
@@ -79,10 +80,12 @@ import fr.gouv.vitam.common.logging.SysErrLogger;
 import fr.gouv.vitam.common.logging.VitamLogger;
 import fr.gouv.vitam.common.logging.VitamLoggerFactory;
 import fr.gouv.vitam.common.model.DurationData;
+import fr.gouv.vitam.common.model.VitamSession;
 import fr.gouv.vitam.common.model.administration.OntologyModel;
 import fr.gouv.vitam.common.model.massupdate.RuleActions;
 import fr.gouv.vitam.common.parameter.ParameterHelper;
 import fr.gouv.vitam.common.performance.PerformanceLogger;
+import fr.gouv.vitam.common.thread.VitamThreadPoolExecutor;
 import fr.gouv.vitam.common.thread.VitamThreadUtils;
 import fr.gouv.vitam.metadata.api.exception.MetaDataAlreadyExistException;
 import fr.gouv.vitam.metadata.api.exception.MetaDataExecutionException;
@@ -90,6 +93,7 @@ import fr.gouv.vitam.metadata.api.exception.MetaDataNotFoundException;
 import fr.gouv.vitam.metadata.api.model.BulkUnitInsertEntry;
 import fr.gouv.vitam.metadata.api.model.BulkUnitInsertRequest;
 import fr.gouv.vitam.metadata.core.graph.GraphLoader;
+import fr.gouv.vitam.metadata.core.model.BulkUpdateResult;
 import fr.gouv.vitam.metadata.core.model.UpdatedDocument;
 import fr.gouv.vitam.metadata.core.trigger.FieldHistoryManager;
 import fr.gouv.vitam.metadata.core.validation.MetadataValidationException;
@@ -109,10 +113,12 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
@@ -133,6 +139,11 @@ public class DbRequest {
 
     private static final JsonPointer JSON_POINTER_TO_OPS = JsonPointer.compile("/$push/_ops/0");
 
+    /**
+     * Number of concurrent in memory updates of a bulk update
+     */
+    private static final int BULK_UPDATE_PARALLELISM = Runtime.getRuntime().availableProcessors();
+
     private static final String HISTORY_TRIGGER_NAME = "history-triggers.json";
     private static final String QUERY2 = "query: ";
     private static final String WHERE_PREVIOUS_RESULT_WAS = "where_previous_result_was: ";
@@ -196,72 +207,105 @@ public class DbRequest {
                 throw new MetaDataNotFoundException("Document not found by id " + documentId);
             }
 
-            final JsonNode jsonDocument = JsonHandler.toJsonNode(document);
-            if (LOGGER.isDebugEnabled()) {
-                LOGGER.debug("DEBUG update {} to update to {}", jsonDocument,
-                    JsonHandler.prettyPrint(ruleActions));
+            PreparedUpdate update = prepareRuleUpdate(document, ruleActions, bindRuleToDuration, ontologyValidator,
+                unitValidator, ontologyModels);
+
+            UpdateResult result = collection.replaceOne(update.condition, update.finalDocument);
+            if (result.getModifiedCount() == 1) {
+                indexFieldsUpdated(update.finalDocument, tenantId);
+                return update.toUpdatedDocument();
             }
-            DynamicParserTokens parserTokens =
-                new DynamicParserTokens(metadataCollections.getVitamDescriptionResolver(), ontologyModels);
-            final MongoDbInMemory mongoInMemory = new MongoDbInMemory(jsonDocument,
-                parserTokens);
+            tries++;
+        }
+
+        throw new MetaDataExecutionException("Can not modify document " + documentId);
+    }
+
+    /**
+     * Execute rule action on a bulk of units.<br>
+     * Units are loaded with a single query, updated in memory in parallel, written back concurrently with their _v
+     * condition (only units whose condition did not match are retried) and indexed with one bulk request.
+     *
+     * @param documentIds the unit ids
+     * @param ruleActions the list of ruleAction (by category)
+     * @return updated documents and errors by unit id, with the same content as execRuleRequest for each unit
+     */
+    public BulkUpdateResult execBulkRuleRequest(final Collection<String> documentIds, final RuleActions ruleActions,
+        Map<String, DurationData> bindRuleToDuration, OntologyValidator ontologyValidator, UnitValidator unitValidator,
+        List<OntologyModel> ontologyModels) {
 
-            // Add operationId to #operations
-            UpdateMultiQuery updateQuery = new UpdateMultiQuery();
-            updateQuery
-                .addActions(push(VitamFieldsHelper.operations(), VitamThreadUtils.getVitamSession().getRequestId()));
+        return bulkUpdateUnitsWithRetries(documentIds,
+            document -> prepareRuleUpdate(document, ruleActions, bindRuleToDuration, ontologyValidator,
+                unitValidator, ontologyModels));
+    }
 
-            final RequestParserMultiple updateRequest = new UpdateParserMultiple(new MongoDbVarNameAdapter());
-            updateRequest.parse(updateQuery.getFinalUpdateById());
-            mongoInMemory.getUpdateJson(updateRequest);
+    private PreparedUpdate prepareRuleUpdate(MetadataDocument<?> document, RuleActions ruleActions,
+        Map<String, DurationData> bindRuleToDuration, OntologyValidator ontologyValidator, UnitValidator unitValidator,
+        List<OntologyModel> ontologyModels)
+        throws InvalidParseOperationException, InvalidCreateOperationException, MetadataValidationException {
 
-            // Update rules
-            final ObjectNode updatedJsonDocument =
-                (ObjectNode) mongoInMemory.getUpdateJsonForRule(ruleActions, bindRuleToDuration);
+        MetadataCollections metadataCollections = MetadataCollections.UNIT;
+        String documentId = document.getId();
 
-            fieldHistoryManager.trigger(jsonDocument, updatedJsonDocument);
+        final JsonNode jsonDocument = JsonHandler.toJsonNode(document);
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug("DEBUG update {} to update to {}", jsonDocument,
+                JsonHandler.prettyPrint(ruleActions));
+        }
+        DynamicParserTokens parserTokens =
+            new DynamicParserTokens(metadataCollections.getVitamDescriptionResolver(), ontologyModels);
+        final MongoDbInMemory mongoInMemory = new MongoDbInMemory(jsonDocument,
+            parserTokens);
 
-            Integer documentVersion = document.getVersion();
-            int newDocumentVersion = documentVersion + 1;
-            Integer atomicVersion = document.getAtomicVersion();
-            int newAtomicVersion = atomicVersion == null ? newDocumentVersion : atomicVersion + 1;
+        // Add operationId to #operations
+        UpdateMultiQuery updateQuery = new UpdateMultiQuery();
+        updateQuery
+            .addActions(push(VitamFieldsHelper.operations(), VitamThreadUtils.getVitamSession().getRequestId()));
 
-            updatedJsonDocument.put(VitamDocument.VERSION, newDocumentVersion);
-            updatedJsonDocument.put(MetadataDocument.ATOMIC_VERSION, newAtomicVersion);
+        final RequestParserMultiple updateRequest = new UpdateParserMultiple(new MongoDbVarNameAdapter());
+        updateRequest.parse(updateQuery.getFinalUpdateById());
+        mongoInMemory.getUpdateJson(updateRequest);
 
-            Unit updatedDocument = new Unit(updatedJsonDocument);
+        // Update rules
+        final ObjectNode updatedJsonDocument =
+            (ObjectNode) mongoInMemory.getUpdateJsonForRule(ruleActions, bindRuleToDuration);
 
-            // Ontology checks & format transformation
-            final ObjectNode transformedUpdatedDocument
-                = ontologyValidator.verifyAndReplaceFields(updatedJsonDocument);
+        fieldHistoryManager.trigger(jsonDocument, updatedJsonDocument);
 
-            // Unit validation
-            unitValidator.validateUnit(transformedUpdatedDocument);
+        Integer documentVersion = document.getVersion();
+        int newDocumentVersion = documentVersion + 1;
+        Integer atomicVersion = document.getAtomicVersion();
+        int newAtomicVersion = atomicVersion == null ? newDocumentVersion : atomicVersion + 1;
 
-            // Make Update
-            final Bson condition;
-            if (atomicVersion == null) {
-                condition = and(
-                    eq(MetadataDocument.ID, documentId),
-                    eq(MetadataDocument.TENANT_ID, VitamThreadUtils.getVitamSession().getTenantId()),
-                    exists(MetadataDocument.ATOMIC_VERSION, false));
-            } else {
-                condition = and(
-                    eq(MetadataDocument.ID, documentId),
-                    eq(MetadataDocument.TENANT_ID, VitamThreadUtils.getVitamSession().getTenantId()),
-                    eq(MetadataDocument.ATOMIC_VERSION, atomicVersion));
-            }
+        updatedJsonDocument.put(VitamDocument.VERSION, newDocumentVersion);
+        updatedJsonDocument.put(MetadataDocument.ATOMIC_VERSION, newAtomicVersion);
 
-            LOGGER.debug("DEBUG update {}", transformedUpdatedDocument);
-            UpdateResult result = collection.replaceOne(condition, updatedDocument);
-            if (result.getModifiedCount() == 1) {
-                indexFieldsUpdated(updatedDocument, tenantId);
-                return new UpdatedDocument(documentId, jsonDocument, JsonHandler.toJsonNode(updatedDocument));
-            }
-            tries++;
+        Unit updatedDocument = new Unit(updatedJsonDocument);
+
+        // Ontology checks & format transformation
+        final ObjectNode transformedUpdatedDocument
+            = ontologyValidator.verifyAndReplaceFields(updatedJsonDocument);
+
+        // Unit validation
+        unitValidator.validateUnit(transformedUpdatedDocument);
+
+        // Make Update
+        final Bson condition;
+        if (atomicVersion == null) {
+            condition = and(
+                eq(MetadataDocument.ID, documentId),
+                eq(MetadataDocument.TENANT_ID, VitamThreadUtils.getVitamSession().getTenantId()),
+                exists(MetadataDocument.ATOMIC_VERSION, false));
+        } else {
+            condition = and(
+                eq(MetadataDocument.ID, documentId),
+                eq(MetadataDocument.TENANT_ID, VitamThreadUtils.getVitamSession().getTenantId()),
+                eq(MetadataDocument.ATOMIC_VERSION, atomicVersion));
         }
 
-        throw new MetaDataExecutionException("Can not modify document " + documentId);
+        LOGGER.debug("DEBUG update {}", transformedUpdatedDocument);
+        // After update is the written document, once indexed
+        return new PreparedUpdate(documentId, jsonDocument, null, updatedDocument, condition);
     }
 
     /**
@@ -393,6 +437,32 @@ public class DbRequest {
         return result;
     }
 
+    /**
+     * Execute an update request on a bulk of units.<br>
+     * Units are loaded with a single query, updated in memory in parallel, written back concurrently with their _v
+     * condition (only units whose condition did not match are retried) and indexed with one bulk request.
+     *
+     * @param requestParser the update request, its roots are ignored
+     * @param documentIds the unit ids
+     * @return updated documents and errors by unit id, with the same content as execUpdateRequest for each unit
+     */
+    public BulkUpdateResult execBulkUpdateRequest(final RequestParserMultiple requestParser,
+        Collection<String> documentIds, OntologyValidator ontologyValidator, UnitValidator unitValidator,
+        List<OntologyModel> ontologyModels) {
+
+        // Parsed actions are not meant to be shared between threads: each update parses its own copy of the request
+        final ObjectNode requestWithoutRoots = (ObjectNode) requestParser.getRootNode().deepCopy();
+        requestWithoutRoots.set(BuilderToken.GLOBAL.ROOTS.exactToken(), JsonHandler.createArrayNode());
+        final VarNameAdapter varNameAdapter = requestParser.getAdapter();
+
+        return bulkUpdateUnitsWithRetries(documentIds, document -> {
+            final RequestParserMultiple documentRequestParser = new UpdateParserMultiple(varNameAdapter);
+            documentRequestParser.parse(requestWithoutRoots.deepCopy());
+            return prepareUpdate(document, documentRequestParser, MetadataCollections.UNIT, ontologyValidator,
+                unitValidator, ontologyModels);
+        });
+    }
+
     /**
      * Check Unit at startup against Roots
      *
@@ -472,6 +542,7 @@ public class DbRequest {
         int offset = -1;
         String scrollId = requestParser.getFinalScrollId();
         Integer scrollTimeout = requestParser.getFinalScrollTimeout();
+        String searchAfter = null;
         final Integer tenantId = ParameterHelper.getTenantParameter();
         final FILTERARGS collectionType = requestToMongodb.model();
         if (requestToMongodb instanceof SelectToMongodb && isLastQuery) {
@@ -486,6 +557,7 @@ public class DbRequest {
             VitamCollection.setMatch(false);
             limit = requestToMongodb.getFinalLimit();
             offset = requestToMongodb.getFinalOffset();
+            searchAfter = requestParser.getFinalSearchAfter();
         }
 
         LOGGER.debug("Rank: " + rank + "\n\tPrevious: " + previous + "\n\tRequest: " + realQuery.getCurrentQuery());
@@ -522,18 +594,18 @@ public class DbRequest {
                     // Exact Depth request (descending)
                     LOGGER.debug("Unit Exact Depth request (descending)");
                     result = exactDepthUnitQuery(realQuery, previous, exactDepth, tenantId, sorts,
-                        offset, limit, facets, scrollId, scrollTimeout, parserTokens);
+                        offset, limit, facets, scrollId, scrollTimeout, searchAfter, parserTokens);
                 } else if (relativeDepth != 0) {
                     // Relative Depth request (ascending or descending)
                     LOGGER.debug("Unit Relative Depth request (ascending or descending)");
                     result =
                         relativeDepthUnitQuery(realQuery, previous, relativeDepth, tenantId, sorts,
-                            offset, limit, facets, scrollId, scrollTimeout, parserTokens);
+                            offset, limit, facets, scrollId, scrollTimeout, searchAfter, parserTokens);
                 } else {
                     // Current sub level request
                     LOGGER.debug("Unit Current sub level request");
                     result = sameDepthUnitQuery(realQuery, previous, tenantId, sorts, offset,
-                        limit, facets, scrollId, scrollTimeout, parserTokens);
+                        limit, facets, scrollId, scrollTimeout, searchAfter, parserTokens);
                 }
             } else {
                 // OBJECTGROUPS
@@ -541,7 +613,7 @@ public class DbRequest {
                 // FIXME later on see if we should support depth
                 LOGGER.debug("ObjectGroup No depth at all");
                 result = objectGroupQuery(realQuery, previous, tenantId, sorts, offset,
-                    limit, scrollId, scrollTimeout, facets, parserTokens);
+                    limit, scrollId, scrollTimeout, searchAfter, facets, parserTokens);
             }
         } finally {
             previous.clear();
@@ -568,7 +640,7 @@ public class DbRequest {
     protected Result<MetadataDocument<?>> exactDepthUnitQuery(Query realQuery, Result<MetadataDocument<?>> previous,
         int exactDepth, Integer tenantId, final List<SortBuilder> sorts, final int offset, final int limit,
         final List<AggregationBuilder> facets, final String scrollId, final Integer scrollTimeout,
-        DynamicParserTokens parserTokens)
+        final String searchAfter, DynamicParserTokens parserTokens)
         throws InvalidParseOperationException, MetaDataExecutionException, BadRequestException {
         // ES only
         final BoolQueryBuilder roots =
@@ -589,7 +661,8 @@ public class DbRequest {
 
         final Result<MetadataDocument<?>> result =
             metadataCollections.getEsClient()
-                .search(metadataCollections, tenantId, query, sorts, offset, limit, facets, scrollId, scrollTimeout);
+                .search(metadataCollections, tenantId, query, sorts, offset, limit, facets, scrollId, scrollTimeout,
+                    searchAfter);
 
         LOGGER.warn("UnitExact: {}", result);
 
@@ -615,7 +688,7 @@ public class DbRequest {
     protected Result<MetadataDocument<?>> relativeDepthUnitQuery(Query realQuery, Result<MetadataDocument<?>> previous,
         int relativeDepth, Integer tenantId, final List<SortBuilder> sorts, final int offset,
         final int limit, final List<AggregationBuilder> facets, final String scrollId, final Integer scrollTimeout,
-        DynamicParserTokens parserTokens)
+        final String searchAfter, DynamicParserTokens parserTokens)
         throws InvalidParseOperationException, MetaDataExecutionException, BadRequestException {
         // ES only
         QueryBuilder roots;
@@ -654,7 +727,7 @@ public class DbRequest {
         final Result<MetadataDocument<?>> result =
             MetadataCollections.UNIT.getEsClient()
                 .search(MetadataCollections.UNIT, tenantId, query, sorts, offset, limit, facets, scrollId,
-                    scrollTimeout);
+                    scrollTimeout, searchAfter);
 
         LOGGER.debug("UnitRelative: {}", result);
 
@@ -722,7 +795,7 @@ public class DbRequest {
     protected Result<MetadataDocument<?>> sameDepthUnitQuery(Query realQuery, Result<MetadataDocument<?>> previous,
         Integer tenantId, final List<SortBuilder> sorts, final int offset, final int limit,
         final List<AggregationBuilder> facets, final String scrollId, final Integer scrollTimeout,
-        DynamicParserTokens parserTokens)
+        final String searchAfter, DynamicParserTokens parserTokens)
         throws InvalidParseOperationException, MetaDataExecutionException, BadRequestException {
         // ES
         final QueryBuilder query =
@@ -744,7 +817,7 @@ public class DbRequest {
         LOGGER.debug(QUERY2 + "{}", finalQuery);
         return MetadataCollections.UNIT.getEsClient()
             .search(MetadataCollections.UNIT, tenantId, finalQuery, sorts, offset, limit, facets, scrollId,
-                scrollTimeout);
+                scrollTimeout, searchAfter);
     }
 
     /**
@@ -763,8 +836,8 @@ public class DbRequest {
      */
     protected Result<MetadataDocument<?>> objectGroupQuery(Query realQuery, Result<MetadataDocument<?>> previous,
         Integer tenantId, final List<SortBuilder> sorts, final int offset, final int limit,
-        final String scrollId, final Integer scrollTimeout, final List<AggregationBuilder> facets,
-        DynamicParserTokens parserTokens)
+        final String scrollId, final Integer scrollTimeout, final String searchAfter,
+        final List<AggregationBuilder> facets, DynamicParserTokens parserTokens)
         throws InvalidParseOperationException, MetaDataExecutionException, BadRequestException {
         // ES
         final QueryBuilder query =
@@ -790,7 +863,7 @@ public class DbRequest {
         LOGGER.debug(QUERY2 + "{}", finalQuery);
         return MetadataCollections.OBJECTGROUP.getEsClient()
             .search(MetadataCollections.OBJECTGROUP, tenantId, finalQuery, sorts, offset, limit, facets, scrollId,
-                scrollTimeout);
+                scrollTimeout, searchAfter);
     }
 
     /**
@@ -940,67 +1013,212 @@ public class DbRequest {
                 throw new MetaDataNotFoundException("Document not found by id " + documentId);
             }
 
-            final Integer documentVersion = document.getVersion();
-
-            final JsonNode jsonDocument = JsonHandler.toJsonNode(document);
-            if (noChangesAndOpsAlreadyContainingOperation(requestParser, document)) {
-                return new UpdatedDocument(documentId, jsonDocument, jsonDocument);
+            PreparedUpdate update = prepareUpdate(document, requestParser, metadataCollection, ontologyValidator,
+                unitValidator, ontologyModels);
+            if (update.hasNoChanges()) {
+                return update.toUpdatedDocument();
             }
 
-            DynamicParserTokens parserTokens =
-                new DynamicParserTokens(metadataCollection.getVitamDescriptionResolver(), ontologyModels);
-            final MongoDbInMemory mongoInMemory = new MongoDbInMemory(jsonDocument, parserTokens);
-            final ObjectNode updatedJsonDocument = (ObjectNode) mongoInMemory.getUpdateJson(requestParser);
+            UpdateResult result = collection.replaceOne(update.condition, update.finalDocument);
+            if (result.getModifiedCount() == 1) {
+
+                if (metadataCollection == MetadataCollections.UNIT) {
+                    indexFieldsUpdated(update.finalDocument, tenantId);
+                } else {
+                    indexFieldsOGUpdated(update.finalDocument, tenantId);
+                }
+
+                return update.toUpdatedDocument();
 
-            if (metadataCollection == MetadataCollections.UNIT) {
-                fieldHistoryManager.trigger(jsonDocument, updatedJsonDocument);
             }
+            tries++;
+        }
+
+        throw new MetaDataExecutionException("Can not modify document " + documentId);
+    }
 
-            int newDocumentVersion =
-                incrementDocumentVersionIfRequired(metadataCollection, mongoInMemory, documentVersion);
-            updatedJsonDocument.put(VitamDocument.VERSION, newDocumentVersion);
+    private PreparedUpdate prepareUpdate(MetadataDocument<?> document, RequestParserMultiple requestParser,
+        MetadataCollections metadataCollection, OntologyValidator ontologyValidator, UnitValidator unitValidator,
+        List<OntologyModel> ontologyModels) throws InvalidParseOperationException, MetadataValidationException {
 
-            Integer atomicVersion = document.getAtomicVersion();
-            int newAtomicVersion = atomicVersion == null ? newDocumentVersion : atomicVersion + 1;
-            updatedJsonDocument.put(MetadataDocument.ATOMIC_VERSION, newAtomicVersion);
+        final String documentId = document.getId();
+        final Integer documentVersion = document.getVersion();
 
-            // Ontology checks & format transformation
-            final ObjectNode transformedUpdatedDocument =
-                ontologyValidator.verifyAndReplaceFields(updatedJsonDocument);
+        final JsonNode jsonDocument = JsonHandler.toJsonNode(document);
+        if (noChangesAndOpsAlreadyContainingOperation(requestParser, document)) {
+            return new PreparedUpdate(documentId, jsonDocument, jsonDocument, null, null);
+        }
 
-            if (metadataCollection == MetadataCollections.UNIT) {
-                // Unit validation
-                unitValidator.validateUnit(transformedUpdatedDocument);
-            }
+        DynamicParserTokens parserTokens =
+            new DynamicParserTokens(metadataCollection.getVitamDescriptionResolver(), ontologyModels);
+        final MongoDbInMemory mongoInMemory = new MongoDbInMemory(jsonDocument, parserTokens);
+        final ObjectNode updatedJsonDocument = (ObjectNode) mongoInMemory.getUpdateJson(requestParser);
 
-            // Make Update
-            final Bson condition;
-            if (atomicVersion == null) {
-                condition = and(eq(MetadataDocument.ID, documentId),
-                    exists(MetadataDocument.ATOMIC_VERSION, false));
-            } else {
-                condition = and(eq(MetadataDocument.ID, documentId),
-                    eq(MetadataDocument.ATOMIC_VERSION, atomicVersion));
+        if (metadataCollection == MetadataCollections.UNIT) {
+            fieldHistoryManager.trigger(jsonDocument, updatedJsonDocument);
+        }
+
+        int newDocumentVersion =
+            incrementDocumentVersionIfRequired(metadataCollection, mongoInMemory, documentVersion);
+        updatedJsonDocument.put(VitamDocument.VERSION, newDocumentVersion);
+
+        Integer atomicVersion = document.getAtomicVersion();
+        int newAtomicVersion = atomicVersion == null ? newDocumentVersion : atomicVersion + 1;
+        updatedJsonDocument.put(MetadataDocument.ATOMIC_VERSION, newAtomicVersion);
+
+        // Ontology checks & format transformation
+        final ObjectNode transformedUpdatedDocument =
+            ontologyValidator.verifyAndReplaceFields(updatedJsonDocument);
+
+        if (metadataCollection == MetadataCollections.UNIT) {
+            // Unit validation
+            unitValidator.validateUnit(transformedUpdatedDocument);
+        }
+
+        // Make Update
+        final Bson condition;
+        if (atomicVersion == null) {
+            condition = and(eq(MetadataDocument.ID, documentId),
+                exists(MetadataDocument.ATOMIC_VERSION, false));
+        } else {
+            condition = and(eq(MetadataDocument.ID, documentId),
+                eq(MetadataDocument.ATOMIC_VERSION, atomicVersion));
+        }
+        LOGGER.debug("DEBUG update {}", transformedUpdatedDocument);
+        MetadataDocument<?> finalDocument = (MetadataDocument<?>) document.newInstance(transformedUpdatedDocument);
+
+        return new PreparedUpdate(documentId, jsonDocument, transformedUpdatedDocument, finalDocument, condition);
+    }
+
+    private BulkUpdateResult bulkUpdateUnitsWithRetries(Collection<String> documentIds, UpdatePreparer preparer) {
+        final Integer tenantId = ParameterHelper.getTenantParameter();
+        MongoCollection<MetadataDocument<?>> collection = MetadataCollections.UNIT.getCollection();
+        BulkUpdateResult bulkUpdateResult = new BulkUpdateResult();
+
+        Set<String> remainingIds = new LinkedHashSet<>(documentIds);
+        int tries = 0;
+        while (tries < 3 && !remainingIds.isEmpty()) {
+
+            Bson query = and(in(MetadataDocument.ID, remainingIds), eq(MetadataDocument.TENANT_ID, tenantId));
+            Map<String, MetadataDocument<?>> documents = new HashMap<>();
+            try (MongoCursor<MetadataDocument<?>> cursor = collection.find(query).iterator()) {
+                cursor.forEachRemaining(document -> documents.put(document.getId(), document));
+            } catch (MongoException e) {
+                remainingIds.forEach(id -> bulkUpdateResult.addError(id, new MetaDataExecutionException(e)));
+                return bulkUpdateResult;
             }
-            LOGGER.debug("DEBUG update {}", transformedUpdatedDocument);
-            MetadataDocument<?> finalDocument = (MetadataDocument<?>) document.newInstance(transformedUpdatedDocument);
 
-            UpdateResult result = collection.replaceOne(condition, finalDocument);
-            if (result.getModifiedCount() == 1) {
+            List<MetadataDocument<?>> documentsToUpdate = new ArrayList<>();
+            for (String documentId : remainingIds) {
+                MetadataDocument<?> document = documents.get(documentId);
+                if (document == null) {
+                    bulkUpdateResult.addError(documentId,
+                        new MetaDataNotFoundException("Document not found by id " + documentId));
+                } else {
+                    documentsToUpdate.add(document);
+                }
+            }
 
-                if (metadataCollection == MetadataCollections.UNIT) {
-                    indexFieldsUpdated(finalDocument, tenantId);
+            List<PreparedUpdate> updatesToWrite = new ArrayList<>();
+            for (PreparedUpdate update : prepareUpdatesInParallel(documentsToUpdate, preparer)) {
+                if (update.error != null) {
+                    bulkUpdateResult.addError(update.documentId, update.error);
+                } else if (update.hasNoChanges()) {
+                    addUpdatedDocument(bulkUpdateResult, update);
                 } else {
-                    indexFieldsOGUpdated(finalDocument, tenantId);
+                    updatesToWrite.add(update);
+                }
+            }
+
+            remainingIds = writeUpdates(collection, updatesToWrite, tenantId, bulkUpdateResult);
+            tries++;
+        }
+
+        remainingIds.forEach(documentId -> bulkUpdateResult
+            .addError(documentId, new MetaDataExecutionException("Can not modify document " + documentId)));
+        return bulkUpdateResult;
+    }
+
+    private List<PreparedUpdate> prepareUpdatesInParallel(List<MetadataDocument<?>> documents,
+        UpdatePreparer preparer) {
+        if (documents.isEmpty()) {
+            return Collections.emptyList();
+        }
+        final Integer scopedTenant = VitamThreadUtils.getVitamSession().getTenantId();
+        final String scopedXRequestId = VitamThreadUtils.getVitamSession().getRequestId();
+
+        int chunkSize = (documents.size() + BULK_UPDATE_PARALLELISM - 1) / BULK_UPDATE_PARALLELISM;
+        List<CompletableFuture<List<PreparedUpdate>>> futures = Lists.partition(documents, chunkSize).stream()
+            .map(chunk -> CompletableFuture.supplyAsync(() -> {
+                // Pool threads are shared: restore their session once the chunk is prepared
+                final VitamSession previousSession = VitamSession.from(VitamThreadUtils.getVitamSession());
+                try {
+                    VitamThreadUtils.getVitamSession().setTenantId(scopedTenant);
+                    VitamThreadUtils.getVitamSession().setRequestId(scopedXRequestId);
+                    return chunk.stream()
+                        .map(document -> {
+                            try {
+                                return preparer.prepare(document);
+                            } catch (Exception e) {
+                                return PreparedUpdate.failed(document.getId(), e);
+                            }
+                        })
+                        .collect(Collectors.toList());
+                } finally {
+                    VitamThreadUtils.getVitamSession().mutateFrom(previousSession);
                 }
+            }, VitamThreadPoolExecutor.getDefaultExecutor()))
+            .collect(Collectors.toList());
+
+        return futures.stream()
+            .flatMap(future -> future.join().stream())
+            .collect(Collectors.toList());
+    }
 
-                return new UpdatedDocument(documentId, jsonDocument, transformedUpdatedDocument);
+    /**
+     * Write updates concurrently, each one conditioned on the document _v, and index written documents.<br>
+     * A bulk write only reports aggregate counts, so writes are sent one by one : the matched count of each write
+     * tells whether its version condition matched, whatever other writers did to the document afterwards.
+     *
+     * @return ids of the documents updated concurrently, to be retried
+     */
+    private Set<String> writeUpdates(MongoCollection<MetadataDocument<?>> collection,
+        List<PreparedUpdate> updates, Integer tenantId, BulkUpdateResult bulkUpdateResult) {
+        Set<String> conflictingIds = new LinkedHashSet<>();
+        if (updates.isEmpty()) {
+            return conflictingIds;
+        }
 
+        int chunkSize = (updates.size() + BULK_UPDATE_PARALLELISM - 1) / BULK_UPDATE_PARALLELISM;
+        List<CompletableFuture<Void>> writes = Lists.partition(updates, chunkSize).stream()
+            .map(chunk -> CompletableFuture.runAsync(() -> chunk.forEach(update -> update.write(collection)),
+                VitamThreadPoolExecutor.getDefaultExecutor()))
+            .collect(Collectors.toList());
+        CompletableFuture.allOf(writes.toArray(new CompletableFuture[0])).join();
+
+        List<PreparedUpdate> writtenUpdates = new ArrayList<>();
+        for (PreparedUpdate update : updates) {
+            if (update.writeError != null) {
+                bulkUpdateResult.addError(update.documentId, new MetaDataExecutionException(update.writeError));
+            } else if (update.written) {
+                writtenUpdates.add(update);
+            } else {
+                // Version condition did not match: the document was updated concurrently
+                conflictingIds.add(update.documentId);
             }
-            tries++;
         }
 
-        throw new MetaDataExecutionException("Can not modify document " + documentId);
+        if (writtenUpdates.isEmpty()) {
+            return conflictingIds;
+        }
+        try {
+            MetadataCollections.UNIT.getEsClient().insertFullDocuments(MetadataCollections.UNIT, tenantId,
+                writtenUpdates.stream().map(update -> update.finalDocument).collect(Collectors.toList()));
+            writtenUpdates.forEach(update -> addUpdatedDocument(bulkUpdateResult, update));
+        } catch (MetaDataExecutionException e) {
+            writtenUpdates.forEach(update -> bulkUpdateResult.addError(update.documentId, e));
+        }
+        return conflictingIds;
     }
 
     private boolean noChangesAndOpsAlreadyContainingOperation(RequestParserMultiple requestParser,
@@ -1339,4 +1557,77 @@ public class DbRequest {
         mongoDbObjectGroupRepository.delete(documents);
 
     }
+
+    private static void addUpdatedDocument(BulkUpdateResult bulkUpdateResult, PreparedUpdate update) {
+        try {
+            bulkUpdateResult.addUpdatedDocument(update.toUpdatedDocument());
+        } catch (InvalidParseOperationException e) {
+            bulkUpdateResult.addError(update.documentId, e);
+        }
+    }
+
+    @FunctionalInterface
+    private interface UpdatePreparer {
+        PreparedUpdate prepare(MetadataDocument<?> document) throws Exception;
+    }
+
+    /**
+     * Document updated in memory, to be written with its atomic version condition
+     */
+    private static class PreparedUpdate {
+        private final String documentId;
+        private final JsonNode beforeUpdate;
+        /**
+         * null when the after update state is the written document
+         */
+        private final JsonNode afterUpdate;
+        /**
+         * null when there is nothing to write
+         */
+        private final MetadataDocument<?> finalDocument;
+        private final Bson condition;
+        private final Exception error;
+        private volatile boolean written;
+        private volatile MongoException writeError;
+
+        private PreparedUpdate(String documentId, JsonNode beforeUpdate, JsonNode afterUpdate,
+            MetadataDocument<?> finalDocument, Bson condition) {
+            this(documentId, beforeUpdate, afterUpdate, finalDocument, condition, null);
+        }
+
+        private PreparedUpdate(String documentId, JsonNode beforeUpdate, JsonNode afterUpdate,
+            MetadataDocument<?> finalDocument, Bson condition, Exception error) {
+            this.documentId = documentId;
+            this.beforeUpdate = beforeUpdate;
+            this.afterUpdate = afterUpdate;
+            this.finalDocument = finalDocument;
+            this.condition = condition;
+            this.error = error;
+        }
+
+        private static PreparedUpdate failed(String documentId, Exception error) {
+            return new PreparedUpdate(documentId, null, null, null, null, error);
+        }
+
+        private boolean hasNoChanges() {
+            return finalDocument == null;
+        }
+
+        private UpdatedDocument toUpdatedDocument() throws InvalidParseOperationException {
+            JsonNode after = afterUpdate != null ? afterUpdate : JsonHandler.toJsonNode(finalDocument);
+            return new UpdatedDocument(documentId, beforeUpdate, after);
+        }
+
+        /**
+         * Replace the stored document if its version is still the one the update was prepared from
+         */
+        private void write(MongoCollection<MetadataDocument<?>> collection) {
+            try {
+                UpdateResult result = collection.replaceOne(condition, finalDocument);
+                written = result.getMatchedCount() == 1;
+            } catch (MongoException e) {
+                writeError = e;
+            }
+        }
+    }
 }
@@ -112,6 +112,24 @@ public class ElasticsearchAccessMetadata extends ElasticsearchAccess {
         final QueryBuilder query, final List<SortBuilder> sorts, int offset, Integer limit,
         final List<AggregationBuilder> facets, final String scrollId, final Integer scrollTimeout)
         throws MetaDataExecutionException, BadRequestException {
+        return search(collection, tenantId, query, sorts, offset, limit, facets, scrollId, scrollTimeout, null);
+    }
+
+    /**
+     * @param collection
+     * @param tenantId
+     * @param query the elasticsearch query
+     * @param sorts the list of sort
+     * @param facets the list of facet
+     * @param searchAfter the search after cursor, ignored if empty or null
+     * @return a structure as ResultInterface
+     * @throws MetaDataExecutionException
+     */
+    protected final Result search(final MetadataCollections collection, final Integer tenantId,
+        final QueryBuilder query, final List<SortBuilder> sorts, int offset, Integer limit,
+        final List<AggregationBuilder> facets, final String scrollId, final Integer scrollTimeout,
+        final String searchAfter)
+        throws MetaDataExecutionException, BadRequestException {
 
         final SearchResponse response;
         try {
@@ -119,7 +137,7 @@ public class ElasticsearchAccessMetadata extends ElasticsearchAccess {
                 .search(collection.getName().toLowerCase(), tenantId, query, null, MetadataDocument.ES_PROJECTION,
                     sorts,
                     offset,
-                    limit, facets, scrollId, scrollTimeout);
+                    limit, facets, scrollId, scrollTimeout, searchAfter);
         } catch (DatabaseException e) {
             throw new MetaDataExecutionException(e);
         }
@@ -159,6 +177,10 @@ public class ElasticsearchAccessMetadata extends ElasticsearchAccess {
 
         }
 
+        if (searchAfter != null && !searchAfter.isEmpty()) {
+            resultRequest.setSearchAfter(getSearchAfter(response));
+        }
+
         final SearchHits hits = response.getHits();
         if (hits.getHits().length > GlobalDatas.LIMIT_LOAD) {
             LOGGER.warn("Warning, more than " + GlobalDatas.LIMIT_LOAD + " hits: " + hits.getTotalHits());
@@ -33,6 +33,7 @@ import com.mongodb.client.ListIndexesIterable;
 import com.mongodb.client.MongoIterable;
 import com.mongodb.client.result.DeleteResult;
 import fr.gouv.vitam.common.database.server.mongodb.MongoDbAccess;
+import fr.gouv.vitam.common.database.translators.mongodb.JsonNodeCodec;
 import fr.gouv.vitam.common.database.translators.mongodb.VitamDocumentCodec;
 import fr.gouv.vitam.common.exception.DatabaseException;
 import fr.gouv.vitam.common.logging.VitamLogger;
@@ -116,7 +117,7 @@ public class MongoDbAccessMetadataImpl extends MongoDbAccess {
         final VitamDocumentCodec<Unit> unitCodec = new VitamDocumentCodec<>(Unit.class);
         final VitamDocumentCodec<ObjectGroup> objectGroupCodec = new VitamDocumentCodec<>(ObjectGroup.class);
         final CodecRegistry codecRegistry = CodecRegistries
-            .fromRegistries(CodecRegistries.fromCodecs(unitCodec, objectGroupCodec),
+            .fromRegistries(CodecRegistries.fromCodecs(unitCodec, objectGroupCodec, new JsonNodeCodec()),
                 MongoClient.getDefaultCodecRegistry());
         return MongoClientOptions.builder().codecRegistry(codecRegistry).build();
     }
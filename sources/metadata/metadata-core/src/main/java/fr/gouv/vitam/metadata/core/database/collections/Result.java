@@ -102,6 +102,11 @@ public abstract class Result<T> {
      */
     protected String scrollId;
 
+    /**
+     * The searchAfter of the next page
+     */
+    protected String searchAfter;
+
     /**
      * Constructor for empty result
      *
@@ -227,6 +232,26 @@ public abstract class Result<T> {
         return this.scrollId;
     }
 
+    /**
+     * Add the searchAfter of the next page to Result
+     *
+     * @param searchAfter the searchAfter of the next page
+     * @return this
+     */
+    public Result<T> setSearchAfter(String searchAfter) {
+        this.searchAfter = searchAfter;
+        return this;
+    }
+
+    /**
+     * Return the searchAfter of the next page
+     *
+     * @return searchAfter
+     */
+    public String getSearchAfter() {
+        return this.searchAfter;
+    }
+
     /**
      * @return the nbResult
      */
@@ -53,6 +53,24 @@ public class ReconstructionResponseItem {
     @JsonProperty("status")
     private StatusCode status;
 
+    /**
+     * Number of reconstructed (written or deleted) documents.
+     */
+    @JsonProperty("reconstructedDocuments")
+    private long reconstructedDocuments;
+
+    /**
+     * Number of bytes read from offers.
+     */
+    @JsonProperty("reconstructedBytes")
+    private long reconstructedBytes;
+
+    /**
+     * Duration of reconstruction in milliseconds.
+     */
+    @JsonProperty("durationInMilliseconds")
+    private long durationInMilliseconds;
+
     /**
      * Constructor.
      */
@@ -130,5 +148,75 @@ public class ReconstructionResponseItem {
         return this;
     }
 
+    /**
+     * @return the number of reconstructed (written or deleted) documents
+     */
+    public long getReconstructedDocuments() {
+        return reconstructedDocuments;
+    }
+
+    /**
+     * @param reconstructedDocuments the number of reconstructed documents to set
+     * @return this
+     */
+    public ReconstructionResponseItem setReconstructedDocuments(long reconstructedDocuments) {
+        this.reconstructedDocuments = reconstructedDocuments;
+        return this;
+    }
+
+    /**
+     * @return the number of bytes read from offers
+     */
+    public long getReconstructedBytes() {
+        return reconstructedBytes;
+    }
+
+    /**
+     * @param reconstructedBytes the number of bytes read from offers to set
+     * @return this
+     */
+    public ReconstructionResponseItem setReconstructedBytes(long reconstructedBytes) {
+        this.reconstructedBytes = reconstructedBytes;
+        return this;
+    }
+
+    /**
+     * @return the duration of reconstruction in milliseconds
+     */
+    public long getDurationInMilliseconds() {
+        return durationInMilliseconds;
+    }
+
+    /**
+     * @param durationInMilliseconds the duration of reconstruction in milliseconds to set
+     * @return this
+     */
+    public ReconstructionResponseItem setDurationInMilliseconds(long durationInMilliseconds) {
+        this.durationInMilliseconds = durationInMilliseconds;
+        return this;
+    }
+
+    /**
+     * @return the reconstruction throughput in documents per second
+     */
+    @JsonProperty(value = "documentsPerSecond", access = JsonProperty.Access.READ_ONLY)
+    public double getDocumentsPerSecond() {
+        return perSecond(reconstructedDocuments);
+    }
+
+    /**
+     * @return the reconstruction throughput in bytes per second
+     */
+    @JsonProperty(value = "bytesPerSecond", access = JsonProperty.Access.READ_ONLY)
+    public double getBytesPerSecond() {
+        return perSecond(reconstructedBytes);
+    }
+
+    private double perSecond(long count) {
+        if (durationInMilliseconds <= 0) {
+            return 0;
+        }
+        return count * 1000.0 / durationInMilliseconds;
+    }
 
 }
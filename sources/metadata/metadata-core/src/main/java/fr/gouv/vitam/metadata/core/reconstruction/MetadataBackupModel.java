@@ -28,6 +28,7 @@ package fr.gouv.vitam.metadata.core.reconstruction;
 
 import org.bson.Document;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 /**
@@ -53,6 +54,12 @@ public class MetadataBackupModel {
     @JsonProperty("offset")
     private Long offset;
 
+    /**
+     * Size in bytes of the backup file read from offer.
+     */
+    @JsonIgnore
+    private long size;
+
     public Document getMetadatas() {
         return metadatas;
     }
@@ -83,4 +90,14 @@ public class MetadataBackupModel {
         this.offset = offset;
     }
 
+    @JsonIgnore
+    public long getSize() {
+        return size;
+    }
+
+    @JsonIgnore
+    public void setSize(long size) {
+        this.size = size;
+    }
+
 }
@@ -30,6 +30,7 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Stopwatch;
 import com.google.common.collect.Iterables;
 import com.google.common.collect.Iterators;
 import com.mongodb.MongoBulkWriteException;
@@ -59,6 +60,7 @@ import fr.gouv.vitam.common.model.RequestResponse;
 import fr.gouv.vitam.common.model.RequestResponseOK;
 import fr.gouv.vitam.common.model.StatusCode;
 import fr.gouv.vitam.common.storage.compress.VitamArchiveStreamFactory;
+import fr.gouv.vitam.common.thread.VitamThreadPoolExecutor;
 import fr.gouv.vitam.common.thread.VitamThreadUtils;
 import fr.gouv.vitam.logbook.common.exception.LogbookClientBadRequestException;
 import fr.gouv.vitam.logbook.common.exception.LogbookClientException;
@@ -94,7 +96,12 @@ import java.nio.file.StandardCopyOption;
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 import static com.mongodb.client.model.Filters.and;
@@ -109,6 +116,8 @@ import static fr.gouv.vitam.common.database.utils.MetadataDocumentHelper.getComp
 
 /**
  * Reconstruction of Vitam Metadata Collections.<br>
+ * Backup files of a bulk are loaded from offers in parallel, and the next bulk is listed and loaded while the current
+ * one is written to databases.
  */
 public class ReconstructionService {
 
@@ -132,6 +141,8 @@ public class ReconstructionService {
 
     private OffsetRepository offsetRepository;
 
+    private final ExecutorService loadExecutor;
+
     /**
      * Constructor
      *
@@ -162,6 +173,11 @@ public class ReconstructionService {
         this.logbookLifeCyclesClientFactory = logbookLifecycleClientFactory;
         this.storageClientFactory = storageClientFactory;
         this.offsetRepository = offsetRepository;
+        int loadThreadPoolSize = VitamConfiguration.getRestoreThreadPoolSize();
+        VitamThreadPoolExecutor executor = new VitamThreadPoolExecutor(loadThreadPoolSize, loadThreadPoolSize, 60L,
+            TimeUnit.SECONDS, new LinkedBlockingQueue<>());
+        executor.allowCoreThreadTimeOut(true);
+        this.loadExecutor = executor;
     }
 
     /**
@@ -299,16 +315,23 @@ public class ReconstructionService {
                 collection.name(), tenant, limit));
         ReconstructionResponseItem response =
                 new ReconstructionResponseItem().setCollection(collection.name()).setTenant(tenant).setStatus(StatusCode.OK);
-        
+        Stopwatch stopwatch = Stopwatch.createStarted();
+
         final List<String> strategies = loadStrategies();
 
         for(String strategy : strategies) { 
-            StatusCode currentStatusCode = reconstructCollection(collection, tenant, strategy, limit);
+            StatusCode currentStatusCode = reconstructCollection(collection, tenant, strategy, limit, response);
             if(currentStatusCode.getStatusLevel() > response.getStatus().getStatusLevel()) {
                 response.setStatus(currentStatusCode);
             }
         }
-        
+
+        response.setDurationInMilliseconds(stopwatch.elapsed(TimeUnit.MILLISECONDS));
+        LOGGER.info(String.format(
+            "[Reconstruction]: %s documents (%s bytes) of the {%s} collection reconstructed on the tenant {%s} in %s ms (%.1f docs/s, %.1f bytes/s)",
+            response.getReconstructedDocuments(), response.getReconstructedBytes(), collection.name(), tenant,
+            response.getDurationInMilliseconds(), response.getDocumentsPerSecond(), response.getBytesPerSecond()));
+
         return response;
     }
 
@@ -340,7 +363,8 @@ public class ReconstructionService {
         }
     }
     
-    private StatusCode reconstructCollection(MetadataCollections collection, int tenant, String strategy, int limit) {
+    private StatusCode reconstructCollection(MetadataCollections collection, int tenant, String strategy, int limit,
+        ReconstructionResponseItem response) {
         StatusCode resultStatusCode;
         final long offset = offsetRepository.findOffsetBy(tenant, strategy, collection.getName());
         LOGGER.info(String.format(
@@ -375,35 +399,31 @@ public class ReconstructionService {
             Iterator<List<OfferLog>> bulkListing = 
                 Iterators.partition(listing, VitamConfiguration.getRestoreBulkSize());
 
-            while (bulkListing.hasNext()) {
-
-                List<OfferLog> listingBulk = bulkListing.next();
-
-                List<OfferLog> writtenMetadata = new ArrayList<>();
-                List<String> deletedMetadataIds = new ArrayList<>();
+            CompletableFuture<ReconstructionBulk> nextBulk = prefetchBulk(collection, tenant, strategy, bulkListing);
+            ReconstructionBulk bulk;
 
-                for (OfferLog offerLog : listingBulk) {
+            while ((bulk = awaitCompletion(nextBulk)) != null) {
 
-                    switch (offerLog.getAction()) {
+                // List & load next bulk from offer while the current one is written to databases
+                nextBulk = prefetchBulk(collection, tenant, strategy, bulkListing);
 
-                    case WRITE:
-                        writtenMetadata.add(offerLog);
-                        break;
-
-                    case DELETE:
-                        deletedMetadataIds.add(metadataFilenameToGuid(offerLog.getFileName()));
-                        break;
+                try {
+                    processWrittenMetadata(collection, tenant, strategy, bulk.writtenMetadata, bulk.dataFromOffer);
 
-                    default:
-                        throw new UnsupportedOperationException("Unsupported offer log action " + offerLog.getAction());
-                    }
+                    processDeletedMetadata(collection, bulk.deletedMetadataIds);
+                } catch (LogbookClientException | InvalidParseOperationException | StorageException |
+                    DatabaseException | RuntimeException e) {
+                    // Offset is not updated, so prefetched bulk is dropped
+                    nextBulk.cancel(false);
+                    throw e;
                 }
 
-                processWrittenMetadata(collection, tenant, strategy, writtenMetadata);
+                newOffset = Iterables.getLast(bulk.listingBulk).getSequence();
 
-                processDeletedMetadata(collection, deletedMetadataIds);
-
-                newOffset = Iterables.getLast(listingBulk).getSequence();
+                response.setReconstructedDocuments(response.getReconstructedDocuments() +
+                    bulk.dataFromOffer.size() + bulk.deletedMetadataIds.size());
+                response.setReconstructedBytes(response.getReconstructedBytes() +
+                    bulk.dataFromOffer.stream().mapToLong(MetadataBackupModel::getSize).sum());
 
                 // log the reconstruction of Vitam collection.
                 LOGGER.info(String.format(
@@ -430,16 +450,21 @@ public class ReconstructionService {
     /**
      * reconstruct Vitam collection from the backup data.
      */
-    private void processWrittenMetadata(MetadataCollections collection, int tenant, String strategy, List<OfferLog> writtenMetadata)
+    private void processWrittenMetadata(MetadataCollections collection, int tenant, String strategy,
+        List<OfferLog> writtenMetadata, List<MetadataBackupModel> prefetchedData)
         throws StorageException, DatabaseException, LogbookClientException, InvalidParseOperationException {
 
         if (writtenMetadata.isEmpty()) {
             return;
         }
 
+        List<MetadataBackupModel> dataFromOffer = prefetchedData;
+
         for (int retry = VitamConfiguration.getOptimisticLockRetryNumber(); retry > 0; retry--) {
 
-            List<MetadataBackupModel> dataFromOffer = loadMetadataSet(collection, tenant, strategy, writtenMetadata);
+            if (dataFromOffer == null) {
+                dataFromOffer = loadMetadataSet(collection, tenant, strategy, writtenMetadata);
+            }
 
             if (dataFromOffer.isEmpty()) {
                 // NOP
@@ -460,6 +485,8 @@ public class ReconstructionService {
                 }
 
                 LOGGER.warn("[Reconstruction]: [Optimistic_Lock]: optimistic lock occurs while reconstruct AU/GOT");
+                // Reload data from offer on retry
+                dataFromOffer = null;
 
                 try {
                     Thread.sleep(
@@ -475,36 +502,119 @@ public class ReconstructionService {
         throw new DatabaseException("Optimistic lock number of retry reached");
     }
 
+    /**
+     * Lists the next bulk of offer logs and loads its backup files, asynchronously.
+     *
+     * @return the future bulk, completed with null when listing is over
+     */
+    private CompletableFuture<ReconstructionBulk> prefetchBulk(MetadataCollections collection, int tenant,
+        String strategy, Iterator<List<OfferLog>> bulkListing) {
+
+        final String requestId = VitamThreadUtils.getVitamSession().getRequestId();
+
+        return CompletableFuture.supplyAsync(() -> {
+            VitamThreadUtils.getVitamSession().setTenantId(tenant);
+            VitamThreadUtils.getVitamSession().setRequestId(requestId);
+
+            if (!bulkListing.hasNext()) {
+                return null;
+            }
+
+            ReconstructionBulk bulk = new ReconstructionBulk(bulkListing.next());
+            for (OfferLog offerLog : bulk.listingBulk) {
+
+                switch (offerLog.getAction()) {
+
+                case WRITE:
+                    bulk.writtenMetadata.add(offerLog);
+                    break;
+
+                case DELETE:
+                    bulk.deletedMetadataIds.add(metadataFilenameToGuid(offerLog.getFileName()));
+                    break;
+
+                default:
+                    throw new UnsupportedOperationException("Unsupported offer log action " + offerLog.getAction());
+                }
+            }
+
+            try {
+                bulk.dataFromOffer = loadMetadataSet(collection, tenant, strategy, bulk.writtenMetadata);
+            } catch (StorageException e) {
+                throw new CompletionException(e);
+            }
+            return bulk;
+        }, VitamThreadPoolExecutor.getDefaultExecutor());
+    }
+
     private List<MetadataBackupModel> loadMetadataSet(MetadataCollections collection, int tenant, String strategy,
         List<OfferLog> writtenMetadata) throws StorageException {
 
-        // FIXME : parallel processing
-        List<MetadataBackupModel> dataFromOffer = new ArrayList<>();
-        for (OfferLog offerLog : writtenMetadata) {
+        final String requestId = VitamThreadUtils.getVitamSession().getRequestId();
 
-            try {
-                MetadataBackupModel model = restoreBackupService
-                    .loadData(strategy, collection, offerLog.getFileName(), 
-                        offerLog.getSequence());
-
-                if (model.getMetadatas() == null || model.getLifecycle() == null || model.getOffset() == null) {
-                    throw new StorageException(String.format(
-                        "[Reconstruction]: Invalid data to reconstruct in file {%s} for the collection {%s} on the tenant {%s}",
-                        offerLog.getFileName(), collection, tenant));
+        List<CompletableFuture<MetadataBackupModel>> futures = new ArrayList<>();
+        for (OfferLog offerLog : writtenMetadata) {
+            futures.add(CompletableFuture.supplyAsync(() -> {
+                VitamThreadUtils.getVitamSession().setTenantId(tenant);
+                VitamThreadUtils.getVitamSession().setRequestId(requestId);
+                try {
+                    return loadMetadata(collection, tenant, strategy, offerLog);
+                } catch (StorageException e) {
+                    throw new CompletionException(e);
                 }
+            }, loadExecutor));
+        }
 
+        // Keep offer log order
+        List<MetadataBackupModel> dataFromOffer = new ArrayList<>();
+        for (CompletableFuture<MetadataBackupModel> future : futures) {
+            MetadataBackupModel model = awaitCompletion(future);
+            if (model != null) {
                 dataFromOffer.add(model);
+            }
+        }
+        return dataFromOffer;
+    }
 
-            } catch (StorageNotFoundException ex) {
-                // 2 possibilities :
-                // - File have never been written to offer (atomic commit bug in offer. Should be fixed in dedicated bug)
-                // - File have been deleted meanwhile (it's ok to skip)
-                LOGGER.warn(String.format(
-                    "[Reconstruction]: Could not find file {%s} for the collection {%s} on the tenant {%s}. Corrupted file (atomicity bug) OR eliminated? ",
+    private MetadataBackupModel loadMetadata(MetadataCollections collection, int tenant, String strategy,
+        OfferLog offerLog) throws StorageException {
+        try {
+            MetadataBackupModel model = restoreBackupService
+                .loadData(strategy, collection, offerLog.getFileName(), 
+                    offerLog.getSequence());
+
+            if (model == null || model.getMetadatas() == null || model.getLifecycle() == null ||
+                model.getOffset() == null) {
+                throw new StorageException(String.format(
+                    "[Reconstruction]: Invalid data to reconstruct in file {%s} for the collection {%s} on the tenant {%s}",
                     offerLog.getFileName(), collection, tenant));
             }
+
+            return model;
+
+        } catch (StorageNotFoundException ex) {
+            // 2 possibilities :
+            // - File have never been written to offer (atomic commit bug in offer. Should be fixed in dedicated bug)
+            // - File have been deleted meanwhile (it's ok to skip)
+            LOGGER.warn(String.format(
+                "[Reconstruction]: Could not find file {%s} for the collection {%s} on the tenant {%s}. Corrupted file (atomicity bug) OR eliminated? ",
+                offerLog.getFileName(), collection, tenant));
+            return null;
+        }
+    }
+
+    private static <T> T awaitCompletion(CompletableFuture<T> future) throws StorageException {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof StorageException) {
+                throw (StorageException) e.getCause();
+            }
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new VitamRuntimeException(e.getCause());
         }
-        return dataFromOffer;
     }
 
     private void processDeletedMetadata(MetadataCollections collection, List<String> deletedMetadataIds)
@@ -848,4 +958,18 @@ public class ReconstructionService {
             LOGGER.error("[Reconstruction]: Error while remove older documents having only graph data", e);
         }
     }
+
+    /**
+     * A bulk of offer logs with its backup files loaded from offer.
+     */
+    private static class ReconstructionBulk {
+        private final List<OfferLog> listingBulk;
+        private final List<OfferLog> writtenMetadata = new ArrayList<>();
+        private final List<String> deletedMetadataIds = new ArrayList<>();
+        private List<MetadataBackupModel> dataFromOffer;
+
+        private ReconstructionBulk(List<OfferLog> listingBulk) {
+            this.listingBulk = listingBulk;
+        }
+    }
 }
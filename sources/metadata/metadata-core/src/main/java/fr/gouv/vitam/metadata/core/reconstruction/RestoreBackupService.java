@@ -27,6 +27,7 @@
 package fr.gouv.vitam.metadata.core.reconstruction;
 
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.io.CountingInputStream;
 import fr.gouv.vitam.common.accesslog.AccessLogUtils;
 import fr.gouv.vitam.common.exception.InvalidParseOperationException;
 import fr.gouv.vitam.common.exception.VitamRuntimeException;
@@ -130,11 +131,13 @@ public class RestoreBackupService {
                 default:
                     throw new IllegalArgumentException(String.format("ERROR: Invalid collection {%s}", collection));
             }
-            inputStream = loadData(strategy, type, filename);
+            CountingInputStream countingInputStream = new CountingInputStream(loadData(strategy, type, filename));
+            inputStream = countingInputStream;
             MetadataBackupModel metadataBackupModel =
                 JsonHandler.getFromInputStream(inputStream, MetadataBackupModel.class);
             if (metadataBackupModel.getMetadatas() != null && metadataBackupModel.getLifecycle() != null) {
                 metadataBackupModel.setOffset(offset);
+                metadataBackupModel.setSize(countingInputStream.getCount());
                 return metadataBackupModel;
             }
         } catch (InvalidParseOperationException e) {
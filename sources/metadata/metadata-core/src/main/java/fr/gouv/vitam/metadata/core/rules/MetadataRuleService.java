@@ -26,9 +26,12 @@
  */
 package fr.gouv.vitam.metadata.core.rules;
 
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.Timer;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.Iterables;
 import fr.gouv.vitam.common.database.builder.query.VitamFieldsHelper;
 import fr.gouv.vitam.common.database.builder.request.configuration.BuilderToken;
 import fr.gouv.vitam.common.database.builder.request.multiple.SelectMultiQuery;
@@ -41,8 +44,10 @@ import fr.gouv.vitam.common.exception.VitamDBException;
 import fr.gouv.vitam.common.json.JsonHandler;
 import fr.gouv.vitam.common.logging.VitamLogger;
 import fr.gouv.vitam.common.logging.VitamLoggerFactory;
+import fr.gouv.vitam.common.metrics.VitamMetricRegistry;
 import fr.gouv.vitam.common.model.RequestResponse;
 import fr.gouv.vitam.common.model.RequestResponseOK;
+import fr.gouv.vitam.common.serverv2.application.CommonBusinessApplication;
 import fr.gouv.vitam.metadata.api.exception.MetaDataDocumentSizeException;
 import fr.gouv.vitam.metadata.api.exception.MetaDataExecutionException;
 import fr.gouv.vitam.metadata.api.exception.MetaDataNotFoundException;
@@ -74,15 +79,27 @@ public class MetadataRuleService {
 
     private final ComputeInheritedRuleService computeInheritedRuleService;
     private final MetaDataImpl metaData;
+    private final UnitRuleModelCache unitRuleModelCache;
+    private final Timer unitRuleLoadTimer = new Timer();
 
     public MetadataRuleService(MetaDataImpl metaData) {
         this(new ComputeInheritedRuleService(), metaData);
+        registerMetrics(CommonBusinessApplication.getBusinessMetricsRegistry());
     }
 
     @VisibleForTesting
     MetadataRuleService(ComputeInheritedRuleService computeInheritedRuleService, MetaDataImpl metaData) {
         this.computeInheritedRuleService = computeInheritedRuleService;
         this.metaData = metaData;
+        this.unitRuleModelCache = metaData.getUnitRuleModelCache();
+    }
+
+    private void registerMetrics(VitamMetricRegistry registry) {
+        registry.register("Unit rule cache hit rate", (Gauge<Double>) () -> unitRuleModelCache.stats().hitRate());
+        registry.register("Unit rule cache hits", (Gauge<Long>) () -> unitRuleModelCache.stats().hitCount());
+        registry.register("Unit rule cache misses", (Gauge<Long>) () -> unitRuleModelCache.stats().missCount());
+        registry.register("Unit rule cache size", (Gauge<Long>) unitRuleModelCache::size);
+        registry.register("Unit rule load", unitRuleLoadTimer);
     }
 
     /**
@@ -152,11 +169,30 @@ public class MetadataRuleService {
         // Result map
         Map<String, UnitRuleModel> unitRulesById = new HashMap<>();
 
+        // Requested units are always loaded from database. Ancestors are served from cache when available and
+        // still up to date.
+        Set<String> requestedUnitIds = new HashSet<>(unitIds);
+
         // The remaining units to load
         Set<String> unitsToLoad = new HashSet<>(unitIds);
 
         while (!unitsToLoad.isEmpty()) {
 
+            Set<String> ancestorsToLoad = unitsToLoad.stream()
+                .filter(unitId -> !requestedUnitIds.contains(unitId))
+                .collect(Collectors.toSet());
+            if (!ancestorsToLoad.isEmpty()) {
+                Map<String, UnitRuleModel> cachedUnitRules =
+                    retainUpToDateUnitRules(unitRuleModelCache.getAllPresent(ancestorsToLoad));
+                for (UnitRuleModel unitRuleModel : cachedUnitRules.values()) {
+                    addUnitRule(unitRuleModel, unitRulesById, unitsToLoad);
+                }
+                unitsToLoad.removeAll(cachedUnitRules.keySet());
+                if (unitsToLoad.isEmpty()) {
+                    break;
+                }
+            }
+
             // Load units by bulk (ES $in query size is limited)
             Set<String> bulkIds = unitsToLoad.stream()
                 .limit(MAX_ELASTIC_SEARCH_IN_REQUEST_SIZE)
@@ -168,14 +204,13 @@ public class MetadataRuleService {
             }
 
             // Load bulk units
-            List<UnitRuleModel> foundUnitRules = loadBulkUnitRules(bulkIds);
+            List<UnitRuleModel> foundUnitRules;
+            try (Timer.Context ignored = unitRuleLoadTimer.time()) {
+                foundUnitRules = loadBulkUnitRules(bulkIds);
+            }
             for (UnitRuleModel unitRuleModel : foundUnitRules) {
-                unitRulesById.put(unitRuleModel.getId(), unitRuleModel);
-                for (String up : unitRuleModel.getUp()) {
-                    if (!unitRulesById.containsKey(up)) {
-                        unitsToLoad.add(up);
-                    }
-                }
+                addUnitRule(unitRuleModel, unitRulesById, unitsToLoad);
+                unitRuleModelCache.put(unitRuleModel);
             }
 
             unitsToLoad.removeAll(bulkIds);
@@ -197,6 +232,73 @@ public class MetadataRuleService {
         return unitRulesById;
     }
 
+    private void addUnitRule(UnitRuleModel unitRuleModel, Map<String, UnitRuleModel> unitRulesById,
+        Set<String> unitsToLoad) {
+        unitRulesById.put(unitRuleModel.getId(), unitRuleModel);
+        for (String up : unitRuleModel.getUp()) {
+            if (!unitRulesById.containsKey(up)) {
+                unitsToLoad.add(up);
+            }
+        }
+    }
+
+    /**
+     * Cached entries may be stale when units have been updated through another metadata server. Current unit versions
+     * (_v) are checked by bulk, and only entries of unchanged units are retained.
+     *
+     * @param cachedUnitRules cached unit rules by unit id
+     * @return up to date unit rules by unit id
+     */
+    private Map<String, UnitRuleModel> retainUpToDateUnitRules(Map<String, UnitRuleModel> cachedUnitRules)
+        throws InvalidParseOperationException, MetaDataNotFoundException, MetaDataDocumentSizeException,
+        MetaDataExecutionException, BadRequestException, VitamDBException {
+
+        Map<String, UnitRuleModel> upToDateUnitRules = new HashMap<>();
+        for (List<String> bulkIds : Iterables
+            .partition(cachedUnitRules.keySet(), MAX_ELASTIC_SEARCH_IN_REQUEST_SIZE)) {
+
+            Map<String, Integer> currentVersions = loadBulkUnitVersions(bulkIds);
+            for (String unitId : bulkIds) {
+                UnitRuleModel unitRuleModel = cachedUnitRules.get(unitId);
+                Integer currentVersion = currentVersions.get(unitId);
+                if (currentVersion != null && currentVersion.equals(unitRuleModel.getVersion())) {
+                    upToDateUnitRules.put(unitId, unitRuleModel);
+                }
+            }
+        }
+
+        List<String> staleUnitIds = cachedUnitRules.keySet().stream()
+            .filter(unitId -> !upToDateUnitRules.containsKey(unitId))
+            .collect(Collectors.toList());
+        if (!staleUnitIds.isEmpty()) {
+            unitRuleModelCache.invalidate(staleUnitIds);
+        }
+        return upToDateUnitRules;
+    }
+
+    private Map<String, Integer> loadBulkUnitVersions(List<String> unitIds)
+        throws InvalidParseOperationException, MetaDataNotFoundException, MetaDataDocumentSizeException,
+        MetaDataExecutionException, BadRequestException, VitamDBException {
+
+        SelectMultiQuery select = new SelectMultiQuery();
+        select.addRoots(unitIds.toArray(new String[0]));
+        select.addUsedProjection(
+            VitamFieldsHelper.id(),
+            VitamFieldsHelper.version());
+
+        RequestResponseOK<JsonNode> response =
+            (RequestResponseOK<JsonNode>) metaData.selectUnitsByQuery(select.getFinalSelect());
+
+        Map<String, Integer> versions = new HashMap<>();
+        for (JsonNode unit : response.getResults()) {
+            JsonNode version = unit.get(VitamFieldsHelper.version());
+            if (version != null) {
+                versions.put(unit.get(VitamFieldsHelper.id()).asText(), version.asInt());
+            }
+        }
+        return versions;
+    }
+
     private List<UnitRuleModel> loadBulkUnitRules(Set<String> unitIds)
         throws InvalidParseOperationException, MetaDataNotFoundException, MetaDataDocumentSizeException,
         MetaDataExecutionException, BadRequestException, VitamDBException {
@@ -207,7 +309,8 @@ public class MetadataRuleService {
             VitamFieldsHelper.id(),
             VitamFieldsHelper.unitups(),
             VitamFieldsHelper.originatingAgency(),
-            VitamFieldsHelper.management());
+            VitamFieldsHelper.management(),
+            VitamFieldsHelper.version());
 
         RequestResponseOK<JsonNode> response =
             (RequestResponseOK<JsonNode>) metaData.selectUnitsByQuery(select.getFinalSelect());
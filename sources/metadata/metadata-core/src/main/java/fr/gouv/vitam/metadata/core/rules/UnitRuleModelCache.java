@@ -0,0 +1,110 @@
+/*
+ * Copyright French Prime minister Office/SGMAP/DINSIC/Vitam Program (2015-2020)
+ *
+ * contact.vitam@culture.gouv.fr
+ *
+ * This software is a computer program whose purpose is to implement a digital archiving back-office system managing
+ * high volumetry securely and efficiently.
+ *
+ * This software is governed by the CeCILL 2.1 license under French law and abiding by the rules of distribution of free
+ * software. You can use, modify and/ or redistribute the software under the terms of the CeCILL 2.1 license as
+ * circulated by CEA, CNRS and INRIA at the following URL "https://cecill.info".
+ *
+ * As a counterpart to the access to the source code and rights to copy, modify and redistribute granted by the license,
+ * users are provided only with a limited warranty and the software's author, the holder of the economic rights, and the
+ * successive licensors have only limited liability.
+ *
+ * In this respect, the user's attention is drawn to the risks associated with loading, using, modifying and/or
+ * developing or reproducing the software by the user in light of its specific status of free software, that may mean
+ * that it is complicated to manipulate, and that also therefore means that it is reserved for developers and
+ * experienced professionals having in-depth computer knowledge. Users are therefore encouraged to load and test the
+ * software's suitability as regards their requirements in conditions enabling the security of their systems and/or data
+ * to be ensured and, more generally, to use and operate it in the same conditions as regards security.
+ *
+ * The fact that you are presently reading this means that you have had knowledge of the CeCILL 2.1 license and that you
+ * accept its terms.
+ */
+package fr.gouv.vitam.metadata.core.rules;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import fr.gouv.vitam.common.model.rules.UnitRuleModel;
+import fr.gouv.vitam.common.thread.VitamThreadUtils;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Cache of unit graph & rule information, shared between requests of a metadata server.<br>
+ * Entries are evicted when their unit is updated or deleted through this server, and expire after a timeout in any
+ * case. Units updated through another metadata server are detected by callers, which check the cached unit version
+ * (_v) before use.
+ */
+public class UnitRuleModelCache {
+
+    private final Cache<String, UnitRuleModel> unitRuleModelCache;
+
+    public UnitRuleModelCache(int maxEntriesInCache, int cacheTimeoutInSeconds) {
+        this.unitRuleModelCache = CacheBuilder.newBuilder()
+            // Max entries in cache
+            .maximumSize(maxEntriesInCache)
+            // Write timeout
+            .expireAfterWrite(cacheTimeoutInSeconds, TimeUnit.SECONDS)
+            .recordStats()
+            .build();
+    }
+
+    /**
+     * @param unitIds unit ids
+     * @return cached unit rules by unit id, for units of current tenant
+     */
+    public Map<String, UnitRuleModel> getAllPresent(Collection<String> unitIds) {
+        String prefix = keyPrefix();
+        Map<String, UnitRuleModel> unitRulesByKey = this.unitRuleModelCache.getAllPresent(
+            unitIds.stream().map(unitId -> prefix + unitId).collect(Collectors.toList()));
+
+        Map<String, UnitRuleModel> unitRulesById = new HashMap<>();
+        for (UnitRuleModel unitRuleModel : unitRulesByKey.values()) {
+            unitRulesById.put(unitRuleModel.getId(), unitRuleModel);
+        }
+        return unitRulesById;
+    }
+
+    /**
+     * @param unitRuleModel unit rules of a unit of current tenant
+     */
+    public void put(UnitRuleModel unitRuleModel) {
+        this.unitRuleModelCache.put(keyPrefix() + unitRuleModel.getId(), unitRuleModel);
+    }
+
+    /**
+     * Evicts units of current tenant
+     *
+     * @param unitIds updated or deleted unit ids
+     */
+    public void invalidate(Collection<String> unitIds) {
+        String prefix = keyPrefix();
+        this.unitRuleModelCache.invalidateAll(
+            unitIds.stream().map(unitId -> prefix + unitId).collect(Collectors.toList()));
+    }
+
+    public void invalidateAll() {
+        this.unitRuleModelCache.invalidateAll();
+    }
+
+    public long size() {
+        return this.unitRuleModelCache.size();
+    }
+
+    public CacheStats stats() {
+        return this.unitRuleModelCache.stats();
+    }
+
+    private static String keyPrefix() {
+        return VitamThreadUtils.getVitamSession().getTenantId() + "/";
+    }
+}
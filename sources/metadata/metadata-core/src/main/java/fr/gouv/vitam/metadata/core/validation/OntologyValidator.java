@@ -37,6 +37,7 @@ import com.fasterxml.jackson.databind.node.TextNode;
 import fr.gouv.vitam.common.CharsetUtils;
 import fr.gouv.vitam.common.VitamConfiguration;
 import fr.gouv.vitam.common.client.OntologyLoader;
+import fr.gouv.vitam.common.database.collections.OntologyIndex;
 import fr.gouv.vitam.common.model.administration.OntologyModel;
 import org.apache.commons.lang3.BooleanUtils;
 
@@ -52,7 +53,6 @@ import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 import static java.time.format.DateTimeFormatter.ISO_LOCAL_DATE;
 import static java.time.format.DateTimeFormatter.ISO_LOCAL_DATE_TIME;
@@ -82,9 +82,7 @@ public class OntologyValidator {
 
         ObjectNode transformedJsonNode = jsonNode.deepCopy();
 
-        List<OntologyModel> ontologyModels = ontologyLoader.loadOntologies();
-        Map<String, OntologyModel> ontologyModelMap =
-            ontologyModels.stream().collect(Collectors.toMap(OntologyModel::getIdentifier, oM -> oM));
+        Map<String, OntologyModel> ontologyModelMap = OntologyIndex.of(ontologyLoader.loadOntologies()).asMap();
 
         List<String> errors = new ArrayList<>();
         Iterator<Map.Entry<String, JsonNode>> iterator = transformedJsonNode.fields();
@@ -44,6 +44,7 @@ import fr.gouv.vitam.common.model.RequestResponseOK;
 import fr.gouv.vitam.common.model.StatusCode;
 import fr.gouv.vitam.common.model.administration.OntologyModel;
 import fr.gouv.vitam.common.model.administration.OntologyType;
+import fr.gouv.vitam.common.model.massupdate.RuleActions;
 import fr.gouv.vitam.common.thread.RunWithCustomExecutor;
 import fr.gouv.vitam.common.thread.RunWithCustomExecutorRule;
 import fr.gouv.vitam.common.thread.VitamThreadPoolExecutor;
@@ -62,6 +63,7 @@ import fr.gouv.vitam.metadata.core.database.collections.ObjectGroup;
 import fr.gouv.vitam.metadata.core.database.collections.Result;
 import fr.gouv.vitam.metadata.core.database.collections.ResultDefault;
 import fr.gouv.vitam.metadata.core.database.collections.Unit;
+import fr.gouv.vitam.metadata.core.model.BulkUpdateResult;
 import fr.gouv.vitam.metadata.core.model.UpdateUnit;
 import fr.gouv.vitam.metadata.core.model.UpdatedDocument;
 import fr.gouv.vitam.metadata.core.validation.OntologyValidator;
@@ -79,8 +81,12 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map.Entry;
 
+import static fr.gouv.vitam.common.model.StatusCode.FATAL;
+import static fr.gouv.vitam.common.model.StatusCode.KO;
 import static fr.gouv.vitam.common.model.StatusCode.OK;
+import static fr.gouv.vitam.metadata.core.model.UpdateUnitKey.UNIT_METADATA_NO_CHANGES;
 import static fr.gouv.vitam.metadata.core.model.UpdateUnitKey.UNIT_METADATA_UPDATE;
+import static fr.gouv.vitam.metadata.core.model.UpdateUnitKey.UNIT_UNKNOWN_OR_FORBIDDEN;
 import static java.util.Collections.emptyList;
 import static java.util.Collections.emptySet;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -92,6 +98,7 @@ import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isA;
@@ -163,7 +170,7 @@ public class MetaDataImplTest {
 
         metaDataImpl =
             new MetaDataImpl(mongoDbAccessFactory, adminManagementClientFactory, indexationHelper, request,
-                100, 300, 100, 300, 100, 300);
+                100, 300, 100, 300, 100, 300, 100, 300);
 
         VitamThreadUtils.getVitamSession().setTenantId(0);
         VitamThreadUtils.getVitamSession().setRequestId(GUIDFactory.newRequestIdGUID(0));
@@ -429,11 +436,13 @@ public class MetaDataImplTest {
             new ResultDefault(FILTERARGS.UNITS).addFinal(unit1Before),
             new ResultDefault(FILTERARGS.UNITS).addFinal(unit2Before));
 
-        when(request.execUpdateRequest(any(), any(), eq(MetadataCollections.UNIT), any(OntologyValidator.class),
-            any(UnitValidator.class), anyList()))
-            .thenReturn(
-                new UpdatedDocument("unit1", JsonHandler.toJsonNode(unit1Before), JsonHandler.toJsonNode(unit1After)),
-                new UpdatedDocument("unit2", JsonHandler.toJsonNode(unit2Before), JsonHandler.toJsonNode(unit2After)));
+        when(request.execBulkUpdateRequest(any(), any(),
+            any(OntologyValidator.class), any(UnitValidator.class), anyList()))
+            .thenReturn(new BulkUpdateResult()
+                .addUpdatedDocument(new UpdatedDocument("unitId1", JsonHandler.toJsonNode(unit1Before),
+                    JsonHandler.toJsonNode(unit1After)))
+                .addUpdatedDocument(new UpdatedDocument("unitId2", JsonHandler.toJsonNode(unit2Before),
+                    JsonHandler.toJsonNode(unit2After))));
 
         // When
         final JsonNode updateRequest = JsonHandler.getFromFile(PropertiesUtils.findFile("updateUnits.json"));
@@ -452,6 +461,61 @@ public class MetaDataImplTest {
             );
     }
 
+    @Test
+    public void testBulkUnitUpdate_WithErrors() throws Exception {
+        when(adminManagementClient.findOntologies(any()))
+            .thenReturn(new RequestResponseOK<OntologyModel>().addAllResults(emptyList()));
+
+        when(request.execBulkUpdateRequest(any(), any(),
+            any(OntologyValidator.class), any(UnitValidator.class), anyList()))
+            .thenReturn(new BulkUpdateResult()
+                .addError("unitId1", new MetaDataNotFoundException("Document not found by id unitId1"))
+                .addError("unitId2", new MetaDataExecutionException("Can not modify document unitId2")));
+
+        // When
+        final JsonNode updateRequest = JsonHandler.getFromFile(PropertiesUtils.findFile("updateUnits.json"));
+        RequestResponseOK<UpdateUnit> requestResponse =
+            (RequestResponseOK<UpdateUnit>) metaDataImpl.updateUnits(updateRequest);
+
+        // Then
+        assertThat(requestResponse.getResults().stream())
+            .extracting(UpdateUnit::getUnitId, UpdateUnit::getStatus, UpdateUnit::getKey, UpdateUnit::getMessage)
+            .containsExactlyInAnyOrder(
+                tuple("unitId1", KO, UNIT_UNKNOWN_OR_FORBIDDEN, "Document not found by id unitId1"),
+                tuple("unitId2", FATAL, UNIT_METADATA_UPDATE, "Can not modify document unitId2")
+            );
+    }
+
+    @Test
+    public void testBulkUnitRulesUpdate_OK() throws Exception {
+        when(adminManagementClient.findOntologies(any()))
+            .thenReturn(new RequestResponseOK<OntologyModel>().addAllResults(emptyList()));
+
+        final Unit unitBefore = createSelectUnitResult("unitId1", "value v1");
+        final Unit unitAfter = createSelectUnitResult("unitId1", "value v2");
+        RuleActions ruleActions = new RuleActions();
+
+        when(request.execBulkRuleRequest(eq(Arrays.asList("unitId1", "unitId2")), eq(ruleActions), anyMap(),
+            any(OntologyValidator.class), any(UnitValidator.class), anyList()))
+            .thenReturn(new BulkUpdateResult()
+                .addUpdatedDocument(new UpdatedDocument("unitId1", JsonHandler.toJsonNode(unitBefore),
+                    JsonHandler.toJsonNode(unitAfter)))
+                .addUpdatedDocument(new UpdatedDocument("unitId2", JsonHandler.toJsonNode(unitBefore),
+                    JsonHandler.toJsonNode(unitBefore))));
+
+        // When
+        RequestResponseOK<UpdateUnit> requestResponse = (RequestResponseOK<UpdateUnit>) metaDataImpl
+            .updateUnitsRules(Arrays.asList("unitId1", "unitId2"), ruleActions, Collections.emptyMap());
+
+        // Then
+        assertThat(requestResponse.getResults().stream())
+            .extracting(UpdateUnit::getUnitId, UpdateUnit::getStatus, UpdateUnit::getKey, UpdateUnit::getMessage)
+            .containsExactly(
+                tuple("unitId1", OK, UNIT_METADATA_UPDATE, "Update unit rules OK."),
+                tuple("unitId2", OK, UNIT_METADATA_NO_CHANGES, "Unit updated with UNKNOWN changes.")
+            );
+    }
+
     private Unit createSelectUnitResult(String unitId, String value) {
         final Unit unit = new Unit();
         unit.put("_id", unitId);
@@ -469,7 +533,7 @@ public class MetaDataImplTest {
 
         metaDataImpl =
             new MetaDataImpl(mongoDbAccessFactory, adminManagementClientFactory, IndexationHelper.getInstance(),
-                request, 100, 300, 100, 300, 100, 300);
+                request, 100, 300, 100, 300, 100, 300, 100, 300);
         IndexationResult result = metaDataImpl.reindex(parameters);
         assertNull(result.getIndexOK());
         assertNotNull(result.getIndexKO());
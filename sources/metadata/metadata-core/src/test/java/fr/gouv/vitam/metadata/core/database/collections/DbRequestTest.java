@@ -33,6 +33,7 @@ import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Lists;
 import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.Updates;
 import fr.gouv.vitam.common.LocalDateUtil;
 import fr.gouv.vitam.common.PropertiesUtils;
 import fr.gouv.vitam.common.database.builder.query.VitamFieldsHelper;
@@ -89,6 +90,7 @@ import fr.gouv.vitam.functional.administration.client.AdminManagementClientFacto
 import fr.gouv.vitam.metadata.api.exception.MetaDataAlreadyExistException;
 import fr.gouv.vitam.metadata.api.exception.MetaDataExecutionException;
 import fr.gouv.vitam.metadata.api.exception.MetaDataNotFoundException;
+import fr.gouv.vitam.metadata.core.model.BulkUpdateResult;
 import fr.gouv.vitam.metadata.core.model.UpdatedDocument;
 import fr.gouv.vitam.metadata.core.trigger.FieldHistoryManager;
 import fr.gouv.vitam.metadata.core.trigger.History;
@@ -126,6 +128,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static fr.gouv.vitam.common.database.builder.query.QueryHelper.and;
 import static fr.gouv.vitam.common.database.builder.query.QueryHelper.eq;
@@ -162,6 +165,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 
@@ -1057,6 +1061,213 @@ public class DbRequestTest {
         JsonAssert.assertJsonEquals(expected, after);
     }
 
+    @RunWithCustomExecutor
+    @Test
+    public void testBulkUpdateShouldUpdateAndIndexUnits() throws Exception {
+
+        // Given
+        VitamThreadUtils.getVitamSession().setTenantId(TENANT_ID_0);
+        VitamThreadUtils.getVitamSession().setRequestId(GUIDFactory.newRequestIdGUID(TENANT_ID_0));
+
+        String uuid1 = "aeaqaaaabeghay2jabzuaalbarkww4iaaaba";
+        String uuid2 = "aeaqaaaabeghay2jabzuaalbarkww4iaaabq";
+        insertUnitToUpdate(uuid1);
+        insertUnitToUpdate(uuid2);
+
+        final UpdateMultiQuery update = new UpdateMultiQuery();
+        update.addActions(set("Title", "New Title"));
+        final UpdateParserMultiple updateParser = new UpdateParserMultiple(mongoDbVarNameAdapter);
+        updateParser.parse(update.getFinalUpdate());
+
+        // When
+        BulkUpdateResult result = newDbRequest().execBulkUpdateRequest(updateParser, Arrays.asList(uuid1, uuid2),
+            passThroughOntologyValidator(), mock(UnitValidator.class), Collections.emptyList());
+
+        // Then
+        assertThat(result.getErrors()).isEmpty();
+        assertThat(result.getUpdatedDocuments()).containsOnlyKeys(uuid1, uuid2);
+        for (String uuid : Arrays.asList(uuid1, uuid2)) {
+            Unit unit = (Unit) MetadataCollections.UNIT.getCollection().find(Filters.eq("_id", uuid)).first();
+            assertThat(unit.getString("Title")).isEqualTo("New Title");
+            assertThat(unit.getInteger("_av")).isEqualTo(1);
+            assertThat(result.getUpdatedDocuments().get(uuid).getAfterUpdate().get("Title").asText())
+                .isEqualTo("New Title");
+        }
+
+        SearchResponse searchResponse = elasticsearchAccessMetadata.basicSearch(MetadataCollections.UNIT,
+            TENANT_ID_0, Collections.emptyList(), QueryBuilders.idsQuery().addIds(uuid1, uuid2));
+        assertThat(searchResponse.getHits().getHits()).hasSize(2);
+        for (SearchHit hit : searchResponse.getHits().getHits()) {
+            assertThat(hit.getSourceAsMap().get("Title")).isEqualTo("New Title");
+        }
+    }
+
+    @RunWithCustomExecutor
+    @Test
+    public void testBulkUpdateShouldRetryUnitUpdatedConcurrently() throws Exception {
+
+        // Given
+        VitamThreadUtils.getVitamSession().setTenantId(TENANT_ID_0);
+        VitamThreadUtils.getVitamSession().setRequestId(GUIDFactory.newRequestIdGUID(TENANT_ID_0));
+
+        String uuid = "aeaqaaaabeghay2jabzuaalbarkww4iaaaba";
+        insertUnitToUpdate(uuid);
+
+        final UpdateMultiQuery update = new UpdateMultiQuery();
+        update.addActions(set("Title", "New Title"));
+        final UpdateParserMultiple updateParser = new UpdateParserMultiple(mongoDbVarNameAdapter);
+        updateParser.parse(update.getFinalUpdate());
+
+        // Concurrent update of the unit between its loading and the bulk write
+        AtomicInteger nbPreparations = new AtomicInteger();
+        OntologyValidator ontologyValidator = mock(OntologyValidator.class);
+        doAnswer((args) -> {
+            if (nbPreparations.incrementAndGet() == 1) {
+                MetadataCollections.UNIT.getCollection().updateOne(Filters.eq("_id", uuid),
+                    Updates.combine(Updates.set("Description", "Concurrent description"), Updates.set("_av", 5)));
+            }
+            return args.getArgument(0);
+        }).when(ontologyValidator).verifyAndReplaceFields(any());
+
+        // When
+        BulkUpdateResult result = newDbRequest().execBulkUpdateRequest(updateParser, Collections.singletonList(uuid),
+            ontologyValidator, mock(UnitValidator.class), Collections.emptyList());
+
+        // Then
+        assertThat(nbPreparations.get()).isEqualTo(2);
+        assertThat(result.getErrors()).isEmpty();
+        assertThat(result.getUpdatedDocuments()).containsOnlyKeys(uuid);
+
+        Unit unit = (Unit) MetadataCollections.UNIT.getCollection().find(Filters.eq("_id", uuid)).first();
+        assertThat(unit.getString("Title")).isEqualTo("New Title");
+        assertThat(unit.getString("Description")).isEqualTo("Concurrent description");
+        assertThat(unit.getInteger("_av")).isEqualTo(6);
+    }
+
+    @RunWithCustomExecutor
+    @Test
+    public void testBulkUpdateShouldReportMissingUnit() throws Exception {
+
+        // Given
+        VitamThreadUtils.getVitamSession().setTenantId(TENANT_ID_0);
+        VitamThreadUtils.getVitamSession().setRequestId(GUIDFactory.newRequestIdGUID(TENANT_ID_0));
+
+        String uuid = "aeaqaaaabeghay2jabzuaalbarkww4iaaaba";
+        String missingUuid = "aeaqaaaabeghay2jabzuaalbarkww4iaaabq";
+        insertUnitToUpdate(uuid);
+
+        final UpdateMultiQuery update = new UpdateMultiQuery();
+        update.addActions(set("Title", "New Title"));
+        final UpdateParserMultiple updateParser = new UpdateParserMultiple(mongoDbVarNameAdapter);
+        updateParser.parse(update.getFinalUpdate());
+
+        // When
+        BulkUpdateResult result = newDbRequest().execBulkUpdateRequest(updateParser,
+            Arrays.asList(uuid, missingUuid), passThroughOntologyValidator(), mock(UnitValidator.class),
+            Collections.emptyList());
+
+        // Then
+        assertThat(result.getUpdatedDocuments()).containsOnlyKeys(uuid);
+        assertThat(result.getErrors()).containsOnlyKeys(missingUuid);
+        assertThat(result.getErrors().get(missingUuid)).isInstanceOf(MetaDataNotFoundException.class);
+        assertThat(MetadataCollections.UNIT.getCollection().find(Filters.eq("_id", missingUuid)).first()).isNull();
+    }
+
+    @RunWithCustomExecutor
+    @Test
+    public void testBulkUpdateShouldReportSchemaValidationFailure() throws Exception {
+
+        // Given
+        VitamThreadUtils.getVitamSession().setTenantId(TENANT_ID_0);
+        VitamThreadUtils.getVitamSession().setRequestId(GUIDFactory.newRequestIdGUID(TENANT_ID_0));
+
+        String uuid = "aeaqaaaabeghay2jabzuaalbarkww4iaaaba";
+        final Unit initialUnit = insertUnitToUpdate(uuid);
+
+        List<OntologyModel> ontologyModels = JsonHandler
+            .getFromInputStreamAsTypeReference(OntologyTestHelper.loadOntologies(),
+                new TypeReference<List<OntologyModel>>() {
+                });
+        OntologyValidator ontologyValidator = new OntologyValidator(() -> ontologyModels);
+        UnitValidator unitValidator = new UnitValidator(mock(CachedArchiveUnitProfileLoader.class),
+            new CachedSchemaValidatorLoader(100, 300));
+
+        final UpdateMultiQuery update = new UpdateMultiQuery();
+        update.addActions(unset("Title"));
+        final UpdateParserMultiple updateParser = new UpdateParserMultiple(mongoDbVarNameAdapter);
+        updateParser.parse(update.getFinalUpdate());
+
+        // When
+        BulkUpdateResult result = newDbRequest().execBulkUpdateRequest(updateParser, Collections.singletonList(uuid),
+            ontologyValidator, unitValidator, Collections.emptyList());
+
+        // Then
+        assertThat(result.getUpdatedDocuments()).isEmpty();
+        assertThat(result.getErrors().get(uuid)).isInstanceOf(MetadataValidationException.class);
+
+        String after =
+            JsonHandler.unprettyPrint(MetadataCollections.UNIT.getCollection().find(Filters.eq("_id", uuid)).first());
+        JsonAssert.assertJsonEquals(BsonHelper.stringify(initialUnit), after);
+    }
+
+    @RunWithCustomExecutor
+    @Test
+    public void testBulkUpdateShouldNotWriteUnchangedUnit() throws Exception {
+
+        // Given
+        VitamThreadUtils.getVitamSession().setTenantId(TENANT_ID_0);
+        VitamThreadUtils.getVitamSession().setRequestId(GUIDFactory.newRequestIdGUID(TENANT_ID_0));
+
+        String uuid = "aeaqaaaabeghay2jabzuaalbarkww4iaaaba";
+        final Unit initialUnit = insertUnitToUpdate(uuid);
+
+        // Operation already applied to the unit
+        final UpdateMultiQuery update = new UpdateMultiQuery();
+        update.addActions(push(VitamFieldsHelper.operations(), "aedqaaaabggsoscfaat22albarkwtiqaaaaq"));
+        update.addActions(set("Title", "New Title"));
+        final UpdateParserMultiple updateParser = new UpdateParserMultiple(mongoDbVarNameAdapter);
+        updateParser.parse(update.getFinalUpdate());
+
+        OntologyValidator ontologyValidator = passThroughOntologyValidator();
+
+        // When
+        BulkUpdateResult result = newDbRequest().execBulkUpdateRequest(updateParser, Collections.singletonList(uuid),
+            ontologyValidator, mock(UnitValidator.class), Collections.emptyList());
+
+        // Then
+        assertThat(result.getErrors()).isEmpty();
+        UpdatedDocument updatedDocument = result.getUpdatedDocuments().get(uuid);
+        JsonAssert.assertJsonEquals(updatedDocument.getBeforeUpdate(), updatedDocument.getAfterUpdate());
+        verify(ontologyValidator, never()).verifyAndReplaceFields(any());
+
+        String after =
+            JsonHandler.unprettyPrint(MetadataCollections.UNIT.getCollection().find(Filters.eq("_id", uuid)).first());
+        JsonAssert.assertJsonEquals(BsonHelper.stringify(initialUnit), after);
+    }
+
+    private Unit insertUnitToUpdate(String uuid) throws Exception {
+        ObjectNode unitJson =
+            (ObjectNode) JsonHandler.getFromFile(PropertiesUtils.getResourceFile("unitToUpdate.json"));
+        unitJson.put("_id", uuid);
+        final Unit unit = new Unit(unitJson);
+        MetadataCollections.UNIT.getCollection().insertOne(unit);
+        MetadataCollections.UNIT.getEsClient().insertFullDocument(MetadataCollections.UNIT, TENANT_ID_0, uuid, unit);
+        return unit;
+    }
+
+    private DbRequest newDbRequest() {
+        return new DbRequest(
+            new MongoDbMetadataRepository<Unit>(() -> MetadataCollections.UNIT.getCollection()),
+            new MongoDbMetadataRepository<ObjectGroup>(() -> MetadataCollections.OBJECTGROUP.getCollection()),
+            fieldHistoryManager);
+    }
+
+    private static OntologyValidator passThroughOntologyValidator() throws Exception {
+        OntologyValidator ontologyValidator = mock(OntologyValidator.class);
+        doAnswer((args) -> args.getArgument(0)).when(ontologyValidator).verifyAndReplaceFields(any());
+        return ontologyValidator;
+    }
+
     /**
      * Test method for
      * execRequest
@@ -228,7 +228,7 @@ public class MongoDbAccessMetadataImplTest {
                 esClient, tenantList);
 
         // Given
-        final MetaDataImpl metaData = new MetaDataImpl(mongoDbAccess, 100, 300, 100, 300, 100, 300);
+        final MetaDataImpl metaData = new MetaDataImpl(mongoDbAccess, 100, 300, 100, 300, 100, 300, 100, 300);
 
         final String operationId = "1234";
         ArrayList<Document> units = Lists.newArrayList(
@@ -298,7 +298,7 @@ public class MongoDbAccessMetadataImplTest {
             mongoRule.getMongoDatabase().getName(), false, esClient, tenantList);
 
         // Given
-        final MetaDataImpl metaData = new MetaDataImpl(mongoDbAccess, 100, 300, 100, 300, 100, 300);
+        final MetaDataImpl metaData = new MetaDataImpl(mongoDbAccess, 100, 300, 100, 300, 100, 300, 100, 300);
         initGotsForAccessionRegisterTest("/got_1_sp1.json", "/got_2_sp1.json", "/got_3_sp2.json",
             "/got_4_sp1_sp2.json");
 
@@ -330,7 +330,7 @@ public class MongoDbAccessMetadataImplTest {
             mongoRule.getMongoDatabase().getName(), false, esClient, tenantList);
 
         // Given
-        final MetaDataImpl metaData = new MetaDataImpl(mongoDbAccess, 100, 300, 100, 300, 100, 300);
+        final MetaDataImpl metaData = new MetaDataImpl(mongoDbAccess, 100, 300, 100, 300, 100, 300, 100, 300);
         final String operationId = "aedqaaaaacgbcaacaar3kak4tr2o3wqaaaaq";
         initGotsForAccessionRegisterTest("/object_sp1_1.json", "/object_sp1_sp2_2.json", "/object_sp2.json",
             "/object_sp2_4.json", "/object_other_operation_id.json");
@@ -390,7 +390,7 @@ public class MongoDbAccessMetadataImplTest {
                 mongoRule.getMongoDatabase().getName(),
                 true,
                 client
-            ), 100, 300, 100, 300, 100, 300
+            ), 100, 300, 100, 300, 100, 300, 100, 300
         );
 
         // When
@@ -423,7 +423,7 @@ public class MongoDbAccessMetadataImplTest {
                 mongoRule.getMongoDatabase().getName(),
                 true,
                 client
-            ), 100, 300, 100, 300, 100, 300
+            ), 100, 300, 100, 300, 100, 300, 100, 300
         );
 
         // When
@@ -470,7 +470,7 @@ public class MongoDbAccessMetadataImplTest {
                 mongoRule.getMongoDatabase().getName(),
                 true,
                 client
-            ), 100, 300, 100, 300, 100, 300
+            ), 100, 300, 100, 300, 100, 300, 100, 300
         );
 
         // When
@@ -516,7 +516,7 @@ public class MongoDbAccessMetadataImplTest {
                 mongoRule.getMongoDatabase().getName(),
                 true,
                 client
-            ), 100, 300, 100, 300, 100, 300
+            ), 100, 300, 100, 300, 100, 300, 100, 300
         );
 
         // When
@@ -563,7 +563,7 @@ public class MongoDbAccessMetadataImplTest {
                 mongoRule.getMongoClient(),
                 mongoRule.getMongoDatabase().getName(),
                 true,
-                client), 100, 300, 100, 300, 100, 300
+                client), 100, 300, 100, 300, 100, 300, 100, 300
         );
 
         // When
@@ -603,7 +603,7 @@ public class MongoDbAccessMetadataImplTest {
                 mongoRule.getMongoDatabase().getName(),
                 true,
                 client
-            ), 100, 300, 100, 300, 100, 300
+            ), 100, 300, 100, 300, 100, 300, 100, 300
         );
 
         // When
@@ -768,6 +768,104 @@ public class ReconstructionServiceTest {
         assertThat(realResponseItem.getStatus()).isEqualTo(StatusCode.OK);
     }
 
+    @RunWithCustomExecutor
+    @Test
+    public void should_reconstruct_all_bulks_and_return_throughput_when_items_unit_are_ok() throws Exception {
+        // given
+        int restoreBulkSize = VitamConfiguration.getRestoreBulkSize();
+        VitamConfiguration.setRestoreBulkSize(2);
+        try {
+            when(offsetRepository.findOffsetBy(10, STRATEGY_UNIT, MetadataCollections.UNIT.getName())).thenReturn(100L);
+            when(restoreBackupService.getListing(STRATEGY_UNIT, DataCategory.UNIT, 100L,
+                requestItem.getLimit(), Order.ASC, 2)).thenReturn(
+                IteratorUtils.arrayIterator(getOfferLog(100L), getOfferLog(101L), getOfferLog(102L),
+                    getOfferLog(103L), getOfferLog(104L)));
+            for (long sequence = 100L; sequence <= 104L; sequence++) {
+                MetadataBackupModel model = getUnitMetadataBackupModel("" + sequence, sequence);
+                model.setSize(10L);
+                when(restoreBackupService.loadData(STRATEGY_UNIT, MetadataCollections.UNIT, "" + sequence, sequence))
+                    .thenReturn(model);
+            }
+            when(storageClient.getStorageStrategies()).thenReturn(getStorageStrategies());
+            ArgumentCaptor<List<JsonNode>> unitLfcsCaptor = ArgumentCaptor.forClass(List.class);
+            doNothing().when(logbookLifecycleClient).createRawbulkUnitlifecycles(unitLfcsCaptor.capture());
+
+            ReconstructionService reconstructionService =
+                new ReconstructionService(vitamRepositoryProvider, restoreBackupService, logbookLifecycleClientFactory,
+                    storageClientFactory, offsetRepository);
+
+            FindIterable findIterable = mock(FindIterable.class);
+            final MongoCursor<String> iterator = mock(MongoCursor.class);
+            when(mongoRepository.findDocuments(any(), any())).thenReturn(findIterable);
+            when(findIterable.iterator()).thenReturn(iterator);
+            when(iterator.hasNext()).thenReturn(Boolean.FALSE);
+            // when
+            ReconstructionResponseItem realResponseItem = reconstructionService.reconstruct(requestItem);
+            // then
+            assertThat(realResponseItem.getStatus()).isEqualTo(StatusCode.OK);
+            verify(offsetRepository).createOrUpdateOffset(10, STRATEGY_UNIT, MetadataCollections.UNIT.getName(), 104L);
+            verify(mongoRepository, times(3)).update(anyList());
+            assertThat(unitLfcsCaptor.getAllValues()).hasSize(3);
+            assertThat(unitLfcsCaptor.getAllValues().get(0)).extracting(lfc -> lfc.get("_id").asText())
+                .containsExactly("100", "101");
+            assertThat(unitLfcsCaptor.getAllValues().get(2)).extracting(lfc -> lfc.get("_id").asText())
+                .containsExactly("104");
+            assertThat(realResponseItem.getReconstructedDocuments()).isEqualTo(5L);
+            assertThat(realResponseItem.getReconstructedBytes()).isEqualTo(50L);
+            assertThat(realResponseItem.getDurationInMilliseconds()).isGreaterThanOrEqualTo(0L);
+        } finally {
+            VitamConfiguration.setRestoreBulkSize(restoreBulkSize);
+        }
+    }
+
+    @RunWithCustomExecutor
+    @Test
+    public void should_not_update_offset_when_a_bulk_after_prefetch_fails() throws Exception {
+        // given
+        int restoreBulkSize = VitamConfiguration.getRestoreBulkSize();
+        VitamConfiguration.setRestoreBulkSize(1);
+        try {
+            when(offsetRepository.findOffsetBy(10, STRATEGY_UNIT, MetadataCollections.UNIT.getName())).thenReturn(100L);
+            when(restoreBackupService.getListing(STRATEGY_UNIT, DataCategory.UNIT, 100L,
+                requestItem.getLimit(), Order.ASC, 1)).thenReturn(
+                IteratorUtils.arrayIterator(getOfferLog(100L), getOfferLog(101L), getOfferLog(102L)));
+            when(restoreBackupService.loadData(STRATEGY_UNIT, MetadataCollections.UNIT, "100", 100L))
+                .thenReturn(getUnitMetadataBackupModel("100", 100L));
+            when(restoreBackupService.loadData(STRATEGY_UNIT, MetadataCollections.UNIT, "101", 101L))
+                .thenReturn(getUnitMetadataBackupModel("101", 101L));
+            when(restoreBackupService.loadData(STRATEGY_UNIT, MetadataCollections.UNIT, "102", 102L))
+                .thenReturn(getUnitMetadataBackupModel("102", 102L));
+            when(storageClient.getStorageStrategies()).thenReturn(getStorageStrategies());
+            doNothing().when(logbookLifecycleClient).createRawbulkUnitlifecycles(any());
+            final int[] cpt = {0};
+            Mockito.doAnswer(i -> {
+                cpt[0]++;
+                if (cpt[0] == 2) {
+                    throw new DatabaseException("mongo error");
+                }
+                return null;
+            }).when(mongoRepository).update(any(List.class));
+
+            ReconstructionService reconstructionService = new ReconstructionService(vitamRepositoryProvider,
+                restoreBackupService, logbookLifecycleClientFactory, storageClientFactory, offsetRepository);
+
+            FindIterable<Document> findIterable = mock(FindIterable.class);
+            final MongoCursor<Document> iterator = mock(MongoCursor.class);
+            when(mongoRepository.findDocuments(any(), any())).thenReturn(findIterable);
+            when(findIterable.iterator()).thenReturn(iterator);
+            when(iterator.hasNext()).thenReturn(Boolean.FALSE);
+            // when
+            ReconstructionResponseItem realResponseItem = reconstructionService.reconstruct(requestItem);
+            // then
+            assertThat(realResponseItem.getStatus()).isEqualTo(StatusCode.KO);
+            verify(mongoRepository, times(2)).update(anyList());
+            verify(offsetRepository, Mockito.never()).createOrUpdateOffset(anyInt(), anyString(), anyString(), anyLong());
+            assertThat(realResponseItem.getReconstructedDocuments()).isEqualTo(1L);
+        } finally {
+            VitamConfiguration.setRestoreBulkSize(restoreBulkSize);
+        }
+    }
+
     private MetadataBackupModel getUnitMetadataBackupModel(String id, Long offset) {
         MetadataBackupModel model = new MetadataBackupModel();
         model.setUnit(new Document("_id", id).append("_v", 0));
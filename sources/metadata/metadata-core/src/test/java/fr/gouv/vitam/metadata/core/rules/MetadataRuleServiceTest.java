@@ -34,34 +34,56 @@ import fr.gouv.vitam.common.exception.InvalidParseOperationException;
 import fr.gouv.vitam.common.json.JsonHandler;
 import fr.gouv.vitam.common.model.RequestResponseOK;
 import fr.gouv.vitam.common.model.rules.UnitInheritedRulesResponseModel;
+import fr.gouv.vitam.common.thread.RunWithCustomExecutor;
+import fr.gouv.vitam.common.thread.RunWithCustomExecutorRule;
+import fr.gouv.vitam.common.thread.VitamThreadPoolExecutor;
+import fr.gouv.vitam.common.thread.VitamThreadUtils;
 import fr.gouv.vitam.metadata.core.MetaDataImpl;
 
 import net.javacrumbs.jsonunit.JsonAssert;
 import net.javacrumbs.jsonunit.core.Option;
 import org.apache.commons.io.IOUtils;
+import org.junit.Before;
+import org.junit.Rule;
 import org.junit.Test;
 
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 
 import static fr.gouv.vitam.common.database.builder.query.QueryHelper.exists;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public class MetadataRuleServiceTest {
 
+    @Rule
+    public RunWithCustomExecutorRule runInThread =
+        new RunWithCustomExecutorRule(VitamThreadPoolExecutor.getDefaultExecutor());
+
+    private UnitRuleModelCache unitRuleModelCache;
+
+    @Before
+    public void setUp() {
+        unitRuleModelCache = new UnitRuleModelCache(100, 300);
+    }
+
     @Test
     public void selectUnitsWithInheritedRules_invalidProjectionV1() throws Exception {
 
         ComputeInheritedRuleService computeInheritedRuleService = mock(ComputeInheritedRuleService.class);
         MetaDataImpl metadata = mock(MetaDataImpl.class);
+        when(metadata.getUnitRuleModelCache()).thenReturn(unitRuleModelCache);
 
         MetadataRuleService instance = new MetadataRuleService(computeInheritedRuleService, metadata);
 
@@ -75,11 +97,14 @@ public class MetadataRuleServiceTest {
     }
 
     @Test
+    @RunWithCustomExecutor
     public void selectUnitsWithInheritedRules_loadUnitsAndComputeRules() throws Exception {
 
         // Given
+        VitamThreadUtils.getVitamSession().setTenantId(0);
         ComputeInheritedRuleService computeInheritedRuleService = mock(ComputeInheritedRuleService.class);
         MetaDataImpl metadata = mock(MetaDataImpl.class);
+        when(metadata.getUnitRuleModelCache()).thenReturn(unitRuleModelCache);
 
         when(metadata.selectUnitsByQuery((any()))).thenReturn(
             responseFromResource("MetadataRuleService/responseSelectUnits.json"),
@@ -110,6 +135,146 @@ public class MetadataRuleServiceTest {
             , JsonAssert.when(Option.IGNORING_ARRAY_ORDER));
     }
 
+    @Test
+    @RunWithCustomExecutor
+    public void selectUnitsWithInheritedRules_loadAncestorsFromCache() throws Exception {
+
+        // Given
+        VitamThreadUtils.getVitamSession().setTenantId(0);
+        ComputeInheritedRuleService computeInheritedRuleService = mock(ComputeInheritedRuleService.class);
+        MetaDataImpl metadata = mock(MetaDataImpl.class);
+        when(metadata.getUnitRuleModelCache()).thenReturn(unitRuleModelCache);
+
+        when(metadata.selectUnitsByQuery((any()))).thenReturn(
+            responseFromResource("MetadataRuleService/responseSelectUnits.json"),
+            responseFromResource("MetadataRuleService/responseSelectUnits_2_4.json"),
+            responseFromResource("MetadataRuleService/responseSelectUnits_1_3.json"),
+            responseFromResource("MetadataRuleService/responseSelectUnits.json"),
+            responseFromResource("MetadataRuleService/responseSelectUnits_2_4.json"),
+            responseFromResource("MetadataRuleService/responseSelectVersions_1_3.json")
+        );
+
+        doReturn(computedRulesFromResource(
+            "MetadataRuleService/computedUnitRules.json"))
+            .when(computeInheritedRuleService)
+            .computeInheritedRules(anyMap());
+
+        SelectMultiQuery select = new SelectMultiQuery();
+        select.addQueries(exists("Title"));
+        select.addUsedProjection("Title");
+        JsonNode selectDsl = select.getFinalSelect();
+
+        MetadataRuleService instance = new MetadataRuleService(computeInheritedRuleService, metadata);
+        instance.selectUnitsWithInheritedRules(selectDsl.deepCopy());
+
+        // When
+        RequestResponseOK<JsonNode> response =
+            (RequestResponseOK<JsonNode>) instance.selectUnitsWithInheritedRules(selectDsl.deepCopy());
+
+        // Then : ancestors guid_1 & guid_3 are not reloaded, only their version is checked
+        verify(metadata, times(6)).selectUnitsByQuery(any());
+        assertThat(unitRuleModelCache.stats().hitCount()).isEqualTo(2);
+        JsonAssert.assertJsonEquals(
+            JsonHandler.unprettyPrint(response.getResultsAsJsonNodes()),
+            IOUtils.toString(PropertiesUtils.getResourceAsStream("MetadataRuleService/expectedResponse.json"),
+                StandardCharsets.UTF_8)
+            , JsonAssert.when(Option.IGNORING_ARRAY_ORDER));
+    }
+
+    @Test
+    @RunWithCustomExecutor
+    public void selectUnitsWithInheritedRules_reloadInvalidatedAncestors() throws Exception {
+
+        // Given
+        VitamThreadUtils.getVitamSession().setTenantId(0);
+        ComputeInheritedRuleService computeInheritedRuleService = mock(ComputeInheritedRuleService.class);
+        MetaDataImpl metadata = mock(MetaDataImpl.class);
+        when(metadata.getUnitRuleModelCache()).thenReturn(unitRuleModelCache);
+
+        when(metadata.selectUnitsByQuery((any()))).thenReturn(
+            responseFromResource("MetadataRuleService/responseSelectUnits.json"),
+            responseFromResource("MetadataRuleService/responseSelectUnits_2_4.json"),
+            responseFromResource("MetadataRuleService/responseSelectUnits_1_3.json"),
+            responseFromResource("MetadataRuleService/responseSelectUnits.json"),
+            responseFromResource("MetadataRuleService/responseSelectUnits_2_4.json"),
+            responseFromResource("MetadataRuleService/responseSelectVersions_1_3.json"),
+            responseFromResource("MetadataRuleService/responseSelectUnits_1_3.json")
+        );
+
+        doReturn(computedRulesFromResource(
+            "MetadataRuleService/computedUnitRules.json"))
+            .when(computeInheritedRuleService)
+            .computeInheritedRules(anyMap());
+
+        SelectMultiQuery select = new SelectMultiQuery();
+        select.addQueries(exists("Title"));
+        select.addUsedProjection("Title");
+        JsonNode selectDsl = select.getFinalSelect();
+
+        MetadataRuleService instance = new MetadataRuleService(computeInheritedRuleService, metadata);
+        instance.selectUnitsWithInheritedRules(selectDsl.deepCopy());
+
+        // When
+        unitRuleModelCache.invalidate(Collections.singletonList("guid_3"));
+        instance.selectUnitsWithInheritedRules(selectDsl.deepCopy());
+
+        // Then : only invalidated ancestor guid_3 is reloaded
+        verify(metadata, times(7)).selectUnitsByQuery(any());
+        assertThat(unitRuleModelCache.stats().hitCount()).isEqualTo(1);
+        assertThat(unitRuleModelCache.getAllPresent(Collections.singletonList("guid_3"))).containsKey("guid_3");
+
+        // Cache is tenant aware
+        VitamThreadUtils.getVitamSession().setTenantId(1);
+        assertThat(unitRuleModelCache.getAllPresent(Collections.singletonList("guid_3"))).isEmpty();
+    }
+
+    @Test
+    @RunWithCustomExecutor
+    public void selectUnitsWithInheritedRules_reloadAncestorsUpdatedByAnotherServer() throws Exception {
+
+        // Given
+        VitamThreadUtils.getVitamSession().setTenantId(0);
+        ComputeInheritedRuleService computeInheritedRuleService = mock(ComputeInheritedRuleService.class);
+        MetaDataImpl metadata = mock(MetaDataImpl.class);
+        when(metadata.getUnitRuleModelCache()).thenReturn(unitRuleModelCache);
+
+        when(metadata.selectUnitsByQuery((any()))).thenReturn(
+            responseFromResource("MetadataRuleService/responseSelectUnits.json"),
+            responseFromResource("MetadataRuleService/responseSelectUnits_2_4.json"),
+            responseFromResource("MetadataRuleService/responseSelectUnits_1_3.json"),
+            responseFromResource("MetadataRuleService/responseSelectUnits.json"),
+            responseFromResource("MetadataRuleService/responseSelectUnits_2_4.json"),
+            responseFromResource("MetadataRuleService/responseSelectVersions_1_3_updated.json"),
+            responseFromResource("MetadataRuleService/responseSelectUnits_1_3.json")
+        );
+
+        doReturn(computedRulesFromResource(
+            "MetadataRuleService/computedUnitRules.json"))
+            .when(computeInheritedRuleService)
+            .computeInheritedRules(anyMap());
+
+        SelectMultiQuery select = new SelectMultiQuery();
+        select.addQueries(exists("Title"));
+        select.addUsedProjection("Title");
+        JsonNode selectDsl = select.getFinalSelect();
+
+        MetadataRuleService instance = new MetadataRuleService(computeInheritedRuleService, metadata);
+        instance.selectUnitsWithInheritedRules(selectDsl.deepCopy());
+
+        // When : guid_3 version changed without local cache eviction
+        RequestResponseOK<JsonNode> response =
+            (RequestResponseOK<JsonNode>) instance.selectUnitsWithInheritedRules(selectDsl.deepCopy());
+
+        // Then : stale ancestor guid_3 is reloaded
+        verify(metadata, times(7)).selectUnitsByQuery(any());
+        assertThat(unitRuleModelCache.stats().hitCount()).isEqualTo(2);
+        JsonAssert.assertJsonEquals(
+            JsonHandler.unprettyPrint(response.getResultsAsJsonNodes()),
+            IOUtils.toString(PropertiesUtils.getResourceAsStream("MetadataRuleService/expectedResponse.json"),
+                StandardCharsets.UTF_8)
+            , JsonAssert.when(Option.IGNORING_ARRAY_ORDER));
+    }
+
     private RequestResponseOK<JsonNode> responseFromResource(String filename)
         throws IOException, InvalidParseOperationException {
         return new RequestResponseOK<>().addAllResults(
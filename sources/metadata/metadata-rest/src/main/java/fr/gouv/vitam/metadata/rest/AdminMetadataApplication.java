@@ -92,7 +92,9 @@ public class AdminMetadataApplication extends Application {
                 metaDataConfiguration.getArchiveUnitProfileCacheMaxEntries(),
                 metaDataConfiguration.getArchiveUnitProfileCacheTimeoutInSeconds(),
                 metaDataConfiguration.getSchemaValidatorCacheMaxEntries(),
-                metaDataConfiguration.getSchemaValidatorCacheTimeoutInSeconds()
+                metaDataConfiguration.getSchemaValidatorCacheTimeoutInSeconds(),
+                metaDataConfiguration.getUnitRuleCacheMaxEntries(),
+                metaDataConfiguration.getUnitRuleCacheTimeoutInSeconds()
             );
 
             GraphFactory.initialize(vitamRepositoryProvider, metadata);
@@ -85,7 +85,9 @@ public class BusinessApplication extends Application {
                 metaDataConfiguration.getArchiveUnitProfileCacheMaxEntries(),
                 metaDataConfiguration.getArchiveUnitProfileCacheTimeoutInSeconds(),
                 metaDataConfiguration.getSchemaValidatorCacheMaxEntries(),
-                metaDataConfiguration.getSchemaValidatorCacheTimeoutInSeconds()
+                metaDataConfiguration.getSchemaValidatorCacheTimeoutInSeconds(),
+                metaDataConfiguration.getUnitRuleCacheMaxEntries(),
+                metaDataConfiguration.getUnitRuleCacheTimeoutInSeconds()
             );
 
             GraphFactory.initialize(vitamRepositoryProvider, metadata);
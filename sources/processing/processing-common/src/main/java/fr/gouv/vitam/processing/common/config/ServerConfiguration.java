@@ -46,6 +46,10 @@ public class ServerConfiguration extends DefaultVitamApplicationConfiguration {
     private Integer maxDistributionInMemoryBufferSize = 100_000;
     private Integer maxDistributionOnDiskBufferSize = 100_000_000;
 
+    private boolean pipelinedDistribution = false;
+
+    private boolean asyncWorkerDispatch = false;
+
     /**
      * @return the urlMetadata
      */
@@ -138,4 +142,33 @@ public class ServerConfiguration extends DefaultVitamApplicationConfiguration {
         this.maxDistributionOnDiskBufferSize = maxDistributionOnDiskBufferSize;
         return this;
     }
+
+    /**
+     * When enabled, worker tasks are dispatched through a sliding window instead of batch barriers
+     *
+     * @return true if pipelined distribution is enabled
+     */
+    public boolean isPipelinedDistribution() {
+        return pipelinedDistribution;
+    }
+
+    public ServerConfiguration setPipelinedDistribution(boolean pipelinedDistribution) {
+        this.pipelinedDistribution = pipelinedDistribution;
+        return this;
+    }
+
+    /**
+     * When enabled, calls to workers are dispatched on demand through per worker permits,
+     * instead of one thread per unit of worker capacity
+     *
+     * @return true if async worker dispatch is enabled
+     */
+    public boolean isAsyncWorkerDispatch() {
+        return asyncWorkerDispatch;
+    }
+
+    public ServerConfiguration setAsyncWorkerDispatch(boolean asyncWorkerDispatch) {
+        this.asyncWorkerDispatch = asyncWorkerDispatch;
+        return this;
+    }
 }
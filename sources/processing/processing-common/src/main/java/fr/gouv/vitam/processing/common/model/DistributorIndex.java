@@ -61,6 +61,13 @@ public class DistributorIndex {
      * But adding information of remaining elements, the 2 finished elements will be skipped
      */
     private List<String> remainingElements;
+    /**
+     * Exclusive end index of the elements covered by remainingElements.
+     * In pipelined distribution, elements between offset and windowEnd may already be treated out of order,
+     * so only those listed in remainingElements have to be executed after recover.
+     * When null, the covered range is the distribution batch starting at offset.
+     */
+    private Integer windowEnd;
     /**
      * This boolean is equivalent to offset >= elements list size
      */
@@ -125,6 +132,14 @@ public class DistributorIndex {
         this.remainingElements = remainingElements;
     }
 
+    public Integer getWindowEnd() {
+        return windowEnd;
+    }
+
+    public void setWindowEnd(Integer windowEnd) {
+        this.windowEnd = windowEnd;
+    }
+
     public boolean isLevelFinished() {
         return levelFinished;
     }
@@ -0,0 +1,91 @@
+/*
+ * Copyright French Prime minister Office/SGMAP/DINSIC/Vitam Program (2015-2020)
+ *
+ * contact.vitam@culture.gouv.fr
+ *
+ * This software is a computer program whose purpose is to implement a digital archiving back-office system managing
+ * high volumetry securely and efficiently.
+ *
+ * This software is governed by the CeCILL 2.1 license under French law and abiding by the rules of distribution of free
+ * software. You can use, modify and/ or redistribute the software under the terms of the CeCILL 2.1 license as
+ * circulated by CEA, CNRS and INRIA at the following URL "https://cecill.info".
+ *
+ * As a counterpart to the access to the source code and rights to copy, modify and redistribute granted by the license,
+ * users are provided only with a limited warranty and the software's author, the holder of the economic rights, and the
+ * successive licensors have only limited liability.
+ *
+ * In this respect, the user's attention is drawn to the risks associated with loading, using, modifying and/or
+ * developing or reproducing the software by the user in light of its specific status of free software, that may mean
+ * that it is complicated to manipulate, and that also therefore means that it is reserved for developers and
+ * experienced professionals having in-depth computer knowledge. Users are therefore encouraged to load and test the
+ * software's suitability as regards their requirements in conditions enabling the security of their systems and/or data
+ * to be ensured and, more generally, to use and operate it in the same conditions as regards security.
+ *
+ * The fact that you are presently reading this means that you have had knowledge of the CeCILL 2.1 license and that you
+ * accept its terms.
+ */
+package fr.gouv.vitam.processing.distributor.core;
+
+import fr.gouv.vitam.processing.common.model.WorkerBean;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Manage one worker through a non blocking permit counter : no thread is owned by the worker,
+ * a permit is taken for each call in flight, up to the worker capacity.
+ */
+public class AsyncWorkerExecutor implements IWorkerExecutor {
+
+    private final WorkerBean workerBean;
+    private final AtomicInteger inFlightCalls = new AtomicInteger(0);
+    private volatile boolean stopped = false;
+
+    public AsyncWorkerExecutor(WorkerBean workerBean) {
+        this.workerBean = workerBean;
+    }
+
+    /**
+     * Try to take a permit for a new call
+     *
+     * @return true if the worker is not stopped and has a free permit
+     */
+    boolean tryAcquire() {
+        while (!stopped) {
+            int current = inFlightCalls.get();
+            if (current >= workerBean.getCapacity()) {
+                return false;
+            }
+            if (inFlightCalls.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Give back the permit of a finished call
+     */
+    void release() {
+        inFlightCalls.decrementAndGet();
+    }
+
+    /**
+     * @return the number of calls in flight on this worker
+     */
+    public int getInFlightCalls() {
+        return inFlightCalls.get();
+    }
+
+    @Override
+    public WorkerBean getWorkerBean() {
+        return workerBean;
+    }
+
+    /**
+     * Equivalent of the InterruptSignal : no more task is given to this worker, calls in flight are completed.
+     */
+    @Override
+    public void stop() {
+        stopped = true;
+    }
+}
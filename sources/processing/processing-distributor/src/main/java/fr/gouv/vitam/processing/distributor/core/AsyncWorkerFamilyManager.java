@@ -0,0 +1,198 @@
+/*
+ * Copyright French Prime minister Office/SGMAP/DINSIC/Vitam Program (2015-2020)
+ *
+ * contact.vitam@culture.gouv.fr
+ *
+ * This software is a computer program whose purpose is to implement a digital archiving back-office system managing
+ * high volumetry securely and efficiently.
+ *
+ * This software is governed by the CeCILL 2.1 license under French law and abiding by the rules of distribution of free
+ * software. You can use, modify and/ or redistribute the software under the terms of the CeCILL 2.1 license as
+ * circulated by CEA, CNRS and INRIA at the following URL "https://cecill.info".
+ *
+ * As a counterpart to the access to the source code and rights to copy, modify and redistribute granted by the license,
+ * users are provided only with a limited warranty and the software's author, the holder of the economic rights, and the
+ * successive licensors have only limited liability.
+ *
+ * In this respect, the user's attention is drawn to the risks associated with loading, using, modifying and/or
+ * developing or reproducing the software by the user in light of its specific status of free software, that may mean
+ * that it is complicated to manipulate, and that also therefore means that it is reserved for developers and
+ * experienced professionals having in-depth computer knowledge. Users are therefore encouraged to load and test the
+ * software's suitability as regards their requirements in conditions enabling the security of their systems and/or data
+ * to be ensured and, more generally, to use and operate it in the same conditions as regards security.
+ *
+ * The fact that you are presently reading this means that you have had knowledge of the CeCILL 2.1 license and that you
+ * accept its terms.
+ */
+package fr.gouv.vitam.processing.distributor.core;
+
+import fr.gouv.vitam.common.logging.VitamLogger;
+import fr.gouv.vitam.common.logging.VitamLoggerFactory;
+import fr.gouv.vitam.common.thread.VitamThreadFactory;
+import fr.gouv.vitam.processing.common.model.WorkerBean;
+
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Manage many workers per worker family without a thread per unit of worker capacity.
+ * <p>
+ * Submitted tasks are kept in a non blocking queue. Each worker holds a permit counter bounded by its capacity :
+ * a task is started as soon as a worker has a free permit, on a thread of an elastic pool, and the next pending task
+ * is dispatched when the call ends. Threads only exist for calls in flight.
+ * <p>
+ * As with the blocking queue of the WorkerFamilyManager, at most queueSize tasks wait for a worker : submitters block
+ * beyond. The pool is shut down when the last worker of the family is unregistered.
+ */
+public class AsyncWorkerFamilyManager extends WorkerFamilyManager {
+
+    private static final VitamLogger LOGGER = VitamLoggerFactory.getInstance(AsyncWorkerFamilyManager.class);
+
+    private final Deque<Runnable> pendingTasks = new ConcurrentLinkedDeque<>();
+    private final Semaphore pendingSlots;
+    private final AtomicInteger nextWorker = new AtomicInteger(0);
+    private volatile ExecutorService callExecutor;
+
+    /**
+     * @param queueSize max number of tasks waiting for a free worker permit
+     */
+    public AsyncWorkerFamilyManager(int queueSize) {
+        if (queueSize < 2) {
+            throw new IllegalArgumentException("queue size must be greater than 2");
+        }
+        this.pendingSlots = new Semaphore(queueSize);
+    }
+
+    @Override
+    public void registerWorker(WorkerBean workerBean) {
+        synchronized (this) {
+            if (callExecutor == null) {
+                callExecutor = Executors.newCachedThreadPool(VitamThreadFactory.getInstance());
+            }
+            getWorkers().computeIfAbsent(workerBean.getWorkerId(), (key) -> new AsyncWorkerExecutor(workerBean));
+        }
+        // Tasks may be waiting for a worker
+        dispatch();
+    }
+
+    @Override
+    public void unregisterWorker(String workerId) {
+        ExecutorService stoppedExecutor = null;
+        synchronized (this) {
+            super.unregisterWorker(workerId);
+            if (getWorkers().isEmpty()) {
+                stoppedExecutor = callExecutor;
+                callExecutor = null;
+            }
+        }
+        if (stoppedExecutor != null) {
+            // Calls in flight are completed, pending tasks wait for a new worker
+            stoppedExecutor.shutdown();
+        }
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        try {
+            pendingSlots.acquire();
+        } catch (InterruptedException e) {
+            throw new RuntimeException(e);
+        }
+        pendingTasks.add(command);
+        dispatch();
+    }
+
+    /**
+     * @return the number of tasks waiting for a free worker permit
+     */
+    public int getPendingTaskCount() {
+        return pendingTasks.size();
+    }
+
+    /**
+     * @return true if the pool running calls to workers is started
+     */
+    boolean isCallExecutorStarted() {
+        return callExecutor != null;
+    }
+
+    /**
+     * Start pending tasks while workers have free permits.
+     * Called after each submission, registration and end of call, so that no task is left behind.
+     */
+    private void dispatch() {
+        while (!pendingTasks.isEmpty()) {
+            AsyncWorkerExecutor worker = acquireWorker();
+            if (worker == null) {
+                return;
+            }
+            Runnable task = pendingTasks.poll();
+            if (task == null) {
+                // Taken by a concurrent dispatch
+                worker.release();
+                return;
+            }
+            if (!submit(worker, task)) {
+                // Last worker unregistered meanwhile
+                worker.release();
+                pendingTasks.addFirst(task);
+                return;
+            }
+            pendingSlots.release();
+        }
+    }
+
+    private boolean submit(AsyncWorkerExecutor worker, Runnable task) {
+        ExecutorService executor = callExecutor;
+        if (executor == null) {
+            return false;
+        }
+        try {
+            executor.execute(() -> runOnWorker(worker, task));
+            return true;
+        } catch (RejectedExecutionException e) {
+            return false;
+        }
+    }
+
+    private AsyncWorkerExecutor acquireWorker() {
+        List<IWorkerExecutor> candidates = new ArrayList<>(getWorkers().values());
+        int size = candidates.size();
+        if (size == 0) {
+            return null;
+        }
+        // Round robin between workers of the family
+        int start = Math.floorMod(nextWorker.getAndIncrement(), size);
+        for (int i = 0; i < size; i++) {
+            AsyncWorkerExecutor worker = (AsyncWorkerExecutor) candidates.get((start + i) % size);
+            if (worker.tryAcquire()) {
+                return worker;
+            }
+        }
+        return null;
+    }
+
+    private void runOnWorker(AsyncWorkerExecutor worker, Runnable task) {
+        WorkerInformation.getWorkerThreadLocal().get().setWorkerBean(worker.getWorkerBean());
+        try {
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug("Start task run on worker: " + worker.getWorkerBean().getName());
+            }
+            task.run();
+        } finally {
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug("End task run on worker: " + worker.getWorkerBean().getName());
+            }
+            WorkerInformation.getWorkerThreadLocal().get().setWorkerBean(null);
+            worker.release();
+            dispatch();
+        }
+    }
+}
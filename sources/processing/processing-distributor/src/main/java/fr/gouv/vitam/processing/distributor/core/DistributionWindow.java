@@ -0,0 +1,225 @@
+/*
+ * Copyright French Prime minister Office/SGMAP/DINSIC/Vitam Program (2015-2020)
+ *
+ * contact.vitam@culture.gouv.fr
+ *
+ * This software is a computer program whose purpose is to implement a digital archiving back-office system managing
+ * high volumetry securely and efficiently.
+ *
+ * This software is governed by the CeCILL 2.1 license under French law and abiding by the rules of distribution of free
+ * software. You can use, modify and/ or redistribute the software under the terms of the CeCILL 2.1 license as
+ * circulated by CEA, CNRS and INRIA at the following URL "https://cecill.info".
+ *
+ * As a counterpart to the access to the source code and rights to copy, modify and redistribute granted by the license,
+ * users are provided only with a limited warranty and the software's author, the holder of the economic rights, and the
+ * successive licensors have only limited liability.
+ *
+ * In this respect, the user's attention is drawn to the risks associated with loading, using, modifying and/or
+ * developing or reproducing the software by the user in light of its specific status of free software, that may mean
+ * that it is complicated to manipulate, and that also therefore means that it is reserved for developers and
+ * experienced professionals having in-depth computer knowledge. Users are therefore encouraged to load and test the
+ * software's suitability as regards their requirements in conditions enabling the security of their systems and/or data
+ * to be ensured and, more generally, to use and operate it in the same conditions as regards security.
+ *
+ * The fact that you are presently reading this means that you have had knowledge of the CeCILL 2.1 license and that you
+ * accept its terms.
+ */
+package fr.gouv.vitam.processing.distributor.core;
+
+import fr.gouv.vitam.common.model.ItemStatus;
+import fr.gouv.vitam.worker.core.distribution.JsonLineModel;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.function.Function;
+
+/**
+ * Sliding window of worker tasks used by the pipelined distribution.
+ * <p>
+ * Elements are indexed by their position in the distributed list. The window keeps the dispatched tasks in dispatch
+ * order and the elements read but not yet dispatched. The watermark is the index of the first element not yet
+ * treated : all elements before it are treated, elements after it may be treated out of order.
+ * <p>
+ * This class is not thread safe, it must be used by the distributor thread only. Completion of worker tasks is
+ * notified through a blocking queue.
+ */
+class DistributionWindow {
+
+    private final int maxInFlightTasks;
+    private final int maxSpan;
+
+    private final Deque<WindowTask> tasks = new ArrayDeque<>();
+    private final Deque<WindowElement> pendingElements = new ArrayDeque<>();
+    private final BlockingQueue<WindowTask> completedTasks = new LinkedBlockingQueue<>();
+
+    private int nextIndex;
+    private int inFlightTasks;
+
+    /**
+     * @param startIndex index of the first element of the window
+     * @param maxInFlightTasks max number of worker tasks submitted and not yet completed
+     * @param maxSpan max number of elements between the watermark and the last read element
+     */
+    DistributionWindow(int startIndex, int maxInFlightTasks, int maxSpan) {
+        if (maxInFlightTasks < 1 || maxSpan < 1) {
+            throw new IllegalArgumentException("Window sizes must be strictly positive");
+        }
+        this.nextIndex = startIndex;
+        this.maxInFlightTasks = maxInFlightTasks;
+        this.maxSpan = maxSpan;
+    }
+
+    /**
+     * @return the index of the first element not yet treated
+     */
+    int getWatermark() {
+        if (!tasks.isEmpty()) {
+            return tasks.peekFirst().startIndex;
+        }
+        if (!pendingElements.isEmpty()) {
+            return pendingElements.peekFirst().index;
+        }
+        return nextIndex;
+    }
+
+    /**
+     * @return the index of the next element to read, that is the exclusive end of the window
+     */
+    int getNextIndex() {
+        return nextIndex;
+    }
+
+    boolean canRead() {
+        return nextIndex - getWatermark() < maxSpan;
+    }
+
+    void add(JsonLineModel element) {
+        pendingElements.addLast(new WindowElement(nextIndex++, element));
+    }
+
+    /**
+     * Skip an element already treated before a recover
+     */
+    void skip() {
+        nextIndex++;
+    }
+
+    int getPendingCount() {
+        return pendingElements.size();
+    }
+
+    boolean hasPendingElements() {
+        return !pendingElements.isEmpty();
+    }
+
+    boolean hasInFlightTasks() {
+        return inFlightTasks > 0;
+    }
+
+    /**
+     * @return true if no element is pending nor running, so that a new distribution group may be started
+     */
+    boolean isIdle() {
+        return inFlightTasks == 0 && pendingElements.isEmpty();
+    }
+
+    boolean canDispatch() {
+        return inFlightTasks < maxInFlightTasks && !pendingElements.isEmpty();
+    }
+
+    /**
+     * Submit a worker task for the next pending elements
+     *
+     * @param bulkSize max number of elements of the task
+     * @param taskFactory creates the worker task for the given elements
+     * @param executor submits the task and returns its result
+     */
+    void dispatch(int bulkSize, Function<List<JsonLineModel>, WorkerTask> taskFactory,
+        Function<WorkerTask, CompletableFuture<ItemStatus>> executor) {
+        int startIndex = pendingElements.peekFirst().index;
+        List<JsonLineModel> elements = new ArrayList<>(bulkSize);
+        while (elements.size() < bulkSize && !pendingElements.isEmpty()) {
+            elements.add(pendingElements.pollFirst().element);
+        }
+        WorkerTask workerTask = taskFactory.apply(elements);
+        CompletableFuture<ItemStatus> future;
+        try {
+            future = executor.apply(workerTask);
+        } catch (RuntimeException e) {
+            // Reported as a failed task by awaitCompletion, the elements stay in the window
+            future = new CompletableFuture<>();
+            future.completeExceptionally(e);
+        }
+        WindowTask windowTask = new WindowTask(startIndex, workerTask, future);
+        tasks.addLast(windowTask);
+        inFlightTasks++;
+        future.whenComplete((itemStatus, throwable) -> completedTasks.add(windowTask));
+    }
+
+    /**
+     * Wait for the next worker task to complete and slide the window on the treated prefix
+     *
+     * @return the item status of the completed task
+     * @throws InterruptedException if interrupted while waiting
+     * @throws ExecutionException if the task completed exceptionally
+     */
+    ItemStatus awaitCompletion() throws InterruptedException, ExecutionException {
+        WindowTask completedTask = completedTasks.take();
+        inFlightTasks--;
+        while (!tasks.isEmpty() && tasks.peekFirst().isTreated()) {
+            tasks.pollFirst();
+        }
+        return completedTask.future.get();
+    }
+
+    /**
+     * Elements of the window to execute after a recover : elements of paused or running tasks, and pending elements
+     *
+     * @return the list of element identifiers
+     */
+    List<String> getRemainingElements() {
+        List<String> remainingElements = new ArrayList<>();
+        for (WindowTask task : tasks) {
+            if (!task.workerTask.isCompleted()) {
+                remainingElements.addAll(task.workerTask.getObjectNameList());
+            }
+        }
+        for (WindowElement pendingElement : pendingElements) {
+            remainingElements.add(pendingElement.element.getId());
+        }
+        return remainingElements;
+    }
+
+    private static class WindowElement {
+        private final int index;
+        private final JsonLineModel element;
+
+        private WindowElement(int index, JsonLineModel element) {
+            this.index = index;
+            this.element = element;
+        }
+    }
+
+
+    private static class WindowTask {
+        private final int startIndex;
+        private final WorkerTask workerTask;
+        private final CompletableFuture<ItemStatus> future;
+
+        private WindowTask(int startIndex, WorkerTask workerTask, CompletableFuture<ItemStatus> future) {
+            this.startIndex = startIndex;
+            this.workerTask = workerTask;
+            this.future = future;
+        }
+
+        private boolean isTreated() {
+            return future.isDone() && workerTask.isCompleted();
+        }
+    }
+}
@@ -81,10 +81,12 @@ import java.net.URI;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map.Entry;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.stream.Collectors;
@@ -116,6 +118,12 @@ public class ProcessDistributorImpl implements ProcessDistributor {
     private static final TypeReference<List<URI>> LIST_URI_TYPE_REFERENCE = new TypeReference<>() {
     };
 
+    /**
+     * In pipelined distribution, max number of distribution batches between the first element not yet treated and
+     * the last dispatched element. Bounds the memory used by the window when a task is much slower than the others.
+     */
+    private static final int PIPELINED_WINDOW_SPAN_FACTOR = 10;
+
     private final ProcessDataManagement processDataManagement;
     private final IWorkerManager workerManager;
     private final WorkspaceClientFactory workspaceClientFactory;
@@ -347,7 +355,8 @@ public class ProcessDistributorImpl implements ProcessDistributor {
         int sizeList = objectsList.size();
         boolean updateElementToProcess = true;
 
-        final List<String> remainingElementsFromRecover = new ArrayList<>();
+        final Set<String> remainingElementsFromRecover = new HashSet<>();
+        int recoverWindowEnd = 0;
         /*
          * initFromDistributorIndex true if start after stop
          *
@@ -400,6 +409,7 @@ public class ProcessDistributorImpl implements ProcessDistributor {
                     if (null != distributorIndex.getRemainingElements()) {
                         remainingElementsFromRecover.addAll(distributorIndex.getRemainingElements());
                     }
+                    recoverWindowEnd = getRecoverWindowEnd(distributorIndex, step);
                 }
             } catch (Exception e) {
                 throw new ProcessingException("Can't get distributor index from workspace", e);
@@ -418,6 +428,12 @@ public class ProcessDistributorImpl implements ProcessDistributor {
             processStep.getElementToProcess().addAndGet(sizeList);
         }
 
+        if (serverConfiguration.isPipelinedDistribution()) {
+            Iterator<String> elements = objectsList.listIterator(offset);
+            return distributeOnWindow(workerParameters, step, level, elements, false, offset,
+                remainingElementsFromRecover, recoverWindowEnd, false, tenantId);
+        }
+
         while (offset < sizeList) {
 
             int bulkSize = findBulkSize(step.getDistribution());
@@ -438,9 +454,17 @@ public class ProcessDistributorImpl implements ProcessDistributor {
             boolean emptyRemainingElements = remainingElementsFromRecover.isEmpty();
 
             if (!emptyRemainingElements) {
-                subList = new ArrayList<>(subList);
-                subList.retainAll(remainingElementsFromRecover);
-                remainingElementsFromRecover.clear();
+                List<String> retainedList = new ArrayList<>();
+                for (int i = 0; i < subList.size(); i++) {
+                    if (!isTreatedBeforeRecover(offset + i, subList.get(i), remainingElementsFromRecover,
+                        recoverWindowEnd)) {
+                        retainedList.add(subList.get(i));
+                    }
+                }
+                subList = retainedList;
+                if (nextOffset >= recoverWindowEnd) {
+                    remainingElementsFromRecover.clear();
+                }
             }
 
             prepareCurrentWorkerTaskAndCompletableLists(workerParameters, step, tenantId, requestId,
@@ -539,7 +563,8 @@ public class ProcessDistributorImpl implements ProcessDistributor {
 
         boolean updateElementToProcess = true;
 
-        final List<String> remainingElementsFromRecover = new ArrayList<>();
+        final Set<String> remainingElementsFromRecover = new HashSet<>();
+        int recoverWindowEnd = 0;
 
         /*
          * Check if the initialization is from the DistributorIndex :
@@ -595,6 +620,7 @@ public class ProcessDistributorImpl implements ProcessDistributor {
 
                         remainingElementsFromRecover.addAll(distributorIndex.getRemainingElements());
                     }
+                    recoverWindowEnd = getRecoverWindowEnd(distributorIndex, step);
                 }
             } catch (VitamException e) {
                 throw new ProcessingException(
@@ -618,6 +644,11 @@ public class ProcessDistributorImpl implements ProcessDistributor {
             return false;
         }
 
+        if (serverConfiguration.isPipelinedDistribution()) {
+            return distributeOnWindow(workerParameters, step, ProcessDistributor.NOLEVEL, linesPeekIterator, true,
+                offset, remainingElementsFromRecover, recoverWindowEnd, updateElementToProcess, tenantId);
+        }
+
         while (linesPeekIterator.hasNext()) {
 
             int nextOffset = offset + globalBatchSize;
@@ -669,13 +700,19 @@ public class ProcessDistributorImpl implements ProcessDistributor {
             if (!remainingElementsFromRecover.isEmpty()) {
 
                 ArrayList<JsonLineModel> retainedList = new ArrayList<>();
-                for (JsonLineModel model : distributionList) {
-                    if (remainingElementsFromRecover.contains(model.getId())) {
+                for (int i = 0; i < distributionList.size(); i++) {
+                    JsonLineModel model = distributionList.get(i);
+                    if (!isTreatedBeforeRecover(offset + i, model.getId(), remainingElementsFromRecover,
+                        recoverWindowEnd)) {
                         retainedList.add(model);
                     }
                 }
+                // A batch shorter than the global batch size ends a distribution group, that also ends the window
+                if (offset + distributionList.size() >= recoverWindowEnd ||
+                    distributionList.size() < globalBatchSize) {
+                    remainingElementsFromRecover.clear();
+                }
                 distributionList = retainedList;
-                remainingElementsFromRecover.clear();
             }
 
             prepareCurrentWorkerTaskAndCompletableListsOnStream(workerParameters, step, tenantId, requestId, contractId,
@@ -731,6 +768,187 @@ public class ProcessDistributorImpl implements ProcessDistributor {
         return true;
     }
 
+    /**
+     * Pipelined distribution : worker tasks are submitted as soon as a slot is freed, instead of waiting for the
+     * whole batch to complete. A new distribution group is only started once all tasks of the previous one are done.
+     * <p>
+     * The persisted DistributorIndex holds the first element not yet treated as offset, and the elements of the
+     * window that are not treated (running, paused or not yet dispatched) as remaining elements.
+     *
+     * @param workerParameters workerParameters
+     * @param step step
+     * @param level the current level
+     * @param elements elements to distribute, starting at offset
+     * @param jsonLines true if elements are json lines, false if they are plain identifiers
+     * @param offset the index of the first element
+     * @param remainingElementsFromRecover elements to execute after recover
+     * @param recoverWindowEnd exclusive end of the elements covered by remainingElementsFromRecover
+     * @param updateElementToProcess true if read elements must be added to the elements to process
+     * @param tenantId tenantId
+     * @return true as the distributor index is used
+     * @throws ProcessingException
+     */
+    private boolean distributeOnWindow(WorkerParameters workerParameters, Step step, String level,
+        Iterator<String> elements, boolean jsonLines, int offset, Set<String> remainingElementsFromRecover,
+        int recoverWindowEnd, boolean updateElementToProcess, Integer tenantId) throws ProcessingException {
+
+        final String operationId = workerParameters.getContainerName();
+        final String requestId = VitamThreadUtils.getVitamSession().getRequestId();
+        final String contractId = VitamThreadUtils.getVitamSession().getContractId();
+        final String contextId = VitamThreadUtils.getVitamSession().getContextId();
+        final String applicationId = VitamThreadUtils.getVitamSession().getApplicationSessionId();
+
+        final int bulkSize = findBulkSize(step.getDistribution());
+        final int maxInFlightTasks = VitamConfiguration.getDistributeurBatchSize();
+        final DistributionWindow window = new DistributionWindow(offset, maxInFlightTasks,
+            maxInFlightTasks * bulkSize * PIPELINED_WINDOW_SPAN_FACTOR);
+
+        JsonLineModel nextElement = null;
+        Integer currentGroup = null;
+        boolean stopDispatch = false;
+        boolean endOfElements = false;
+        int completedSinceLastCheckpoint = 0;
+
+        while (true) {
+
+            boolean dispatched;
+            do {
+                // Read elements while the window has room, without crossing a distribution group boundary
+                boolean groupBarrier = false;
+                while (!stopDispatch && window.getPendingCount() < bulkSize && window.canRead()) {
+                    if (nextElement == null) {
+                        if (!elements.hasNext()) {
+                            break;
+                        }
+                        nextElement = jsonLines ? readJsonLineModelFromBufferFromString(elements.next()) :
+                            new JsonLineModel(elements.next());
+                    }
+                    if (isDistribGroupChange(currentGroup, nextElement) && !window.isIdle()) {
+                        groupBarrier = true;
+                        break;
+                    }
+                    currentGroup = nextElement.getDistribGroup();
+                    if (updateElementToProcess) {
+                        ((ProcessStep) step).getElementToProcess().incrementAndGet();
+                    }
+                    if (isTreatedBeforeRecover(window.getNextIndex(), nextElement.getId(),
+                        remainingElementsFromRecover, recoverWindowEnd)) {
+                        window.skip();
+                    } else {
+                        window.add(nextElement);
+                    }
+                    nextElement = null;
+                }
+                endOfElements = nextElement == null && !elements.hasNext();
+
+                // Only dispatch partial bulks when no more element can be added to them
+                boolean canDispatchPartialBulk =
+                    endOfElements || groupBarrier || (!window.canRead() && !window.hasInFlightTasks());
+                dispatched = false;
+                while (!stopDispatch && window.canDispatch() &&
+                    (window.getPendingCount() >= bulkSize || canDispatchPartialBulk)) {
+                    window.dispatch(bulkSize,
+                        bulk -> newWorkerTask(workerParameters, step, bulk, jsonLines, tenantId, requestId,
+                            contractId, contextId, applicationId),
+                        this::prepare);
+                    dispatched = true;
+                }
+            } while (dispatched);
+
+            if (!window.hasInFlightTasks()) {
+                break;
+            }
+
+            try {
+                ItemStatus itemStatus = window.awaitCompletion();
+                // Do not compute PAUSE and CANCEL actions
+                if (!PauseOrCancelAction.ACTION_CANCEL.name().equals(itemStatus.getItemId()) &&
+                    !PauseOrCancelAction.ACTION_PAUSE.name().equals(itemStatus.getItemId())) {
+                    step.getStepResponses().setItemsStatus(itemStatus);
+                }
+            } catch (InterruptedException | ExecutionException e) {
+                throw new ProcessingException(e);
+            }
+
+            if (step.getStepResponses().getGlobalStatus().isGreaterOrEqualToFatal() ||
+                PauseOrCancelAction.ACTION_PAUSE.equals(step.getPauseOrCancelAction()) ||
+                PauseOrCancelAction.ACTION_CANCEL.equals(step.getPauseOrCancelAction())) {
+                // Stop dispatching, and wait for running tasks before persisting the index
+                stopDispatch = true;
+            } else if (++completedSinceLastCheckpoint >= maxInFlightTasks) {
+                completedSinceLastCheckpoint = 0;
+                persistWindowDistributorIndex(operationId, level, requestId, step, window, false);
+            }
+        }
+
+        if (!stopDispatch && (!endOfElements || window.hasPendingElements())) {
+            throw new ProcessingException("Pipelined distribution stopped before the end of elements");
+        }
+
+        persistWindowDistributorIndex(operationId, level, requestId, step, window, endOfElements);
+
+        checkCancelledOrPaused(step);
+
+        return true;
+    }
+
+    private void persistWindowDistributorIndex(String operationId, String level, String requestId, Step step,
+        DistributionWindow window, boolean endOfElements) throws ProcessingException {
+        final ItemStatus itemStatus = step.getStepResponses();
+        final boolean fatal = itemStatus.getGlobalStatus().isGreaterOrEqualToFatal();
+
+        // When fatal occurs, we have to restart from the watermark
+        List<String> remainingElements = fatal ? new ArrayList<>() : window.getRemainingElements();
+
+        DistributorIndex distributorIndex =
+            new DistributorIndex(level, window.getWatermark(), itemStatus, requestId, step.getId(),
+                remainingElements);
+        distributorIndex.setWindowEnd(window.getNextIndex());
+
+        // All elements of the current level are treated so finish it
+        if (endOfElements && !fatal && remainingElements.isEmpty()) {
+            distributorIndex.setLevelFinished(true);
+        }
+
+        updatePersistedDistributorIndexIfNotFatal(operationId, window.getWatermark(), distributorIndex, itemStatus,
+            AN_EXCEPTION_HAS_BEEN_THROWN_WHEN_TRYING_TO_PERSIST_DISTRIBUTOR_INDEX);
+    }
+
+    private WorkerTask newWorkerTask(WorkerParameters workerParameters, Step step, List<JsonLineModel> bulk,
+        boolean jsonLines, Integer tenantId, String requestId, String contractId, String contextId,
+        String applicationId) {
+        workerParameters.setObjectNameList(bulk.stream().map(JsonLineModel::getId).collect(Collectors.toList()));
+        if (jsonLines) {
+            workerParameters
+                .setObjectMetadataList(bulk.stream().map(JsonLineModel::getParams).collect(Collectors.toList()));
+        }
+        return new WorkerTask(
+            new DescriptionStep(step, ((DefaultWorkerParameters) workerParameters).newInstance()),
+            tenantId, requestId, contractId, contextId, applicationId, workerClientFactory);
+    }
+
+    private static boolean isDistribGroupChange(Integer currentGroup, JsonLineModel nextElement) {
+        return currentGroup != null && nextElement.getDistribGroup() != null &&
+            !currentGroup.equals(nextElement.getDistribGroup());
+    }
+
+    /**
+     * Elements before the recover window end that are not in the remaining elements were treated before the pause
+     */
+    private static boolean isTreatedBeforeRecover(int index, String element, Set<String> remainingElements,
+        int recoverWindowEnd) {
+        return !remainingElements.isEmpty() && index < recoverWindowEnd && !remainingElements.contains(element);
+    }
+
+    private int getRecoverWindowEnd(DistributorIndex distributorIndex, Step step) {
+        if (distributorIndex.getWindowEnd() != null) {
+            return distributorIndex.getWindowEnd();
+        }
+        // Index persisted by batch distribution : remaining elements cover one batch
+        return distributorIndex.getOffset() +
+            VitamConfiguration.getDistributeurBatchSize() * findBulkSize(step.getDistribution());
+    }
+
     private void skipOffsetLines(BufferedReader bufferedReader, int offset) throws ProcessingException {
         for (int i = 0; i < offset; i++) {
             try {
@@ -37,7 +37,7 @@ import fr.gouv.vitam.worker.client.exception.WorkerExecutorException;
 /**
  * manage one worker with n thread
  */
-public class WorkerExecutor implements Runnable {
+public class WorkerExecutor implements Runnable, IWorkerExecutor {
     private static final VitamLogger
         LOGGER = VitamLoggerFactory.getInstance(WorkerExecutor.class);
     private final InterruptSignal interruptSignal;
@@ -89,6 +89,7 @@ public class WorkerExecutor implements Runnable {
     /**
      * send a message to notify all thread that the worker will be stop.
      */
+    @Override
     public void stop() {
         IntStream.range(0, workerBean.getCapacity()).forEach((i) -> {
             try {
@@ -99,6 +100,7 @@ public class WorkerExecutor implements Runnable {
         });
     }
 
+    @Override
     public WorkerBean getWorkerBean() {
         return workerBean;
     }
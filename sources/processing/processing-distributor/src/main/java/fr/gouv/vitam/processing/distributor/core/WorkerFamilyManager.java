@@ -41,7 +41,7 @@ public class WorkerFamilyManager implements Executor {
 
     private BlockingQueue<Runnable> queue;
 
-    private Map<String, WorkerExecutor> workers = new ConcurrentHashMap<>();
+    private Map<String, IWorkerExecutor> workers = new ConcurrentHashMap<>();
 
     public WorkerFamilyManager(int queueSize) {
         if (queueSize < 2) {
@@ -50,6 +50,13 @@ public class WorkerFamilyManager implements Executor {
         queue = new ArrayBlockingQueue<>(queueSize, true);
     }
 
+    /**
+     * Constructor for family managers that do not dispatch tasks through a shared blocking queue
+     */
+    protected WorkerFamilyManager() {
+        queue = null;
+    }
+
     public void registerWorker(WorkerBean workerBean) {
         workers.computeIfAbsent(workerBean.getWorkerId(), (key) -> {
             WorkerExecutor executor = new WorkerExecutor(queue, workerBean);
@@ -69,7 +76,7 @@ public class WorkerFamilyManager implements Executor {
      */
     public void unregisterWorker(String workerId) {
 
-        final WorkerExecutor workerExecutor = workers.get(workerId);
+        final IWorkerExecutor workerExecutor = workers.get(workerId);
         if (workerExecutor != null) {
             workerExecutor.stop();
             workers.remove(workerId);
@@ -85,7 +92,7 @@ public class WorkerFamilyManager implements Executor {
         }
     }
 
-    public Map<String, WorkerExecutor> getWorkers() {
+    public Map<String, IWorkerExecutor> getWorkers() {
         return workers;
     }
 }
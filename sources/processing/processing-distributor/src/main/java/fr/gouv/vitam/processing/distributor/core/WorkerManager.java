@@ -66,15 +66,31 @@ public class WorkerManager implements IWorkerManager {
 
     private WorkerClientFactory workerClientFactory = null;
 
+    private final boolean asyncWorkerDispatch;
+
     /**
      * Constructor
      */
     public WorkerManager() {
+        this(false);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param asyncWorkerDispatch if true, calls to workers are dispatched through AsyncWorkerFamilyManager
+     */
+    public WorkerManager(boolean asyncWorkerDispatch) {
         workersFamily = new ConcurrentHashMap<>();
+        this.asyncWorkerDispatch = asyncWorkerDispatch;
     }
 
     public WorkerManager(WorkerClientFactory workerClientFactory) {
-        workersFamily = new ConcurrentHashMap<>();
+        this(workerClientFactory, false);
+    }
+
+    public WorkerManager(WorkerClientFactory workerClientFactory, boolean asyncWorkerDispatch) {
+        this(asyncWorkerDispatch);
         this.workerClientFactory = workerClientFactory;
     }
 
@@ -92,7 +108,7 @@ public class WorkerManager implements IWorkerManager {
         List<WorkerBean> registeredWorkers = new ArrayList<>();
 
         for (Map.Entry<String, WorkerFamilyManager> family : workersFamily.entrySet()) {
-            for (Map.Entry<String, WorkerExecutor> worker : family.getValue().getWorkers().entrySet()) {
+            for (Map.Entry<String, IWorkerExecutor> worker : family.getValue().getWorkers().entrySet()) {
                 WorkerBean workerBean = worker.getValue().getWorkerBean();
                 registeredWorkers.add(workerBean);
             }
@@ -122,7 +138,8 @@ public class WorkerManager implements IWorkerManager {
 
     @Override
     public void registerWorker(WorkerBean workerBean) throws IOException {
-        workersFamily.putIfAbsent(workerBean.getFamily(), new WorkerFamilyManager(QUEUE_SIZE));
+        workersFamily.computeIfAbsent(workerBean.getFamily(), (key) -> asyncWorkerDispatch ?
+            new AsyncWorkerFamilyManager(QUEUE_SIZE) : new WorkerFamilyManager(QUEUE_SIZE));
         workersFamily.compute(workerBean.getFamily(), (key, workerManager) -> {
             workerManager.registerWorker(workerBean);
             return workerManager;
@@ -0,0 +1,230 @@
+/*
+ * Copyright French Prime minister Office/SGMAP/DINSIC/Vitam Program (2015-2020)
+ *
+ * contact.vitam@culture.gouv.fr
+ *
+ * This software is a computer program whose purpose is to implement a digital archiving back-office system managing
+ * high volumetry securely and efficiently.
+ *
+ * This software is governed by the CeCILL 2.1 license under French law and abiding by the rules of distribution of free
+ * software. You can use, modify and/ or redistribute the software under the terms of the CeCILL 2.1 license as
+ * circulated by CEA, CNRS and INRIA at the following URL "https://cecill.info".
+ *
+ * As a counterpart to the access to the source code and rights to copy, modify and redistribute granted by the license,
+ * users are provided only with a limited warranty and the software's author, the holder of the economic rights, and the
+ * successive licensors have only limited liability.
+ *
+ * In this respect, the user's attention is drawn to the risks associated with loading, using, modifying and/or
+ * developing or reproducing the software by the user in light of its specific status of free software, that may mean
+ * that it is complicated to manipulate, and that also therefore means that it is reserved for developers and
+ * experienced professionals having in-depth computer knowledge. Users are therefore encouraged to load and test the
+ * software's suitability as regards their requirements in conditions enabling the security of their systems and/or data
+ * to be ensured and, more generally, to use and operate it in the same conditions as regards security.
+ *
+ * The fact that you are presently reading this means that you have had knowledge of the CeCILL 2.1 license and that you
+ * accept its terms.
+ */
+package fr.gouv.vitam.processing.distributor.core;
+
+import fr.gouv.vitam.processing.common.model.WorkerBean;
+import fr.gouv.vitam.processing.common.model.WorkerRemoteConfiguration;
+import org.junit.Test;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class AsyncWorkerFamilyManagerTest {
+
+    private static final int NB_WORKERS = 20;
+    private static final int WORKER_CAPACITY = 50;
+    private static final int NB_TASKS = 1000;
+    private static final long TASK_DURATION_MS = 200;
+
+    @Test
+    public void should_run_tasks_with_worker_information_and_bounded_by_capacity() throws Exception {
+        // Given
+        AsyncWorkerFamilyManager workerFamilyManager = new AsyncWorkerFamilyManager(15);
+        workerFamilyManager.registerWorker(newWorkerBean("worker1", 2));
+        workerFamilyManager.registerWorker(newWorkerBean("worker2", 3));
+
+        Map<String, AtomicInteger> runningPerWorker = new ConcurrentHashMap<>();
+        Map<String, Integer> maxRunningPerWorker = new ConcurrentHashMap<>();
+
+        // When
+        List<CompletableFuture<String>> futures = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            futures.add(CompletableFuture.supplyAsync(() -> {
+                String workerId = WorkerInformation.getWorkerThreadLocal().get().getWorkerBean().getWorkerId();
+                int running = runningPerWorker.computeIfAbsent(workerId, k -> new AtomicInteger()).incrementAndGet();
+                maxRunningPerWorker.merge(workerId, running, Math::max);
+                sleep(10);
+                runningPerWorker.get(workerId).decrementAndGet();
+                return workerId;
+            }, workerFamilyManager));
+        }
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).get(30, TimeUnit.SECONDS);
+
+        // Then
+        assertThat(maxRunningPerWorker.get("worker1")).isLessThanOrEqualTo(2);
+        assertThat(maxRunningPerWorker.get("worker2")).isLessThanOrEqualTo(3);
+        assertThat(workerFamilyManager.getPendingTaskCount()).isEqualTo(0);
+        assertThat(((AsyncWorkerExecutor) workerFamilyManager.getWorkers().get("worker1")).getInFlightCalls())
+            .isEqualTo(0);
+    }
+
+    @Test
+    public void should_not_give_tasks_to_unregistered_worker() throws Exception {
+        // Given
+        AsyncWorkerFamilyManager workerFamilyManager = new AsyncWorkerFamilyManager(15);
+        workerFamilyManager.registerWorker(newWorkerBean("worker1", 1));
+        CountDownLatch blockingTaskStarted = new CountDownLatch(1);
+        CountDownLatch releaseBlockingTask = new CountDownLatch(1);
+        CompletableFuture<Void> blockingTask = CompletableFuture.runAsync(() -> {
+            blockingTaskStarted.countDown();
+            await(releaseBlockingTask);
+        }, workerFamilyManager);
+        blockingTaskStarted.await();
+
+        // When
+        CompletableFuture<String> pendingTask = CompletableFuture.supplyAsync(
+            () -> WorkerInformation.getWorkerThreadLocal().get().getWorkerBean().getWorkerId(), workerFamilyManager);
+        workerFamilyManager.unregisterWorker("worker1");
+        releaseBlockingTask.countDown();
+        blockingTask.get(10, TimeUnit.SECONDS);
+
+        // Then
+        assertThat(workerFamilyManager.getWorkers()).isEmpty();
+        assertThat(pendingTask.isDone()).isFalse();
+        assertThat(workerFamilyManager.getPendingTaskCount()).isEqualTo(1);
+
+        // When a new worker registers
+        workerFamilyManager.registerWorker(newWorkerBean("worker2", 1));
+
+        // Then
+        assertThat(pendingTask.get(10, TimeUnit.SECONDS)).isEqualTo("worker2");
+    }
+
+    @Test
+    public void should_shutdown_call_pool_when_last_worker_is_unregistered() throws Exception {
+        // Given
+        AsyncWorkerFamilyManager workerFamilyManager = new AsyncWorkerFamilyManager(15);
+        assertThat(workerFamilyManager.isCallExecutorStarted()).isFalse();
+        workerFamilyManager.registerWorker(newWorkerBean("worker1", 1));
+        workerFamilyManager.registerWorker(newWorkerBean("worker2", 1));
+        assertThat(workerFamilyManager.isCallExecutorStarted()).isTrue();
+
+        // When
+        workerFamilyManager.unregisterWorker("worker1");
+
+        // Then
+        assertThat(workerFamilyManager.isCallExecutorStarted()).isTrue();
+
+        // When
+        workerFamilyManager.unregisterWorker("worker2");
+
+        // Then
+        assertThat(workerFamilyManager.isCallExecutorStarted()).isFalse();
+
+        // When a new worker registers
+        workerFamilyManager.registerWorker(newWorkerBean("worker3", 1));
+        CompletableFuture<String> task = CompletableFuture.supplyAsync(
+            () -> WorkerInformation.getWorkerThreadLocal().get().getWorkerBean().getWorkerId(), workerFamilyManager);
+
+        // Then
+        assertThat(task.get(10, TimeUnit.SECONDS)).isEqualTo("worker3");
+    }
+
+    /**
+     * Load test : compares dispatch latency and thread count of thread per capacity and async dispatch with
+     * 1000 concurrent tasks on 20 workers of capacity 50.
+     */
+    @Test
+    public void load_test_dispatch_latency_and_thread_count() throws Exception {
+        LoadTestResult threadPerCapacity = runLoadTest(new WorkerFamilyManager(15));
+        LoadTestResult async = runLoadTest(new AsyncWorkerFamilyManager(15));
+
+        // Threads are created for calls in flight only
+        assertThat(async.threadsAfterRegistration).isEqualTo(0);
+        assertThat(threadPerCapacity.threadsAfterRegistration).isGreaterThanOrEqualTo(NB_WORKERS * WORKER_CAPACITY);
+        assertThat(async.peakThreads).isLessThanOrEqualTo(threadPerCapacity.peakThreads);
+        assertThat(async.latenciesMs[NB_TASKS / 2]).isLessThan(TASK_DURATION_MS);
+    }
+
+    private LoadTestResult runLoadTest(WorkerFamilyManager workerFamilyManager) throws Exception {
+        ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+        LoadTestResult result = new LoadTestResult();
+
+        int initialThreads = threadMXBean.getThreadCount();
+        for (int i = 0; i < NB_WORKERS; i++) {
+            workerFamilyManager.registerWorker(newWorkerBean("worker" + i, WORKER_CAPACITY));
+        }
+        result.threadsAfterRegistration = threadMXBean.getThreadCount() - initialThreads;
+
+        CountDownLatch allStarted = new CountDownLatch(NB_TASKS);
+        CountDownLatch release = new CountDownLatch(1);
+        long[] latencies = new long[NB_TASKS];
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (int i = 0; i < NB_TASKS; i++) {
+            final int taskIndex = i;
+            final long submitted = System.nanoTime();
+            futures.add(CompletableFuture.runAsync(() -> {
+                latencies[taskIndex] = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - submitted);
+                allStarted.countDown();
+                sleep(TASK_DURATION_MS);
+                await(release);
+            }, workerFamilyManager));
+        }
+        assertThat(allStarted.await(60, TimeUnit.SECONDS)).isTrue();
+        result.peakThreads = threadMXBean.getThreadCount() - initialThreads;
+        release.countDown();
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).get(60, TimeUnit.SECONDS);
+
+        for (String workerId : new ArrayList<>(workerFamilyManager.getWorkers().keySet())) {
+            workerFamilyManager.unregisterWorker(workerId);
+        }
+
+        Arrays.sort(latencies);
+        result.latenciesMs = latencies;
+        return result;
+    }
+
+    private static WorkerBean newWorkerBean(String workerId, int capacity) {
+        WorkerBean workerBean = new WorkerBean(workerId, "LoadTestFamily", capacity, "status",
+            new WorkerRemoteConfiguration("localhost", 8999));
+        workerBean.setWorkerId(workerId);
+        return workerBean;
+    }
+
+    private static void sleep(long millis) {
+        try {
+            TimeUnit.MILLISECONDS.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void await(CountDownLatch countDownLatch) {
+        try {
+            countDownLatch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static class LoadTestResult {
+        private int threadsAfterRegistration;
+        private int peakThreads;
+        private long[] latenciesMs;
+    }
+}
@@ -0,0 +1,180 @@
+/*
+ * Copyright French Prime minister Office/SGMAP/DINSIC/Vitam Program (2015-2020)
+ *
+ * contact.vitam@culture.gouv.fr
+ *
+ * This software is a computer program whose purpose is to implement a digital archiving back-office system managing
+ * high volumetry securely and efficiently.
+ *
+ * This software is governed by the CeCILL 2.1 license under French law and abiding by the rules of distribution of free
+ * software. You can use, modify and/ or redistribute the software under the terms of the CeCILL 2.1 license as
+ * circulated by CEA, CNRS and INRIA at the following URL "https://cecill.info".
+ *
+ * As a counterpart to the access to the source code and rights to copy, modify and redistribute granted by the license,
+ * users are provided only with a limited warranty and the software's author, the holder of the economic rights, and the
+ * successive licensors have only limited liability.
+ *
+ * In this respect, the user's attention is drawn to the risks associated with loading, using, modifying and/or
+ * developing or reproducing the software by the user in light of its specific status of free software, that may mean
+ * that it is complicated to manipulate, and that also therefore means that it is reserved for developers and
+ * experienced professionals having in-depth computer knowledge. Users are therefore encouraged to load and test the
+ * software's suitability as regards their requirements in conditions enabling the security of their systems and/or data
+ * to be ensured and, more generally, to use and operate it in the same conditions as regards security.
+ *
+ * The fact that you are presently reading this means that you have had knowledge of the CeCILL 2.1 license and that you
+ * accept its terms.
+ */
+package fr.gouv.vitam.processing.distributor.core;
+
+import fr.gouv.vitam.common.model.ItemStatus;
+import fr.gouv.vitam.common.model.StatusCode;
+import fr.gouv.vitam.worker.core.distribution.JsonLineModel;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class DistributionWindowTest {
+
+    private final List<WorkerTask> workerTasks = new ArrayList<>();
+    private final List<CompletableFuture<ItemStatus>> futures = new ArrayList<>();
+
+    @Test
+    public void should_slide_watermark_on_treated_prefix_only() throws Exception {
+        // Given
+        DistributionWindow window = new DistributionWindow(10, 5, 100);
+        for (int i = 0; i < 4; i++) {
+            window.add(new JsonLineModel("element" + i));
+        }
+
+        // When
+        window.dispatch(1, this::newWorkerTask, this::submit);
+        window.dispatch(1, this::newWorkerTask, this::submit);
+        window.dispatch(1, this::newWorkerTask, this::submit);
+
+        // Then
+        assertThat(window.getWatermark()).isEqualTo(10);
+        assertThat(window.getNextIndex()).isEqualTo(14);
+        assertThat(window.getPendingCount()).isEqualTo(1);
+
+        // When the second task completes first
+        complete(1);
+        window.awaitCompletion();
+
+        // Then
+        assertThat(window.getWatermark()).isEqualTo(10);
+        assertThat(window.getRemainingElements()).containsExactly("element0", "element2", "element3");
+
+        // When the first task completes
+        complete(0);
+        window.awaitCompletion();
+
+        // Then
+        assertThat(window.getWatermark()).isEqualTo(12);
+        assertThat(window.getRemainingElements()).containsExactly("element2", "element3");
+        assertThat(window.hasInFlightTasks()).isTrue();
+    }
+
+    @Test
+    public void should_bound_in_flight_tasks_and_span() throws Exception {
+        // Given
+        DistributionWindow window = new DistributionWindow(0, 2, 6);
+
+        // When
+        while (window.canRead()) {
+            window.add(new JsonLineModel("element" + window.getNextIndex()));
+        }
+        window.dispatch(2, this::newWorkerTask, this::submit);
+        window.dispatch(2, this::newWorkerTask, this::submit);
+
+        // Then
+        assertThat(window.getNextIndex()).isEqualTo(6);
+        assertThat(window.canDispatch()).isFalse();
+
+        // When
+        complete(0);
+        window.awaitCompletion();
+
+        // Then
+        assertThat(window.canDispatch()).isTrue();
+        assertThat(window.canRead()).isTrue();
+        assertThat(window.getWatermark()).isEqualTo(2);
+    }
+
+    @Test
+    public void should_keep_paused_tasks_in_remaining_elements() throws Exception {
+        // Given
+        DistributionWindow window = new DistributionWindow(0, 2, 10);
+        window.add(new JsonLineModel("element0"));
+        window.skip();
+        window.add(new JsonLineModel("element2"));
+        window.dispatch(1, this::newWorkerTask, this::submit);
+        window.dispatch(1, this::newWorkerTask, this::submit);
+
+        // When the first task is paused before execution
+        futures.get(0).complete(new ItemStatus("ACTION_PAUSE").increment(StatusCode.UNKNOWN));
+        window.awaitCompletion();
+        complete(1);
+        window.awaitCompletion();
+
+        // Then
+        assertThat(window.hasInFlightTasks()).isFalse();
+        assertThat(window.getWatermark()).isEqualTo(0);
+        assertThat(window.getNextIndex()).isEqualTo(3);
+        assertThat(window.getRemainingElements()).containsExactly("element0");
+    }
+
+    @Test
+    public void should_report_failed_submission_as_failed_task() throws Exception {
+        // Given
+        DistributionWindow window = new DistributionWindow(0, 2, 10);
+        window.add(new JsonLineModel("element0"));
+        window.add(new JsonLineModel("element1"));
+        window.dispatch(1, this::newWorkerTask, this::submit);
+
+        // When
+        window.dispatch(1, this::newWorkerTask, workerTask -> {
+            throw new IllegalStateException("Submission failed");
+        });
+
+        // Then
+        assertThatThrownBy(window::awaitCompletion).isInstanceOf(ExecutionException.class)
+            .hasCauseInstanceOf(IllegalStateException.class);
+
+        // When
+        complete(0);
+        window.awaitCompletion();
+
+        // Then
+        assertThat(window.hasInFlightTasks()).isFalse();
+        assertThat(window.getWatermark()).isEqualTo(1);
+        assertThat(window.getRemainingElements()).containsExactly("element1");
+    }
+
+    private WorkerTask newWorkerTask(List<JsonLineModel> elements) {
+        WorkerTask workerTask = mock(WorkerTask.class);
+        when(workerTask.getObjectNameList())
+            .thenReturn(elements.stream().map(JsonLineModel::getId).collect(Collectors.toList()));
+        workerTasks.add(workerTask);
+        return workerTask;
+    }
+
+    private CompletableFuture<ItemStatus> submit(WorkerTask workerTask) {
+        CompletableFuture<ItemStatus> future = new CompletableFuture<>();
+        futures.add(future);
+        return future;
+    }
+
+    private void complete(int taskIndex) {
+        when(workerTasks.get(taskIndex).isCompleted()).thenReturn(true);
+        futures.get(taskIndex).complete(new ItemStatus("ItemId").increment(StatusCode.OK));
+    }
+}
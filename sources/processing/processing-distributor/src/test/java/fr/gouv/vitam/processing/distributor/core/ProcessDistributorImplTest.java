@@ -26,6 +26,7 @@
  */
 package fr.gouv.vitam.processing.distributor.core;
 
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.JsonNode;
 import fr.gouv.vitam.common.PropertiesUtils;
 import fr.gouv.vitam.common.VitamConfiguration;
@@ -64,6 +65,7 @@ import fr.gouv.vitam.processing.distributor.api.IWorkerManager;
 import fr.gouv.vitam.processing.distributor.api.ProcessDistributor;
 import fr.gouv.vitam.worker.client.WorkerClient;
 import fr.gouv.vitam.worker.client.WorkerClientFactory;
+import fr.gouv.vitam.worker.client.exception.PauseCancelException;
 import fr.gouv.vitam.worker.client.exception.WorkerNotFoundClientException;
 import fr.gouv.vitam.worker.client.exception.WorkerServerClientException;
 import fr.gouv.vitam.worker.common.DescriptionStep;
@@ -78,6 +80,7 @@ import org.junit.BeforeClass;
 import org.junit.ClassRule;
 import org.junit.Rule;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
 
 import javax.ws.rs.core.MultivaluedHashMap;
 import javax.ws.rs.core.Response;
@@ -89,13 +92,18 @@ import java.io.PrintWriter;
 import java.nio.channels.Channels;
 import java.nio.file.Files;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static fr.gouv.vitam.common.GlobalDataRest.X_CHUNK_LENGTH;
 import static fr.gouv.vitam.common.GlobalDataRest.X_CONTENT_LENGTH;
@@ -109,6 +117,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.reset;
 import static org.mockito.Mockito.times;
@@ -699,6 +708,235 @@ public class ProcessDistributorImplTest {
             });
     }
 
+    @Test
+    @RunWithCustomExecutor
+    public void whenPipelinedDistributeDistributionKindListWithLevelOK() throws Exception {
+        int numberOfObjectInIngestLevelStack = 170;
+        final File fileContracts = PropertiesUtils.getResourceFile("ingestLevelStack.json");
+
+        givenWorkspaceClientReturnsFileContent(fileContracts, any(), any());
+
+        serverConfiguration.setPipelinedDistribution(true);
+        ProcessStep step = getStep(DistributionKind.LIST_ORDERING_IN_FILE, ProcessDistributor.ELEMENT_UNITS);
+        ItemStatus itemStatus = processDistributor
+            .distribute(workerParameters, step, operationId, PauseRecover.NO_RECOVER);
+
+        assertNotNull(itemStatus);
+        assertThat(itemStatus.getGlobalStatus()).isEqualTo(StatusCode.OK);
+        assertThat(itemStatus.getItemsStatus().get("ItemId").getStatusMeter()
+            .get(StatusCode.OK.getStatusLevel())).isEqualTo(numberOfObjectInIngestLevelStack);
+        assertThat(step.getElementProcessed().get()).isEqualTo(numberOfObjectInIngestLevelStack);
+        verify(workerClient, times(numberOfObjectInIngestLevelStack)).submitStep(any());
+
+        ArgumentCaptor<DistributorIndex> distributorIndexArgumentCaptor =
+            ArgumentCaptor.forClass(DistributorIndex.class);
+        verify(processDataManagement, atLeastOnce())
+            .persistDistributorIndex(eq(ProcessDistributor.DISTRIBUTOR_INDEX), eq(operationId),
+                distributorIndexArgumentCaptor.capture());
+        DistributorIndex lastDistributorIndex = distributorIndexArgumentCaptor.getValue();
+        assertThat(lastDistributorIndex.isLevelFinished()).isTrue();
+        assertThat(lastDistributorIndex.getRemainingElements()).isEmpty();
+    }
+
+    @Test
+    @RunWithCustomExecutor
+    public void shouldPipelinedDistributeOnStreamRespectingDistributionGroups() throws Exception {
+
+        AtomicInteger actualLevel = new AtomicInteger(0);
+        AtomicInteger runningTasks = new AtomicInteger(0);
+
+        File file = createRandomDataSetInfo();
+
+        givenWorkspaceClientReturnsFileContent(file, "FakeOperationId", file.getAbsolutePath());
+
+        when(workerClient.submitStep(any()))
+            .thenAnswer(invocation -> {
+
+                Map<WorkerParameterName, String> mapParameters =
+                    ((DescriptionStep) invocation.getArguments()[0])
+                        .getWorkParams().getMapParameters();
+
+                JsonNode objectMetadataList =
+                    JsonHandler.getFromString(mapParameters.get(WorkerParameterName.objectMetadataList));
+
+                String level = objectMetadataList.get(0).get("distributionNumber").textValue();
+
+                synchronized (this) {
+                    if (!String.valueOf(actualLevel.get()).equals(level)) {
+                        // A new group only starts once all tasks of the previous group are done
+                        assertThat(runningTasks.get()).isEqualTo(0);
+                        int newLevel = actualLevel.incrementAndGet();
+                        assertThat(level).isEqualTo(String.valueOf(newLevel));
+                    }
+                    runningTasks.incrementAndGet();
+                }
+                try {
+                    TimeUnit.MILLISECONDS.sleep(1);
+                } finally {
+                    runningTasks.decrementAndGet();
+                }
+                return getMockedItemStatus(StatusCode.OK);
+            });
+
+        serverConfiguration.setPipelinedDistribution(true);
+        ProcessStep step = getStep(DistributionKind.LIST_IN_JSONL_FILE, file.getAbsolutePath());
+        ItemStatus itemStatus = processDistributor
+            .distribute(workerParameters, step, operationId, PauseRecover.NO_RECOVER);
+
+        verify(workerClient, times(750)).submitStep(any());
+        assertThat(actualLevel.get()).isEqualTo(100);
+        assertThat(step.getElementToProcess().get()).isEqualTo(750);
+        assertThat(itemStatus.getGlobalStatus()).isEqualTo(StatusCode.OK);
+    }
+
+    @Test
+    @RunWithCustomExecutor
+    public void whenPipelinedDistributeResumptionAfterPauseThenOnlyRemainingElementsOfWindowAreExecuted()
+        throws Exception {
+        String listElements = "list_guids_with_7_elements.json";
+        File file = PropertiesUtils.getResourceFile(listElements);
+        givenWorkspaceClientReturnsFileContent(file, operationId, listElements);
+        List<String> elements = JsonHandler.getFromFileAsTypeReference(file, new TypeReference<List<String>>() {
+        });
+
+        Step step = getStep(DistributionKind.LIST_IN_FILE, listElements);
+        step.setPauseOrCancelAction(PauseOrCancelAction.ACTION_RECOVER);
+
+        // Elements 0 and 1 are before the watermark, element 3 was treated out of order before the pause
+        DistributorIndex distributorIndex =
+            new DistributorIndex(ProcessDistributor.NOLEVEL, 2, new ItemStatus(), FAKE_REQUEST_ID, step.getId(),
+                Arrays.asList(elements.get(2), elements.get(4)));
+        distributorIndex.setWindowEnd(5);
+        when(processDataManagement.getDistributorIndex(ProcessDistributor.DISTRIBUTOR_INDEX, operationId))
+            .thenReturn(Optional.of(distributorIndex));
+
+        List<String> executedElements = Collections.synchronizedList(new ArrayList<>());
+        when(workerClient.submitStep(any())).thenAnswer(invocation -> {
+            DescriptionStep descriptionStep = invocation.getArgument(0);
+            executedElements.addAll(descriptionStep.getWorkParams().getObjectNameList());
+            return getMockedItemStatus(StatusCode.OK);
+        });
+
+        serverConfiguration.setPipelinedDistribution(true);
+        ItemStatus itemStatus =
+            processDistributor.distribute(workerParameters, step, operationId, PauseRecover.RECOVER_FROM_API_PAUSE);
+
+        assertThat(itemStatus.getGlobalStatus()).isEqualTo(StatusCode.OK);
+        assertThat(executedElements)
+            .containsExactlyInAnyOrder(elements.get(2), elements.get(4), elements.get(5), elements.get(6));
+    }
+
+    @Test
+    @RunWithCustomExecutor
+    public void whenPipelinedDistributePauseThenDistributorIndexHoldsWatermarkAndRemainingElements()
+        throws Exception {
+        final File fileContracts = PropertiesUtils.getResourceFile("ingestLevelStack.json");
+        givenWorkspaceClientReturnsFileContent(fileContracts, any(), any());
+
+        Step step = getStep(DistributionKind.LIST_ORDERING_IN_FILE, ProcessDistributor.ELEMENT_UNITS);
+
+        final CountDownLatch countDownLatchSubmit = new CountDownLatch(30);
+        when(workerClient.submitStep(any())).thenAnswer(invocation -> {
+            countDownLatchSubmit.countDown();
+            if (countDownLatchSubmit.getCount() == 0) {
+                step.setPauseOrCancelAction(PauseOrCancelAction.ACTION_PAUSE);
+            }
+            return getMockedItemStatus(StatusCode.OK);
+        });
+
+        serverConfiguration.setPipelinedDistribution(true);
+        try {
+            processDistributor.distribute(workerParameters, step, operationId, PauseRecover.NO_RECOVER);
+        } catch (PauseCancelException e) {
+            SysErrLogger.FAKE_LOGGER.ignoreLog(e);
+        }
+
+        ArgumentCaptor<DistributorIndex> distributorIndexArgumentCaptor =
+            ArgumentCaptor.forClass(DistributorIndex.class);
+        verify(processDataManagement, atLeastOnce())
+            .persistDistributorIndex(eq(ProcessDistributor.DISTRIBUTOR_INDEX), eq(operationId),
+                distributorIndexArgumentCaptor.capture());
+        DistributorIndex lastDistributorIndex = distributorIndexArgumentCaptor.getValue();
+
+        assertThat(lastDistributorIndex.isLevelFinished()).isFalse();
+        assertThat(lastDistributorIndex.getLevel()).isEqualTo("level_4");
+        // 6 elements of previous levels and at least 24 elements of level_4 are treated
+        assertThat(lastDistributorIndex.getOffset()).isGreaterThanOrEqualTo(24);
+        assertThat(lastDistributorIndex.getWindowEnd()).isGreaterThanOrEqualTo(lastDistributorIndex.getOffset());
+        assertThat(lastDistributorIndex.getWindowEnd() - lastDistributorIndex.getOffset())
+            .isGreaterThanOrEqualTo(lastDistributorIndex.getRemainingElements().size());
+    }
+
+    /**
+     * Counts the tasks completed by the other worker slots while the first task of the step is blocked : batch
+     * distribution only runs the tasks of the same batch, pipelined distribution keeps the slots busy
+     */
+    @Test
+    @RunWithCustomExecutor
+    public void pipelinedDistributionShouldKeepWorkersBusyWithSkewedTaskDurations() throws Exception {
+        int capacity = 8;
+        int nbElements = 400;
+        int expectedTasksDuringSlowTask = 60;
+        final WorkerBean workerBean =
+            new WorkerBean("SkewedWorker", "SkewedWorker", capacity, "status",
+                new WorkerRemoteConfiguration("localhost", 8999));
+        workerBean.setWorkerId("SkewedWorkerId");
+        IWorkerManager skewedWorkerManager = new WorkerManager(workerClientFactory);
+        skewedWorkerManager.registerWorker(workerBean);
+
+        File file = testFolder.newFile();
+        try (PrintWriter writer = new PrintWriter(new FileOutputStream(file))) {
+            for (int i = 0; i < nbElements; i++) {
+                writer.append("{ \"id\": \"").append(String.valueOf(i)).append("\"}\n");
+            }
+        }
+        givenWorkspaceClientReturnsFileContent(file, operationId, file.getName());
+
+        AtomicBoolean slowTaskRunning = new AtomicBoolean();
+        AtomicInteger tasksDuringSlowTask = new AtomicInteger();
+        AtomicReference<CountDownLatch> slowTaskRelease = new AtomicReference<>();
+        when(workerClient.submitStep(any())).thenAnswer(invocation -> {
+            DescriptionStep descriptionStep = invocation.getArgument(0);
+            String element = descriptionStep.getWorkParams().getObjectNameList().get(0);
+            if ("0".equals(element)) {
+                slowTaskRunning.set(true);
+                // Batch distribution never reaches the expected count : the task is released on timeout
+                slowTaskRelease.get().await(1, TimeUnit.SECONDS);
+                slowTaskRunning.set(false);
+            } else if (slowTaskRunning.get()) {
+                tasksDuringSlowTask.incrementAndGet();
+                slowTaskRelease.get().countDown();
+            }
+            return getMockedItemStatus(StatusCode.OK);
+        });
+
+        int[] tasksDuringSlowTaskByMode = new int[2];
+        for (int mode = 0; mode < 2; mode++) {
+            tasksDuringSlowTask.set(0);
+            slowTaskRelease.set(new CountDownLatch(expectedTasksDuringSlowTask));
+            serverConfiguration.setPipelinedDistribution(mode == 1);
+            ProcessDistributorImpl distributor = new ProcessDistributorImpl(skewedWorkerManager,
+                serverConfiguration, processDataManagement, workspaceClientFactory, metaDataClientFactory,
+                workerClientFactory);
+            ProcessStep step = getStep(DistributionKind.LIST_IN_JSONL_FILE, file.getName());
+            step.setWorkerGroupId("SkewedWorker");
+
+            ItemStatus itemStatus = distributor.distribute(workerParameters, step, operationId,
+                PauseRecover.NO_RECOVER);
+
+            assertThat(itemStatus.getGlobalStatus()).isEqualTo(StatusCode.OK);
+            assertThat(step.getElementProcessed().get()).isEqualTo(nbElements);
+            tasksDuringSlowTaskByMode[mode] = tasksDuringSlowTask.get();
+        }
+
+        skewedWorkerManager.unregisterWorker("SkewedWorker", "SkewedWorkerId");
+
+        // Batch distribution waits for the slow task before dispatching the next batch (20 elements)
+        assertThat(tasksDuringSlowTaskByMode[0]).isLessThan(20);
+        // Pipelined distribution keeps dispatching tasks to the free slots
+        assertThat(tasksDuringSlowTaskByMode[1]).isGreaterThanOrEqualTo(expectedTasksDuringSlowTask);
+    }
+
     @Test
     @RunWithCustomExecutor
     public void whenDistributeKindLargeFileFATAL() throws Exception {
@@ -81,7 +81,7 @@ public class VitamApplicationInitializr {
 
             WorkspaceClientFactory.changeMode(configuration.getUrlWorkspace());
 
-            workerManager = new WorkerManager();
+            workerManager = new WorkerManager(configuration.isAsyncWorkerDispatch());
             workerManager.initialize();
 
             processDistributor = new ProcessDistributorImpl(workerManager, configuration);
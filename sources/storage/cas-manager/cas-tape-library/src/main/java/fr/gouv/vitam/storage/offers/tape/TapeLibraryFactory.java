@@ -222,7 +222,7 @@ public class TapeLibraryFactory {
                     new TapeDriveWorkerManager(readWriteQueue, archiveReferentialRepository,
                         readRequestReferentialRepository, libraryPool, driveTape,
                         configuration.getInputTarStorageFolder(), configuration.isForceOverrideNonEmptyCartridges(),
-                        archiveOutputRetentionPolicy));
+                        archiveOutputRetentionPolicy, configuration.getReadOrderMaxWaitTimeInMinutes()));
         }
 
         // Everything's alright. Start tar creation listeners
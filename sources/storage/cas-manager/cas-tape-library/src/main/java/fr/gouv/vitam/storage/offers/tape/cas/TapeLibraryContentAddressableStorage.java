@@ -83,6 +83,7 @@ import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -279,17 +280,21 @@ public class TapeLibraryContentAddressableStorage implements ContentAddressableS
         Map<String, TarLocation> tarLocationMap = new HashMap<>();
         Set<String> archiveSet = new HashSet<>();
         try {
+            // Resolve all objects at once
+            Map<String, TapeObjectReferentialEntity> objectsByName =
+                objectReferentialRepository.bulkFind(containerName, new HashSet<>(objectsIds)).stream()
+                    .collect(Collectors.toMap(entity -> entity.getId().getObjectName(), entity -> entity));
+
             for (String objectName : objectsIds) {
 
-                Optional<TapeObjectReferentialEntity> object =
-                    objectReferentialRepository.find(containerName, objectName);
-                if (!object.isPresent()) {
+                TapeObjectReferentialEntity object = objectsByName.get(objectName);
+                if (object == null) {
                     throw new ContentAddressableStorageNotFoundException(
                         ErrorMessage.OBJECT_NOT_FOUND + containerName + "/" + objectName);
                 }
 
                 // Get TARs containing the object segments
-                TapeLibraryObjectStorageLocation location = object.get().getLocation();
+                TapeLibraryObjectStorageLocation location = object.getLocation();
                 if (!(location instanceof TapeLibraryTarObjectStorageLocation)) {
                     // TODO: 15/07/19 object is in the local FS and not yet in TAR (throw exception or read it from local FS ?)
                     throw new UnsupportedOperationException("Object stored in tar. Not implemented yet");
@@ -317,41 +322,23 @@ public class TapeLibraryContentAddressableStorage implements ContentAddressableS
                 }
 
 
-                filesInTape.add(new FileInTape(objectName, object.get().getStorageId(), tarEntryDescriptions));
+                filesInTape.add(new FileInTape(objectName, object.getStorageId(), tarEntryDescriptions));
             }
 
             tapeReadRequestReferentialEntity =
                 new TapeReadRequestReferentialEntity(readRequestId, containerName, tarLocationMap, filesInTape);
             readRequestReferentialRepository.insert(tapeReadRequestReferentialEntity);
 
-            for (String tarId : archiveSet) {
-                Optional<TapeArchiveReferentialEntity> tapeLibraryTarReferentialEntity =
-                    archiveReferentialRepository.find(tarId);
-                if (!tapeLibraryTarReferentialEntity.isPresent()) {
-                    throw new IllegalStateException("TAR information not found for tarId : " + tarId);
-                }
-
-                TapeLibraryArchiveStorageLocation tarLocation = tapeLibraryTarReferentialEntity.get().getLocation();
-                if (!(tarLocation instanceof TapeLibraryOnTapeArchiveStorageLocation)) {
-                    throw new UnsupportedOperationException("Tar file is not yet on tape.");
-                }
-
-                String tarIdWithoutExtension = StringUtils.substringBeforeLast(tarId, ".");
-                if (tarLocationMap.get(tarIdWithoutExtension).equals(TarLocation.DISK)) {
-                    // Do not add read order task as TAR already exists in local FS
-                    continue;
-                }
-
-                // Create read orders
-                String tapeCode = ((TapeLibraryOnTapeArchiveStorageLocation) tarLocation).getTapeCode();
-                Integer filePosition = ((TapeLibraryOnTapeArchiveStorageLocation) tarLocation).getFilePosition();
-                String bucketId = getBucketByTapeCode(tapeCode);
-                ReadOrder readOrder = new ReadOrder(readRequestId, tapeCode, filePosition, tarId, bucketId);
+            Set<String> archivesToRead = archiveSet.stream()
+                .filter(tarId -> !TarLocation.DISK.equals(
+                    tarLocationMap.get(StringUtils.substringBeforeLast(tarId, "."))))
+                .collect(Collectors.toSet());
 
+            for (ReadOrder readOrder : createReadOrders(readRequestId, archivesToRead)) {
                 // add read orders to worker queue
                 readWriteQueue.addIfAbsent(
                     Arrays.asList(
-                        new QueryCriteria(ReadOrder.FILE_NAME, tarId, QueryCriteriaOperator.EQ),
+                        new QueryCriteria(ReadOrder.FILE_NAME, readOrder.getFileName(), QueryCriteriaOperator.EQ),
                         new QueryCriteria(ReadOrder.MESSAGE_TYPE, QueueMessageType.ReadOrder.name(),
                             QueryCriteriaOperator.EQ)),
                     readOrder);
@@ -366,6 +353,49 @@ public class TapeLibraryContentAddressableStorage implements ContentAddressableS
         return tapeReadRequestReferentialEntity.getRequestId();
     }
 
+    /**
+     * Create read orders of the given TARs, grouped by tape code and sorted by file position so that all TARs of a
+     * same tape are enqueued together, in the order they will be read.
+     */
+    private List<ReadOrder> createReadOrders(String readRequestId, Set<String> archiveIds)
+        throws ArchiveReferentialException, TapeCatalogException {
+
+        if (archiveIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        Map<String, TapeArchiveReferentialEntity> archivesById =
+            archiveReferentialRepository.bulkFind(archiveIds).stream()
+                .collect(Collectors.toMap(TapeArchiveReferentialEntity::getArchiveId, entity -> entity));
+
+        Map<String, String> bucketByTapeCode = new HashMap<>();
+        List<ReadOrder> readOrders = new ArrayList<>();
+        for (String tarId : archiveIds) {
+            TapeArchiveReferentialEntity tapeLibraryTarReferentialEntity = archivesById.get(tarId);
+            if (tapeLibraryTarReferentialEntity == null) {
+                throw new IllegalStateException("TAR information not found for tarId : " + tarId);
+            }
+
+            TapeLibraryArchiveStorageLocation tarLocation = tapeLibraryTarReferentialEntity.getLocation();
+            if (!(tarLocation instanceof TapeLibraryOnTapeArchiveStorageLocation)) {
+                throw new UnsupportedOperationException("Tar file is not yet on tape.");
+            }
+
+            String tapeCode = ((TapeLibraryOnTapeArchiveStorageLocation) tarLocation).getTapeCode();
+            Integer filePosition = ((TapeLibraryOnTapeArchiveStorageLocation) tarLocation).getFilePosition();
+            String bucketId = bucketByTapeCode.get(tapeCode);
+            if (bucketId == null) {
+                bucketId = getBucketByTapeCode(tapeCode);
+                bucketByTapeCode.put(tapeCode, bucketId);
+            }
+            readOrders.add(new ReadOrder(readRequestId, tapeCode, filePosition, tarId, bucketId));
+        }
+
+        readOrders.sort(Comparator.comparing(ReadOrder::getTapeCode)
+            .thenComparing(ReadOrder::getFilePosition, Comparator.nullsLast(Comparator.naturalOrder())));
+        return readOrders;
+    }
+
     @Override
     public void removeReadOrderRequest(String readRequestID)
         throws ContentAddressableStorageServerException {
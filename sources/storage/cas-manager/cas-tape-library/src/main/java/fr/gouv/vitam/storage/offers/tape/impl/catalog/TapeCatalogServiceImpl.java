@@ -321,6 +321,11 @@ public class TapeCatalogServiceImpl implements TapeCatalogService {
         return tapeCatalogRepository.receive(inQuery, messageType, usePriority);
     }
 
+    @Override
+    public <T> Optional<T> receive(Bson inQuery, QueueMessageType messageType, Bson sort) throws QueueException {
+        return tapeCatalogRepository.receive(inQuery, messageType, sort);
+    }
+
     @Override
     public <T> Optional<T> receive(Bson inQuery, Bson inUpdate, QueueMessageType messageType) throws QueueException {
         return tapeCatalogRepository.receive(inQuery, inUpdate, messageType);
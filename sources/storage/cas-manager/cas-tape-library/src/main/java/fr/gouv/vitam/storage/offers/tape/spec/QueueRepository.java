@@ -87,6 +87,16 @@ public interface QueueRepository {
 
     <T> Optional<T> receive(Bson inQuery, QueueMessageType messageType, boolean usePriority) throws QueueException;
 
+    /**
+     * @param inQuery filter
+     * @param messageType
+     * @param sort order of the matching messages, the first one is taken
+     * @param <T>
+     * @return
+     * @throws QueueException
+     */
+    <T> Optional<T> receive(Bson inQuery, QueueMessageType messageType, Bson sort) throws QueueException;
+
     <T> Optional<T> receive(Bson inQuery, Bson inUpdate, QueueMessageType messageType) throws QueueException;
 
     /**
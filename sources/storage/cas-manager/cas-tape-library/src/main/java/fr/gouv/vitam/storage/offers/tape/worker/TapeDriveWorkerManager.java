@@ -26,6 +26,8 @@
  */
 package fr.gouv.vitam.storage.offers.tape.worker;
 
+import com.mongodb.client.model.Sorts;
+import fr.gouv.vitam.common.LocalDateUtil;
 import fr.gouv.vitam.common.ParametersChecker;
 import fr.gouv.vitam.common.logging.VitamLogger;
 import fr.gouv.vitam.common.logging.VitamLoggerFactory;
@@ -46,6 +48,8 @@ import fr.gouv.vitam.storage.offers.tape.spec.QueueRepository;
 import fr.gouv.vitam.storage.offers.tape.spec.TapeDriveService;
 import fr.gouv.vitam.storage.offers.tape.spec.TapeLibraryPool;
 
+import org.bson.conversions.Bson;
+
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -58,18 +62,28 @@ import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import static com.mongodb.client.model.Filters.and;
 import static com.mongodb.client.model.Filters.eq;
+import static com.mongodb.client.model.Filters.gte;
+import static com.mongodb.client.model.Filters.lt;
 import static com.mongodb.client.model.Filters.nin;
 
 public class TapeDriveWorkerManager implements TapeDriveOrderConsumer, TapeDriveOrderProducer {
     private static final VitamLogger LOGGER = VitamLoggerFactory.getInstance(TapeDriveWorkerManager.class);
     private static final String TAPE_DRIVE_WORKER = "TapeDriveWorker_";
+
+    /**
+     * Default max time a read order may wait before its tape takes over the drive
+     */
+    public static final int DEFAULT_READ_ORDER_MAX_WAIT_TIME_IN_MINUTES = 60;
+
     private final QueueRepository readWriteQueue;
     private final List<TapeDriveWorker> workers;
 
     private final Map<Integer, OptimisticDriveResourceStatus> optimisticDriveResourceStatusMap =
         new ConcurrentHashMap<>();
     private final ArchiveOutputRetentionPolicy archiveOutputRetentionPolicy;
+    private final int readOrderMaxWaitTimeInMinutes;
 
     public TapeDriveWorkerManager(
         QueueRepository readWriteQueue,
@@ -78,12 +92,26 @@ public class TapeDriveWorkerManager implements TapeDriveOrderConsumer, TapeDrive
         TapeLibraryPool tapeLibraryPool,
         Map<Integer, TapeCatalog> driveTape, String inputTarPath, boolean forceOverrideNonEmptyCartridges,
         ArchiveOutputRetentionPolicy archiveOutputRetentionPolicy) {
+        this(readWriteQueue, archiveReferentialRepository, readRequestReferentialRepository, tapeLibraryPool, driveTape,
+            inputTarPath, forceOverrideNonEmptyCartridges, archiveOutputRetentionPolicy,
+            DEFAULT_READ_ORDER_MAX_WAIT_TIME_IN_MINUTES);
+    }
+
+    public TapeDriveWorkerManager(
+        QueueRepository readWriteQueue,
+        ArchiveReferentialRepository archiveReferentialRepository,
+        ReadRequestReferentialRepository readRequestReferentialRepository,
+        TapeLibraryPool tapeLibraryPool,
+        Map<Integer, TapeCatalog> driveTape, String inputTarPath, boolean forceOverrideNonEmptyCartridges,
+        ArchiveOutputRetentionPolicy archiveOutputRetentionPolicy, int readOrderMaxWaitTimeInMinutes) {
 
         ParametersChecker
             .checkParameter("All params is required required", tapeLibraryPool, readWriteQueue,
                 archiveReferentialRepository, readRequestReferentialRepository, driveTape,
                 archiveOutputRetentionPolicy);
+        ParametersChecker.checkValue("readOrderMaxWaitTimeInMinutes", readOrderMaxWaitTimeInMinutes, 1);
         this.archiveOutputRetentionPolicy = archiveOutputRetentionPolicy;
+        this.readOrderMaxWaitTimeInMinutes = readOrderMaxWaitTimeInMinutes;
         this.readWriteQueue = readWriteQueue;
         this.workers = new ArrayList<>();
 
@@ -199,7 +227,7 @@ public class TapeDriveWorkerManager implements TapeDriveOrderConsumer, TapeDrive
             order = selectWriteOrderByBucket(driveWorker.getCurrentTape().getBucket());
 
             if (!order.isPresent()) {
-                order = selectReadOrderByTapeCode(driveWorker.getCurrentTape().getCode());
+                order = selectReadOrderForCurrentTape(driveWorker.getCurrentTape());
             }
         }
 
@@ -238,7 +266,7 @@ public class TapeDriveWorkerManager implements TapeDriveOrderConsumer, TapeDrive
 
         if (driveWorker.getCurrentTape() != null) {
 
-            order = selectReadOrderByTapeCode(driveWorker.getCurrentTape().getCode());
+            order = selectReadOrderForCurrentTape(driveWorker.getCurrentTape());
 
             if (!order.isPresent()) {
                 order = selectWriteOrderByBucket(driveWorker.getCurrentTape().getBucket());
@@ -268,9 +296,48 @@ public class TapeDriveWorkerManager implements TapeDriveOrderConsumer, TapeDrive
         return readWriteQueue.receive(queueMessageType);
     }
 
-    private Optional<? extends ReadWriteOrder> selectReadOrderByTapeCode(String tapeCode) throws QueueException {
+    /**
+     * Read orders of the loaded tape are served in ascending file position starting from the current position, then
+     * from the beginning of the tape, so that the tape is read in a single pass before being unloaded.
+     * To prevent starvation, a read order of another tape that waits for more than readOrderMaxWaitTimeInMinutes is
+     * served first.
+     */
+    private Optional<? extends ReadWriteOrder> selectReadOrderForCurrentTape(TapeCatalog currentTape)
+        throws QueueException {
+
+        Optional<? extends ReadWriteOrder> order = selectAgedReadOrderExcludingTapeCodes();
+
+        if (!order.isPresent()) {
+            Integer currentPosition = currentTape.getCurrentPosition();
+            if (currentPosition != null) {
+                order = selectReadOrderByTapeCode(currentTape.getCode(), gte(ReadOrder.FILE_POSITION, currentPosition));
+            }
+        }
+
+        if (!order.isPresent()) {
+            order = selectReadOrderByTapeCode(currentTape.getCode(), null);
+        }
+
+        return order;
+    }
+
+    private Optional<? extends ReadWriteOrder> selectReadOrderByTapeCode(String tapeCode, Bson positionFilter)
+        throws QueueException {
+        return readWriteQueue.receive(
+            positionFilter != null ? and(eq(ReadOrder.TAPE_CODE, tapeCode), positionFilter) :
+                eq(ReadOrder.TAPE_CODE, tapeCode),
+            QueueMessageType.ReadOrder,
+            Sorts.ascending(ReadOrder.FILE_POSITION)
+        );
+    }
+
+    private Optional<? extends ReadWriteOrder> selectAgedReadOrderExcludingTapeCodes() throws QueueException {
+
+        String maxCreationDate = LocalDateUtil.getFormattedDateForMongo(
+            LocalDateUtil.now().minusMinutes(readOrderMaxWaitTimeInMinutes));
+
         return readWriteQueue.receive(
-            eq(ReadOrder.TAPE_CODE, tapeCode),
+            and(nin(ReadOrder.TAPE_CODE, getActiveTapeCodes()), lt(QueueMessageEntity.TAG_CREATION_DATE, maxCreationDate)),
             QueueMessageType.ReadOrder
         );
     }
@@ -297,7 +364,14 @@ public class TapeDriveWorkerManager implements TapeDriveOrderConsumer, TapeDrive
 
     private Optional<? extends ReadWriteOrder> selectReadOrderExcludingTapeCodes() throws QueueException {
 
-        Set<String> activeTapeCodes =
+        return readWriteQueue.receive(
+            nin(ReadOrder.TAPE_CODE, getActiveTapeCodes()),
+            QueueMessageType.ReadOrder
+        );
+    }
+
+    private Set<String> getActiveTapeCodes() {
+        return
             Stream.concat(
                 this.optimisticDriveResourceStatusMap.values().stream()
                     .map(optimisticDriveResourceStatus -> optimisticDriveResourceStatus.targetTapeCode),
@@ -306,11 +380,6 @@ public class TapeDriveWorkerManager implements TapeDriveOrderConsumer, TapeDrive
             )
                 .filter(Objects::nonNull)
                 .collect(Collectors.toSet());
-
-        return readWriteQueue.receive(
-            nin(ReadOrder.TAPE_CODE, activeTapeCodes),
-            QueueMessageType.ReadOrder
-        );
     }
 
     private static class OptimisticDriveResourceStatus {
@@ -34,6 +34,8 @@ import fr.gouv.vitam.common.model.MetadatasObject;
 import fr.gouv.vitam.common.storage.ContainerInformation;
 import fr.gouv.vitam.common.storage.cas.container.api.ObjectContent;
 import fr.gouv.vitam.common.storage.cas.container.api.ObjectListingListener;
+import fr.gouv.vitam.storage.engine.common.model.QueueMessageEntity;
+import fr.gouv.vitam.storage.engine.common.model.ReadOrder;
 import fr.gouv.vitam.storage.engine.common.model.TapeArchiveReferentialEntity;
 import fr.gouv.vitam.storage.engine.common.model.TapeCatalog;
 import fr.gouv.vitam.storage.engine.common.model.TapeLibraryObjectReferentialId;
@@ -67,8 +69,13 @@ import java.net.URISyntaxException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicReference;
 
@@ -81,8 +88,11 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
 public class TapeLibraryContentAddressableStorageTest {
@@ -407,7 +417,7 @@ public class TapeLibraryContentAddressableStorageTest {
         int fileSize = 6;
         String tarId = "20190625115513038-406fceff-2c4f-475c-898f-493331756eda.tar";
         TapeLibraryObjectReferentialId objectReferentialId =
-            new TapeLibraryObjectReferentialId("0_object", "aeaaaaaaaafklihzablkmallwljiqoiaaaaq");
+            new TapeLibraryObjectReferentialId("0_object", "aeaaaaaaaaecntv2ab5tmallrz6wdwqaaaaq");
         TapeLibraryTarObjectStorageLocation tarObjectStorageLocation = new TapeLibraryTarObjectStorageLocation(
             Arrays.asList(
                 new TarEntryDescription(
@@ -438,8 +448,10 @@ public class TapeLibraryContentAddressableStorageTest {
         ArgumentCaptor<List<QueryCriteria>> captor = ArgumentCaptor.forClass(List.class);
 
         when(tapeCatalogService.find(captor.capture())).thenReturn(Arrays.asList(tape));
-        when(objectReferentialRepository.find(anyString(), anyString())).thenReturn(objectReferentialEntity);
-        when(archiveReferentialRepository.find(anyString())).thenReturn(tarReferentialEntity);
+        when(objectReferentialRepository.bulkFind(anyString(), any()))
+            .thenReturn(Collections.singletonList(objectReferentialEntity.get()));
+        when(archiveReferentialRepository.bulkFind(any()))
+            .thenReturn(Collections.singletonList(tarReferentialEntity.get()));
 
         String readOrderId = tapeLibraryContentAddressableStorage
             .createReadOrderRequest("0_object", Arrays.asList("aeaaaaaaaaecntv2ab5tmallrz6wdwqaaaaq"));
@@ -460,6 +472,73 @@ public class TapeLibraryContentAddressableStorageTest {
         assertThat(readRequestReferentialRepository.find(readOrderId).get().isCompleted()).isTrue();
     }
 
+    @Test
+    public void createReadOrderWithMultipleTapesShouldResolveObjectsAtOnceAndSortReadOrdersByTapeAndPosition()
+        throws Exception {
+        // Given
+        List<String> objectNames = Arrays.asList("obj1", "obj2", "obj3", "obj4");
+        Map<String, String> tarByObject = new HashMap<>();
+        tarByObject.put("obj1", "tar1.tar");
+        tarByObject.put("obj2", "tar2.tar");
+        tarByObject.put("obj3", "tar3.tar");
+        tarByObject.put("obj4", "tar4.tar");
+
+        List<TapeObjectReferentialEntity> objects = new ArrayList<>();
+        for (String objectName : objectNames) {
+            objects.add(new TapeObjectReferentialEntity(
+                new TapeLibraryObjectReferentialId("0_object", objectName), 6, "SHA-512", "digest",
+                objectName + "-storageId",
+                new TapeLibraryTarObjectStorageLocation(Collections.singletonList(
+                    new TarEntryDescription(tarByObject.get(objectName), "0_object/" + objectName, 0, 6, "digest"))),
+                null, null));
+        }
+
+        List<TapeArchiveReferentialEntity> archives = Arrays.asList(
+            new TapeArchiveReferentialEntity("tar1.tar", new TapeLibraryOnTapeArchiveStorageLocation("TAPE_B", 12),
+                5120L, "digest", null),
+            new TapeArchiveReferentialEntity("tar2.tar", new TapeLibraryOnTapeArchiveStorageLocation("TAPE_A", 7),
+                5120L, "digest", null),
+            new TapeArchiveReferentialEntity("tar3.tar", new TapeLibraryOnTapeArchiveStorageLocation("TAPE_B", 3),
+                5120L, "digest", null),
+            new TapeArchiveReferentialEntity("tar4.tar", new TapeLibraryOnTapeArchiveStorageLocation("TAPE_A", 2),
+                5120L, "digest", null));
+
+        when(objectReferentialRepository.bulkFind(eq("0_object"), any())).thenReturn(objects);
+        when(archiveReferentialRepository.bulkFind(any())).thenReturn(archives);
+        TapeCatalog tape = new TapeCatalog();
+        tape.setBucket("bucket");
+        when(tapeCatalogService.find(any())).thenReturn(Collections.singletonList(tape));
+
+        // When
+        String readOrderId = tapeLibraryContentAddressableStorage.createReadOrderRequest("0_object", objectNames);
+
+        // Then
+        assertThat(readOrderId).isNotNull();
+        verify(objectReferentialRepository).bulkFind("0_object", new HashSet<>(objectNames));
+        verify(objectReferentialRepository, never()).find(anyString(), anyString());
+        verify(archiveReferentialRepository).bulkFind(new HashSet<>(tarByObject.values()));
+        verify(archiveReferentialRepository, never()).find(anyString());
+        verify(tapeCatalogService, times(2)).find(any());
+
+        ArgumentCaptor<QueueMessageEntity> readOrderCaptor = ArgumentCaptor.forClass(QueueMessageEntity.class);
+        verify(readWriteQueueRepository, times(4)).addIfAbsent(any(), readOrderCaptor.capture());
+        assertThat(readOrderCaptor.getAllValues())
+            .extracting(readOrder -> ((ReadOrder) readOrder).getFileName())
+            .containsExactly("tar4.tar", "tar2.tar", "tar3.tar", "tar1.tar");
+    }
+
+    @Test
+    public void createReadOrderWithUnknownObjectShouldFail() throws Exception {
+        // Given
+        when(objectReferentialRepository.bulkFind(eq("0_object"), any())).thenReturn(Collections.emptyList());
+
+        // When / Then
+        assertThatThrownBy(() -> tapeLibraryContentAddressableStorage
+            .createReadOrderRequest("0_object", Collections.singletonList("unknown")))
+            .isInstanceOf(ContentAddressableStorageNotFoundException.class);
+        verifyNoMoreInteractions(readWriteQueueRepository);
+    }
+
     @Test
     public void getObjectWith1SegmentsOK() throws ObjectReferentialException, IOException,
         ContentAddressableStorageNotFoundException, ContentAddressableStorageServerException,
@@ -0,0 +1,453 @@
+/*
+ * Copyright French Prime minister Office/SGMAP/DINSIC/Vitam Program (2015-2020)
+ *
+ * contact.vitam@culture.gouv.fr
+ *
+ * This software is a computer program whose purpose is to implement a digital archiving back-office system managing
+ * high volumetry securely and efficiently.
+ *
+ * This software is governed by the CeCILL 2.1 license under French law and abiding by the rules of distribution of free
+ * software. You can use, modify and/ or redistribute the software under the terms of the CeCILL 2.1 license as
+ * circulated by CEA, CNRS and INRIA at the following URL "https://cecill.info".
+ *
+ * As a counterpart to the access to the source code and rights to copy, modify and redistribute granted by the license,
+ * users are provided only with a limited warranty and the software's author, the holder of the economic rights, and the
+ * successive licensors have only limited liability.
+ *
+ * In this respect, the user's attention is drawn to the risks associated with loading, using, modifying and/or
+ * developing or reproducing the software by the user in light of its specific status of free software, that may mean
+ * that it is complicated to manipulate, and that also therefore means that it is reserved for developers and
+ * experienced professionals having in-depth computer knowledge. Users are therefore encouraged to load and test the
+ * software's suitability as regards their requirements in conditions enabling the security of their systems and/or data
+ * to be ensured and, more generally, to use and operate it in the same conditions as regards security.
+ *
+ * The fact that you are presently reading this means that you have had knowledge of the CeCILL 2.1 license and that you
+ * accept its terms.
+ */
+package fr.gouv.vitam.storage.offers.tape.worker;
+
+import com.mongodb.MongoClientSettings;
+import fr.gouv.vitam.common.LocalDateUtil;
+import fr.gouv.vitam.common.database.server.query.QueryCriteria;
+import fr.gouv.vitam.common.exception.InvalidParseOperationException;
+import fr.gouv.vitam.common.json.BsonHelper;
+import fr.gouv.vitam.common.json.JsonHandler;
+import fr.gouv.vitam.common.logging.VitamLogger;
+import fr.gouv.vitam.common.logging.VitamLoggerFactory;
+import fr.gouv.vitam.common.storage.tapelibrary.ReadWritePriority;
+import fr.gouv.vitam.storage.engine.common.model.QueueMessageEntity;
+import fr.gouv.vitam.storage.engine.common.model.QueueMessageType;
+import fr.gouv.vitam.storage.engine.common.model.QueueState;
+import fr.gouv.vitam.storage.engine.common.model.ReadOrder;
+import fr.gouv.vitam.storage.engine.common.model.ReadWriteOrder;
+import fr.gouv.vitam.storage.engine.common.model.TapeCatalog;
+import fr.gouv.vitam.storage.offers.tape.cas.ArchiveOutputRetentionPolicy;
+import fr.gouv.vitam.storage.offers.tape.cas.ArchiveReferentialRepository;
+import fr.gouv.vitam.storage.offers.tape.cas.ReadRequestReferentialRepository;
+import fr.gouv.vitam.storage.offers.tape.exception.QueueException;
+import fr.gouv.vitam.storage.offers.tape.spec.QueueRepository;
+import fr.gouv.vitam.storage.offers.tape.spec.TapeLibraryPool;
+import org.bson.BsonDocument;
+import org.bson.BsonValue;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.junit.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Simulation of tape read scheduling: replays a random read workload through {@link TapeDriveWorkerManager} on a
+ * simulated drive and reports the number of tape mounts and the total seek distance (in files), compared to serving
+ * read orders in queue order.
+ */
+public class TapeReadSchedulingSimulationTest {
+
+    private static final VitamLogger LOGGER = VitamLoggerFactory.getInstance(TapeReadSchedulingSimulationTest.class);
+
+    private static final String BUCKET = "bucket";
+
+    @Test
+    public void simulateRandomReadWorkload() throws Exception {
+        // Given
+        List<ReadOrder> workload = randomWorkload(new Random(42L), 8, 300, 1000);
+
+        // When
+        SimulationReport queueOrderReport = replay(workload);
+        SimulationReport scheduledReport = simulate(workload, TapeDriveWorkerManager.DEFAULT_READ_ORDER_MAX_WAIT_TIME_IN_MINUTES);
+
+        // Then
+        LOGGER.info("Queue order : " + queueOrderReport);
+        LOGGER.info("Scheduled   : " + scheduledReport);
+
+        assertThat(scheduledReport.readOrders).isEqualTo(workload.size());
+        assertThat(scheduledReport.mounts).isEqualTo(8);
+        assertThat(scheduledReport.mounts).isLessThan(queueOrderReport.mounts);
+        assertThat(scheduledReport.seekDistance).isLessThan(queueOrderReport.seekDistance);
+    }
+
+    @Test
+    public void simulateAgedReadOrderIsServedBeforeCurrentTapeIsDrained() throws Exception {
+        // Given
+        LocalDateTime now = LocalDateUtil.now();
+        List<ReadOrder> workload = new ArrayList<>();
+        workload.add(readOrder("TAPE_A", 1, now.minusMinutes(5)));
+        workload.add(readOrder("TAPE_A", 2, now.minusMinutes(4)));
+        workload.add(readOrder("TAPE_B", 1, now.minusMinutes(90)));
+        workload.add(readOrder("TAPE_A", 3, now.minusMinutes(3)));
+
+        InMemoryQueueRepository queue = new InMemoryQueueRepository();
+        for (ReadOrder readOrder : workload) {
+            queue.add(readOrder);
+        }
+        SimulatedDrive drive = new SimulatedDrive(queue, 60);
+        drive.load("TAPE_A", 0);
+
+        // When
+        List<ReadOrder> served = drive.run();
+
+        // Then
+        assertThat(served).extracting(ReadOrder::getTapeCode)
+            .containsExactly("TAPE_B", "TAPE_A", "TAPE_A", "TAPE_A");
+    }
+
+    @Test
+    public void simulateCurrentTapeIsReadForwardFromCurrentPosition() throws Exception {
+        // Given
+        LocalDateTime now = LocalDateUtil.now();
+        InMemoryQueueRepository queue = new InMemoryQueueRepository();
+        queue.add(readOrder("TAPE_A", 2, now.minusSeconds(5)));
+        queue.add(readOrder("TAPE_A", 40, now.minusSeconds(4)));
+        queue.add(readOrder("TAPE_A", 12, now.minusSeconds(3)));
+        queue.add(readOrder("TAPE_A", 25, now.minusSeconds(2)));
+        SimulatedDrive drive = new SimulatedDrive(queue, 60);
+        drive.load("TAPE_A", 10);
+
+        // When
+        List<ReadOrder> served = drive.run();
+
+        // Then
+        assertThat(served).extracting(ReadOrder::getFilePosition).containsExactly(12, 25, 40, 2);
+        assertThat(drive.report.mounts).isEqualTo(0);
+        assertThat(drive.report.seekDistance).isEqualTo(2 + 12 + 14 + 39);
+    }
+
+    private static List<ReadOrder> randomWorkload(Random random, int nbTapes, int nbReadOrders, int maxFilePosition) {
+        LocalDateTime now = LocalDateUtil.now();
+        List<ReadOrder> workload = new ArrayList<>();
+        for (int i = 0; i < nbReadOrders; i++) {
+            workload.add(readOrder("TAPE_" + random.nextInt(nbTapes), random.nextInt(maxFilePosition),
+                now.minusSeconds(nbReadOrders - i)));
+        }
+        return workload;
+    }
+
+    private static ReadOrder readOrder(String tapeCode, int filePosition, LocalDateTime created) {
+        ReadOrder readOrder =
+            new ReadOrder("readRequestId", tapeCode, filePosition, tapeCode + "-" + filePosition + ".tar", BUCKET);
+        readOrder.setCreated(LocalDateUtil.getFormattedDateForMongo(created));
+        return readOrder;
+    }
+
+    /**
+     * Serve read orders in queue order
+     */
+    private static SimulationReport replay(List<ReadOrder> workload) {
+        SimulationReport report = new SimulationReport();
+        String currentTape = null;
+        int currentPosition = 0;
+        for (ReadOrder readOrder : workload) {
+            if (!readOrder.getTapeCode().equals(currentTape)) {
+                currentTape = readOrder.getTapeCode();
+                currentPosition = 0;
+                report.mounts++;
+            }
+            report.seekDistance += Math.abs(readOrder.getFilePosition() - currentPosition);
+            currentPosition = readOrder.getFilePosition() + 1;
+            report.readOrders++;
+        }
+        return report;
+    }
+
+    private static SimulationReport simulate(List<ReadOrder> workload, int readOrderMaxWaitTimeInMinutes)
+        throws QueueException {
+        InMemoryQueueRepository queue = new InMemoryQueueRepository();
+        for (ReadOrder readOrder : workload) {
+            queue.add(readOrder);
+        }
+        SimulatedDrive drive = new SimulatedDrive(queue, readOrderMaxWaitTimeInMinutes);
+        drive.run();
+        return drive.report;
+    }
+
+    private static class SimulationReport {
+        private long readOrders;
+        private long mounts;
+        private long seekDistance;
+
+        @Override
+        public String toString() {
+            return "readOrders=" + readOrders + ", mounts=" + mounts + ", seekDistance=" + seekDistance;
+        }
+    }
+
+    /**
+     * Single drive that serves the read orders produced by a {@link TapeDriveWorkerManager}
+     */
+    private static class SimulatedDrive {
+
+        private final InMemoryQueueRepository queue;
+        private final TapeDriveWorkerManager tapeDriveWorkerManager;
+        private final TapeDriveWorker driveWorker = mock(TapeDriveWorker.class);
+        private final SimulationReport report = new SimulationReport();
+        private TapeCatalog currentTape;
+
+        SimulatedDrive(InMemoryQueueRepository queue, int readOrderMaxWaitTimeInMinutes) {
+            this.queue = queue;
+            this.tapeDriveWorkerManager = new TapeDriveWorkerManager(queue, mock(ArchiveReferentialRepository.class),
+                mock(ReadRequestReferentialRepository.class), mock(TapeLibraryPool.class), new HashMap<>(), "", false,
+                mock(ArchiveOutputRetentionPolicy.class), readOrderMaxWaitTimeInMinutes);
+            when(driveWorker.getIndex()).thenReturn(0);
+            when(driveWorker.getPriority()).thenReturn(ReadWritePriority.READ);
+            when(driveWorker.getCurrentTape()).thenAnswer(a -> currentTape);
+        }
+
+        void load(String tapeCode, int position) {
+            currentTape = new TapeCatalog();
+            currentTape.setCode(tapeCode);
+            currentTape.setBucket(BUCKET);
+            currentTape.setCurrentPosition(position);
+        }
+
+        List<ReadOrder> run() throws QueueException {
+            List<ReadOrder> served = new ArrayList<>();
+            Optional<? extends ReadWriteOrder> order;
+            while ((order = tapeDriveWorkerManager.produce(driveWorker)).isPresent()) {
+                ReadOrder readOrder = (ReadOrder) order.get();
+                if (currentTape == null || !currentTape.getCode().equals(readOrder.getTapeCode())) {
+                    load(readOrder.getTapeCode(), 0);
+                    report.mounts++;
+                }
+                report.seekDistance += Math.abs(readOrder.getFilePosition() - currentTape.getCurrentPosition());
+                currentTape.setCurrentPosition(readOrder.getFilePosition() + 1);
+                report.readOrders++;
+                queue.complete(readOrder.getId());
+                served.add(readOrder);
+            }
+            return served;
+        }
+    }
+
+    /**
+     * In memory queue evaluating the filters and sorts used by {@link TapeDriveWorkerManager}
+     */
+    private static class InMemoryQueueRepository implements QueueRepository {
+
+        private final Map<String, Document> messages = new HashMap<>();
+
+        @Override
+        public void add(QueueMessageEntity queueMessageEntity) {
+            messages.put(queueMessageEntity.getId(), Document.parse(JsonHandler.unprettyPrint(queueMessageEntity)));
+        }
+
+        @Override
+        public void addIfAbsent(List<QueryCriteria> criteria, QueueMessageEntity queueMessageEntity) {
+            add(queueMessageEntity);
+        }
+
+        @Override
+        public long remove(String queueMessageId) {
+            return messages.remove(queueMessageId) == null ? 0 : 1;
+        }
+
+        @Override
+        public long complete(String queueMessageId) {
+            return setState(queueMessageId, QueueState.COMPLETED);
+        }
+
+        @Override
+        public long markError(String queueMessageId) {
+            return setState(queueMessageId, QueueState.ERROR);
+        }
+
+        @Override
+        public long markReady(String queueMessageId) {
+            return setState(queueMessageId, QueueState.READY);
+        }
+
+        private long setState(String queueMessageId, QueueState state) {
+            Document message = messages.get(queueMessageId);
+            if (message == null) {
+                return 0;
+            }
+            message.put(QueueMessageEntity.STATE, state.getState());
+            return 1;
+        }
+
+        @Override
+        public long initializeOnBootstrap() {
+            return 0;
+        }
+
+        @Override
+        public <T> Optional<T> receive(QueueMessageType messageType) throws QueueException {
+            return receive(null, messageType);
+        }
+
+        @Override
+        public <T> Optional<T> receive(QueueMessageType messageType, boolean usePriority) throws QueueException {
+            return receive(null, messageType);
+        }
+
+        @Override
+        public <T> Optional<T> receive(Bson inQuery, QueueMessageType messageType) throws QueueException {
+            return receive(inQuery, messageType, sortByPriority());
+        }
+
+        @Override
+        public <T> Optional<T> receive(Bson inQuery, QueueMessageType messageType, boolean usePriority)
+            throws QueueException {
+            return receive(inQuery, messageType, sortByPriority());
+        }
+
+        @Override
+        public <T> Optional<T> receive(Bson inQuery, Bson inUpdate, QueueMessageType messageType) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public <T> Optional<T> receive(Bson inQuery, Bson inUpdate, QueueMessageType messageType, boolean usePriority) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public <T> Optional<T> receive(Bson inQuery, QueueMessageType messageType, Bson sort) throws QueueException {
+            BsonDocument filter = inQuery == null ? new BsonDocument() : toBsonDocument(inQuery);
+            BsonDocument sortDocument = toBsonDocument(sort);
+
+            Optional<Document> message = messages.values().stream()
+                .filter(m -> Objects.equals(QueueState.READY.getState(), m.get(QueueMessageEntity.STATE)))
+                .filter(m -> messageType.name().equals(m.getString(QueueMessageEntity.MESSAGE_TYPE)))
+                .filter(m -> matches(m, filter))
+                .min(comparator(sortDocument));
+
+            if (!message.isPresent()) {
+                return Optional.empty();
+            }
+            message.get().put(QueueMessageEntity.STATE, QueueState.RUNNING.getState());
+            try {
+                return Optional.of(JsonHandler.getFromString(BsonHelper.stringify(message.get()),
+                    (Class<T>) messageType.getClazz()));
+            } catch (InvalidParseOperationException e) {
+                throw new QueueException(e);
+            }
+        }
+
+        private static Bson sortByPriority() {
+            return new Document(QueueMessageEntity.PRIORITY, 1).append(QueueMessageEntity.TAG_CREATION_DATE, 1);
+        }
+
+        private static BsonDocument toBsonDocument(Bson bson) {
+            return bson.toBsonDocument(BsonDocument.class, MongoClientSettings.getDefaultCodecRegistry());
+        }
+
+        private static Comparator<Document> comparator(BsonDocument sort) {
+            Comparator<Document> comparator = (a, b) -> 0;
+            for (String field : sort.keySet()) {
+                Comparator<Document> fieldComparator = (a, b) -> compare(a.get(field), b.get(field));
+                comparator = comparator.thenComparing(sort.getNumber(field).intValue() < 0 ?
+                    fieldComparator.reversed() : fieldComparator);
+            }
+            return comparator;
+        }
+
+        private static boolean matches(Document message, BsonDocument filter) {
+            for (Map.Entry<String, BsonValue> criterion : filter.entrySet()) {
+                if ("$and".equals(criterion.getKey())) {
+                    for (BsonValue subFilter : criterion.getValue().asArray()) {
+                        if (!matches(message, subFilter.asDocument())) {
+                            return false;
+                        }
+                    }
+                } else if (!matches(message.get(criterion.getKey()), criterion.getValue())) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private static boolean matches(Object value, BsonValue condition) {
+            if (!condition.isDocument()) {
+                return compare(value, toJava(condition)) == 0;
+            }
+            for (Map.Entry<String, BsonValue> operator : condition.asDocument().entrySet()) {
+                boolean matches;
+                switch (operator.getKey()) {
+                    case "$eq":
+                        matches = compare(value, toJava(operator.getValue())) == 0;
+                        break;
+                    case "$nin":
+                        matches = operator.getValue().asArray().stream()
+                            .noneMatch(excluded -> compare(value, toJava(excluded)) == 0);
+                        break;
+                    case "$in":
+                        matches = operator.getValue().asArray().stream()
+                            .anyMatch(included -> compare(value, toJava(included)) == 0);
+                        break;
+                    case "$gt":
+                        matches = compare(value, toJava(operator.getValue())) > 0;
+                        break;
+                    case "$gte":
+                        matches = compare(value, toJava(operator.getValue())) >= 0;
+                        break;
+                    case "$lt":
+                        matches = compare(value, toJava(operator.getValue())) < 0;
+                        break;
+                    case "$lte":
+                        matches = compare(value, toJava(operator.getValue())) <= 0;
+                        break;
+                    default:
+                        throw new UnsupportedOperationException("Unsupported operator " + operator.getKey());
+                }
+                if (!matches) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private static Object toJava(BsonValue value) {
+            if (value.isNumber()) {
+                return value.asNumber().longValue();
+            }
+            if (value.isString()) {
+                return value.asString().getValue();
+            }
+            if (value.isNull()) {
+                return null;
+            }
+            throw new UnsupportedOperationException("Unsupported value " + value);
+        }
+
+        private static int compare(Object a, Object b) {
+            if (a == null || b == null) {
+                return Objects.equals(a, b) ? 0 : (a == null ? -1 : 1);
+            }
+            if (a instanceof Number && b instanceof Number) {
+                return Long.compare(((Number) a).longValue(), ((Number) b).longValue());
+            }
+            return a.toString().compareTo(b.toString());
+        }
+    }
+}
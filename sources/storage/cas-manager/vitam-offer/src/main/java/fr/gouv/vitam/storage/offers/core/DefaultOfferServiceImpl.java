@@ -58,9 +58,9 @@ import fr.gouv.vitam.storage.engine.common.model.OfferLogAction;
 import fr.gouv.vitam.storage.engine.common.model.Order;
 import fr.gouv.vitam.storage.engine.common.model.TapeReadRequestReferentialEntity;
 import fr.gouv.vitam.storage.offers.database.OfferLogAndCompactedOfferLogService;
+import fr.gouv.vitam.storage.offers.database.OfferLogBatchWriter;
 import fr.gouv.vitam.storage.offers.database.OfferLogCompactionDatabaseService;
 import fr.gouv.vitam.storage.offers.database.OfferLogDatabaseService;
-import fr.gouv.vitam.storage.offers.database.OfferSequenceDatabaseService;
 import fr.gouv.vitam.storage.offers.rest.OfferLogCompactionConfiguration;
 import fr.gouv.vitam.storage.offers.tape.cas.ReadRequestReferentialRepository;
 import fr.gouv.vitam.storage.offers.tape.exception.ReadRequestReferentialException;
@@ -89,7 +89,7 @@ public class DefaultOfferServiceImpl implements DefaultOfferService {
     private final ReadRequestReferentialRepository readRequestReferentialRepository;
     private final OfferLogCompactionDatabaseService offerLogCompactionDatabaseService;
     private final OfferLogDatabaseService offerDatabaseService;
-    private final OfferSequenceDatabaseService offerSequenceDatabaseService;
+    private final OfferLogBatchWriter offerLogWriter;
     private final StorageConfiguration configuration;
     private final OfferLogCompactionConfiguration offerLogCompactionConfig;
     private final OfferLogAndCompactedOfferLogService offerLogAndCompactedOfferLogService;
@@ -99,7 +99,7 @@ public class DefaultOfferServiceImpl implements DefaultOfferService {
         ReadRequestReferentialRepository readRequestReferentialRepository,
         OfferLogCompactionDatabaseService offerLogCompactionDatabaseService,
         OfferLogDatabaseService offerDatabaseService,
-        OfferSequenceDatabaseService offerSequenceDatabaseService,
+        OfferLogBatchWriter offerLogWriter,
         StorageConfiguration configuration,
         OfferLogCompactionConfiguration offerLogCompactionConfig,
         OfferLogAndCompactedOfferLogService offerLogAndCompactedOfferLogService) {
@@ -108,7 +108,7 @@ public class DefaultOfferServiceImpl implements DefaultOfferService {
         this.readRequestReferentialRepository = readRequestReferentialRepository;
         this.offerLogCompactionDatabaseService = offerLogCompactionDatabaseService;
         this.offerDatabaseService = offerDatabaseService;
-        this.offerSequenceDatabaseService = offerSequenceDatabaseService;
+        this.offerLogWriter = offerLogWriter;
         this.configuration = configuration;
         this.offerLogCompactionConfig = offerLogCompactionConfig;
         this.offerLogAndCompactedOfferLogService = offerLogAndCompactedOfferLogService;
@@ -266,8 +266,7 @@ public class DefaultOfferServiceImpl implements DefaultOfferService {
         throws ContentAddressableStorageServerException, ContentAddressableStorageDatabaseException {
         // Log in offer log
         Stopwatch times = Stopwatch.createStarted();
-        long sequence = offerSequenceDatabaseService.getNextSequence(OfferSequenceDatabaseService.BACKUP_LOG_SEQUENCE_ID);
-        offerDatabaseService.save(containerName, objectId, OfferLogAction.WRITE, sequence);
+        offerLogWriter.append(containerName, objectId, OfferLogAction.WRITE);
         log(times, containerName, "LOG_CREATE_IN_DB");
     }
 
@@ -347,8 +346,7 @@ public class DefaultOfferServiceImpl implements DefaultOfferService {
         throws ContentAddressableStorageServerException, ContentAddressableStorageDatabaseException {
         // Log in offer log
         Stopwatch times = Stopwatch.createStarted();
-        long sequence = offerSequenceDatabaseService.getNextSequence(OfferSequenceDatabaseService.BACKUP_LOG_SEQUENCE_ID, objectIds.size());
-        offerDatabaseService.bulkSave(containerName, objectIds, OfferLogAction.WRITE, sequence);
+        offerLogWriter.appendAll(containerName, objectIds, OfferLogAction.WRITE);
         log(times, containerName, "BULK_LOG_CREATE_IN_DB");
     }
 
@@ -393,9 +391,8 @@ public class DefaultOfferServiceImpl implements DefaultOfferService {
             throw new ContentAddressableStorageException("Object with id " + objectId + "can not be deleted");
         }
 
-        long sequence = offerSequenceDatabaseService.getNextSequence(OfferSequenceDatabaseService.BACKUP_LOG_SEQUENCE_ID);
         // Log in offer
-        offerDatabaseService.save(containerName, objectId, OfferLogAction.DELETE, sequence);
+        offerLogWriter.append(containerName, objectId, OfferLogAction.DELETE);
         log(times, containerName, "LOG_DELETE_IN_DB");
 
         times = Stopwatch.createStarted();
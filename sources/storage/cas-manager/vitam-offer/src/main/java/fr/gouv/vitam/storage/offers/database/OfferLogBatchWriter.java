@@ -0,0 +1,244 @@
+/*
+ * Copyright French Prime minister Office/SGMAP/DINSIC/Vitam Program (2015-2020)
+ *
+ * contact.vitam@culture.gouv.fr
+ *
+ * This software is a computer program whose purpose is to implement a digital archiving back-office system managing
+ * high volumetry securely and efficiently.
+ *
+ * This software is governed by the CeCILL 2.1 license under French law and abiding by the rules of distribution of free
+ * software. You can use, modify and/ or redistribute the software under the terms of the CeCILL 2.1 license as
+ * circulated by CEA, CNRS and INRIA at the following URL "https://cecill.info".
+ *
+ * As a counterpart to the access to the source code and rights to copy, modify and redistribute granted by the license,
+ * users are provided only with a limited warranty and the software's author, the holder of the economic rights, and the
+ * successive licensors have only limited liability.
+ *
+ * In this respect, the user's attention is drawn to the risks associated with loading, using, modifying and/or
+ * developing or reproducing the software by the user in light of its specific status of free software, that may mean
+ * that it is complicated to manipulate, and that also therefore means that it is reserved for developers and
+ * experienced professionals having in-depth computer knowledge. Users are therefore encouraged to load and test the
+ * software's suitability as regards their requirements in conditions enabling the security of their systems and/or data
+ * to be ensured and, more generally, to use and operate it in the same conditions as regards security.
+ *
+ * The fact that you are presently reading this means that you have had knowledge of the CeCILL 2.1 license and that you
+ * accept its terms.
+ */
+package fr.gouv.vitam.storage.offers.database;
+
+import fr.gouv.vitam.common.LocalDateUtil;
+import fr.gouv.vitam.common.ParametersChecker;
+import fr.gouv.vitam.common.logging.VitamLogger;
+import fr.gouv.vitam.common.logging.VitamLoggerFactory;
+import fr.gouv.vitam.common.thread.VitamThreadFactory;
+import fr.gouv.vitam.storage.engine.common.model.OfferLog;
+import fr.gouv.vitam.storage.engine.common.model.OfferLogAction;
+import fr.gouv.vitam.workspace.api.exception.ContentAddressableStorageDatabaseException;
+import fr.gouv.vitam.workspace.api.exception.ContentAddressableStorageServerException;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Offer log writer with block allocated sequences and group commit.
+ * <p>
+ * Sequences are reserved by blocks of sequenceBlockSize in the offer sequence collection (hi/lo), so that only one
+ * database round trip is needed every sequenceBlockSize offer logs. Offer logs are written by a single writer thread
+ * that inserts all pending entries (up to maxBatchSize) at once, in sequence order. Callers are blocked until their
+ * entries are written, so an offer log is always persisted before the related request is acknowledged.
+ * <p>
+ * Sequences are allocated and enqueued under the same lock, and batches are inserted in order, so offer logs become
+ * visible by strictly increasing sequence within the offer process. Unused sequences of a block are lost when the
+ * process stops.
+ * <p>
+ * Sequence blocks (sequenceBlockSize greater than 1) require a single offer instance : with several instances, each
+ * one hands out sequences of its own block, so offer logs of an instance may become visible after greater sequences
+ * of another one were read, and offset based readers would skip them. Offers with several instances must use a
+ * sequenceBlockSize of 1, i.e. a sequence reserved per offer log, as before block allocation.
+ */
+public class OfferLogBatchWriter implements AutoCloseable {
+
+    private static final VitamLogger LOGGER = VitamLoggerFactory.getInstance(OfferLogBatchWriter.class);
+
+    private static final String OFFER_LOG_WRITER = "OfferLogWriter";
+
+    private final OfferSequenceDatabaseService offerSequenceDatabaseService;
+    private final OfferLogDatabaseService offerLogDatabaseService;
+    private final int sequenceBlockSize;
+    private final int maxBatchSize;
+
+    private final Object lock = new Object();
+    private final Deque<PendingOfferLog> pendingOfferLogs = new ArrayDeque<>();
+    private final Thread writerThread;
+
+    private long nextSequence;
+    private long sequenceBlockEnd;
+    private boolean closed;
+
+    public OfferLogBatchWriter(OfferSequenceDatabaseService offerSequenceDatabaseService,
+        OfferLogDatabaseService offerLogDatabaseService, int sequenceBlockSize, int maxBatchSize) {
+        ParametersChecker.checkParameter("Parameters mustn't be null", offerSequenceDatabaseService,
+            offerLogDatabaseService);
+        ParametersChecker.checkValue("sequenceBlockSize", sequenceBlockSize, 1);
+        ParametersChecker.checkValue("maxBatchSize", maxBatchSize, 1);
+        this.offerSequenceDatabaseService = offerSequenceDatabaseService;
+        this.offerLogDatabaseService = offerLogDatabaseService;
+        this.sequenceBlockSize = sequenceBlockSize;
+        this.maxBatchSize = maxBatchSize;
+
+        this.writerThread = VitamThreadFactory.getInstance().newThread(this::writeLoop);
+        this.writerThread.setName(OFFER_LOG_WRITER);
+        this.writerThread.start();
+    }
+
+    /**
+     * Log a single object action and wait until it is persisted
+     *
+     * @return the sequence of the offer log
+     */
+    public long append(String containerName, String fileName, OfferLogAction action)
+        throws ContentAddressableStorageServerException, ContentAddressableStorageDatabaseException {
+        return appendAll(containerName, Collections.singletonList(fileName), action);
+    }
+
+    /**
+     * Log object actions with consecutive sequences (as long as they fit in the current sequence block) and wait
+     * until they are all persisted
+     *
+     * @return the sequence of the first offer log
+     */
+    public long appendAll(String containerName, List<String> fileNames, OfferLogAction action)
+        throws ContentAddressableStorageServerException, ContentAddressableStorageDatabaseException {
+        ParametersChecker.checkParameter("Parameters mustn't be null", containerName, fileNames, action);
+        if (fileNames.isEmpty()) {
+            throw new IllegalArgumentException("Empty file name list");
+        }
+
+        List<CompletableFuture<Void>> writes = new ArrayList<>(fileNames.size());
+        long firstSequence;
+        synchronized (lock) {
+            if (closed) {
+                throw new IllegalStateException("Offer log writer closed");
+            }
+            firstSequence = -1L;
+            try {
+                for (String fileName : fileNames) {
+                    long sequence = allocateSequence();
+                    if (firstSequence < 0) {
+                        firstSequence = sequence;
+                    }
+                    PendingOfferLog pendingOfferLog = new PendingOfferLog(
+                        new OfferLog(sequence, LocalDateUtil.now(), containerName, fileName, action));
+                    pendingOfferLogs.addLast(pendingOfferLog);
+                    writes.add(pendingOfferLog.written);
+                }
+            } finally {
+                lock.notifyAll();
+            }
+        }
+
+        for (CompletableFuture<Void> write : writes) {
+            awaitWrite(write);
+        }
+        return firstSequence;
+    }
+
+    private long allocateSequence() throws ContentAddressableStorageDatabaseException {
+        if (nextSequence >= sequenceBlockEnd) {
+            nextSequence = offerSequenceDatabaseService
+                .getNextSequence(OfferSequenceDatabaseService.BACKUP_LOG_SEQUENCE_ID, sequenceBlockSize);
+            sequenceBlockEnd = nextSequence + sequenceBlockSize;
+        }
+        return nextSequence++;
+    }
+
+    private void awaitWrite(CompletableFuture<Void> write)
+        throws ContentAddressableStorageServerException, ContentAddressableStorageDatabaseException {
+        try {
+            write.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ContentAddressableStorageServerException("Interrupted while waiting for offer log write", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof ContentAddressableStorageDatabaseException) {
+                throw (ContentAddressableStorageDatabaseException) cause;
+            }
+            if (cause instanceof ContentAddressableStorageServerException) {
+                throw (ContentAddressableStorageServerException) cause;
+            }
+            throw new ContentAddressableStorageServerException("Could not write offer log", cause);
+        }
+    }
+
+    private void writeLoop() {
+        while (true) {
+            List<PendingOfferLog> batch = new ArrayList<>();
+            synchronized (lock) {
+                while (pendingOfferLogs.isEmpty() && !closed) {
+                    try {
+                        lock.wait();
+                    } catch (InterruptedException e) {
+                        LOGGER.warn("Offer log writer interrupted", e);
+                        closed = true;
+                    }
+                }
+                if (pendingOfferLogs.isEmpty()) {
+                    return;
+                }
+                while (!pendingOfferLogs.isEmpty() && batch.size() < maxBatchSize) {
+                    batch.add(pendingOfferLogs.pollFirst());
+                }
+            }
+            write(batch);
+        }
+    }
+
+    private void write(List<PendingOfferLog> batch) {
+        List<OfferLog> offerLogs = new ArrayList<>(batch.size());
+        for (PendingOfferLog pendingOfferLog : batch) {
+            offerLogs.add(pendingOfferLog.offerLog);
+        }
+        try {
+            offerLogDatabaseService.saveAll(offerLogs);
+            for (PendingOfferLog pendingOfferLog : batch) {
+                pendingOfferLog.written.complete(null);
+            }
+        } catch (Exception e) {
+            LOGGER.error("Could not write " + batch.size() + " offer logs", e);
+            for (PendingOfferLog pendingOfferLog : batch) {
+                pendingOfferLog.written.completeExceptionally(e);
+            }
+        }
+    }
+
+    /**
+     * Write pending offer logs and stop the writer thread
+     */
+    @Override
+    public void close() {
+        synchronized (lock) {
+            closed = true;
+            lock.notifyAll();
+        }
+        try {
+            writerThread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static class PendingOfferLog {
+        private final OfferLog offerLog;
+        private final CompletableFuture<Void> written = new CompletableFuture<>();
+
+        private PendingOfferLog(OfferLog offerLog) {
+            this.offerLog = offerLog;
+        }
+    }
+}
@@ -101,6 +101,25 @@ public class OfferLogDatabaseService {
         }
     }
 
+    /**
+     * Insert offer logs in the given order, so that they become visible by ascending sequence
+     */
+    public void saveAll(List<OfferLog> offerLogs)
+        throws ContentAddressableStorageServerException, ContentAddressableStorageDatabaseException {
+        try {
+            List<Document> documents = new ArrayList<>();
+            for (OfferLog offerLog : offerLogs) {
+                documents.add(Document.parse(JsonHandler.writeAsString(offerLog)));
+            }
+            mongoCollection.insertMany(documents, new InsertManyOptions().ordered(true));
+        } catch (MongoException e) {
+            throw new ContentAddressableStorageDatabaseException(String.format(
+                "Database Error while saving %d entries in OfferLog collection", offerLogs.size()), e);
+        } catch (InvalidParseOperationException exc) {
+            throw new ContentAddressableStorageServerException("Cannot parse storage log", exc);
+        }
+    }
+
     public CloseableIterable<OfferLog> getDescendingOfferLogsBy(String containerName, Long offset, int limit) {
         Bson searchFilter = offset != null
             ? and(eq(CONTAINER, containerName), lte(SEQUENCE, offset))
@@ -43,6 +43,7 @@ import fr.gouv.vitam.common.storage.cas.container.api.ContentAddressableStorage;
 import fr.gouv.vitam.storage.offers.core.DefaultOfferService;
 import fr.gouv.vitam.storage.offers.core.DefaultOfferServiceImpl;
 import fr.gouv.vitam.storage.offers.database.OfferLogAndCompactedOfferLogService;
+import fr.gouv.vitam.storage.offers.database.OfferLogBatchWriter;
 import fr.gouv.vitam.storage.offers.database.OfferLogCompactionDatabaseService;
 import fr.gouv.vitam.storage.offers.database.OfferLogDatabaseService;
 import fr.gouv.vitam.storage.offers.database.OfferSequenceDatabaseService;
@@ -88,6 +89,9 @@ public class OfferCommonApplication {
                 new OfferSequenceDatabaseService(mongoDatabase.getCollection(OFFER_SEQUENCE.getName()));
             OfferLogDatabaseService offerDatabaseService =
                 new OfferLogDatabaseService(mongoDatabase.getCollection(OFFER_LOG.getName()));
+            OfferLogBatchWriter offerLogWriter =
+                new OfferLogBatchWriter(offerSequenceDatabaseService, offerDatabaseService,
+                    configuration.getOfferLogSequenceBlockSize(), configuration.getOfferLogMaxBatchSize());
             OfferLogCompactionDatabaseService offerLogCompactionDatabaseService = new OfferLogCompactionDatabaseService(
                 mongoDatabase.getCollection(
                     COMPACTED_OFFER_LOG.getName())
@@ -121,7 +125,7 @@ public class OfferCommonApplication {
                 readRepository,
                 offerLogCompactionDatabaseService,
                 offerDatabaseService,
-                offerSequenceDatabaseService,
+                offerLogWriter,
                 this.storageConfiguration,
                 configuration.getOfferLogCompactionConfiguration(),
                 offerLogAndCompactedOfferLogService
@@ -45,6 +45,8 @@ public class OfferConfiguration extends DbConfigurationImpl {
     private String swiftProjectName;
     @JsonProperty("offerLogCompaction")
     private OfferLogCompactionConfiguration offerLogCompactionConfiguration;
+    private int offerLogSequenceBlockSize = 1;
+    private int offerLogMaxBatchSize = 1000;
 
     /**
      * @return the provider
@@ -207,4 +209,38 @@ public class OfferConfiguration extends DbConfigurationImpl {
         this.offerLogCompactionConfiguration = offerLogCompactionConfiguration;
         return this;
     }
+
+    /**
+     * Values greater than 1 are only safe when a single instance of the offer writes offer logs.
+     *
+     * @return the number of offer log sequences reserved at once
+     */
+    public int getOfferLogSequenceBlockSize() {
+        return offerLogSequenceBlockSize;
+    }
+
+    /**
+     * @param offerLogSequenceBlockSize the number of offer log sequences reserved at once
+     * @return this
+     */
+    public OfferConfiguration setOfferLogSequenceBlockSize(int offerLogSequenceBlockSize) {
+        this.offerLogSequenceBlockSize = offerLogSequenceBlockSize;
+        return this;
+    }
+
+    /**
+     * @return the max number of offer logs written at once
+     */
+    public int getOfferLogMaxBatchSize() {
+        return offerLogMaxBatchSize;
+    }
+
+    /**
+     * @param offerLogMaxBatchSize the max number of offer logs written at once
+     * @return this
+     */
+    public OfferConfiguration setOfferLogMaxBatchSize(int offerLogMaxBatchSize) {
+        this.offerLogMaxBatchSize = offerLogMaxBatchSize;
+        return this;
+    }
 }
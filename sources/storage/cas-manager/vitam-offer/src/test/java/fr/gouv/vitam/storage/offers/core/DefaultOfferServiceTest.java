@@ -60,9 +60,9 @@ import fr.gouv.vitam.storage.engine.common.model.OfferLogAction;
 import fr.gouv.vitam.storage.engine.common.model.CompactedOfferLog;
 import fr.gouv.vitam.storage.engine.common.model.Order;
 import fr.gouv.vitam.storage.offers.database.OfferLogAndCompactedOfferLogService;
+import fr.gouv.vitam.storage.offers.database.OfferLogBatchWriter;
 import fr.gouv.vitam.storage.offers.database.OfferLogCompactionDatabaseService;
 import fr.gouv.vitam.storage.offers.database.OfferLogDatabaseService;
-import fr.gouv.vitam.storage.offers.database.OfferSequenceDatabaseService;
 import fr.gouv.vitam.storage.offers.rest.OfferLogCompactionConfiguration;
 import fr.gouv.vitam.storage.offers.tape.cas.ReadRequestReferentialRepository;
 import fr.gouv.vitam.workspace.api.exception.ContentAddressableStorageDatabaseException;
@@ -154,7 +154,7 @@ public class DefaultOfferServiceTest {
     private OfferLogCompactionDatabaseService offerLogCompactionDatabaseService;
 
     @Mock
-    private OfferSequenceDatabaseService offerSequenceDatabaseService;
+    private OfferLogBatchWriter offerLogWriter;
 
     @Mock
     private OfferLogAndCompactedOfferLogService offerLogAndCompactedOfferLogService;
@@ -192,7 +192,7 @@ public class DefaultOfferServiceTest {
             readRequestReferentialRepository,
             offerLogCompactionDatabaseService,
             offerDatabaseService,
-            offerSequenceDatabaseService,
+            offerLogWriter,
             configuration,
             null,
             offerLogAndCompactedOfferLogService
@@ -221,7 +221,6 @@ public class DefaultOfferServiceTest {
 
     @Test
     public void createObjectTest() throws Exception {
-        when(offerSequenceDatabaseService.getNextSequence(OfferSequenceDatabaseService.BACKUP_LOG_SEQUENCE_ID)).thenReturn(1L);
         String computedDigest;
 
         // object
@@ -240,13 +239,12 @@ public class DefaultOfferServiceTest {
             digest.toString());
 
         assertTrue(offerService.isObjectExist(CONTAINER_PATH, OBJECT_ID));
-        verify(offerDatabaseService).save(CONTAINER_PATH, OBJECT_ID, OfferLogAction.WRITE, 1L);
+        verify(offerLogWriter).append(CONTAINER_PATH, OBJECT_ID, OfferLogAction.WRITE);
     }
 
     @Test
     public void createObject_OverrideExistingUpdatableObject() throws Exception {
         // object
-        when(offerSequenceDatabaseService.getNextSequence(OfferSequenceDatabaseService.BACKUP_LOG_SEQUENCE_ID)).thenReturn(1L);
         try (FileInputStream in = new FileInputStream(PropertiesUtils.findFile(ARCHIVE_FILE_TXT))) {
             offerService.createObject(CONTAINER_PATH, OBJECT_ID, in, UNIT_TYPE, null,
                 VitamConfiguration.getDefaultDigestType());
@@ -268,14 +266,12 @@ public class DefaultOfferServiceTest {
             digest.toString());
 
         assertTrue(offerService.isObjectExist(CONTAINER_PATH, OBJECT_ID));
-        verify(offerDatabaseService, times(2)).save(CONTAINER_PATH, OBJECT_ID, OfferLogAction.WRITE, 1L);
+        verify(offerLogWriter, times(2)).append(CONTAINER_PATH, OBJECT_ID, OfferLogAction.WRITE);
     }
 
     @Test
     public void createObject_OverrideExistingNonUpdatableObjectWithSameContent() throws Exception {
         // object
-        when(offerSequenceDatabaseService.getNextSequence(OfferSequenceDatabaseService.BACKUP_LOG_SEQUENCE_ID))
-            .thenReturn(10L);
         try (FileInputStream in = new FileInputStream(PropertiesUtils.findFile(ARCHIVE_FILE_TXT))) {
             offerService.createObject(CONTAINER_PATH, OBJECT_ID, in, OBJECT_TYPE, null,
                 VitamConfiguration.getDefaultDigestType());
@@ -297,13 +293,12 @@ public class DefaultOfferServiceTest {
             digest.toString());
 
         assertTrue(offerService.isObjectExist(CONTAINER_PATH, OBJECT_ID));
-        verify(offerDatabaseService, times(2)).save(CONTAINER_PATH, OBJECT_ID, OfferLogAction.WRITE, 10L);
+        verify(offerLogWriter, times(2)).append(CONTAINER_PATH, OBJECT_ID, OfferLogAction.WRITE);
     }
 
     @Test
     public void createObject_TryOverrideExistingNonUpdatableObjectWithDifferentContentFails() throws Exception {
         // Given
-        when(offerSequenceDatabaseService.getNextSequence(OfferSequenceDatabaseService.BACKUP_LOG_SEQUENCE_ID)).thenReturn(1L);
         String computedDigestV1;
         try (FileInputStream in = new FileInputStream(PropertiesUtils.findFile(ARCHIVE_FILE_TXT))) {
             computedDigestV1 = offerService.createObject(CONTAINER_PATH, OBJECT_ID, in, OBJECT_TYPE, null,
@@ -328,7 +323,7 @@ public class DefaultOfferServiceTest {
             digest.toString());
 
         assertTrue(offerService.isObjectExist(CONTAINER_PATH, OBJECT_ID));
-        verify(offerDatabaseService, times(1)).save(CONTAINER_PATH, OBJECT_ID, OfferLogAction.WRITE, 1L);
+        verify(offerLogWriter, times(1)).append(CONTAINER_PATH, OBJECT_ID, OfferLogAction.WRITE);
     }
 
     @Test
@@ -453,8 +448,6 @@ public class DefaultOfferServiceTest {
     @Test
     public void bulkPutObjectsSingleEntry() throws Exception {
         // Given
-        when(offerSequenceDatabaseService.getNextSequence(OfferSequenceDatabaseService.BACKUP_LOG_SEQUENCE_ID, 1L))
-            .thenReturn(10L);
         File file1 = PropertiesUtils.findFile(ARCHIVE_FILE_TXT);
         MultiplexedStreamReader multiplexedStreamReader = createMultiplexedStreamReader(file1);
 
@@ -470,14 +463,12 @@ public class DefaultOfferServiceTest {
         StorageBulkPutResultEntry entry1 = storageBulkPutResult.getEntries().get(0);
         checkFile(file1, offerService, entry1, OBJECT_ID);
 
-        verify(offerDatabaseService).bulkSave(eq(CONTAINER_PATH), eq(Collections.singletonList(OBJECT_ID)), eq(OfferLogAction.WRITE), eq(10L));
+        verify(offerLogWriter).appendAll(eq(CONTAINER_PATH), eq(Collections.singletonList(OBJECT_ID)), eq(OfferLogAction.WRITE));
     }
 
     @Test
     public void bulkPutObjectsMultipleEntries() throws Exception {
         // Given
-        when(offerSequenceDatabaseService.getNextSequence(OfferSequenceDatabaseService.BACKUP_LOG_SEQUENCE_ID, 1L))
-            .thenReturn(10L);
         File file1 = PropertiesUtils.findFile(ARCHIVE_FILE_TXT);
         File file2 = PropertiesUtils.findFile(ARCHIVE_FILE2_TXT);
         File file3 = PropertiesUtils.findFile(ARCHIVE_FILE3_TXT);
@@ -496,14 +487,12 @@ public class DefaultOfferServiceTest {
         checkFile(file2, offerService, storageBulkPutResult.getEntries().get(1), OBJECT_ID_2);
         checkFile(file3, offerService, storageBulkPutResult.getEntries().get(2), OBJECT_ID_3);
 
-        verify(offerDatabaseService).bulkSave(eq(CONTAINER_PATH),
-            eq(Arrays.asList(OBJECT_ID, OBJECT_ID_2, OBJECT_ID_3)), eq(OfferLogAction.WRITE), eq(0L));
+        verify(offerLogWriter).appendAll(eq(CONTAINER_PATH), eq(Arrays.asList(OBJECT_ID, OBJECT_ID_2, OBJECT_ID_3)), eq(OfferLogAction.WRITE));
     }
 
     @Test
     public void bulkPutObjectsUpdateNonUpdatableObjectWithSameContent() throws Exception {
         // Given
-        when(offerSequenceDatabaseService.getNextSequence(OfferSequenceDatabaseService.BACKUP_LOG_SEQUENCE_ID, 1L)).thenReturn(1L);
         File file1 = PropertiesUtils.findFile(ARCHIVE_FILE_TXT);
 
         // When
@@ -524,15 +513,12 @@ public class DefaultOfferServiceTest {
         assertThat(storageBulkPutResult2.getEntries()).hasSize(1);
         checkFile(file1, offerService, storageBulkPutResult2.getEntries().get(0), OBJECT_ID);
 
-        verify(offerDatabaseService, times(2)).bulkSave(eq(CONTAINER_PATH),
-            eq(Collections.singletonList(OBJECT_ID)), eq(OfferLogAction.WRITE), eq(1L));
+        verify(offerLogWriter, times(2)).appendAll(eq(CONTAINER_PATH), eq(Collections.singletonList(OBJECT_ID)), eq(OfferLogAction.WRITE));
     }
 
     @Test
     public void bulkPutObjectsUpdateNonUpdatableObjectWithDifferentContent() throws Exception {
         // Given
-        when(offerSequenceDatabaseService.getNextSequence(OfferSequenceDatabaseService.BACKUP_LOG_SEQUENCE_ID, 1L))
-            .thenReturn(10L);
         File file1 = PropertiesUtils.findFile(ARCHIVE_FILE_TXT);
         File file2 = PropertiesUtils.findFile(ARCHIVE_FILE2_TXT);
 
@@ -554,14 +540,12 @@ public class DefaultOfferServiceTest {
         assertThat(storageBulkPutResult1.getEntries()).hasSize(1);
         checkFile(file1, offerService, storageBulkPutResult1.getEntries().get(0), OBJECT_ID);
 
-        verify(offerDatabaseService).bulkSave(eq(CONTAINER_PATH),
-            eq(Collections.singletonList(OBJECT_ID)), eq(OfferLogAction.WRITE), eq(10L));
+        verify(offerLogWriter).appendAll(eq(CONTAINER_PATH), eq(Collections.singletonList(OBJECT_ID)), eq(OfferLogAction.WRITE));
     }
 
     @Test
     public void bulkPutObjectsUpdateUpdatableObjectWithDifferentContent() throws Exception {
         // Given
-        when(offerSequenceDatabaseService.getNextSequence(OfferSequenceDatabaseService.BACKUP_LOG_SEQUENCE_ID, 1L)).thenReturn(1L);
         File file1 = PropertiesUtils.findFile(ARCHIVE_FILE_TXT);
         File file2 = PropertiesUtils.findFile(ARCHIVE_FILE2_TXT);
 
@@ -579,8 +563,7 @@ public class DefaultOfferServiceTest {
         assertThat(storageBulkPutResult2.getEntries()).hasSize(1);
         checkFile(file2, offerService, storageBulkPutResult2.getEntries().get(0), OBJECT_ID);
 
-        verify(offerDatabaseService, times(2)).bulkSave(eq(CONTAINER_PATH),
-            eq(Collections.singletonList(OBJECT_ID)), eq(OfferLogAction.WRITE), eq(1L));
+        verify(offerLogWriter, times(2)).appendAll(eq(CONTAINER_PATH), eq(Collections.singletonList(OBJECT_ID)), eq(OfferLogAction.WRITE));
     }
 
     private MultiplexedStreamReader createMultiplexedStreamReader(File... files) throws IOException {
@@ -617,7 +600,7 @@ public class DefaultOfferServiceTest {
         // Given
         OfferLogCompactionConfiguration config = new OfferLogCompactionConfiguration(1, ChronoUnit.SECONDS, 4);
         offerService = new DefaultOfferServiceImpl(defaultStorage, readRequestReferentialRepository,
-            offerLogCompactionDatabaseService, offerDatabaseService, offerSequenceDatabaseService, configuration,
+            offerLogCompactionDatabaseService, offerDatabaseService, offerLogWriter, configuration,
             config, offerLogAndCompactedOfferLogService);
 
         List<OfferLog> logs = Arrays.asList(
@@ -642,7 +625,7 @@ public class DefaultOfferServiceTest {
         // Given
         OfferLogCompactionConfiguration config = new OfferLogCompactionConfiguration(15, ChronoUnit.SECONDS, 4);
         offerService = new DefaultOfferServiceImpl(defaultStorage, readRequestReferentialRepository,
-            offerLogCompactionDatabaseService, offerDatabaseService, offerSequenceDatabaseService, configuration,
+            offerLogCompactionDatabaseService, offerDatabaseService, offerLogWriter, configuration,
             config, offerLogAndCompactedOfferLogService);
 
         List<OfferLog> logs = Arrays.asList(
@@ -673,7 +656,7 @@ public class DefaultOfferServiceTest {
         // Given
         OfferLogCompactionConfiguration config = new OfferLogCompactionConfiguration(15, ChronoUnit.SECONDS, 4);
         offerService = new DefaultOfferServiceImpl(defaultStorage, readRequestReferentialRepository,
-            offerLogCompactionDatabaseService, offerDatabaseService, offerSequenceDatabaseService, configuration,
+            offerLogCompactionDatabaseService, offerDatabaseService, offerLogWriter, configuration,
             config, offerLogAndCompactedOfferLogService);
 
         List<OfferLog> logs1 = Arrays.asList(
@@ -714,7 +697,7 @@ public class DefaultOfferServiceTest {
 
         OfferLogCompactionConfiguration config = new OfferLogCompactionConfiguration(15, ChronoUnit.SECONDS, 2);
         offerService = new DefaultOfferServiceImpl(defaultStorage, readRequestReferentialRepository,
-            offerLogCompactionDatabaseService, offerDatabaseService, offerSequenceDatabaseService, configuration,
+            offerLogCompactionDatabaseService, offerDatabaseService, offerLogWriter, configuration,
             config, offerLogAndCompactedOfferLogService);
 
         OfferLog offerLog = new OfferLog(1, LocalDateUtil.now(), "container1", "filename", OfferLogAction.WRITE);
@@ -756,7 +739,7 @@ public class DefaultOfferServiceTest {
         // Given
         OfferLogCompactionConfiguration config = new OfferLogCompactionConfiguration(1, ChronoUnit.SECONDS, 4);
         offerService = new DefaultOfferServiceImpl(defaultStorage, readRequestReferentialRepository,
-            offerLogCompactionDatabaseService, offerDatabaseService, offerSequenceDatabaseService, configuration,
+            offerLogCompactionDatabaseService, offerDatabaseService, offerLogWriter, configuration,
             config, offerLogAndCompactedOfferLogService);
 
         when(offerDatabaseService.getExpiredOfferLogByContainer(config.getExpirationValue(),
@@ -0,0 +1,174 @@
+/*
+ * Copyright French Prime minister Office/SGMAP/DINSIC/Vitam Program (2015-2020)
+ *
+ * contact.vitam@culture.gouv.fr
+ *
+ * This software is a computer program whose purpose is to implement a digital archiving back-office system managing
+ * high volumetry securely and efficiently.
+ *
+ * This software is governed by the CeCILL 2.1 license under French law and abiding by the rules of distribution of free
+ * software. You can use, modify and/ or redistribute the software under the terms of the CeCILL 2.1 license as
+ * circulated by CEA, CNRS and INRIA at the following URL "https://cecill.info".
+ *
+ * As a counterpart to the access to the source code and rights to copy, modify and redistribute granted by the license,
+ * users are provided only with a limited warranty and the software's author, the holder of the economic rights, and the
+ * successive licensors have only limited liability.
+ *
+ * In this respect, the user's attention is drawn to the risks associated with loading, using, modifying and/or
+ * developing or reproducing the software by the user in light of its specific status of free software, that may mean
+ * that it is complicated to manipulate, and that also therefore means that it is reserved for developers and
+ * experienced professionals having in-depth computer knowledge. Users are therefore encouraged to load and test the
+ * software's suitability as regards their requirements in conditions enabling the security of their systems and/or data
+ * to be ensured and, more generally, to use and operate it in the same conditions as regards security.
+ *
+ * The fact that you are presently reading this means that you have had knowledge of the CeCILL 2.1 license and that you
+ * accept its terms.
+ */
+package fr.gouv.vitam.storage.offers.database;
+
+import fr.gouv.vitam.common.database.collections.VitamCollection;
+import fr.gouv.vitam.common.json.BsonHelper;
+import fr.gouv.vitam.common.json.JsonHandler;
+import fr.gouv.vitam.common.logging.VitamLogger;
+import fr.gouv.vitam.common.logging.VitamLoggerFactory;
+import fr.gouv.vitam.common.mongo.MongoRule;
+import fr.gouv.vitam.common.thread.VitamThreadFactory;
+import fr.gouv.vitam.storage.engine.common.model.OfferLog;
+import org.bson.Document;
+import org.junit.AfterClass;
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.ClassRule;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static fr.gouv.vitam.storage.engine.common.collection.OfferCollections.OFFER_LOG;
+import static fr.gouv.vitam.storage.engine.common.collection.OfferCollections.OFFER_SEQUENCE;
+import static fr.gouv.vitam.storage.engine.common.model.OfferLog.SEQUENCE;
+import static fr.gouv.vitam.storage.engine.common.model.OfferLogAction.WRITE;
+import static fr.gouv.vitam.storage.offers.database.OfferSequenceDatabaseService.BACKUP_LOG_SEQUENCE_ID;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares offer log write throughput of per object sequence and offer log round trips against
+ * {@link OfferLogBatchWriter}, with concurrent writers
+ */
+public class OfferLogBatchWriterBenchmarkTest {
+
+    private static final VitamLogger LOGGER = VitamLoggerFactory.getInstance(OfferLogBatchWriterBenchmarkTest.class);
+
+    /**
+     * Set to true to run the benchmark (opt-in, not run by the default test suite)
+     */
+    private static final String BENCHMARK_PROPERTY = "vitam.test.benchmark";
+
+    private static final int NB_THREADS = 16;
+    private static final int NB_OFFER_LOGS_PER_THREAD = 500;
+
+    @ClassRule
+    public static MongoRule mongoRule = new MongoRule(VitamCollection.getMongoClientOptions());
+
+    private OfferSequenceDatabaseService offerSequenceDatabaseService;
+    private OfferLogDatabaseService offerLogDatabaseService;
+
+    @AfterClass
+    public static void afterClass() {
+        cleanDatabase();
+        mongoRule.handleAfter();
+    }
+
+    private static void cleanDatabase() {
+        mongoRule.getMongoDatabase().getCollection(OFFER_LOG.getName()).deleteMany(new Document());
+        mongoRule.getMongoDatabase().getCollection(OFFER_SEQUENCE.getName()).deleteMany(new Document());
+    }
+
+    @Before
+    public void before() {
+        Assume.assumeTrue("Benchmark disabled, set -D" + BENCHMARK_PROPERTY + "=true to run it",
+            Boolean.getBoolean(BENCHMARK_PROPERTY));
+        cleanDatabase();
+        offerSequenceDatabaseService =
+            new OfferSequenceDatabaseService(mongoRule.getMongoDatabase().getCollection(OFFER_SEQUENCE.getName()));
+        offerLogDatabaseService =
+            new OfferLogDatabaseService(mongoRule.getMongoDatabase().getCollection(OFFER_LOG.getName()));
+    }
+
+    @Test
+    public void benchmarkOfferLogWrites() throws Exception {
+
+        // Per object round trips
+        long perObjectDuration = run(fileName -> {
+            long sequence = offerSequenceDatabaseService.getNextSequence(BACKUP_LOG_SEQUENCE_ID);
+            offerLogDatabaseService.save("container", fileName, WRITE, sequence);
+        });
+        checkOfferLogs();
+
+        cleanDatabase();
+
+        // Block allocated sequences & group commit
+        long batchDuration;
+        try (OfferLogBatchWriter offerLogBatchWriter = new OfferLogBatchWriter(offerSequenceDatabaseService,
+            offerLogDatabaseService, 100, 1000)) {
+            batchDuration = run(fileName -> offerLogBatchWriter.append("container", fileName, WRITE));
+        }
+        checkOfferLogs();
+
+        int nbOfferLogs = NB_THREADS * NB_OFFER_LOGS_PER_THREAD;
+        LOGGER.info(String.format("Per object writes: %d offer logs in %d ms (%d/s)", nbOfferLogs,
+            perObjectDuration, nbOfferLogs * 1000L / Math.max(perObjectDuration, 1L)));
+        LOGGER.info(String.format("Batch writer: %d offer logs in %d ms (%d/s)", nbOfferLogs,
+            batchDuration, nbOfferLogs * 1000L / Math.max(batchDuration, 1L)));
+    }
+
+    private long run(OfferLogWrite offerLogWrite) throws Exception {
+        ExecutorService executorService =
+            Executors.newFixedThreadPool(NB_THREADS, VitamThreadFactory.getInstance());
+        try {
+            long start = System.nanoTime();
+            List<Future<?>> futures = new ArrayList<>();
+            for (int thread = 0; thread < NB_THREADS; thread++) {
+                int threadIndex = thread;
+                futures.add(executorService.submit(() -> {
+                    for (int i = 0; i < NB_OFFER_LOGS_PER_THREAD; i++) {
+                        offerLogWrite.write("file-" + threadIndex + "-" + i);
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+            return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        } finally {
+            executorService.shutdown();
+        }
+    }
+
+    private void checkOfferLogs() {
+        List<Long> sequences = new ArrayList<>();
+        for (Document document : mongoRule.getMongoDatabase().getCollection(OFFER_LOG.getName()).find()
+            .sort(new Document(SEQUENCE, 1))) {
+            sequences.add(getOfferLog(document).getSequence());
+        }
+        assertThat(sequences).hasSize(NB_THREADS * NB_OFFER_LOGS_PER_THREAD).doesNotHaveDuplicates();
+    }
+
+    private OfferLog getOfferLog(Document document) {
+        try {
+            return JsonHandler.getFromString(BsonHelper.stringify(document), OfferLog.class);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @FunctionalInterface
+    private interface OfferLogWrite {
+        void write(String fileName) throws Exception;
+    }
+}
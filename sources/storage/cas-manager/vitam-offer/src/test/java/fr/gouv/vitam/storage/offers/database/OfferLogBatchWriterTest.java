@@ -0,0 +1,243 @@
+/*
+ * Copyright French Prime minister Office/SGMAP/DINSIC/Vitam Program (2015-2020)
+ *
+ * contact.vitam@culture.gouv.fr
+ *
+ * This software is a computer program whose purpose is to implement a digital archiving back-office system managing
+ * high volumetry securely and efficiently.
+ *
+ * This software is governed by the CeCILL 2.1 license under French law and abiding by the rules of distribution of free
+ * software. You can use, modify and/ or redistribute the software under the terms of the CeCILL 2.1 license as
+ * circulated by CEA, CNRS and INRIA at the following URL "https://cecill.info".
+ *
+ * As a counterpart to the access to the source code and rights to copy, modify and redistribute granted by the license,
+ * users are provided only with a limited warranty and the software's author, the holder of the economic rights, and the
+ * successive licensors have only limited liability.
+ *
+ * In this respect, the user's attention is drawn to the risks associated with loading, using, modifying and/or
+ * developing or reproducing the software by the user in light of its specific status of free software, that may mean
+ * that it is complicated to manipulate, and that also therefore means that it is reserved for developers and
+ * experienced professionals having in-depth computer knowledge. Users are therefore encouraged to load and test the
+ * software's suitability as regards their requirements in conditions enabling the security of their systems and/or data
+ * to be ensured and, more generally, to use and operate it in the same conditions as regards security.
+ *
+ * The fact that you are presently reading this means that you have had knowledge of the CeCILL 2.1 license and that you
+ * accept its terms.
+ */
+package fr.gouv.vitam.storage.offers.database;
+
+import fr.gouv.vitam.common.thread.VitamThreadPoolExecutor;
+import fr.gouv.vitam.storage.engine.common.model.OfferLog;
+import fr.gouv.vitam.workspace.api.exception.ContentAddressableStorageDatabaseException;
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static fr.gouv.vitam.storage.engine.common.model.OfferLogAction.DELETE;
+import static fr.gouv.vitam.storage.engine.common.model.OfferLogAction.WRITE;
+import static fr.gouv.vitam.storage.offers.database.OfferSequenceDatabaseService.BACKUP_LOG_SEQUENCE_ID;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class OfferLogBatchWriterTest {
+
+    @Rule
+    public MockitoRule rule = MockitoJUnit.rule();
+
+    @Mock
+    private OfferSequenceDatabaseService offerSequenceDatabaseService;
+
+    @Mock
+    private OfferLogDatabaseService offerLogDatabaseService;
+
+    private final List<OfferLog> savedOfferLogs = Collections.synchronizedList(new ArrayList<>());
+
+    private OfferLogBatchWriter offerLogBatchWriter;
+
+    @After
+    public void tearDown() {
+        if (offerLogBatchWriter != null) {
+            offerLogBatchWriter.close();
+        }
+    }
+
+    @Test
+    public void should_reserve_sequences_by_block() throws Exception {
+        // Given
+        givenSequenceBlocks();
+        givenOfferLogsSaved();
+        offerLogBatchWriter =
+            new OfferLogBatchWriter(offerSequenceDatabaseService, offerLogDatabaseService, 100, 1000);
+
+        // When
+        List<Long> sequences = new ArrayList<>();
+        for (int i = 0; i < 250; i++) {
+            sequences.add(offerLogBatchWriter.append("container", "file" + i, WRITE));
+        }
+
+        // Then
+        verify(offerSequenceDatabaseService, times(3)).getNextSequence(BACKUP_LOG_SEQUENCE_ID, 100L);
+        assertThat(sequences).isSorted().doesNotHaveDuplicates();
+        assertThat(sequences.get(0)).isEqualTo(1L);
+        assertThat(sequences.get(249)).isEqualTo(250L);
+        assertThat(savedOfferLogs).extracting(OfferLog::getSequence).containsExactlyElementsOf(sequences);
+    }
+
+    @Test
+    public void should_append_all_with_consecutive_sequences() throws Exception {
+        // Given
+        givenSequenceBlocks();
+        givenOfferLogsSaved();
+        offerLogBatchWriter = new OfferLogBatchWriter(offerSequenceDatabaseService, offerLogDatabaseService, 10, 1000);
+
+        // When
+        long firstSequence = offerLogBatchWriter.append("container", "file0", DELETE);
+        long nextSequence =
+            offerLogBatchWriter.appendAll("container", Arrays.asList("file1", "file2", "file3"), WRITE);
+
+        // Then
+        assertThat(firstSequence).isEqualTo(1L);
+        assertThat(nextSequence).isEqualTo(2L);
+        assertThat(savedOfferLogs).extracting(OfferLog::getSequence).containsExactly(1L, 2L, 3L, 4L);
+        assertThat(savedOfferLogs).extracting(OfferLog::getFileName)
+            .containsExactly("file0", "file1", "file2", "file3");
+        assertThat(savedOfferLogs).extracting(OfferLog::getAction).containsExactly(DELETE, WRITE, WRITE, WRITE);
+    }
+
+    @Test
+    public void should_group_concurrent_appends_in_sequence_order() throws Exception {
+        // Given
+        CountDownLatch allSequencesReserved = new CountDownLatch(21);
+        long[] counter = {0L};
+        when(offerSequenceDatabaseService.getNextSequence(BACKUP_LOG_SEQUENCE_ID, 1L)).thenAnswer(args -> {
+            allSequencesReserved.countDown();
+            return ++counter[0];
+        });
+
+        CountDownLatch firstWriteStarted = new CountDownLatch(1);
+        CountDownLatch releaseFirstWrite = new CountDownLatch(1);
+        List<Integer> batchSizes = Collections.synchronizedList(new ArrayList<>());
+        doAnswer(args -> {
+            List<OfferLog> offerLogs = args.getArgument(0);
+            batchSizes.add(offerLogs.size());
+            savedOfferLogs.addAll(offerLogs);
+            if (batchSizes.size() == 1) {
+                // Block first write so that following appends accumulate
+                firstWriteStarted.countDown();
+                releaseFirstWrite.await(10, TimeUnit.SECONDS);
+            }
+            return null;
+        }).when(offerLogDatabaseService).saveAll(anyList());
+        offerLogBatchWriter = new OfferLogBatchWriter(offerSequenceDatabaseService, offerLogDatabaseService, 1, 1000);
+
+        // When
+        List<CompletableFuture<Long>> appends = new ArrayList<>();
+        appends.add(CompletableFuture.supplyAsync(
+            () -> appendQuietly("file-first"), VitamThreadPoolExecutor.getDefaultExecutor()));
+        assertThat(firstWriteStarted.await(10, TimeUnit.SECONDS)).isTrue();
+
+        for (int i = 0; i < 20; i++) {
+            String fileName = "file" + i;
+            appends.add(CompletableFuture.supplyAsync(
+                () -> appendQuietly(fileName), VitamThreadPoolExecutor.getDefaultExecutor()));
+        }
+        // Sequences are reserved and enqueued under the same lock
+        assertThat(allSequencesReserved.await(10, TimeUnit.SECONDS)).isTrue();
+        releaseFirstWrite.countDown();
+
+        List<Long> sequences = new ArrayList<>();
+        for (CompletableFuture<Long> append : appends) {
+            sequences.add(append.get(10, TimeUnit.SECONDS));
+        }
+
+        // Then
+        assertThat(sequences).doesNotHaveDuplicates().hasSize(21);
+        assertThat(batchSizes).hasSize(2).containsExactly(1, 20);
+        assertThat(savedOfferLogs).extracting(OfferLog::getSequence).isSorted();
+        assertThat(savedOfferLogs.stream().map(OfferLog::getSequence).collect(Collectors.toList()))
+            .containsExactlyInAnyOrderElementsOf(sequences);
+    }
+
+    @Test
+    public void should_fail_append_when_offer_log_cannot_be_saved() throws Exception {
+        // Given
+        givenSequenceBlocks();
+        doThrow(new ContentAddressableStorageDatabaseException("error")).when(offerLogDatabaseService)
+            .saveAll(anyList());
+        offerLogBatchWriter = new OfferLogBatchWriter(offerSequenceDatabaseService, offerLogDatabaseService, 10, 1000);
+
+        // When / Then
+        assertThatThrownBy(() -> offerLogBatchWriter.append("container", "file", WRITE))
+            .isInstanceOf(ContentAddressableStorageDatabaseException.class);
+    }
+
+    @Test
+    public void should_fail_append_when_sequence_cannot_be_reserved() throws Exception {
+        // Given
+        when(offerSequenceDatabaseService.getNextSequence(eq(BACKUP_LOG_SEQUENCE_ID), anyLong()))
+            .thenThrow(new ContentAddressableStorageDatabaseException("error"));
+        offerLogBatchWriter = new OfferLogBatchWriter(offerSequenceDatabaseService, offerLogDatabaseService, 10, 1000);
+
+        // When / Then
+        assertThatThrownBy(() -> offerLogBatchWriter.append("container", "file", WRITE))
+            .isInstanceOf(ContentAddressableStorageDatabaseException.class);
+    }
+
+    @Test
+    public void should_fail_append_when_closed() {
+        // Given
+        offerLogBatchWriter = new OfferLogBatchWriter(offerSequenceDatabaseService, offerLogDatabaseService, 10, 1000);
+        offerLogBatchWriter.close();
+
+        // When / Then
+        assertThatThrownBy(() -> offerLogBatchWriter.append("container", "file", WRITE))
+            .isInstanceOf(IllegalStateException.class);
+    }
+
+    private void givenSequenceBlocks() throws ContentAddressableStorageDatabaseException {
+        long[] counter = {0L};
+        when(offerSequenceDatabaseService.getNextSequence(eq(BACKUP_LOG_SEQUENCE_ID), anyLong())).thenAnswer(args -> {
+            long inc = args.getArgument(1);
+            synchronized (counter) {
+                counter[0] += inc;
+                return counter[0] + 1L - inc;
+            }
+        });
+    }
+
+    private void givenOfferLogsSaved() throws Exception {
+        doAnswer(args -> {
+            List<OfferLog> offerLogs = args.getArgument(0);
+            savedOfferLogs.addAll(offerLogs);
+            return null;
+        }).when(offerLogDatabaseService).saveAll(anyList());
+    }
+
+    private long appendQuietly(String fileName) {
+        try {
+            return offerLogBatchWriter.append("container", fileName, WRITE);
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
@@ -29,6 +29,7 @@ package fr.gouv.vitam.storage.offers.database;
 import com.mongodb.MongoWriteException;
 import com.mongodb.client.MongoCollection;
 import com.mongodb.client.MongoIterable;
+import fr.gouv.vitam.common.LocalDateUtil;
 import fr.gouv.vitam.common.database.collections.VitamCollection;
 import fr.gouv.vitam.common.exception.InvalidParseOperationException;
 import fr.gouv.vitam.common.exception.VitamRuntimeException;
@@ -151,6 +152,34 @@ public class OfferLogDatabaseServiceTest {
         assertThatThrownBy(save).isInstanceOf(ContentAddressableStorageDatabaseException.class);
     }
 
+    @Test
+    public void should_save_all_offer_logs() throws Exception {
+        // Given // When
+        service.saveAll(Arrays.asList(
+            new OfferLog(21L, LocalDateUtil.now(), "containerName", "batman", WRITE),
+            new OfferLog(22L, LocalDateUtil.now(), "containerName", "robin", DELETE)));
+
+        // Then
+        assertThat(getOfferLogs()).extracting(OfferLog::getSequence).containsExactly(21L, 22L);
+        assertThat(getOfferLogs()).extracting(OfferLog::getFileName).containsExactly("batman", "robin");
+        assertThat(getOfferLogs()).extracting(OfferLog::getAction).containsExactly(WRITE, DELETE);
+    }
+
+    @Test
+    public void should_throw_error_when_cannot_save_all_offer_logs() throws Exception {
+        // Given
+        MongoCollection<Document> collection = mock(MongoCollection.class);
+        doThrow(MongoWriteException.class).when(collection).insertMany(anyList(), any());
+        OfferLogDatabaseService offerLogDatabaseService = new OfferLogDatabaseService(collection);
+
+        // When
+        ThrowingCallable save = () -> offerLogDatabaseService.saveAll(
+            Collections.singletonList(new OfferLog(15L, LocalDateUtil.now(), "containerName", "robin", DELETE)));
+
+        // Then
+        assertThatThrownBy(save).isInstanceOf(ContentAddressableStorageDatabaseException.class);
+    }
+
     @Test
     public void should_get_descending_offer_logs() throws Exception {
         // Given
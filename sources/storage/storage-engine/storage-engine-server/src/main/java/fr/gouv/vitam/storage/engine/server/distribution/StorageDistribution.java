@@ -50,6 +50,7 @@ import fr.gouv.vitam.storage.engine.server.distribution.impl.StreamAndInfo;
 import javax.ws.rs.core.Response;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 
 /**
  * Interface Storage Distribution for Storage Operations
@@ -266,6 +267,23 @@ public interface StorageDistribution extends VitamAutoCloseable {
         List<String> objectIds, List<String> offerIds)
         throws StorageException;
 
+    /**
+     * Store a set of objects on the given storage offers using a single bulk put operation per attempt.
+     *
+     * @param strategyId id of the strategy
+     * @param multiplexedStreamSupplier supplier of the multiplexed stream (one entry per object, in objectIds
+     * order), called once per attempt
+     * @param objectIds ids of the objects
+     * @param category the category of the data to store (unit, object...)
+     * @param requester the requester information
+     * @param offerIds offer identifiers
+     * @return a BulkObjectStoreResponse containing the digests of the created objects
+     * @throws StorageException StorageException
+     */
+    BulkObjectStoreResponse bulkStoreDataInOffers(String strategyId, Supplier<StreamAndInfo> multiplexedStreamSupplier,
+        List<String> objectIds, DataCategory category, String requester, List<String> offerIds)
+        throws StorageException;
+
     BulkObjectStoreResponse bulkCreateFromWorkspace(String strategyId, BulkObjectStoreRequest bulkObjectStoreRequest, String requester)
         throws StorageException;
     
@@ -136,6 +136,7 @@ import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import static java.util.Collections.singletonList;
@@ -517,6 +518,41 @@ public class StorageDistributionImpl implements StorageDistribution {
         return new BulkObjectStoreResponse(offerIds, digestType.getName(), objectDigests);
     }
 
+    @Override
+    public BulkObjectStoreResponse bulkStoreDataInOffers(String strategyId,
+        Supplier<StreamAndInfo> multiplexedStreamSupplier, List<String> objectIds, DataCategory category,
+        String requester, List<String> offerIds)
+        throws StorageException {
+        Integer tenantId = ParameterHelper.getTenantParameter();
+
+        ParametersChecker.checkParameter(STRATEGY_ID_IS_MANDATORY, strategyId);
+        ParametersChecker.checkParameter(CATEGORY_IS_MANDATORY, category);
+
+        List<String> strategyOfferIds = getOfferIds(strategyId);
+        List<String> bulkOfferIds = new ArrayList<>();
+        for (String offerId : offerIds) {
+            if (strategyOfferIds.contains(offerId)) {
+                bulkOfferIds.add(offerId);
+            } else {
+                LOGGER.error("Offer {} ignored : not found in strategy {}", offerId, strategyId);
+            }
+        }
+
+        Map<String, Driver> storageDrivers = new HashMap<>();
+        Map<String, StorageOffer> storageOffers = new HashMap<>();
+        for (String offerId : bulkOfferIds) {
+            storageDrivers.put(offerId, retrieveDriverInternal(offerId));
+            storageOffers.put(offerId, OFFER_PROVIDER.getStorageOffer(offerId));
+        }
+
+        Map<String, String> objectDigests =
+            bulkStorageDistribution
+                .bulkCreateFromStreamWithRetries(tenantId, bulkOfferIds, storageDrivers, storageOffers, category,
+                    multiplexedStreamSupplier, objectIds, requester);
+
+        return new BulkObjectStoreResponse(bulkOfferIds, digestType.getName(), objectDigests);
+    }
+
     @Override
     public List<String> getOfferIds(String strategyId) throws StorageException {
 
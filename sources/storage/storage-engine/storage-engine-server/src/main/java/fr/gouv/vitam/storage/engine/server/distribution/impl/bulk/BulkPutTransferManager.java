@@ -76,7 +76,7 @@ import java.util.concurrent.TimeoutException;
 import static java.util.stream.Collectors.toMap;
 
 /**
- * Handles single bulk transfer from workspace to offers. No retries are handled.
+ * Handles single bulk transfer from workspace (or any multiplexed stream) to offers. No retries are handled.
  */
 class BulkPutTransferManager {
 
@@ -110,10 +110,6 @@ class BulkPutTransferManager {
         List<String> objectIds) {
 
         ResultOrError<StreamAndInfo, BulkPutResult> streamWithInfoFromWorkspace = null;
-        ResultOrError<StreamAndInfo, BulkPutResult> prependedStreamWithInfo = null;
-        MultiplePipedInputStream streams = null;
-        List<Future<StorageBulkPutResult>> transferThreadFutures = null;
-        Future<List<ObjectInfo>> digestListenerFuture = null;
 
         try {
 
@@ -124,10 +120,33 @@ class BulkPutTransferManager {
                 return streamWithInfoFromWorkspace.getError();
             }
 
+            return bulkSendDataToOffers(streamWithInfoFromWorkspace.getResult(), tenantId, dataCategory, offerIds,
+                storageDrivers, storageOffers, objectIds);
+
+        } finally {
+            if (streamWithInfoFromWorkspace != null && streamWithInfoFromWorkspace.hasResult()) {
+                streamWithInfoFromWorkspace.getResult().close();
+            }
+        }
+    }
+
+    /**
+     * Send a multiplexed stream (one entry per object, without header entry) to offers
+     */
+    BulkPutResult bulkSendDataToOffers(StreamAndInfo multiplexedStreamWithInfo, int tenantId,
+        DataCategory dataCategory, List<String> offerIds, Map<String, Driver> storageDrivers,
+        Map<String, StorageOffer> storageOffers, List<String> objectIds) {
+
+        ResultOrError<StreamAndInfo, BulkPutResult> prependedStreamWithInfo = null;
+        MultiplePipedInputStream streams = null;
+        List<Future<StorageBulkPutResult>> transferThreadFutures = null;
+        Future<List<ObjectInfo>> digestListenerFuture = null;
+
+        try {
+
             // Prepend with header entry containing object Ids
             prependedStreamWithInfo =
-                prependWithObjectIdsHeaderEntry(objectIds, streamWithInfoFromWorkspace.getResult(),
-                    offerIds);
+                prependWithObjectIdsHeaderEntry(objectIds, multiplexedStreamWithInfo, offerIds);
             if (prependedStreamWithInfo.hasError()) {
                 return prependedStreamWithInfo.getError();
             }
@@ -183,9 +202,6 @@ class BulkPutTransferManager {
             if (prependedStreamWithInfo != null && prependedStreamWithInfo.hasResult()) {
                 prependedStreamWithInfo.getResult().close();
             }
-            if (streamWithInfoFromWorkspace != null && streamWithInfoFromWorkspace.hasResult()) {
-                streamWithInfoFromWorkspace.getResult().close();
-            }
         }
     }
 
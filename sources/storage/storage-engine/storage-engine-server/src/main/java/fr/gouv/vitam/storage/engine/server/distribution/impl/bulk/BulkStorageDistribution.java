@@ -36,6 +36,7 @@ import fr.gouv.vitam.storage.engine.common.exception.StorageException;
 import fr.gouv.vitam.storage.engine.common.exception.StorageInconsistentStateException;
 import fr.gouv.vitam.storage.engine.common.model.DataCategory;
 import fr.gouv.vitam.storage.engine.common.referential.model.StorageOffer;
+import fr.gouv.vitam.storage.engine.server.distribution.impl.StreamAndInfo;
 import fr.gouv.vitam.storage.engine.server.distribution.impl.TransfertTimeoutHelper;
 import fr.gouv.vitam.storage.engine.server.storagelog.StorageLog;
 import fr.gouv.vitam.storage.engine.server.storagelog.parameters.StorageLogbookOutcome;
@@ -46,6 +47,8 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 public class BulkStorageDistribution {
@@ -80,6 +83,34 @@ public class BulkStorageDistribution {
         List<String> workspaceObjectURIs, List<String> objectIds, String requester)
         throws StorageException {
 
+        return bulkCreateWithRetries(tenantId, allOfferIds, dataCategory, objectIds, requester,
+            remainingOfferIds -> bulkPutTransferManager.bulkSendDataToOffers(workspaceContainerGUID, tenantId,
+                dataCategory, remainingOfferIds, storageDrivers, storageOffers, workspaceObjectURIs, objectIds));
+    }
+
+    /**
+     * Bulk put objects from a multiplexed stream (one entry per object). The supplier is called once per attempt.
+     */
+    public Map<String, String> bulkCreateFromStreamWithRetries(int tenantId,
+        List<String> allOfferIds, Map<String, Driver> storageDrivers,
+        Map<String, StorageOffer> storageOffers, DataCategory dataCategory,
+        Supplier<StreamAndInfo> multiplexedStreamSupplier, List<String> objectIds, String requester)
+        throws StorageException {
+
+        return bulkCreateWithRetries(tenantId, allOfferIds, dataCategory, objectIds, requester,
+            remainingOfferIds -> {
+                try (StreamAndInfo multiplexedStream = multiplexedStreamSupplier.get()) {
+                    return bulkPutTransferManager.bulkSendDataToOffers(multiplexedStream, tenantId,
+                        dataCategory, remainingOfferIds, storageDrivers, storageOffers, objectIds);
+                }
+            });
+    }
+
+    private Map<String, String> bulkCreateWithRetries(int tenantId, List<String> allOfferIds,
+        DataCategory dataCategory, List<String> objectIds, String requester,
+        Function<List<String>, BulkPutResult> bulkSender)
+        throws StorageException {
+
         List<String> remainingOfferIds = new ArrayList<>(allOfferIds);
         Map<String, ObjectInfo> objectInfos = null;
 
@@ -89,9 +120,7 @@ public class BulkStorageDistribution {
 
             for (int attempt = 1; attempt <= nbReties; attempt++) {
 
-                BulkPutResult bulkOutResult =
-                    bulkPutTransferManager.bulkSendDataToOffers(workspaceContainerGUID, tenantId,
-                        dataCategory, remainingOfferIds, storageDrivers, storageOffers, workspaceObjectURIs, objectIds);
+                BulkPutResult bulkOutResult = bulkSender.apply(remainingOfferIds);
 
                 if (bulkOutResult.getObjectInfos() != null) {
                     objectInfos = bulkOutResult.getObjectInfos().stream()
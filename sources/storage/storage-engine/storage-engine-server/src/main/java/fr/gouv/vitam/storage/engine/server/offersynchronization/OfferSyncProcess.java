@@ -27,13 +27,18 @@
 package fr.gouv.vitam.storage.engine.server.offersynchronization;
 
 import com.google.common.collect.Iterables;
+import com.google.common.collect.Lists;
 import fr.gouv.vitam.common.LocalDateUtil;
 import fr.gouv.vitam.common.logging.VitamLogger;
 import fr.gouv.vitam.common.logging.VitamLoggerFactory;
 import fr.gouv.vitam.common.model.StatusCode;
 import fr.gouv.vitam.common.retryable.RetryableOnException;
 import fr.gouv.vitam.common.retryable.RetryableParameters;
+import fr.gouv.vitam.common.server.application.VitamHttpHeader;
+import fr.gouv.vitam.common.stream.MultiplexedStreamWriter;
 import fr.gouv.vitam.common.stream.StreamUtils;
+import fr.gouv.vitam.common.stream.VitamAsyncInputStream;
+import fr.gouv.vitam.common.thread.VitamThreadPoolExecutor;
 import fr.gouv.vitam.common.thread.VitamThreadUtils;
 import fr.gouv.vitam.storage.engine.common.exception.StorageException;
 import fr.gouv.vitam.storage.engine.common.exception.StorageNotFoundException;
@@ -43,15 +48,26 @@ import fr.gouv.vitam.storage.engine.common.model.Order;
 import fr.gouv.vitam.storage.engine.common.model.request.OfferPartialSyncItem;
 import fr.gouv.vitam.storage.engine.server.distribution.StorageDistribution;
 import fr.gouv.vitam.storage.engine.server.distribution.impl.DataContext;
+import fr.gouv.vitam.storage.engine.server.distribution.impl.StreamAndInfo;
 import fr.gouv.vitam.storage.engine.server.exception.RuntimeStorageException;
+import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang3.tuple.ImmutablePair;
 
 import javax.ws.rs.core.Response;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
@@ -65,9 +81,18 @@ import static java.util.concurrent.TimeUnit.SECONDS;
 public class OfferSyncProcess {
     private static final VitamLogger LOGGER = VitamLoggerFactory.getInstance(OfferSyncProcess.class);
 
+    /**
+     * Categories of small metadata documents, copied using bulk put operations.
+     * Other objects (binaries...) may be large, and are copied one by one in parallel.
+     */
+    private static final Set<DataCategory> BULK_PUT_CATEGORIES =
+        Collections.unmodifiableSet(EnumSet.of(DataCategory.UNIT, DataCategory.OBJECTGROUP));
+
     private final RestoreOfferBackupService restoreOfferBackupService;
     private final StorageDistribution distribution;
     private final int bulkSize;
+    private final long bulkPutMaxObjectSize;
+    private final int bulkPutMaxCount;
     private final RetryableParameters retryableParameters;
 
     private OfferSyncStatus offerSyncStatus;
@@ -75,9 +100,23 @@ public class OfferSyncProcess {
     public OfferSyncProcess(RestoreOfferBackupService restoreOfferBackupService, StorageDistribution distribution,
         int bulkSize, int offerSyncNumberOfRetries, int offerSyncFirstAttemptWaitingTime,
         int offerSyncWaitingTime) {
+        this(restoreOfferBackupService, distribution, bulkSize, offerSyncNumberOfRetries,
+            offerSyncFirstAttemptWaitingTime, offerSyncWaitingTime, 0L, 0);
+    }
+
+    /**
+     * @param bulkPutMaxObjectSize max size of unit and object group metadata copied using bulk put operations
+     * (0 to disable bulk put)
+     * @param bulkPutMaxCount max number of objects per bulk put operation
+     */
+    public OfferSyncProcess(RestoreOfferBackupService restoreOfferBackupService, StorageDistribution distribution,
+        int bulkSize, int offerSyncNumberOfRetries, int offerSyncFirstAttemptWaitingTime,
+        int offerSyncWaitingTime, long bulkPutMaxObjectSize, int bulkPutMaxCount) {
         this.restoreOfferBackupService = restoreOfferBackupService;
         this.distribution = distribution;
         this.bulkSize = bulkSize;
+        this.bulkPutMaxObjectSize = bulkPutMaxObjectSize;
+        this.bulkPutMaxCount = bulkPutMaxCount;
         this.offerSyncStatus =
             new OfferSyncStatus(VitamThreadUtils.getVitamSession().getRequestId(), StatusCode.UNKNOWN, null, null, null,
                 null, null, null, null);
@@ -111,30 +150,34 @@ public class OfferSyncProcess {
                 targetOffer, sourceOffer, dataCategory));
 
             Long offset = startOffset;
-            while (true) {
+            CompletableFuture<List<OfferLog>> nextListing =
+                getListingAsync(strategyId, sourceOffer, dataCategory, offset);
+            while (nextListing != null) {
                 // get the data to startSynchronization
-                List<OfferLog> rawOfferLogs = restoreOfferBackupService.getListing(
-                    strategyId, sourceOffer, dataCategory, offset, bulkSize, Order.ASC);
+                List<OfferLog> rawOfferLogs = awaitListing(nextListing);
 
                 if (rawOfferLogs.isEmpty()) {
                     break;
                 }
 
+                // Prefetch next offer log page while synchronizing the current one
+                long pageLastSequence = Iterables.getLast(rawOfferLogs).getSequence();
+                nextListing = rawOfferLogs.size() < bulkSize ? null :
+                    getListingAsync(strategyId, sourceOffer, dataCategory, pageLastSequence + 1);
+
                 long lastSequence =
                     synchronizeOfferLogs(executor, sourceOffer, targetOffer, strategyId, dataCategory, rawOfferLogs,
                         offset);
 
-                this.offerSyncStatus.setCurrentOffset(lastSequence);
-
                 offset = lastSequence + 1;
 
+                this.offerSyncStatus.setCurrentOffset(lastSequence);
+                this.offerSyncStatus.setNextOffset(offset);
+                this.offerSyncStatus.addProcessedEntries(rawOfferLogs.size());
+
                 LOGGER
                     .info(String.format("Offer synchronization safe point offset : %s (from %s to %s for category %s)",
                         offset, sourceOffer, targetOffer, dataCategory));
-
-                if (rawOfferLogs.size() < bulkSize) {
-                    break;
-                }
             }
 
             LOGGER.info(String.format("The offers synchronization completed successfully. from %d to %d",
@@ -162,10 +205,17 @@ public class OfferSyncProcess {
         Collection<OfferLog> offerLogs = removeDuplicates(rawOfferLogs);
 
         List<CompletableFuture<Void>> completableFutures = new ArrayList<>();
+        Map<String, List<String>> fileNamesToBulkCopyByContainer = new HashMap<>();
         for (OfferLog offerLog : offerLogs) {
 
             switch (offerLog.getAction()) {
                 case WRITE:
+                    if (isBulkPutEnabled(dataCategory)) {
+                        fileNamesToBulkCopyByContainer
+                            .computeIfAbsent(offerLog.getContainer(), container -> new ArrayList<>())
+                            .add(offerLog.getFileName());
+                        break;
+                    }
                     completableFutures.add(CompletableFuture.runAsync(() -> retryable().execute(
                         () -> copyObject(sourceOffer, destinationOffer, dataCategory, offerLog.getContainer(),
                             offerLog.getFileName(), tenantId, strategyId, requestId)), executor));
@@ -181,6 +231,15 @@ public class OfferSyncProcess {
             }
         }
 
+        // Metadata of the same container are read in parallel, then the small ones are copied by bulk
+        for (Map.Entry<String, List<String>> entry : fileNamesToBulkCopyByContainer.entrySet()) {
+            for (List<String> fileNames : Lists.partition(entry.getValue(), bulkPutMaxCount)) {
+                completableFutures.add(
+                    copyObjectsByBulk(executor, sourceOffer, destinationOffer, dataCategory, entry.getKey(),
+                        fileNames, tenantId, strategyId, requestId));
+            }
+        }
+
         boolean allSucceeded = awaitCompletion(completableFutures);
 
         if (!allSucceeded) {
@@ -195,10 +254,47 @@ public class OfferSyncProcess {
         return lastSequence;
     }
 
+    private boolean isBulkPutEnabled(DataCategory dataCategory) {
+        return bulkPutMaxObjectSize > 0L && bulkPutMaxCount > 1 && BULK_PUT_CATEGORIES.contains(dataCategory);
+    }
+
+    private CompletableFuture<List<OfferLog>> getListingAsync(String strategyId, String sourceOffer,
+        DataCategory dataCategory, Long offset) {
+
+        int tenantId = VitamThreadUtils.getVitamSession().getTenantId();
+        String requestId = VitamThreadUtils.getVitamSession().getRequestId();
+
+        return CompletableFuture.supplyAsync(() -> {
+            VitamThreadUtils.getVitamSession().setTenantId(tenantId);
+            VitamThreadUtils.getVitamSession().setRequestId(requestId);
+            try {
+                return restoreOfferBackupService.getListing(
+                    strategyId, sourceOffer, dataCategory, offset, bulkSize, Order.ASC);
+            } catch (StorageException e) {
+                throw new CompletionException(e);
+            }
+        }, VitamThreadPoolExecutor.getDefaultExecutor());
+    }
+
+    private List<OfferLog> awaitListing(CompletableFuture<List<OfferLog>> listing) throws StorageException {
+        try {
+            return listing.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new StorageException(e);
+        } catch (ExecutionException e) {
+            throw new StorageException("Could not list offer logs", e.getCause());
+        }
+    }
+
     private RetryableOnException<Void, RuntimeStorageException> retryable() {
         return new RetryableOnException<>(retryableParameters);
     }
 
+    private RetryableOnException<byte[], RuntimeStorageException> retryableRead() {
+        return new RetryableOnException<>(retryableParameters);
+    }
+
     private <T> boolean awaitCompletion(List<CompletableFuture<T>> completableFutures) throws StorageException {
         boolean allSucceeded = true;
         for (CompletableFuture<T> completableFuture : completableFutures) {
@@ -283,6 +379,115 @@ public class OfferSyncProcess {
         }
     }
 
+    private CompletableFuture<Void> copyObjectsByBulk(Executor executor, String sourceOffer,
+        String destinationOffer, DataCategory dataCategory, String container, List<String> fileNames, int tenant,
+        String strategyId, String requestId) {
+
+        // Each object is read in its own task, so that the bulk does not serialize reads
+        List<CompletableFuture<byte[]>> contents = new ArrayList<>();
+        for (String fileName : fileNames) {
+            contents.add(CompletableFuture.supplyAsync(() -> retryableRead().exec(
+                () -> readOrCopyObject(sourceOffer, destinationOffer, dataCategory, container, fileName, tenant,
+                    strategyId, requestId)), executor));
+        }
+
+        return CompletableFuture.allOf(contents.toArray(new CompletableFuture[0]))
+            .thenRunAsync(() -> retryable().execute(() -> {
+
+                List<String> bulkObjectIds = new ArrayList<>();
+                List<byte[]> bulkObjectContents = new ArrayList<>();
+                for (int i = 0; i < fileNames.size(); i++) {
+                    byte[] content = contents.get(i).join();
+                    if (content != null) {
+                        bulkObjectIds.add(fileNames.get(i));
+                        bulkObjectContents.add(content);
+                    }
+                }
+                bulkPutObjects(sourceOffer, destinationOffer, dataCategory, container, bulkObjectIds,
+                    bulkObjectContents, tenant, strategyId, requestId);
+
+            }), executor);
+    }
+
+    /**
+     * Read an object from the source offer. Objects whose size is known and up to bulkPutMaxObjectSize are returned
+     * for a bulk put, others are directly streamed to the destination offer.
+     *
+     * @return the object content, or null if the object was copied or not found
+     */
+    private byte[] readOrCopyObject(String sourceOffer, String destinationOffer, DataCategory dataCategory,
+        String container, String fileName, int tenant, String strategyId, String requestId) {
+
+        VitamThreadUtils.getVitamSession().setTenantId(tenant);
+        VitamThreadUtils.getVitamSession().setRequestId(requestId);
+
+        Response resp = null;
+        try {
+            LOGGER.debug("Copying object " + container + "/" + fileName + " from offer " +
+                sourceOffer + " to offer " + destinationOffer);
+
+            resp = distribution.getContainerByCategory(strategyId, fileName, dataCategory, sourceOffer);
+
+            String size = resp.getHeaderString(VitamHttpHeader.X_CONTENT_LENGTH.getName());
+            if (size != null && Long.parseLong(size) <= bulkPutMaxObjectSize) {
+                try (InputStream inputStream = new VitamAsyncInputStream(resp)) {
+                    return IOUtils.toByteArray(inputStream, Long.parseLong(size));
+                }
+            }
+
+            distribution.storeDataInOffers(strategyId, fileName,
+                dataCategory, null, Collections.singletonList(destinationOffer), resp);
+            return null;
+
+        } catch (StorageNotFoundException e) {
+            LOGGER.debug("File not found", e);
+            LOGGER.warn("File " + sourceOffer + " not found on " + sourceOffer + ". File deleted meanwhile?");
+            return null;
+        } catch (StorageException | IOException e) {
+            throw new RuntimeStorageException(
+                "An error occurred during copying '" + container + "/" + fileName +
+                    "' from "
+                    + sourceOffer + " to " + destinationOffer, e);
+        } finally {
+            StreamUtils.consumeAnyEntityAndClose(resp);
+        }
+    }
+
+    private void bulkPutObjects(String sourceOffer, String destinationOffer, DataCategory dataCategory,
+        String container, List<String> bulkObjectIds, List<byte[]> bulkObjectContents, int tenant,
+        String strategyId, String requestId) {
+
+        if (bulkObjectIds.isEmpty()) {
+            return;
+        }
+
+        VitamThreadUtils.getVitamSession().setTenantId(tenant);
+        VitamThreadUtils.getVitamSession().setRequestId(requestId);
+
+        try {
+            byte[] multiplexedStream = toMultiplexedStream(bulkObjectContents);
+            distribution.bulkStoreDataInOffers(strategyId,
+                () -> new StreamAndInfo(new ByteArrayInputStream(multiplexedStream), (long) multiplexedStream.length),
+                bulkObjectIds, dataCategory, null, Collections.singletonList(destinationOffer));
+        } catch (StorageException | IOException e) {
+            throw new RuntimeStorageException(
+                "An error occurred during bulk copying " + bulkObjectIds.size() + " objects of '" + container +
+                    "' from " + sourceOffer + " to " + destinationOffer, e);
+        }
+    }
+
+    private static byte[] toMultiplexedStream(List<byte[]> contents) throws IOException {
+        List<Long> sizes = contents.stream().map(content -> (long) content.length).collect(Collectors.toList());
+        ByteArrayOutputStream outputStream =
+            new ByteArrayOutputStream((int) MultiplexedStreamWriter.getTotalStreamSize(sizes));
+        MultiplexedStreamWriter multiplexedStreamWriter = new MultiplexedStreamWriter(outputStream);
+        for (byte[] content : contents) {
+            multiplexedStreamWriter.appendEntry(content.length, new ByteArrayInputStream(content));
+        }
+        multiplexedStreamWriter.appendEndOfFile();
+        return outputStream.toByteArray();
+    }
+
     private void deleteObject(String destinationOffer, DataCategory dataCategory, String container, String fileName,
         int tenant,
         String strategyId,
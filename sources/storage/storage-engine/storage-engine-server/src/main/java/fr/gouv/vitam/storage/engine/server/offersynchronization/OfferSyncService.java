@@ -62,6 +62,8 @@ public class OfferSyncService implements AutoCloseable {
     private final int offerSyncNumberOfRetries;
     private final int offerSyncFirstAttemptWaitingTime;
     private final int offerSyncWaitingTime;
+    private final long offerSyncBulkPutMaxObjectSize;
+    private final int offerSyncBulkPutMaxCount;
 
     private ExecutorService executor;
     private final AtomicReference<OfferSyncProcess> lastOfferSyncService = new AtomicReference<>(null);
@@ -77,7 +79,9 @@ public class OfferSyncService implements AutoCloseable {
             storageConfiguration.getOfferSyncThreadPoolSize(),
             storageConfiguration.getOfferSyncNumberOfRetries(),
             storageConfiguration.getOfferSyncFirstAttemptWaitingTime(),
-            storageConfiguration.getOfferSyncWaitingTime()
+            storageConfiguration.getOfferSyncWaitingTime(),
+            storageConfiguration.getOfferSyncBulkPutMaxObjectSize(),
+            storageConfiguration.getOfferSyncBulkPutMaxCount()
         );
     }
 
@@ -89,6 +93,19 @@ public class OfferSyncService implements AutoCloseable {
         RestoreOfferBackupService restoreOfferBackupService,
         StorageDistribution distribution, int bulkSize, int offerSyncThreadPoolSize, int offerSyncNumberOfRetries,
         int offerSyncFirstAttemptWaitingTime, int offerSyncWaitingTime) {
+        this(restoreOfferBackupService, distribution, bulkSize, offerSyncThreadPoolSize, offerSyncNumberOfRetries,
+            offerSyncFirstAttemptWaitingTime, offerSyncWaitingTime, 0L, 0);
+    }
+
+    /**
+     * Test constructor.
+     */
+    @VisibleForTesting
+    OfferSyncService(
+        RestoreOfferBackupService restoreOfferBackupService,
+        StorageDistribution distribution, int bulkSize, int offerSyncThreadPoolSize, int offerSyncNumberOfRetries,
+        int offerSyncFirstAttemptWaitingTime, int offerSyncWaitingTime, long offerSyncBulkPutMaxObjectSize,
+        int offerSyncBulkPutMaxCount) {
         this.restoreOfferBackupService = restoreOfferBackupService;
         this.distribution = distribution;
         this.bulkSize = bulkSize;
@@ -96,6 +113,8 @@ public class OfferSyncService implements AutoCloseable {
         this.offerSyncNumberOfRetries = offerSyncNumberOfRetries;
         this.offerSyncFirstAttemptWaitingTime = offerSyncFirstAttemptWaitingTime;
         this.offerSyncWaitingTime = offerSyncWaitingTime;
+        this.offerSyncBulkPutMaxObjectSize = offerSyncBulkPutMaxObjectSize;
+        this.offerSyncBulkPutMaxCount = offerSyncBulkPutMaxCount;
         this.executor = ExecutorUtils.createScalableBatchExecutorService(offerSyncThreadPoolSize);
     }
 
@@ -178,7 +197,8 @@ public class OfferSyncService implements AutoCloseable {
 
     OfferSyncProcess createOfferSyncProcess() {
         return new OfferSyncProcess(restoreOfferBackupService, distribution, bulkSize, offerSyncNumberOfRetries,
-            offerSyncFirstAttemptWaitingTime, offerSyncWaitingTime);
+            offerSyncFirstAttemptWaitingTime, offerSyncWaitingTime, offerSyncBulkPutMaxObjectSize,
+            offerSyncBulkPutMaxCount);
     }
 
     void runSynchronizationAsync(String sourceOffer, String targetOffer, String strategyId, DataCategory dataCategory,
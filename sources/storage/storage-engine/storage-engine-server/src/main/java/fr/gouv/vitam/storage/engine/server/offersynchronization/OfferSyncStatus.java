@@ -49,6 +49,10 @@ public class OfferSyncStatus {
     private Long startOffset;
     @JsonProperty("currentOffset")
     private Long currentOffset;
+    @JsonProperty("nextOffset")
+    private Long nextOffset;
+    @JsonProperty("processedEntries")
+    private long processedEntries;
 
     public OfferSyncStatus() {
         // Empty constructor for deserialization
@@ -129,4 +133,28 @@ public class OfferSyncStatus {
         this.statusCode = statusCode;
         return this;
     }
+
+    /**
+     * @return the offset to resume the synchronization from
+     */
+    public Long getNextOffset() {
+        return nextOffset;
+    }
+
+    public OfferSyncStatus setNextOffset(Long nextOffset) {
+        this.nextOffset = nextOffset;
+        return this;
+    }
+
+    /**
+     * @return the number of synchronized offer log entries
+     */
+    public long getProcessedEntries() {
+        return processedEntries;
+    }
+
+    public OfferSyncStatus addProcessedEntries(long entries) {
+        this.processedEntries += entries;
+        return this;
+    }
 }
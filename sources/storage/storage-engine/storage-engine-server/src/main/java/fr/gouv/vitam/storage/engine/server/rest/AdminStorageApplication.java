@@ -77,7 +77,7 @@ public class AdminStorageApplication extends Application {
             singletons.addAll(adminApplication.getSingletons());
 
             final StorageLog storageLogService = StorageLogFactory.getInstance(VitamConfiguration.getTenants(),
-                Paths.get(storageConfiguration.getLoggingDirectory()));
+                Paths.get(storageConfiguration.getLoggingDirectory()), storageConfiguration.getStorageLogMaxFlushLatencyInMs());
 
             final StorageDistribution distribution =
                 new StorageDistributionImpl(storageConfiguration, storageLogService);
@@ -50,6 +50,11 @@ public final class StorageConfiguration extends DefaultVitamApplicationConfigura
     private int offerSyncFirstAttemptWaitingTime = 15;
     private int offerSyncWaitingTime = 30;
 
+    private long offerSyncBulkPutMaxObjectSize = 65_536L;
+    private int offerSyncBulkPutMaxCount = 100;
+
+    private long storageLogMaxFlushLatencyInMs = 100L;
+
     /**
      * StorageConfiguration empty constructor for YAMLFactory
      */
@@ -254,4 +259,31 @@ public final class StorageConfiguration extends DefaultVitamApplicationConfigura
     public void setOfferSyncWaitingTime(int offerSyncWaitingTime) {
         this.offerSyncWaitingTime = offerSyncWaitingTime;
     }
+
+    public long getOfferSyncBulkPutMaxObjectSize() {
+        return offerSyncBulkPutMaxObjectSize;
+    }
+
+    public StorageConfiguration setOfferSyncBulkPutMaxObjectSize(long offerSyncBulkPutMaxObjectSize) {
+        this.offerSyncBulkPutMaxObjectSize = offerSyncBulkPutMaxObjectSize;
+        return this;
+    }
+
+    public int getOfferSyncBulkPutMaxCount() {
+        return offerSyncBulkPutMaxCount;
+    }
+
+    public StorageConfiguration setOfferSyncBulkPutMaxCount(int offerSyncBulkPutMaxCount) {
+        this.offerSyncBulkPutMaxCount = offerSyncBulkPutMaxCount;
+        return this;
+    }
+
+    public long getStorageLogMaxFlushLatencyInMs() {
+        return storageLogMaxFlushLatencyInMs;
+    }
+
+    public StorageConfiguration setStorageLogMaxFlushLatencyInMs(long storageLogMaxFlushLatencyInMs) {
+        this.storageLogMaxFlushLatencyInMs = storageLogMaxFlushLatencyInMs;
+        return this;
+    }
 }
@@ -154,7 +154,7 @@ public class StorageResource extends ApplicationStatusResource implements VitamA
     StorageResource(StorageConfiguration configuration) {
         try {
             storageLogService = StorageLogFactory.getInstance(VitamConfiguration.getTenants(),
-                Paths.get(configuration.getLoggingDirectory()));
+                Paths.get(configuration.getLoggingDirectory()), configuration.getStorageLogMaxFlushLatencyInMs());
             distribution = new StorageDistributionImpl(configuration, storageLogService);
             WorkspaceClientFactory.changeMode(configuration.getUrlWorkspace());
             storageLogAdministration =
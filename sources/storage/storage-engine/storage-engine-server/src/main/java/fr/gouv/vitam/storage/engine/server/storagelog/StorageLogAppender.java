@@ -37,28 +37,56 @@ import java.io.Writer;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
 
 import fr.gouv.vitam.common.json.JsonHandler;
 import fr.gouv.vitam.common.logging.VitamLogger;
 import fr.gouv.vitam.common.logging.VitamLoggerFactory;
 import fr.gouv.vitam.common.model.VitamAutoCloseable;
+import fr.gouv.vitam.common.thread.VitamThreadFactory;
 import fr.gouv.vitam.storage.engine.server.storagelog.parameters.StorageLogStructure;
 
 /**
  * Storage log appender.
  *
- * Not thread-safe. Should not be invoked by multiple threads concurrently.
+ * Group-commit appender : entries are serialized by callers and enqueued without locking, then written and flushed
+ * by batch by a single flusher thread. Entries are flushed at most maxFlushLatencyInMs after being enqueued, or at
+ * once when a caller waits for them.
+ *
+ * Thread-safe, but entries should not be appended concurrently with {@link #close()}.
  */
 public class StorageLogAppender implements VitamAutoCloseable {
 
     private static final VitamLogger LOGGER = VitamLoggerFactory.getInstance(StorageLogAppender.class);
 
+    /**
+     * Default max delay before an enqueued entry is flushed
+     */
+    public static final long DEFAULT_MAX_FLUSH_LATENCY_IN_MS = 100L;
+
     private final Writer writer;
     private final String lineSeparator = "\n";
+    private final long maxFlushLatencyInNanos;
+    private final ConcurrentLinkedQueue<PendingEntry> pendingEntries = new ConcurrentLinkedQueue<>();
+    private final Thread flusherThread;
+    private volatile boolean closed;
 
     public StorageLogAppender(Path filePath) throws IOException {
+        this(filePath, DEFAULT_MAX_FLUSH_LATENCY_IN_MS);
+    }
+
+    public StorageLogAppender(Path filePath, long maxFlushLatencyInMs) throws IOException {
         OutputStream outputStream = openStream(filePath);
         this.writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        this.maxFlushLatencyInNanos = TimeUnit.MILLISECONDS.toNanos(maxFlushLatencyInMs);
+        this.flusherThread = VitamThreadFactory.getInstance().newThread(this::flushLoop);
+        this.flusherThread.start();
     }
 
     private OutputStream openStream(Path path) throws IOException {
@@ -70,19 +98,101 @@ public class StorageLogAppender implements VitamAutoCloseable {
     }
 
     /**
-     * Append to the current log.
+     * Append to the current log, and wait until the entry is flushed.
      *
      * @param parameters information to append to logFile
      * @throws IOException
      */
     public void append(StorageLogStructure parameters) throws IOException {
-        writer.append(JsonHandler.unprettyPrint(parameters.getMapParameters()));
-        writer.append(lineSeparator);
-        writer.flush();
+        waitFlushed(appendAsync(parameters, true));
+    }
+
+    /**
+     * Enqueue an entry to the current log.
+     *
+     * @param parameters information to append to logFile
+     * @param flushNow if true, wake up the flusher at once instead of waiting for the max flush latency
+     * @return a future completed once the entry is flushed, or completed exceptionally on write error
+     * @throws IOException if the appender is closed
+     */
+    public CompletableFuture<Void> appendAsync(StorageLogStructure parameters, boolean flushNow)
+        throws IOException {
+        if (closed) {
+            throw new IOException("Storage log appender is closed");
+        }
+        PendingEntry entry = new PendingEntry(JsonHandler.unprettyPrint(parameters.getMapParameters()));
+        pendingEntries.add(entry);
+        if (flushNow) {
+            LockSupport.unpark(flusherThread);
+        }
+        return entry.flushed;
+    }
+
+    /**
+     * Wait until an entry is flushed.
+     *
+     * @param flushed the future returned by {@link #appendAsync(StorageLogStructure, boolean)}
+     * @throws IOException if the entry could not be written
+     */
+    public static void waitFlushed(CompletableFuture<Void> flushed) throws IOException {
+        try {
+            flushed.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for storage log flush", e);
+        } catch (ExecutionException e) {
+            throw new IOException("Could not write storage log", e.getCause());
+        }
     }
-    
+
+    private void flushLoop() {
+        List<PendingEntry> batch = new ArrayList<>();
+        while (true) {
+            // Read before draining, so that entries enqueued before close are flushed
+            boolean closing = closed;
+            PendingEntry entry;
+            while ((entry = pendingEntries.poll()) != null) {
+                batch.add(entry);
+            }
+            if (!batch.isEmpty()) {
+                writeBatch(batch);
+                batch.clear();
+            } else if (closing) {
+                return;
+            } else {
+                LockSupport.parkNanos(this, maxFlushLatencyInNanos);
+            }
+        }
+    }
+
+    private void writeBatch(List<PendingEntry> batch) {
+        try {
+            for (PendingEntry entry : batch) {
+                writer.append(entry.line);
+                writer.append(lineSeparator);
+            }
+            writer.flush();
+        } catch (IOException e) {
+            LOGGER.error("Could not write storage log", e);
+            batch.forEach(entry -> entry.flushed.completeExceptionally(e));
+            return;
+        }
+        batch.forEach(entry -> entry.flushed.complete(null));
+    }
+
     @Override
     public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        LockSupport.unpark(flusherThread);
+        try {
+            flusherThread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            LOGGER.warn("Interrupted while waiting for storage log flush", e);
+        }
         try {
             if (writer != null) {
                 writer.flush();
@@ -91,5 +201,18 @@ public class StorageLogAppender implements VitamAutoCloseable {
         } catch (IOException ex) {
             LOGGER.warn("Could not close stream", ex);
         }
+        PendingEntry entry;
+        while ((entry = pendingEntries.poll()) != null) {
+            entry.flushed.completeExceptionally(new IOException("Storage log appender is closed"));
+        }
+    }
+
+    private static class PendingEntry {
+        private final String line;
+        private final CompletableFuture<Void> flushed = new CompletableFuture<>();
+
+        private PendingEntry(String line) {
+            this.line = line;
+        }
     }
 }
@@ -47,6 +47,10 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -73,19 +77,22 @@ public class StorageLogFactory implements StorageLog {
     private final Path accessOperationLogPath;
     private final Map<Integer, StorageLogAppender> writeOperationLogAppenders;
     private final Map<Integer, StorageLogAppender> accessOperationLogAppenders;
-    private final Map<Integer, Object> writeLockers;
-    private final Map<Integer, Object> accessLockers;
+    private final Map<Integer, ReadWriteLock> writeLockers;
+    private final Map<Integer, ReadWriteLock> accessLockers;
+    private final long maxFlushLatencyInMs;
 
     /**
      * Constructor.
      *
      * @param tenants
      * @param basePath
+     * @param maxFlushLatencyInMs max delay before an access log entry is flushed
      * @throws IOException
      */
-    private StorageLogFactory(List<Integer> tenants, Path basePath) throws IOException {
+    private StorageLogFactory(List<Integer> tenants, Path basePath, long maxFlushLatencyInMs) throws IOException {
         ParametersChecker.checkParameter(PARAMS_CANNOT_BE_NULL, tenants, basePath);
         this.tenants = tenants;
+        this.maxFlushLatencyInMs = maxFlushLatencyInMs;
 
         this.writeOperationLogPath = createStoragePathDirectory(basePath, true);
         this.accessOperationLogPath = createStoragePathDirectory(basePath, false);
@@ -103,15 +110,28 @@ public class StorageLogFactory implements StorageLog {
      * @return the instance.
      */
     public static synchronized StorageLog getInstance(List<Integer> tenants, Path basePath) throws IOException {
+        return getInstance(tenants, basePath, StorageLogAppender.DEFAULT_MAX_FLUSH_LATENCY_IN_MS);
+    }
+
+    /**
+     * get Thread-Safe instance instance. <br/>
+     *
+     * @param tenants
+     * @param basePath
+     * @param maxFlushLatencyInMs max delay before an access log entry is flushed
+     * @return the instance.
+     */
+    public static synchronized StorageLog getInstance(List<Integer> tenants, Path basePath, long maxFlushLatencyInMs)
+        throws IOException {
         if (instance == null) {
-            instance = new StorageLogFactory(tenants, basePath);
+            instance = new StorageLogFactory(tenants, basePath, maxFlushLatencyInMs);
         }
         return instance;
     }
 
     @VisibleForTesting
     public static synchronized StorageLog getInstanceForTest(List<Integer> tenants, Path basePath) throws IOException {
-        instance = new StorageLogFactory(tenants, basePath);
+        instance = new StorageLogFactory(tenants, basePath, StorageLogAppender.DEFAULT_MAX_FLUSH_LATENCY_IN_MS);
         return instance;
     }
 
@@ -170,7 +190,7 @@ public class StorageLogFactory implements StorageLog {
         } else {
             appenderPath = this.accessOperationLogPath.resolve(file_name);
         }
-        return new StorageLogAppender(appenderPath);
+        return new StorageLogAppender(appenderPath, maxFlushLatencyInMs);
     }
 
     @Override
@@ -185,35 +205,41 @@ public class StorageLogFactory implements StorageLog {
 
     private void append(Integer tenant, StorageLogStructure parameters, Boolean isWriteOperation) throws IOException {
 
-        if (isWriteOperation) {
-            synchronized (writeLockers.get(tenant)) {
-                writeOperationLogAppenders.get(tenant).append(parameters);
-            }
-        } else {
-            synchronized (accessLockers.get(tenant)) {
-                accessOperationLogAppenders.get(tenant).append(parameters);
+        // Appenders are thread-safe: the shared lock only prevents appending to a log file being rotated.
+        // Write log entries are waited for, access log entries are flushed by the appender within its max latency.
+        Lock lock = isWriteOperation ? writeLockers.get(tenant).readLock() : accessLockers.get(tenant).readLock();
+        CompletableFuture<Void> flushed;
+        lock.lock();
+        try {
+            if (isWriteOperation) {
+                flushed = writeOperationLogAppenders.get(tenant).appendAsync(parameters, true);
+            } else {
+                flushed = accessOperationLogAppenders.get(tenant).appendAsync(parameters, false);
             }
+        } finally {
+            lock.unlock();
+        }
+
+        if (isWriteOperation) {
+            StorageLogAppender.waitFlushed(flushed);
         }
     }
 
     @Override
     public List<LogInformation> rotateLogFile(Integer tenant, boolean isWriteOperation) throws IOException {
 
-        if (isWriteOperation) {
-            synchronized (writeLockers.get(tenant)) {
-                writeOperationLogAppenders.get(tenant).close();
-                List<LogInformation> storageLogToBackup = listStorageLogsToBackup(tenant, isWriteOperation);
-                writeOperationLogAppenders.put(tenant, createAppender(tenant, isWriteOperation));
-                return storageLogToBackup;
-            }
-
-        } else {
-            synchronized (accessLockers.get(tenant)) {
-                accessOperationLogAppenders.get(tenant).close();
-                List<LogInformation> storageLogToBackup = listStorageLogsToBackup(tenant, isWriteOperation);
-                accessOperationLogAppenders.put(tenant, createAppender(tenant, isWriteOperation));
-                return storageLogToBackup;
-            }
+        Map<Integer, StorageLogAppender> appenders =
+            isWriteOperation ? writeOperationLogAppenders : accessOperationLogAppenders;
+        Lock lock = isWriteOperation ? writeLockers.get(tenant).writeLock() : accessLockers.get(tenant).writeLock();
+        lock.lock();
+        try {
+            // Flushes all entries appended before rotation to the previous log file
+            appenders.get(tenant).close();
+            List<LogInformation> storageLogToBackup = listStorageLogsToBackup(tenant, isWriteOperation);
+            appenders.put(tenant, createAppender(tenant, isWriteOperation));
+            return storageLogToBackup;
+        } finally {
+            lock.unlock();
         }
     }
 
@@ -224,8 +250,8 @@ public class StorageLogFactory implements StorageLog {
             accessOperationLogAppenders.put(tenant, createAppender(tenant, false));
         }
         for (Integer tenant : tenants) {
-            this.writeLockers.put(tenant, new Object());
-            this.accessLockers.put(tenant, new Object());
+            this.writeLockers.put(tenant, new ReentrantReadWriteLock());
+            this.accessLockers.put(tenant, new ReentrantReadWriteLock());
         }
     }
 
@@ -287,12 +313,17 @@ public class StorageLogFactory implements StorageLog {
     @Override
     public void close() {
         for (Integer tenant : this.tenants) {
-            synchronized (writeLockers.get(tenant)) {
-                writeOperationLogAppenders.get(tenant).close();
-            }
-            synchronized (accessLockers.get(tenant)) {
-                accessOperationLogAppenders.get(tenant).close();
-            }
+            close(writeLockers.get(tenant).writeLock(), writeOperationLogAppenders.get(tenant));
+            close(accessLockers.get(tenant).writeLock(), accessOperationLogAppenders.get(tenant));
+        }
+    }
+
+    private void close(Lock lock, StorageLogAppender appender) {
+        lock.lock();
+        try {
+            appender.close();
+        } finally {
+            lock.unlock();
         }
     }
 }
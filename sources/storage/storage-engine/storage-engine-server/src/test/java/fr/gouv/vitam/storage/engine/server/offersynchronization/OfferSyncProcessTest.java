@@ -30,6 +30,8 @@ import com.google.common.collect.Lists;
 import fr.gouv.vitam.common.VitamConfiguration;
 import fr.gouv.vitam.common.guid.GUIDFactory;
 import fr.gouv.vitam.common.model.StatusCode;
+import fr.gouv.vitam.common.server.application.VitamHttpHeader;
+import fr.gouv.vitam.common.stream.MultiplexedStreamReader;
 import fr.gouv.vitam.common.thread.RunWithCustomExecutor;
 import fr.gouv.vitam.common.thread.RunWithCustomExecutorRule;
 import fr.gouv.vitam.common.thread.VitamThreadFactory;
@@ -44,6 +46,8 @@ import fr.gouv.vitam.storage.engine.common.model.Order;
 import fr.gouv.vitam.storage.engine.common.model.request.OfferPartialSyncItem;
 import fr.gouv.vitam.storage.engine.server.distribution.StorageDistribution;
 import fr.gouv.vitam.storage.engine.server.distribution.impl.DataContext;
+import fr.gouv.vitam.storage.engine.server.distribution.impl.StreamAndInfo;
+import org.apache.commons.io.IOUtils;
 import org.junit.AfterClass;
 import org.junit.Before;
 import org.junit.BeforeClass;
@@ -56,12 +60,16 @@ import org.mockito.junit.MockitoJUnit;
 import org.mockito.junit.MockitoRule;
 
 import javax.ws.rs.core.Response;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import static java.util.Collections.singletonList;
@@ -102,6 +110,7 @@ public class OfferSyncProcessTest {
     private List<OfferLog> sourceOfferLogs;
     private Map<String, byte[]> sourceDataFiles;
     private Map<String, byte[]> targetDataFiles;
+    private List<String> bulkStoredFiles;
 
     private static ExecutorService executorService;
 
@@ -125,6 +134,7 @@ public class OfferSyncProcessTest {
         sourceOfferLogs = new ArrayList<>();
         sourceDataFiles = new ConcurrentHashMap<>();
         targetDataFiles = new ConcurrentHashMap<>();
+        bulkStoredFiles = new CopyOnWriteArrayList<>();
 
         doAnswer((args) -> {
 
@@ -441,6 +451,91 @@ public class OfferSyncProcessTest {
         assertThat(fileName.getAllValues()).contains("file1", "file2");
     }
 
+    @Test
+    @RunWithCustomExecutor
+    public void synchronizeFromScratchMultiBatchWithBulkPut() throws Exception {
+
+        // Given
+        givenDataSetInSourceOffer();
+        givenSourceFilesWithContentLength();
+        givenBulkStoreInTargetOffer();
+
+        // Objects up to 5 bytes are copied by bulk of max 2 objects
+        OfferSyncProcess instance = new OfferSyncProcess(restoreOfferBackupService,
+            distribution, 10, 1, 1, 1, 5L, 2);
+
+        // When
+        instance
+            .synchronize(executorService, SOURCE, TARGET, VitamConfiguration.getDefaultStrategy(), DATA_CATEGORY,
+                null);
+
+        // Then
+        assertThat(targetDataFiles.keySet()).isEqualTo(sourceDataFiles.keySet());
+        sourceDataFiles.forEach((filename, data) -> assertThat(targetDataFiles.get(filename)).isEqualTo(data));
+        verifySynchronizationStatus(instance, null, 12L);
+        assertThat(instance.getOfferSyncStatus().getNextOffset()).isEqualTo(13L);
+        assertThat(instance.getOfferSyncStatus().getProcessedEntries()).isEqualTo(12L);
+
+        // First batch [sequence 1..10] :
+        //  - Bulk written   : file3
+        //  - Written        : file2 (data2-v4), file4 (data4-v2) (too big for bulk)
+        //  - Deleted        : file1
+        //  - Not found      : file5
+        // Second batch [sequence 11..12] :
+        //  - Bulk written   : file6
+        //  - Deleted        : file5 (silently)
+        assertThat(bulkStoredFiles).containsExactlyInAnyOrder("file3", "file6");
+        ArgumentCaptor<String> fileName = forClass(String.class);
+        verify(distribution, times(2))
+            .storeDataInOffers(anyString(), fileName.capture(), any(), any(), any(), any(Response.class));
+        assertThat(fileName.getAllValues()).containsExactlyInAnyOrder("file2", "file4");
+        verify(distribution, times(2)).deleteObjectInOffers(any(), any(), any());
+    }
+
+    @Test
+    @RunWithCustomExecutor
+    public void synchronizeBinaryObjectsOneByOneWhenBulkPutEnabled() throws Exception {
+
+        // Given
+        givenFileWriteOrder("file1", 1L, "data1".getBytes());
+        givenFileWriteOrder("file2", 2L, "data2".getBytes());
+        givenFileWriteOrder("file3", 3L, "data3".getBytes());
+
+        doAnswer((args) -> sourceOfferLogs).when(restoreOfferBackupService).getListing(
+            eq(VitamConfiguration.getDefaultStrategy()), eq(SOURCE), eq(DataCategory.OBJECT), any(), anyInt(),
+            eq(Order.ASC));
+        doAnswer((args) -> {
+            byte[] data = sourceDataFiles.get((String) args.getArgument(1));
+            return Response.ok(new ByteArrayInputStream(data))
+                .header(VitamHttpHeader.X_CONTENT_LENGTH.getName(), data.length)
+                .build();
+        }).when(distribution)
+            .getContainerByCategory(eq(VitamConfiguration.getDefaultStrategy()), anyString(), eq(DataCategory.OBJECT),
+                eq(SOURCE));
+        doAnswer((args) -> {
+            Response response = args.getArgument(5);
+            targetDataFiles.put(args.getArgument(1), IOUtils.toByteArray((InputStream) response.getEntity()));
+            return null;
+        }).when(distribution)
+            .storeDataInOffers(eq(VitamConfiguration.getDefaultStrategy()), anyString(), eq(DataCategory.OBJECT),
+                eq(null), eq(singletonList(TARGET)), any());
+
+        OfferSyncProcess instance = new OfferSyncProcess(restoreOfferBackupService,
+            distribution, 10, 1, 1, 1, 5L, 2);
+
+        // When
+        instance
+            .synchronize(executorService, SOURCE, TARGET, VitamConfiguration.getDefaultStrategy(),
+                DataCategory.OBJECT, null);
+
+        // Then
+        assertThat(instance.getOfferSyncStatus().getStatusCode()).isEqualTo(StatusCode.OK);
+        assertThat(targetDataFiles.keySet()).containsExactlyInAnyOrder("file1", "file2", "file3");
+        verify(distribution, times(3))
+            .storeDataInOffers(anyString(), anyString(), eq(DataCategory.OBJECT), any(), any(), any(Response.class));
+        verify(distribution, never()).bulkStoreDataInOffers(any(), any(), any(), any(), any(), any());
+    }
+
     private void givenDataSetInSourceOffer() {
         givenDataSetInSourceOfferPart1();
         givenDataSetInSourceOfferPart2();
@@ -468,6 +563,56 @@ public class OfferSyncProcessTest {
         givenFileDeleteOrder("file5", 12L);
     }
 
+    private void givenSourceFilesWithContentLength() throws Exception {
+        doAnswer((args) -> {
+
+            String filename = args.getArgument(1);
+            byte[] data = sourceDataFiles.get(filename);
+            if (data == null) {
+                throw new StorageNotFoundException("not found");
+            }
+            return Response.ok(new ByteArrayInputStream(data))
+                .header(VitamHttpHeader.X_CONTENT_LENGTH.getName(), data.length)
+                .build();
+
+        }).when(distribution)
+            .getContainerByCategory(eq(VitamConfiguration.getDefaultStrategy()), anyString(), eq(DATA_CATEGORY),
+                eq(SOURCE));
+
+        doAnswer((args) -> {
+
+            String filename = args.getArgument(1);
+            Response response = args.getArgument(5);
+
+            targetDataFiles.put(filename, IOUtils.toByteArray((InputStream) response.getEntity()));
+            return null;
+
+        }).when(distribution)
+            .storeDataInOffers(eq(VitamConfiguration.getDefaultStrategy()), anyString(), eq(DATA_CATEGORY), eq(null),
+                eq(singletonList(TARGET)), any());
+    }
+
+    private void givenBulkStoreInTargetOffer() throws Exception {
+        doAnswer((args) -> {
+
+            Supplier<StreamAndInfo> multiplexedStreamSupplier = args.getArgument(1);
+            List<String> objectIds = args.getArgument(2);
+
+            try (StreamAndInfo streamAndInfo = multiplexedStreamSupplier.get();
+                MultiplexedStreamReader reader = new MultiplexedStreamReader(streamAndInfo.getStream())) {
+                for (String objectId : objectIds) {
+                    targetDataFiles.put(objectId, IOUtils.toByteArray(reader.readNextEntry().get()));
+                    bulkStoredFiles.add(objectId);
+                }
+                assertThat(reader.readNextEntry()).isEmpty();
+            }
+            return null;
+
+        }).when(distribution)
+            .bulkStoreDataInOffers(eq(VitamConfiguration.getDefaultStrategy()), any(), any(), eq(DATA_CATEGORY),
+                eq(null), eq(singletonList(TARGET)));
+    }
+
     private void givenFileWriteOrder(String filename, long sequence, byte[] bytes) {
         sourceOfferLogs.add(new OfferLog(CONTAINER, filename, OfferLogAction.WRITE).setSequence(sequence));
         sourceDataFiles.put(filename, bytes);
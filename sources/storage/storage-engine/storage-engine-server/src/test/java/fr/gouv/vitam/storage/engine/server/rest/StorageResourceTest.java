@@ -99,6 +99,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import static io.restassured.RestAssured.get;
@@ -1117,6 +1118,13 @@ public class StorageResourceTest {
             return new RequestResponseOK<OfferLog>().setHttpCode(Status.OK.getStatusCode());
         }
 
+        @Override
+        public BulkObjectStoreResponse bulkStoreDataInOffers(String strategyId,
+            Supplier<StreamAndInfo> multiplexedStreamSupplier, List<String> objectIds, DataCategory category,
+            String requester, List<String> offerIds) {
+            throw new UnsupportedOperationException("UnsupportedOperationException");
+        }
+
         @Override
         public BulkObjectStoreResponse bulkCreateFromWorkspace(String strategyId,
             BulkObjectStoreRequest bulkObjectStoreRequest, String requester) {
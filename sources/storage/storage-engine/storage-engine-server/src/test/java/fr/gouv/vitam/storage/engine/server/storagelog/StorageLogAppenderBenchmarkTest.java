@@ -0,0 +1,159 @@
+/*
+ * Copyright French Prime minister Office/SGMAP/DINSIC/Vitam Program (2015-2020)
+ *
+ * contact.vitam@culture.gouv.fr
+ *
+ * This software is a computer program whose purpose is to implement a digital archiving back-office system managing
+ * high volumetry securely and efficiently.
+ *
+ * This software is governed by the CeCILL 2.1 license under French law and abiding by the rules of distribution of free
+ * software. You can use, modify and/ or redistribute the software under the terms of the CeCILL 2.1 license as
+ * circulated by CEA, CNRS and INRIA at the following URL "https://cecill.info".
+ *
+ * As a counterpart to the access to the source code and rights to copy, modify and redistribute granted by the license,
+ * users are provided only with a limited warranty and the software's author, the holder of the economic rights, and the
+ * successive licensors have only limited liability.
+ *
+ * In this respect, the user's attention is drawn to the risks associated with loading, using, modifying and/or
+ * developing or reproducing the software by the user in light of its specific status of free software, that may mean
+ * that it is complicated to manipulate, and that also therefore means that it is reserved for developers and
+ * experienced professionals having in-depth computer knowledge. Users are therefore encouraged to load and test the
+ * software's suitability as regards their requirements in conditions enabling the security of their systems and/or data
+ * to be ensured and, more generally, to use and operate it in the same conditions as regards security.
+ *
+ * The fact that you are presently reading this means that you have had knowledge of the CeCILL 2.1 license and that you
+ * accept its terms.
+ */
+package fr.gouv.vitam.storage.engine.server.storagelog;
+
+import fr.gouv.vitam.common.guid.GUIDFactory;
+import fr.gouv.vitam.common.json.JsonHandler;
+import fr.gouv.vitam.common.logging.VitamLogger;
+import fr.gouv.vitam.common.logging.VitamLoggerFactory;
+import fr.gouv.vitam.common.thread.VitamThreadFactory;
+import fr.gouv.vitam.storage.engine.server.storagelog.parameters.StorageLogStructure;
+import fr.gouv.vitam.storage.engine.server.storagelog.parameters.StorageLogbookParameterName;
+import org.junit.Assume;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static java.nio.file.StandardOpenOption.APPEND;
+import static java.nio.file.StandardOpenOption.CREATE_NEW;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares storage log append throughput of a locked, flushed per entry writer (former appender) against
+ * {@link StorageLogAppender}, with concurrent writers
+ */
+public class StorageLogAppenderBenchmarkTest {
+
+    private static final VitamLogger LOGGER = VitamLoggerFactory.getInstance(StorageLogAppenderBenchmarkTest.class);
+
+    /**
+     * Set to true to run the benchmark (opt-in, not run by the default test suite)
+     */
+    private static final String BENCHMARK_PROPERTY = "vitam.test.benchmark";
+
+    private static final int NB_THREADS = 16;
+    private static final int NB_ENTRIES_PER_THREAD = 2000;
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void benchmarkStorageLogAppends() throws Exception {
+        Assume.assumeTrue("Benchmark disabled, set -D" + BENCHMARK_PROPERTY + "=true to run it",
+            Boolean.getBoolean(BENCHMARK_PROPERTY));
+
+        // Per entry flush under a lock
+        Path lockedFilePath = folder.getRoot().toPath().resolve(GUIDFactory.newGUID().toString());
+        long lockedDuration;
+        try (Writer writer = Files.newBufferedWriter(lockedFilePath, StandardCharsets.UTF_8, CREATE_NEW, APPEND)) {
+            Object lock = new Object();
+            lockedDuration = run(parameters -> {
+                synchronized (lock) {
+                    writer.append(JsonHandler.unprettyPrint(parameters.getMapParameters()));
+                    writer.append("\n");
+                    writer.flush();
+                }
+            });
+        }
+        checkStorageLog(lockedFilePath);
+
+        // Group commit
+        Path groupCommitFilePath = folder.getRoot().toPath().resolve(GUIDFactory.newGUID().toString());
+        long groupCommitDuration;
+        try (StorageLogAppender appender = new StorageLogAppender(groupCommitFilePath)) {
+            groupCommitDuration = run(appender::append);
+        }
+        checkStorageLog(groupCommitFilePath);
+
+        int nbEntries = NB_THREADS * NB_ENTRIES_PER_THREAD;
+        LOGGER.info(String.format("Locked appender: %d entries in %d ms (%d/s)", nbEntries,
+            lockedDuration, nbEntries * 1000L / Math.max(lockedDuration, 1L)));
+        LOGGER.info(String.format("Group commit appender: %d entries in %d ms (%d/s)", nbEntries,
+            groupCommitDuration, nbEntries * 1000L / Math.max(groupCommitDuration, 1L)));
+    }
+
+    private long run(StorageLogWrite storageLogWrite) throws Exception {
+        ExecutorService executorService =
+            Executors.newFixedThreadPool(NB_THREADS, VitamThreadFactory.getInstance());
+        try {
+            long start = System.nanoTime();
+            List<Future<?>> futures = new ArrayList<>();
+            for (int thread = 0; thread < NB_THREADS; thread++) {
+                int threadIndex = thread;
+                futures.add(executorService.submit(() -> {
+                    for (int i = 0; i < NB_ENTRIES_PER_THREAD; i++) {
+                        storageLogWrite.write(new TestStorageLogStructure("object-" + threadIndex + "-" + i));
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+            return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        } finally {
+            executorService.shutdown();
+        }
+    }
+
+    private void checkStorageLog(Path filePath) throws IOException {
+        assertThat(Files.readAllLines(filePath)).hasSize(NB_THREADS * NB_ENTRIES_PER_THREAD).doesNotHaveDuplicates();
+    }
+
+    private static class TestStorageLogStructure implements StorageLogStructure {
+
+        private final Map<StorageLogbookParameterName, String> mapParameters = new HashMap<>();
+
+        private TestStorageLogStructure(String objectIdentifier) {
+            mapParameters.put(StorageLogbookParameterName.objectIdentifier, objectIdentifier);
+        }
+
+        @Override
+        public Map<StorageLogbookParameterName, String> getMapParameters() {
+            return mapParameters;
+        }
+    }
+
+    @FunctionalInterface
+    private interface StorageLogWrite {
+        void write(StorageLogStructure parameters) throws IOException;
+    }
+}
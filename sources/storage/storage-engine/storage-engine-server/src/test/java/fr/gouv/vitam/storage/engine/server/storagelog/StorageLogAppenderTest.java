@@ -27,6 +27,7 @@
 package fr.gouv.vitam.storage.engine.server.storagelog;
 
 import fr.gouv.vitam.common.guid.GUIDFactory;
+import fr.gouv.vitam.common.thread.VitamThreadFactory;
 import fr.gouv.vitam.storage.engine.server.storagelog.parameters.StorageLogbookOutcome;
 import fr.gouv.vitam.storage.engine.server.storagelog.parameters.StorageLogbookParameterName;
 import fr.gouv.vitam.storage.engine.server.storagelog.parameters.StorageLogbookParameters;
@@ -38,10 +39,18 @@ import org.junit.rules.TemporaryFolder;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -74,6 +83,71 @@ public class StorageLogAppenderTest {
             .isEqualTo("{\"objectIdentifier\":\"params1\"}\n{\"objectIdentifier\":\"params2\"}\n{\"objectIdentifier\":\"params3\"}\n".getBytes());
     }
 
+    @Test
+    public void should_write_all_entries_when_appending_concurrently() throws Exception {
+        Path filePath = folder.getRoot().toPath().resolve(GUIDFactory.newGUID().toString());
+        int nbThreads = 8;
+        int nbEntriesPerThread = 500;
+
+        ExecutorService executorService = Executors.newFixedThreadPool(nbThreads, VitamThreadFactory.getInstance());
+        try (StorageLogAppender instance = new StorageLogAppender(filePath)) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int thread = 0; thread < nbThreads; thread++) {
+                int threadIndex = thread;
+                futures.add(executorService.submit(() -> {
+                    for (int i = 0; i < nbEntriesPerThread; i++) {
+                        instance.append(buildStorageParameters("params-" + threadIndex + "-" + i));
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executorService.shutdown();
+        }
+
+        List<String> lines = Files.readAllLines(filePath);
+        assertThat(lines).hasSize(nbThreads * nbEntriesPerThread).doesNotHaveDuplicates()
+            .allMatch(line -> line.matches("\\{\"objectIdentifier\":\"params-\\d+-\\d+\"}"));
+    }
+
+    @Test
+    public void should_flush_async_entries_within_max_latency() throws Exception {
+        Path filePath = folder.getRoot().toPath().resolve(GUIDFactory.newGUID().toString());
+
+        try (StorageLogAppender instance = new StorageLogAppender(filePath, 10L)) {
+            CompletableFuture<Void> flushed = instance.appendAsync(buildStorageParameters("params1"), false);
+
+            flushed.get(10, TimeUnit.SECONDS);
+            assertThat(Files.readAllBytes(filePath)).isEqualTo("{\"objectIdentifier\":\"params1\"}\n".getBytes());
+        }
+    }
+
+    @Test
+    public void should_flush_pending_entries_on_close() throws Exception {
+        Path filePath = folder.getRoot().toPath().resolve(GUIDFactory.newGUID().toString());
+
+        CompletableFuture<Void> flushed;
+        try (StorageLogAppender instance = new StorageLogAppender(filePath, TimeUnit.HOURS.toMillis(1))) {
+            flushed = instance.appendAsync(buildStorageParameters("params1"), false);
+        }
+
+        assertThat(flushed).isCompleted();
+        assertThat(Files.readAllBytes(filePath)).isEqualTo("{\"objectIdentifier\":\"params1\"}\n".getBytes());
+    }
+
+    @Test
+    public void should_reject_entries_when_closed() throws Exception {
+        Path filePath = folder.getRoot().toPath().resolve(GUIDFactory.newGUID().toString());
+
+        StorageLogAppender instance = new StorageLogAppender(filePath);
+        instance.close();
+
+        assertThatThrownBy(() -> instance.append(buildStorageParameters("params1"))).isInstanceOf(IOException.class);
+    }
+
     private StorageLogbookParameters buildStorageParameters(String str) {
         StorageLogbookParameters params = mock(StorageLogbookParameters.class);
         Map<StorageLogbookParameterName, String> mapParameters = new HashMap<>();
@@ -37,6 +37,13 @@ import fr.gouv.vitam.processing.common.exception.ProcessingException;
 import fr.gouv.vitam.processing.common.parameter.WorkerParameters;
 import fr.gouv.vitam.worker.common.HandlerIO;
 import fr.gouv.vitam.worker.common.utils.LogbookLifecycleWorkerHelper;
+import org.apache.commons.lang3.StringUtils;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * CommitLifeCycle Handler
@@ -71,6 +78,38 @@ public abstract class CommitLifeCycleActionHandler extends ActionHandler {
         return buildFinalItemStatus(itemStatus);
     }
 
+    /**
+     * Commits lifeCycles of all the objects of the distribution bulk, with a single logbook request.
+     */
+    @Override
+    public List<ItemStatus> executeList(WorkerParameters params, HandlerIO handlerIO) {
+        final List<String> objectIDs = params.getObjectNameList().stream()
+            .map(objectName -> StringUtils.substringBeforeLast(objectName, "."))
+            .collect(Collectors.toList());
+        final String operationId = params.getContainerName();
+        Set<String> notCommittedObjectIDs;
+        try {
+            checkMandatoryIOParameter(handlerIO);
+            notCommittedObjectIDs = new HashSet<>(commitLifeCycles(handlerIO, objectIDs, operationId));
+        } catch (final ProcessingException | LogbookClientServerException | LogbookClientBadRequestException e) {
+            LOGGER.error(e);
+            notCommittedObjectIDs = new HashSet<>(objectIDs);
+        }
+
+        List<ItemStatus> itemStatuses = new ArrayList<>();
+        for (String objectID : objectIDs) {
+            final ItemStatus itemStatus = getItemStatus();
+            if (notCommittedObjectIDs.contains(objectID)) {
+                LOGGER.error("LifeCycle of " + objectID + " has not been committed");
+                itemStatus.increment(StatusCode.FATAL);
+            } else {
+                itemStatus.increment(StatusCode.OK);
+            }
+            itemStatuses.add(buildFinalItemStatus(itemStatus));
+        }
+        return itemStatuses;
+    }
+
     /**
      * Returns an ItemStatus
      * 
@@ -101,6 +140,19 @@ public abstract class CommitLifeCycleActionHandler extends ActionHandler {
         throws ProcessingException, LogbookClientBadRequestException, LogbookClientNotFoundException,
         LogbookClientServerException;
 
+    /**
+     * Runs a commit process for the given objects (Units or ObjectGroups) and a given operation
+     *
+     * @param handlerIO a HandlerIO instance
+     * @param objectIDs the object ids to commit
+     * @param operationId the operation id
+     * @return ids of the objects whose lifeCycle was not found, and has not been committed
+     * @throws LogbookClientBadRequestException if the argument is incorrect when commit lifecycles
+     * @throws LogbookClientServerException if the Server got an internal error when commit lifecycles
+     */
+    public abstract List<String> commitLifeCycles(HandlerIO handlerIO, List<String> objectIDs, String operationId)
+        throws LogbookClientBadRequestException, LogbookClientServerException;
+
     @Override
     public void checkMandatoryIOParameter(HandlerIO handler) throws ProcessingException {
     }
@@ -31,6 +31,9 @@ import fr.gouv.vitam.logbook.common.exception.LogbookClientBadRequestException;
 import fr.gouv.vitam.logbook.common.exception.LogbookClientNotFoundException;
 import fr.gouv.vitam.logbook.common.exception.LogbookClientServerException;
 import fr.gouv.vitam.worker.common.HandlerIO;
+
+import java.util.Collections;
+import java.util.List;
 /**
  * CommitLifeCycleObjectGroup Handler
  */
@@ -62,6 +65,19 @@ public class CommitLifeCycleObjectGroupActionHandler extends CommitLifeCycleActi
         }
     }
 
+    @Override
+    public List<String> commitLifeCycles(HandlerIO handlerIO, List<String> objectIDs, String operationId)
+        throws LogbookClientBadRequestException, LogbookClientServerException {
+
+        if (handlerIO.getInput() != null && handlerIO.getInput().size() > 0) {
+            boolean shouldWriteLFC = (boolean) handlerIO.getInput(SHOULD_WRITE_RANK);
+            if (!shouldWriteLFC) {
+                return Collections.emptyList();
+            }
+        }
+        return handlerIO.getLifecyclesClient().commitObjectGroups(operationId, objectIDs);
+    }
+
     @Override
     public ItemStatus getItemStatus() {
         return new ItemStatus(HANDLER_ID);
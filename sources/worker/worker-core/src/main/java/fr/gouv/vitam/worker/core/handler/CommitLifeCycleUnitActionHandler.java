@@ -33,6 +33,8 @@ import fr.gouv.vitam.logbook.common.exception.LogbookClientServerException;
 import fr.gouv.vitam.processing.common.exception.ProcessingException;
 import fr.gouv.vitam.worker.common.HandlerIO;
 
+import java.util.List;
+
 /**
  * CommitLifeCycleUnit Handler
  */
@@ -53,6 +55,12 @@ public class CommitLifeCycleUnitActionHandler extends CommitLifeCycleActionHandl
         handlerIO.getLifecyclesClient().commitUnit(operationId, objectID);
     }
 
+    @Override
+    public List<String> commitLifeCycles(HandlerIO handlerIO, List<String> objectIDs, String operationId)
+        throws LogbookClientBadRequestException, LogbookClientServerException {
+        return handlerIO.getLifecyclesClient().commitUnits(operationId, objectIDs);
+    }
+
     @Override
     public ItemStatus getItemStatus() {
         return new ItemStatus(HANDLER_ID);
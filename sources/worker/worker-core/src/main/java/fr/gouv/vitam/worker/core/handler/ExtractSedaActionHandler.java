@@ -138,6 +138,7 @@ import fr.gouv.vitam.worker.core.exception.WorkerspaceQueueException;
 import fr.gouv.vitam.worker.core.extractseda.ArchiveUnitListener;
 import fr.gouv.vitam.worker.core.impl.HandlerIOImpl;
 import fr.gouv.vitam.worker.core.utils.FastValueAccessMap;
+import fr.gouv.vitam.worker.core.utils.SpillableStringMap;
 import fr.gouv.vitam.workspace.api.exception.ContentAddressableStorageException;
 import fr.gouv.vitam.workspace.api.exception.ContentAddressableStorageNotFoundException;
 import fr.gouv.vitam.workspace.api.exception.ContentAddressableStorageServerException;
@@ -166,6 +167,7 @@ import java.io.FileWriter;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.StringWriter;
+import java.nio.file.Paths;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -401,14 +403,14 @@ public class ExtractSedaActionHandler extends ActionHandler {
     @VisibleForTesting
     ExtractSedaActionHandler(MetaDataClientFactory metaDataClientFactory,
         AdminManagementClientFactory adminManagementClientFactory) {
-        dataObjectIdToGuid = new HashMap<>();
+        dataObjectIdToGuid = newIdMap();
         dataObjectIdWithoutObjectGroupId = new HashMap<>();
         objectGroupIdToGuid = new HashMap<>();
-        unitIdToGuid = new HashMap<>();
-        guidToUnitId = new HashMap<>();
+        unitIdToGuid = newIdMap();
+        guidToUnitId = newIdMap();
         dataObjectIdToObjectGroupId = new FastValueAccessMap<>();
         objectGroupIdToDataObjectId = new HashMap<>();
-        unitIdToGroupId = new HashMap<>();
+        unitIdToGroupId = newIdMap();
         objectGroupIdToUnitId = new HashMap<>();
         guidToLifeCycleParameters = new HashMap<>();
         dataObjectIdToDetailDataObject = new HashMap<>();
@@ -428,6 +430,22 @@ public class ExtractSedaActionHandler extends ActionHandler {
         this.adminManagementClientFactory = adminManagementClientFactory;
     }
 
+    /**
+     * Identifier maps may hold one entry per unit or object of the manifest: above
+     * VitamConfiguration.getExtractSedaMapSpillThreshold() entries they are moved out of the heap.
+     */
+    private static Map<String, String> newIdMap() {
+        return new SpillableStringMap(VitamConfiguration.getExtractSedaMapSpillThreshold(),
+            Paths.get(VitamConfiguration.getVitamTmpFolder()));
+    }
+
+    @Override
+    public void close() {
+        // Release temporary files of spilled maps
+        dataObjectIdToGuid.clear();
+        unitIdToGroupId.clear();
+    }
+
     /**
      * @return HANDLER_ID
      */
@@ -172,7 +172,8 @@ public class VerifyMerkleTreeActionHandler extends ActionHandler {
     public static MerkleTreeAlgo computeMerkleTree(InputStream inputStream)
         throws ProcessingException {
 
-        final MerkleTreeAlgo merkleTreeAlgo = new MerkleTreeAlgo(VitamConfiguration.getDefaultDigestType());
+        // Only the root hash is checked : the tree itself is not kept
+        final MerkleTreeAlgo merkleTreeAlgo = new MerkleTreeAlgo(VitamConfiguration.getDefaultDigestType(), false);
 
         // Process
         try (BufferedInputStream bis = new BufferedInputStream(inputStream);
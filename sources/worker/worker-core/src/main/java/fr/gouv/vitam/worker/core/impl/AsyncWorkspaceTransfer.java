@@ -36,12 +36,11 @@ import fr.gouv.vitam.worker.core.exception.WorkerspaceQueueException;
 
 /**
  * Send asynchronously files to the workspace
- * Manage double collection,
- * one for managing completable waitMonitor as batch
- * The scond collection is for WorkspaceQueue, information of files to be sent to the workspace
+ * WorkspaceQueue elements (information of files to be sent to the workspace) are handed to a {@link WorkspaceBatchRunner}
+ * which keeps a bounded number of transfers running continuously.
  * <p>
- * If an exception occurs when a completable waitMonitor try to execute a task,
- * this exception will be saved and propagated when the method waitEndOfTransfer is called
+ * If an exception occurs when a transfer is executed,
+ * the first exception will be saved and propagated when the method waitEndOfTransfer is called
  */
 public class AsyncWorkspaceTransfer {
 
@@ -26,44 +26,64 @@
  */
 package fr.gouv.vitam.worker.core.impl;
 
-import com.google.common.collect.Lists;
 import fr.gouv.vitam.common.ParametersChecker;
 import fr.gouv.vitam.common.logging.VitamLogger;
 import fr.gouv.vitam.common.logging.VitamLoggerFactory;
+import fr.gouv.vitam.common.stream.StreamUtils;
 import fr.gouv.vitam.processing.common.exception.ProcessingException;
 import fr.gouv.vitam.processing.common.model.WorkspaceQueue;
 import fr.gouv.vitam.worker.common.HandlerIO;
 import fr.gouv.vitam.worker.core.exception.WorkerspaceQueueException;
 
-import java.util.ArrayList;
-import java.util.List;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executor;
 import java.util.concurrent.LinkedBlockingQueue;
-import java.util.stream.Collectors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * This task is responsible of sending files to the workspace
+ * <p>
+ * The runner thread blocks on the queue (no polling) and keeps up to maxInFlightTransfers transfers running at any
+ * time: a new transfer is started as soon as a previous one completes. The first failure is kept and rethrown by
+ * {@link #join()}; once a failure occurred, the remaining elements are discarded.
  */
 public class WorkspaceBatchRunner implements Runnable {
     private static final VitamLogger LOGGER = VitamLoggerFactory.getInstance(WorkspaceBatchRunner.class);
 
-    final private static int BATCH_SIZE = 10;
+    /**
+     * Default number of concurrent transfers to the workspace
+     */
+    public static final int DEFAULT_MAX_IN_FLIGHT_TRANSFERS = 10;
 
-    private BlockingQueue<WorkspaceQueue> queue;
-    private HandlerIO handlerIO;
-    private Executor executor;
     /**
-     * Will have a value false when the method waitEndOfTransfer is called
-     * This inform the thread that he have only to execute to pending elements in the queue.
+     * Marker enqueued by join to notify the runner that no more element will be transferred
      */
-    private volatile boolean doDequeue = true;
+    private static final WorkspaceQueue END_OF_TRANSFER = new WorkspaceQueue();
+
+    private final BlockingQueue<WorkspaceQueue> queue;
+    private final HandlerIO handlerIO;
+    private final Executor executor;
+    private final int maxInFlightTransfers;
+    private final Semaphore inFlightPermits;
 
     /**
-     * When join called make stopped to true
-     * This monitor join method to not be called multiple times
+     * Metrics: running transfers, completed transfers and transferred bytes
+     */
+    private final AtomicInteger inFlightTransfers = new AtomicInteger();
+    private final LongAdder transferredFiles = new LongAdder();
+    private final LongAdder transferredBytes = new LongAdder();
+    private volatile long startTime;
+    private volatile long endTime;
+
+    /**
+     * When start called make started to true
+     * This monitor start method to not be called multiple times
      */
     private volatile boolean started = false;
     /**
@@ -73,71 +93,88 @@ public class WorkspaceBatchRunner implements Runnable {
     private volatile boolean stopped = false;
 
     /**
-     * Will complete when exception occurs or when all element of the queue are treated
+     * Will complete when all element of the queue are treated
      */
-    private CompletableFuture<Boolean> waitMonitor;
-
+    private final CompletableFuture<Boolean> waitMonitor;
 
     /**
-     * Save the last occurred exception
+     * Save the first occurred exception
      */
-    private Throwable exceptionOccurred = null;
+    private final AtomicReference<Throwable> exceptionOccurred = new AtomicReference<>();
 
     public WorkspaceBatchRunner(HandlerIO handlerAsyncIO, Executor executor, int queueSize) {
+        this(handlerAsyncIO, executor, queueSize, DEFAULT_MAX_IN_FLIGHT_TRANSFERS);
+    }
+
+    public WorkspaceBatchRunner(HandlerIO handlerAsyncIO, Executor executor, int queueSize,
+        int maxInFlightTransfers) {
         ParametersChecker.checkParameter("Parameters mustn't be null", handlerAsyncIO, executor);
+        ParametersChecker.checkValue("maxInFlightTransfers", maxInFlightTransfers, 1);
         this.waitMonitor = new CompletableFuture<>();
         this.queue = new LinkedBlockingQueue<>(queueSize);
         this.handlerIO = handlerAsyncIO;
         this.executor = executor;
+        this.maxInFlightTransfers = maxInFlightTransfers;
+        this.inFlightPermits = new Semaphore(maxInFlightTransfers);
     }
 
     @Override
     public void run() {
-        List<CompletableFuture<Boolean>> completableFutures = new ArrayList<>();
-        while (doDequeue || queue.size() > 0) {
-            try {
-                if (queue.size() > 0) {
-                    int realBatchSize = BATCH_SIZE;
-                    if (BATCH_SIZE * 5 < queue.size()) {
-                        realBatchSize = BATCH_SIZE * 5;
-                    } else if (BATCH_SIZE * 5 * 2 < queue.size()) {
-                        realBatchSize = BATCH_SIZE * 5 * 2;
-                    }
-
-                    while (realBatchSize > 0) {
-                        WorkspaceQueue element = queue.poll();
-                        if (element != null) {
-                            completableFutures.add(CompletableFuture
-                                .supplyAsync(new WorkspaceTransferTask(handlerIO, element), executor)
-                                .exceptionally(e -> {
-                                    exceptionOccurred = e;
-                                    return Boolean.FALSE;
-                                }));
-                        }
-
-                        realBatchSize--;
-                    }
-
-                    if (completableFutures.size() > 0) {
-                        sequence(completableFutures).exceptionally(e -> {
-                            exceptionOccurred = e;
-                            return Lists.newArrayList();
-                        }).join();
-                        completableFutures.clear();
-
-                    }
+        startTime = System.nanoTime();
+        try {
+            WorkspaceQueue element;
+            while ((element = queue.take()) != END_OF_TRANSFER) {
+                if (null != exceptionOccurred.get()) {
+                    StreamUtils.closeSilently(element.getSourceFile());
+                    continue;
                 }
-            } catch (Exception e) {
-                LOGGER.error(e);
-                queue.clear();
-                waitMonitor.complete(Boolean.FALSE);
-                doDequeue = false;
-                break;
+                inFlightPermits.acquire();
+                submit(element);
             }
+            // Wait for running transfers
+            inFlightPermits.acquire(maxInFlightTransfers);
+            inFlightPermits.release(maxInFlightTransfers);
+        } catch (InterruptedException e) {
+            LOGGER.error(e);
+            exceptionOccurred.compareAndSet(null, e);
+            queue.clear();
+            Thread.currentThread().interrupt();
+        } finally {
+            endTime = System.nanoTime();
+            LOGGER.debug("Workspace transfer ended: {} files, {} bytes, {} bytes/s", getTransferredFiles(),
+                getTransferredBytes(), getThroughput());
+            waitMonitor.complete(null == exceptionOccurred.get());
         }
-        waitMonitor.complete(Boolean.TRUE);
     }
 
+    private void submit(WorkspaceQueue element) {
+        WorkspaceTransferTask task = new WorkspaceTransferTask(handlerIO, element);
+        inFlightTransfers.incrementAndGet();
+        try {
+            CompletableFuture.supplyAsync(task, executor)
+                .whenComplete((result, e) -> {
+                    if (null == e) {
+                        transferredFiles.increment();
+                    } else {
+                        onFailure(e);
+                    }
+                    transferredBytes.add(task.getTransferredBytes());
+                    inFlightTransfers.decrementAndGet();
+                    inFlightPermits.release();
+                });
+        } catch (RuntimeException e) {
+            onFailure(e);
+            StreamUtils.closeSilently(element.getSourceFile());
+            inFlightTransfers.decrementAndGet();
+            inFlightPermits.release();
+        }
+    }
+
+    private void onFailure(Throwable e) {
+        if (exceptionOccurred.compareAndSet(null, e)) {
+            LOGGER.error("Workspace transfer failed, remaining elements will be ignored", e);
+        }
+    }
 
     /**
      * Enqueue element to be transferred to the workspace
@@ -175,6 +212,8 @@ public class WorkspaceBatchRunner implements Runnable {
     /**
      * Wait end of workspace batch
      * this method may be called only once
+     *
+     * @throws WorkerspaceQueueException wrapping the first transfer failure if any
      */
     public void join() throws WorkerspaceQueueException {
         if (!started) {
@@ -186,24 +225,58 @@ public class WorkspaceBatchRunner implements Runnable {
         }
 
         stopped = true;
-        doDequeue = false;
 
         try {
+            queue.put(END_OF_TRANSFER);
             waitMonitor.get();
         } catch (InterruptedException | ExecutionException e) {
             LOGGER.error(e);
             throw new WorkerspaceQueueException(e);
         }
 
-        if (null != exceptionOccurred) {
-            throw new WorkerspaceQueueException(exceptionOccurred);
+        Throwable exception = exceptionOccurred.get();
+        if (null != exception) {
+            throw new WorkerspaceQueueException(exception);
         }
     }
 
-    private static <T> CompletableFuture<List<T>> sequence(List<CompletableFuture<T>> futures) {
-        CompletableFuture<Void> allDoneFuture =
-            CompletableFuture.allOf(futures.toArray(new CompletableFuture[futures.size()]));
-        return allDoneFuture
-            .thenApply(v -> futures.stream().map(CompletableFuture::join).collect(Collectors.toList()));
+    /**
+     * @return the number of elements waiting in the queue
+     */
+    public int getQueueDepth() {
+        return queue.size();
+    }
+
+    /**
+     * @return the number of running transfers
+     */
+    public int getInFlightTransfers() {
+        return inFlightTransfers.get();
+    }
+
+    /**
+     * @return the number of successfully transferred elements
+     */
+    public long getTransferredFiles() {
+        return transferredFiles.sum();
+    }
+
+    /**
+     * @return the number of bytes read from the transferred elements
+     */
+    public long getTransferredBytes() {
+        return transferredBytes.sum();
+    }
+
+    /**
+     * @return the mean throughput in bytes per second since start
+     */
+    public long getThroughput() {
+        if (0 == startTime) {
+            return 0L;
+        }
+        long end = 0 == endTime ? System.nanoTime() : endTime;
+        long elapsed = Math.max(end - startTime, 1L);
+        return (long) (getTransferredBytes() * (double) TimeUnit.SECONDS.toNanos(1) / elapsed);
     }
 }
@@ -29,8 +29,9 @@ package fr.gouv.vitam.worker.core.impl;
 import fr.gouv.vitam.common.ParametersChecker;
 import fr.gouv.vitam.processing.common.model.WorkspaceQueue;
 import fr.gouv.vitam.worker.common.HandlerIO;
-import fr.gouv.vitam.worker.core.exception.WorkerspaceQueueException;
+import org.apache.commons.io.input.CountingInputStream;
 
+import java.io.InputStream;
 import java.util.function.Supplier;
 
 /**
@@ -39,6 +40,7 @@ import java.util.function.Supplier;
 public class WorkspaceTransferTask implements Supplier<Boolean> {
     private HandlerIO handlerIO;
     private WorkspaceQueue task;
+    private CountingInputStream countingInputStream;
 
     public WorkspaceTransferTask(HandlerIO handlerAsyncIO, WorkspaceQueue task) {
         ParametersChecker.checkParameter("Parameter handlerIO and task mustn't be null", handlerAsyncIO, task);
@@ -48,15 +50,20 @@ public class WorkspaceTransferTask implements Supplier<Boolean> {
 
     @Override public Boolean get() {
         try {
+            InputStream sourceFile = task.getSourceFile();
+            if (null != sourceFile) {
+                countingInputStream = new CountingInputStream(sourceFile);
+                sourceFile = countingInputStream;
+            }
             switch (task.getAction()) {
                 case TRANSFER:
                     handlerIO
-                        .transferInputStreamToWorkspace(task.getWorkspacePath(), task.getSourceFile(),
+                        .transferInputStreamToWorkspace(task.getWorkspacePath(), sourceFile,
                             task.getFilePath(), false);
                     break;
                 case UNZIP:
                     handlerIO.unzipInputStreamOnWorkspace(handlerIO.getContainerName(), task.getFolderName(),
-                        task.getMediaType(), task.getSourceFile(), false);
+                        task.getMediaType(), sourceFile, false);
                     break;
                 default:
                     return Boolean.FALSE;
@@ -66,4 +73,11 @@ public class WorkspaceTransferTask implements Supplier<Boolean> {
             throw new RuntimeException(e);
         }
     }
+
+    /**
+     * @return the number of bytes read from the source file so far
+     */
+    public long getTransferredBytes() {
+        return null == countingInputStream ? 0L : countingInputStream.getByteCount();
+    }
 }
@@ -0,0 +1,155 @@
+/*
+ * Copyright French Prime minister Office/SGMAP/DINSIC/Vitam Program (2015-2020)
+ *
+ * contact.vitam@culture.gouv.fr
+ *
+ * This software is a computer program whose purpose is to implement a digital archiving back-office system managing
+ * high volumetry securely and efficiently.
+ *
+ * This software is governed by the CeCILL 2.1 license under French law and abiding by the rules of distribution of free
+ * software. You can use, modify and/ or redistribute the software under the terms of the CeCILL 2.1 license as
+ * circulated by CEA, CNRS and INRIA at the following URL "https://cecill.info".
+ *
+ * As a counterpart to the access to the source code and rights to copy, modify and redistribute granted by the license,
+ * users are provided only with a limited warranty and the software's author, the holder of the economic rights, and the
+ * successive licensors have only limited liability.
+ *
+ * In this respect, the user's attention is drawn to the risks associated with loading, using, modifying and/or
+ * developing or reproducing the software by the user in light of its specific status of free software, that may mean
+ * that it is complicated to manipulate, and that also therefore means that it is reserved for developers and
+ * experienced professionals having in-depth computer knowledge. Users are therefore encouraged to load and test the
+ * software's suitability as regards their requirements in conditions enabling the security of their systems and/or data
+ * to be ensured and, more generally, to use and operate it in the same conditions as regards security.
+ *
+ * The fact that you are presently reading this means that you have had knowledge of the CeCILL 2.1 license and that you
+ * accept its terms.
+ */
+package fr.gouv.vitam.worker.core.plugin;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import fr.gouv.vitam.common.database.builder.request.exception.InvalidCreateOperationException;
+import fr.gouv.vitam.common.database.builder.request.single.Select;
+import fr.gouv.vitam.common.exception.InvalidParseOperationException;
+import fr.gouv.vitam.common.exception.VitamRuntimeException;
+import fr.gouv.vitam.common.model.RequestResponse;
+import fr.gouv.vitam.common.model.RequestResponseOK;
+import fr.gouv.vitam.common.model.administration.FileFormatModel;
+import fr.gouv.vitam.functional.administration.client.AdminManagementClient;
+import fr.gouv.vitam.functional.administration.client.AdminManagementClientFactory;
+import fr.gouv.vitam.functional.administration.common.FileFormat;
+import fr.gouv.vitam.functional.administration.common.exception.ReferentialException;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static fr.gouv.vitam.common.database.builder.query.QueryHelper.eq;
+
+/**
+ * Worker local cache of the file format referential, indexed by PUID.<br>
+ * Entries are scoped by operation : a referential re-import is taken into account by the next operation.
+ */
+public class CachedFileFormatLoader {
+
+    private static final int DEFAULT_MAX_ENTRIES = 1000;
+    private static final int DEFAULT_TIMEOUT_IN_SECONDS = 300;
+
+    private static CachedFileFormatLoader INSTANCE =
+        new CachedFileFormatLoader(AdminManagementClientFactory.getInstance(), DEFAULT_MAX_ENTRIES,
+            DEFAULT_TIMEOUT_IN_SECONDS);
+
+    private final AdminManagementClientFactory adminManagementClientFactory;
+    private final LoadingCache<String, Optional<FileFormatModel>> fileFormatCache;
+
+    @VisibleForTesting
+    public CachedFileFormatLoader(
+        AdminManagementClientFactory adminManagementClientFactory, int maxEntriesInCache, int cacheTimeoutInSeconds) {
+
+        this.adminManagementClientFactory = adminManagementClientFactory;
+        CacheBuilder<Object, Object> objectObjectCacheBuilder = CacheBuilder.newBuilder();
+        // Max entries in cache
+        objectObjectCacheBuilder.maximumSize(maxEntriesInCache);
+        // Access timeout
+        objectObjectCacheBuilder.expireAfterAccess(cacheTimeoutInSeconds, TimeUnit.SECONDS);
+        this.fileFormatCache = objectObjectCacheBuilder
+            .build(new CacheLoader<String, Optional<FileFormatModel>>() {
+                @Override
+                public Optional<FileFormatModel> load(String key)
+                    throws ReferentialException, InvalidParseOperationException, InvalidCreateOperationException,
+                    IOException {
+                    String puid = key.substring(key.indexOf('/') + 1);
+                    return loadFileFormatFromAdminManagement(puid);
+                }
+            });
+    }
+
+    public static CachedFileFormatLoader getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Replace the shared instance with the given cache settings
+     *
+     * @param adminManagementClientFactory admin management client factory
+     * @param maxEntriesInCache max entries in cache
+     * @param cacheTimeoutInSeconds retention timeout in seconds
+     */
+    public static void initialize(AdminManagementClientFactory adminManagementClientFactory,
+        int maxEntriesInCache, int cacheTimeoutInSeconds) {
+        INSTANCE = new CachedFileFormatLoader(adminManagementClientFactory, maxEntriesInCache, cacheTimeoutInSeconds);
+    }
+
+    /**
+     * Load a file format from the referential, using the cache of the current operation
+     *
+     * @param operationId the current operation id (cache scope)
+     * @param puid the format PUID
+     * @return the file format, or empty if the PUID is not in the referential
+     * @throws ReferentialException on referential error
+     * @throws InvalidParseOperationException on invalid response
+     * @throws InvalidCreateOperationException on invalid request
+     * @throws IOException on communication error
+     */
+    public Optional<FileFormatModel> loadFileFormat(String operationId, String puid)
+        throws ReferentialException, InvalidParseOperationException, InvalidCreateOperationException, IOException {
+        try {
+            return this.fileFormatCache.get(operationId + "/" + puid);
+        } catch (ExecutionException | UncheckedExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof ReferentialException) {
+                throw (ReferentialException) cause;
+            }
+            if (cause instanceof InvalidParseOperationException) {
+                throw (InvalidParseOperationException) cause;
+            }
+            if (cause instanceof InvalidCreateOperationException) {
+                throw (InvalidCreateOperationException) cause;
+            }
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            throw new VitamRuntimeException("Could not load file format " + puid, cause);
+        }
+    }
+
+    private Optional<FileFormatModel> loadFileFormatFromAdminManagement(String puid)
+        throws ReferentialException, InvalidParseOperationException, InvalidCreateOperationException, IOException {
+
+        final Select select = new Select();
+        select.setQuery(eq(FileFormat.PUID, puid));
+        try (AdminManagementClient adminClient = adminManagementClientFactory.getClient()) {
+            RequestResponse<FileFormatModel> result = adminClient.getFormats(select.getFinalSelect());
+            if (!result.isOk()) {
+                return Optional.empty();
+            }
+            List<FileFormatModel> results = ((RequestResponseOK<FileFormatModel>) result).getResults();
+            return results.isEmpty() ? Optional.empty() : Optional.of(results.get(0));
+        }
+    }
+}
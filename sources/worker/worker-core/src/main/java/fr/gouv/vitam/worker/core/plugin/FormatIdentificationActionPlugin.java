@@ -31,7 +31,6 @@ import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.google.common.annotations.VisibleForTesting;
 import fr.gouv.vitam.common.SedaConstants;
 import fr.gouv.vitam.common.database.builder.request.exception.InvalidCreateOperationException;
-import fr.gouv.vitam.common.database.builder.request.single.Select;
 import fr.gouv.vitam.common.error.VitamCode;
 import fr.gouv.vitam.common.error.VitamCodeHelper;
 import fr.gouv.vitam.common.exception.InvalidParseOperationException;
@@ -50,16 +49,12 @@ import fr.gouv.vitam.common.logging.VitamLogger;
 import fr.gouv.vitam.common.logging.VitamLoggerFactory;
 import fr.gouv.vitam.common.model.IngestWorkflowConstants;
 import fr.gouv.vitam.common.model.ItemStatus;
-import fr.gouv.vitam.common.model.RequestResponse;
-import fr.gouv.vitam.common.model.RequestResponseOK;
 import fr.gouv.vitam.common.model.StatusCode;
 import fr.gouv.vitam.common.model.VitamAutoCloseable;
 import fr.gouv.vitam.common.model.administration.FileFormatModel;
 import fr.gouv.vitam.common.model.administration.IngestContractModel;
 import fr.gouv.vitam.common.model.administration.ContractsDetailsModel;
-import fr.gouv.vitam.functional.administration.client.AdminManagementClient;
 import fr.gouv.vitam.functional.administration.client.AdminManagementClientFactory;
-import fr.gouv.vitam.functional.administration.common.FileFormat;
 import fr.gouv.vitam.functional.administration.common.exception.ReferentialException;
 import fr.gouv.vitam.processing.common.exception.ProcessingException;
 import fr.gouv.vitam.processing.common.parameter.WorkerParameters;
@@ -71,13 +66,15 @@ import fr.gouv.vitam.workspace.api.exception.ContentAddressableStorageServerExce
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 
-import static fr.gouv.vitam.common.database.builder.query.QueryHelper.eq;
-
 /**
  * FormatIdentificationAction Plugin.<br>
  */
@@ -117,24 +114,89 @@ public class FormatIdentificationActionPlugin extends ActionHandler implements V
     private static final int REFERENTIAL_INGEST_CONTRACT_PARAMETERS_RANK = 1;
     private static final String UNKNOWN_FORMAT = "unknown";
 
-    private final AdminManagementClientFactory adminManagementClientFactory;
+    private final CachedFileFormatLoader fileFormatLoader;
     private final FormatIdentifierFactory formatIdentifierFactory;
 
+    /**
+     * Formats identified for the current bulk, indexed by local file path
+     */
+    private Map<Path, List<FormatIdentifierResponse>> bulkIdentifiedFormats = Collections.emptyMap();
+
     /**
      * Empty constructor
      */
     public FormatIdentificationActionPlugin() {
-        this(AdminManagementClientFactory.getInstance(), FormatIdentifierFactory.getInstance());
+        this(CachedFileFormatLoader.getInstance(), FormatIdentifierFactory.getInstance());
     }
 
     @VisibleForTesting
     public FormatIdentificationActionPlugin(
         AdminManagementClientFactory adminManagementClientFactory,
         FormatIdentifierFactory formatIdentifierFactory) {
-        this.adminManagementClientFactory = adminManagementClientFactory;
+        this(new CachedFileFormatLoader(adminManagementClientFactory, 100, 300), formatIdentifierFactory);
+    }
+
+    @VisibleForTesting
+    FormatIdentificationActionPlugin(
+        CachedFileFormatLoader fileFormatLoader,
+        FormatIdentifierFactory formatIdentifierFactory) {
+        this.fileFormatLoader = fileFormatLoader;
         this.formatIdentifierFactory = formatIdentifierFactory;
     }
 
+    /**
+     * Identify the files of all the object groups of the bulk with a single call to the format identifier, then
+     * process each object group using the identified formats.
+     */
+    @Override
+    public List<ItemStatus> executeList(WorkerParameters workerParameters, HandlerIO handler)
+        throws ProcessingException {
+        List<File> prefetchedFiles = new ArrayList<>();
+        try {
+            bulkIdentifiedFormats = identifyBulkFormats(workerParameters, handler, prefetchedFiles);
+            return super.executeList(workerParameters, handler);
+        } finally {
+            bulkIdentifiedFormats = Collections.emptyMap();
+            for (File file : prefetchedFiles) {
+                try {
+                    Files.deleteIfExists(file.toPath());
+                } catch (IOException e) {
+                    LOGGER.error(e);
+                }
+            }
+        }
+    }
+
+    private Map<Path, List<FormatIdentifierResponse>> identifyBulkFormats(WorkerParameters workerParameters,
+        HandlerIO handler, List<File> prefetchedFiles) {
+        List<String> objectNameList = workerParameters.getObjectNameList();
+        if (objectNameList == null || objectNameList.size() <= 1) {
+            return Collections.emptyMap();
+        }
+        try {
+            FormatIdentifier formatIdentifier = formatIdentifierFactory.getFormatIdentifierFor(FORMAT_IDENTIFIER_ID);
+            for (String objectName : objectNameList) {
+                handler.setCurrentObjectId(objectName);
+                final JsonNode jsonOG = (JsonNode) handler.getInput(OG_INPUT_RANK);
+                for (String uri : getMapOfObjectsIdsAndUris(jsonOG).values()) {
+                    prefetchedFiles.add(loadFileFromWorkspace(handler, uri));
+                }
+            }
+            if (prefetchedFiles.isEmpty()) {
+                return Collections.emptyMap();
+            }
+            List<Path> paths = new ArrayList<>();
+            for (File file : prefetchedFiles) {
+                paths.add(file.toPath());
+            }
+            return formatIdentifier.analysePaths(paths);
+        } catch (Exception e) {
+            // Objects will be identified one by one
+            LOGGER.warn("Could not identify formats by bulk", e);
+            return Collections.emptyMap();
+        }
+    }
+
     @Override
     public ItemStatus execute(WorkerParameters params, HandlerIO handlerIO) {
         checkMandatoryParameters(params);
@@ -183,7 +245,8 @@ public class FormatIdentificationActionPlugin extends ActionHandler implements V
                                     file = loadFileFromWorkspace(handlerIO, objectIdToUri.get(objectId));
 
                                     final ObjectCheckFormatResult result =
-                                        executeOneObjectFromOG(handlerIO, formatIdentifier, objectId,
+                                        executeOneObjectFromOG(handlerIO, formatIdentifier,
+                                            params.getContainerName(), objectId,
                                             jsonFormatIdentifier, file,
                                             version);
 
@@ -262,7 +325,7 @@ public class FormatIdentificationActionPlugin extends ActionHandler implements V
     }
 
     private ObjectCheckFormatResult executeOneObjectFromOG(HandlerIO handlerIO, FormatIdentifier formatIdentifier,
-        String objectId,
+        String operationId, String objectId,
         JsonNode manifestFormatIdentification,
         File file, JsonNode version) {
         final ObjectCheckFormatResult objectCheckFormatResult = new ObjectCheckFormatResult(objectId);
@@ -282,7 +345,7 @@ public class FormatIdentificationActionPlugin extends ActionHandler implements V
             }
 
             // check the file
-            final List<FormatIdentifierResponse> formats = formatIdentifier.analysePath(file.toPath());
+            final List<FormatIdentifierResponse> formats = identifyFormats(formatIdentifier, file);
 
             final FormatIdentifierResponse format = getFirstPronomFormat(formats);
             if (format == null) {
@@ -291,14 +354,9 @@ public class FormatIdentificationActionPlugin extends ActionHandler implements V
 
             final String formatId = format.getPuid();
 
-            final Select select = new Select();
-            select.setQuery(eq(FileFormat.PUID, formatId));
-            final RequestResponse<FileFormatModel> result;
-            try (AdminManagementClient adminClient = adminManagementClientFactory.getClient()) {
-                result = adminClient.getFormats(select.getFinalSelect());
-            }
+            final Optional<FileFormatModel> result = fileFormatLoader.loadFileFormat(operationId, formatId);
 
-            if (!result.isOk() || ((RequestResponseOK<FileFormatModel>) result).getResults().isEmpty()) {
+            if (result.isEmpty()) {
                 // format not found in vitam referential
                 if (formatUnidentifiedAuthorized) {
                     checkNotFoundFormatIdentification(manifestFormatIdentification, version, objectCheckFormatResult);
@@ -308,9 +366,7 @@ public class FormatIdentificationActionPlugin extends ActionHandler implements V
             } else {
                 // check formatIdentification
 
-                RequestResponseOK<FileFormatModel> requestResponseOK = (RequestResponseOK<FileFormatModel>) result;
-                List<FileFormatModel> results = requestResponseOK.getResults();
-                FileFormatModel refFormat = results.get(0);
+                FileFormatModel refFormat = result.get();
 
                 checkFormatIdentification(manifestFormatIdentification, version, refFormat.getPuid(),
                     refFormat.getName(), refFormat.getMimeType(), objectCheckFormatResult);
@@ -355,6 +411,19 @@ public class FormatIdentificationActionPlugin extends ActionHandler implements V
         return objectCheckFormatResult;
     }
 
+    private List<FormatIdentifierResponse> identifyFormats(FormatIdentifier formatIdentifier, File file)
+        throws FileFormatNotFoundException, FormatIdentifierTechnicalException, FormatIdentifierBadRequestException,
+        FormatIdentifierNotFoundException {
+        final List<FormatIdentifierResponse> formats = bulkIdentifiedFormats.get(file.toPath());
+        if (formats == null) {
+            return formatIdentifier.analysePath(file.toPath());
+        }
+        if (formats.isEmpty()) {
+            throw new FileFormatNotFoundException("File format not found in " + FORMAT_IDENTIFIER_ID);
+        }
+        return formats;
+    }
+
     private JsonNode checkAndUpdateFormatIdentification(JsonNode manifestFormatIdentification,
         ObjectCheckFormatResult objectCheckFormatResult, String puid, String name, String mimeType,
         JsonNode version, ObjectNode diffJsonNodeToPopulate) {
@@ -32,21 +32,34 @@ import fr.gouv.vitam.common.VitamConfiguration;
 import fr.gouv.vitam.common.database.builder.request.multiple.SelectMultiQuery;
 import fr.gouv.vitam.common.database.utils.ScrollSpliterator;
 import fr.gouv.vitam.common.exception.InvalidParseOperationException;
+import fr.gouv.vitam.common.iterables.PrefetchingSpliterator;
 import fr.gouv.vitam.common.json.JsonHandler;
 import fr.gouv.vitam.common.model.ItemStatus;
+import fr.gouv.vitam.common.model.RequestResponse;
 import fr.gouv.vitam.common.model.RequestResponseOK;
 import fr.gouv.vitam.common.model.StatusCode;
+import fr.gouv.vitam.common.performance.PerformanceLogger;
+import fr.gouv.vitam.common.thread.VitamThreadPoolExecutor;
 import fr.gouv.vitam.metadata.api.exception.MetaDataClientServerException;
 import fr.gouv.vitam.metadata.api.exception.MetaDataDocumentSizeException;
 import fr.gouv.vitam.metadata.api.exception.MetaDataExecutionException;
 import fr.gouv.vitam.metadata.client.MetaDataClient;
 
+import java.util.Spliterator;
+import java.util.function.Function;
+
 import static fr.gouv.vitam.common.json.JsonHandler.createObjectNode;
 
 /**
- * ScrollSpliteratorHelper class
+ * ScrollSpliteratorHelper class<br>
+ * Spliterators use an elasticsearch scroll, unless search after pagination is enabled in configuration
+ * (elasticSearchSearchAfterPagination) : no search context is then kept opened on elasticsearch between two pages.
  */
 public class ScrollSpliteratorHelper {
+
+    private static final int MAX_PREFETCHED_PAGES = 2;
+    private static final String METADATA_PAGINATION = "METADATA_PAGINATION";
+
     /***
      * Create  units  ScrollSpliterator from a query that can iterate millions  of units
      * @param client metadataClient
@@ -70,7 +83,7 @@ public class ScrollSpliteratorHelper {
     public static ScrollSpliterator<JsonNode> createUnitScrollSplitIterator(final MetaDataClient client,
         final SelectMultiQuery selectMultiQuery, int bachSize) {
 
-        return new ScrollSpliterator<>(selectMultiQuery,
+        return newScrollSpliterator(selectMultiQuery,
             query -> {
                 try {
                     JsonNode jsonNode = client.selectUnits(query.getFinalSelect());
@@ -78,7 +91,7 @@ public class ScrollSpliteratorHelper {
                 } catch (MetaDataExecutionException | MetaDataDocumentSizeException | MetaDataClientServerException | InvalidParseOperationException e) {
                     throw new IllegalStateException(e);
                 }
-            }, VitamConfiguration.getElasticSearchScrollTimeoutInMilliseconds(), bachSize);
+            }, bachSize);
     }
 
     /***
@@ -90,7 +103,7 @@ public class ScrollSpliteratorHelper {
      */
     public static ScrollSpliterator<JsonNode> createObjectGroupScrollSplitIterator(final MetaDataClient client,
         final SelectMultiQuery selectMultiQuery, int bachSize) {
-        return new ScrollSpliterator<>(selectMultiQuery,
+        return newScrollSpliterator(selectMultiQuery,
             query -> {
                 try {
                     JsonNode jsonNode = client.selectObjectGroups(query.getFinalSelect());
@@ -98,7 +111,7 @@ public class ScrollSpliteratorHelper {
                 } catch (MetaDataExecutionException | MetaDataDocumentSizeException | MetaDataClientServerException | InvalidParseOperationException e) {
                     throw new IllegalStateException(e);
                 }
-            }, VitamConfiguration.getElasticSearchScrollTimeoutInMilliseconds(), bachSize);
+            }, bachSize);
 
     }
 
@@ -115,7 +128,7 @@ public class ScrollSpliteratorHelper {
 
     public static ScrollSpliterator<JsonNode> getUnitWithInheritedRulesScrollSpliterator(SelectMultiQuery request,
         MetaDataClient client) {
-        return new ScrollSpliterator<>(request,
+        return newScrollSpliterator(request,
             query -> {
                 try {
                     JsonNode jsonNode = client.selectUnitsWithInheritedRules(query.getFinalSelect());
@@ -123,7 +136,58 @@ public class ScrollSpliteratorHelper {
                 } catch (InvalidParseOperationException | MetaDataExecutionException | MetaDataDocumentSizeException | MetaDataClientServerException e) {
                     throw new IllegalStateException(e);
                 }
-            }, VitamConfiguration.getElasticSearchScrollTimeoutInMilliseconds(), VitamConfiguration.getElasticSearchScrollLimit());
+            }, VitamConfiguration.getElasticSearchScrollLimit());
+    }
+
+    private static <T> ScrollSpliterator<T> newScrollSpliterator(SelectMultiQuery selectMultiQuery,
+        Function<SelectMultiQuery, RequestResponse<T>> repository, int bachSize) {
+        if (VitamConfiguration.isElasticSearchSearchAfterPagination()) {
+            return new ScrollSpliterator<>(selectMultiQuery, repository, bachSize);
+        }
+        return new ScrollSpliterator<>(selectMultiQuery, repository,
+            VitamConfiguration.getElasticSearchScrollTimeoutInMilliseconds(), bachSize);
+    }
+
+    /**
+     * Read pages of a spliterator in background, so that next pages are loaded from metadata while entries of
+     * current page are processed. At most 2 pages are read in advance.<br>
+     * With scroll pagination, the next page must be requested before the scroll timeout elapses : if the buffered
+     * pages are not consumed in time, iteration fails explicitly after them instead of reading an expired scroll.
+     *
+     * @param spliterator the spliterator to read in background
+     * @param pageSize the size of a page
+     * @param <T> the type of entries
+     * @return the prefetching spliterator, to be closed after use
+     */
+    public static <T> PrefetchingSpliterator<T> prefetch(Spliterator<T> spliterator, int pageSize) {
+        long maxSourceIdleTime = VitamConfiguration.isElasticSearchSearchAfterPagination() ? 0L :
+            VitamConfiguration.getElasticSearchScrollTimeoutInMilliseconds();
+        return new PrefetchingSpliterator<>(spliterator, pageSize, MAX_PREFETCHED_PAGES,
+            VitamThreadPoolExecutor.getDefaultExecutor(), maxSourceIdleTime);
+    }
+
+    /**
+     * Read pages of a spliterator in background, with default page size
+     *
+     * @param spliterator the spliterator to read in background
+     * @param <T> the type of entries
+     * @return the prefetching spliterator, to be closed after use
+     */
+    public static <T> PrefetchingSpliterator<T> prefetch(Spliterator<T> spliterator) {
+        return prefetch(spliterator, VitamConfiguration.getElasticSearchScrollLimit());
+    }
+
+    /**
+     * Log time spent by a plugin waiting for metadata pages, and time spent processing entries
+     *
+     * @param pluginName the plugin name
+     * @param spliterator the prefetching spliterator
+     */
+    public static void logPaginationTimes(String pluginName, PrefetchingSpliterator<?> spliterator) {
+        PerformanceLogger.getInstance()
+            .log(pluginName, METADATA_PAGINATION, "waitMetadata", spliterator.getWaitingTimeInMillis());
+        PerformanceLogger.getInstance()
+            .log(pluginName, METADATA_PAGINATION, "process", spliterator.getProcessingTimeInMillis());
     }
 
     /**Check number of result
@@ -34,6 +34,7 @@ import fr.gouv.vitam.common.database.builder.request.multiple.SelectMultiQuery;
 import fr.gouv.vitam.common.database.parser.request.multiple.SelectParserMultiple;
 import fr.gouv.vitam.common.database.utils.ScrollSpliterator;
 import fr.gouv.vitam.common.exception.InvalidParseOperationException;
+import fr.gouv.vitam.common.iterables.PrefetchingSpliterator;
 import fr.gouv.vitam.common.iterables.SpliteratorIterator;
 import fr.gouv.vitam.common.json.JsonHandler;
 import fr.gouv.vitam.common.logging.VitamLogger;
@@ -105,15 +106,17 @@ public class ComputeInheritedRulesPreparationPlugin extends ActionHandler {
         try (MetaDataClient metadataClient = metaDataClientFactory.getClient()) {
             SelectMultiQuery selectMultiQuery = createSelectMultiple(dslQuery);
             ScrollSpliterator<JsonNode> scrollRequest = ScrollSpliteratorHelper.createUnitScrollSplitIterator(metadataClient, selectMultiQuery);
-            Iterator<JsonNode> unitIterator = new SpliteratorIterator<>(scrollRequest);
             unitDistributionFile = handler.getNewLocalFile(UNITS_JSONL_FILE);
-            try (JsonLineWriter unitWriter = new JsonLineWriter(new FileOutputStream(unitDistributionFile))) {
+            try (PrefetchingSpliterator<JsonNode> units = ScrollSpliteratorHelper.prefetch(scrollRequest);
+                JsonLineWriter unitWriter = new JsonLineWriter(new FileOutputStream(unitDistributionFile))) {
+                Iterator<JsonNode> unitIterator = new SpliteratorIterator<>(units);
                 while (unitIterator.hasNext()) {
                     JsonNode unit = unitIterator.next();
                     String unitId = unit.get(VitamFieldsHelper.id()).asText();
                     JsonLineModel entry = new JsonLineModel(unitId, null, null);
                     unitWriter.addEntry(entry);
                 }
+                ScrollSpliteratorHelper.logPaginationTimes(PLUGIN_NAME, units);
             }
             handler.transferFileToWorkspace(UNITS_JSONL_FILE, unitDistributionFile, true, false);
 
@@ -45,15 +45,15 @@ import fr.gouv.vitam.common.database.builder.request.multiple.UpdateMultiQuery;
 import fr.gouv.vitam.common.database.builder.request.single.Select;
 import fr.gouv.vitam.common.database.parser.query.ParserTokens;
 import fr.gouv.vitam.common.database.parser.request.multiple.SelectParserMultiple;
-import fr.gouv.vitam.common.database.utils.ScrollSpliterator;
 import fr.gouv.vitam.common.exception.InvalidParseOperationException;
+import fr.gouv.vitam.common.iterables.PrefetchingSpliterator;
 import fr.gouv.vitam.common.json.JsonHandler;
 import fr.gouv.vitam.common.model.ItemStatus;
-import fr.gouv.vitam.common.model.RequestResponseOK;
 import fr.gouv.vitam.common.model.StatusCode;
 import fr.gouv.vitam.common.model.export.ExportRequest;
 import fr.gouv.vitam.common.model.unit.ArchiveUnitModel;
 import fr.gouv.vitam.common.parameter.ParameterHelper;
+import fr.gouv.vitam.common.thread.VitamThreadPoolExecutor;
 import fr.gouv.vitam.metadata.api.exception.MetaDataClientServerException;
 import fr.gouv.vitam.metadata.api.exception.MetaDataDocumentSizeException;
 import fr.gouv.vitam.metadata.api.exception.MetaDataExecutionException;
@@ -80,16 +80,21 @@ import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.stream.StreamSupport;
 
 import static com.google.common.collect.Iterables.partition;
@@ -115,6 +120,7 @@ public class CreateManifest extends ActionHandler {
 
     private static final String CREATE_MANIFEST = "CREATE_MANIFEST";
     private static final int MAX_ELEMENT_IN_QUERY = 1000;
+    private static final int MAX_OBJECT_GROUP_QUERIES_IN_FLIGHT = 4;
     private static final String REASON_FIELD = "Reason";
     private static final String JSONL_EXTENSION = ".jsonl";
 
@@ -195,13 +201,17 @@ public class CreateManifest extends ActionHandler {
             SelectMultiQuery request = parser.getRequest();
             request.setProjection(projection);
 
-            ScrollSpliterator<JsonNode> scrollRequest = ScrollSpliteratorHelper
-                .createUnitScrollSplitIterator(client, request);
+            long numberOfUnits;
+            try (PrefetchingSpliterator<JsonNode> units = ScrollSpliteratorHelper
+                .prefetch(ScrollSpliteratorHelper.createUnitScrollSplitIterator(client, request))) {
 
-            StreamSupport.stream(scrollRequest, false)
-                .forEach(item -> createGraph(multimap, originatingAgencies, ogs, item));
+                StreamSupport.stream(units, false)
+                    .forEach(item -> createGraph(multimap, originatingAgencies, ogs, item));
+                ScrollSpliteratorHelper.logPaginationTimes(CREATE_MANIFEST, units);
+                numberOfUnits = units.estimateSize();
+            }
 
-            if (checkNumberOfUnit(itemStatus, scrollRequest.estimateSize())) {
+            if (checkNumberOfUnit(itemStatus, numberOfUnits)) {
                 return new ItemStatus(CREATE_MANIFEST).setItemsStatus(CREATE_MANIFEST, itemStatus);
             }
 
@@ -211,32 +221,29 @@ public class CreateManifest extends ActionHandler {
 
             manifestBuilder.startDataObjectPackage();
 
-            Select select = new Select();
-
             Map<String, JsonNode> idBinaryWithFileName = new HashMap<>();
             boolean exportWithLogBookLFC = exportRequest.isExportWithLogBookLFC();
             Set<String> dataObjectVersions = Objects.nonNull(exportRequest.getDataObjectVersionToExport())
                 ? exportRequest.getDataObjectVersionToExport().getDataObjectVersions()
                 : Collections.emptySet();
 
-            Iterable<List<Entry<String, String>>> partitions = partition(ogs.entrySet(), MAX_ELEMENT_IN_QUERY);
-            for (List<Entry<String, String>> partition : partitions) {
-
-                ListMultimap<String, String> unitsForObjectGroupId = partition.stream()
-                    .collect(
-                        ArrayListMultimap::create,
-                        (map, entry) -> map.put(entry.getValue(), entry.getKey()),
-                        (list1, list2) -> list1.putAll(list2)
-                    );
-
-                InQuery in = QueryHelper.in(id(), partition.stream().map(Entry::getValue).toArray(String[]::new));
-
-                select.setQuery(in);
-                JsonNode response = client.selectObjectGroups(select.getFinalSelect());
-                ArrayNode objects = (ArrayNode) response.get("$results");
+            // Object groups are loaded by several concurrent queries, but written in partition order so that the
+            // manifest does not depend on query response times. At most MAX_OBJECT_GROUP_QUERIES_IN_FLIGHT
+            // partitions are kept in memory.
+            Iterator<List<Entry<String, String>>> partitions =
+                partition(ogs.entrySet(), MAX_ELEMENT_IN_QUERY).iterator();
+            Deque<CompletableFuture<ObjectGroupPartition>> pendingPartitions = new ArrayDeque<>();
+            while (pendingPartitions.size() < MAX_OBJECT_GROUP_QUERIES_IN_FLIGHT && partitions.hasNext()) {
+                pendingPartitions.add(loadObjectGroups(client, partitions.next()));
+            }
+            while (!pendingPartitions.isEmpty()) {
+                ObjectGroupPartition objectGroupPartition = awaitObjectGroups(pendingPartitions.poll());
+                if (partitions.hasNext()) {
+                    pendingPartitions.add(loadObjectGroups(client, partitions.next()));
+                }
 
-                for (JsonNode object : objects) {
-                    List<String> linkedUnits = unitsForObjectGroupId.get(
+                for (JsonNode object : objectGroupPartition.objects) {
+                    List<String> linkedUnits = objectGroupPartition.unitsForObjectGroupId.get(
                         object.get(ParserTokens.PROJECTIONARGS.ID.exactToken()).textValue());
                     idBinaryWithFileName.putAll(manifestBuilder
                         .writeGOT(object, linkedUnits.get(linkedUnits.size() - 1), dataObjectVersions,
@@ -250,49 +257,43 @@ public class CreateManifest extends ActionHandler {
             SelectParserMultiple initialQueryParser = new SelectParserMultiple();
             initialQueryParser.parse(exportRequest.getDslRequest());
 
-                scrollRequest = new ScrollSpliterator<>(initialQueryParser.getRequest(),
-                    query -> {
-                        try {
-                            JsonNode node = client.selectUnits(query.getFinalSelect());
-                            return RequestResponseOK.getFromJsonNode(node);
-                        } catch (MetaDataExecutionException | MetaDataDocumentSizeException | MetaDataClientServerException | InvalidParseOperationException e) {
-                            throw new IllegalStateException(e);
-                        }
-                    }, VitamConfiguration.getElasticSearchScrollTimeoutInMilliseconds(), VitamConfiguration.getElasticSearchScrollLimit());
-
             manifestBuilder.startDescriptiveMetadata();
-            StreamSupport.stream(scrollRequest, false)
-                .forEach(result -> {
-                    try {
-                        ArchiveUnitModel unit =
-                            manifestBuilder.writeArchiveUnit(result, multimap, ogs, exportWithLogBookLFC);
-                        if (ArchiveTransfer.equals(exportRequest.getExportType())) {
-                            List<String> opts = ListUtils.defaultIfNull(unit.getOpts(), new ArrayList<>());
-                            TransferStatus status = opts.isEmpty()?
-                                TransferStatus.OK:
-                                TransferStatus.ALREADY_IN_TRANSFER;
-                            opts.add(param.getContainerName());
-                            ObjectNode updateMultiQuery = getUpdateQuery(opts);
-
-                            if (TransferStatus.ALREADY_IN_TRANSFER.equals(status)) {
-                                itemStatus.increment(StatusCode.WARNING);
-                                ObjectNode infoNode = JsonHandler.createObjectNode();
-                                infoNode.put(REASON_FIELD, String.format("unit %s already in transfer", unit.getId()));
-                                String evDetData = JsonHandler.unprettyPrint(infoNode);
-                                itemStatus.setEvDetailData(evDetData);
+            try (PrefetchingSpliterator<JsonNode> units = ScrollSpliteratorHelper.prefetch(
+                ScrollSpliteratorHelper.createUnitScrollSplitIterator(client, initialQueryParser.getRequest()))) {
+                StreamSupport.stream(units, false)
+                    .forEach(result -> {
+                        try {
+                            ArchiveUnitModel unit =
+                                manifestBuilder.writeArchiveUnit(result, multimap, ogs, exportWithLogBookLFC);
+                            if (ArchiveTransfer.equals(exportRequest.getExportType())) {
+                                List<String> opts = ListUtils.defaultIfNull(unit.getOpts(), new ArrayList<>());
+                                TransferStatus status = opts.isEmpty()?
+                                    TransferStatus.OK:
+                                    TransferStatus.ALREADY_IN_TRANSFER;
+                                opts.add(param.getContainerName());
+                                ObjectNode updateMultiQuery = getUpdateQuery(opts);
+
+                                if (TransferStatus.ALREADY_IN_TRANSFER.equals(status)) {
+                                    itemStatus.increment(StatusCode.WARNING);
+                                    ObjectNode infoNode = JsonHandler.createObjectNode();
+                                    infoNode.put(REASON_FIELD, String.format("unit %s already in transfer", unit.getId()));
+                                    String evDetData = JsonHandler.unprettyPrint(infoNode);
+                                    itemStatus.setEvDetailData(evDetData);
+                                }
+
+                                client.updateUnitById(updateMultiQuery, unit.getId());
+                                TransferReportLine reportLine = new TransferReportLine(unit.getId(), status);
+                                buffOut.write(unprettyPrint(reportLine).getBytes(StandardCharsets.UTF_8));
+                                buffOut.write(System.lineSeparator().getBytes(StandardCharsets.UTF_8));
                             }
-
-                            client.updateUnitById(updateMultiQuery, unit.getId());
-                            TransferReportLine reportLine = new TransferReportLine(unit.getId(), status);
-                            buffOut.write(unprettyPrint(reportLine).getBytes(StandardCharsets.UTF_8));
-                            buffOut.write(System.lineSeparator().getBytes(StandardCharsets.UTF_8));
+                        } catch (JAXBException | DatatypeConfigurationException | IOException | ProcessingException |
+                            InvalidParseOperationException | InvalidCreateOperationException | MetaDataNotFoundException |
+                            MetaDataExecutionException | MetaDataDocumentSizeException | MetaDataClientServerException e) {
+                            throw new IllegalArgumentException(e);
                         }
-                    } catch (JAXBException | DatatypeConfigurationException | IOException | ProcessingException |
-                        InvalidParseOperationException | InvalidCreateOperationException | MetaDataNotFoundException |
-                        MetaDataExecutionException | MetaDataDocumentSizeException | MetaDataClientServerException e) {
-                        throw new IllegalArgumentException(e);
-                    }
-                });
+                    });
+                ScrollSpliteratorHelper.logPaginationTimes(CREATE_MANIFEST, units);
+            }
             buffOut.flush();
             manifestBuilder.endDescriptiveMetadata();
 
@@ -347,14 +348,44 @@ public class CreateManifest extends ActionHandler {
             infoNode.put(REASON_FIELD, e.getMessage());
             String evDetData = JsonHandler.unprettyPrint(infoNode);
             itemStatus.setEvDetailData(evDetData);
-        } catch (IOException | MetaDataExecutionException | InvalidCreateOperationException | MetaDataClientServerException
-            | XMLStreamException | JAXBException | MetaDataDocumentSizeException | InvalidParseOperationException e) {
+        } catch (IOException | XMLStreamException | JAXBException | InvalidParseOperationException e) {
             throw new ProcessingException(e);
         }
 
         return new ItemStatus(CREATE_MANIFEST).setItemsStatus(CREATE_MANIFEST, itemStatus);
     }
 
+    private CompletableFuture<ObjectGroupPartition> loadObjectGroups(MetaDataClient client,
+        List<Entry<String, String>> partition) {
+        return CompletableFuture.supplyAsync(() -> {
+            ListMultimap<String, String> unitsForObjectGroupId = partition.stream()
+                .collect(
+                    ArrayListMultimap::create,
+                    (map, entry) -> map.put(entry.getValue(), entry.getKey()),
+                    (list1, list2) -> list1.putAll(list2)
+                );
+            try {
+                InQuery in = QueryHelper.in(id(), partition.stream().map(Entry::getValue).toArray(String[]::new));
+                Select select = new Select();
+                select.setQuery(in);
+                JsonNode response = client.selectObjectGroups(select.getFinalSelect());
+                return new ObjectGroupPartition(unitsForObjectGroupId, (ArrayNode) response.get("$results"));
+            } catch (InvalidCreateOperationException | MetaDataExecutionException | MetaDataDocumentSizeException |
+                MetaDataClientServerException | InvalidParseOperationException e) {
+                throw new CompletionException(e);
+            }
+        }, VitamThreadPoolExecutor.getDefaultExecutor());
+    }
+
+    private ObjectGroupPartition awaitObjectGroups(CompletableFuture<ObjectGroupPartition> objectGroupPartition)
+        throws ProcessingException {
+        try {
+            return objectGroupPartition.join();
+        } catch (CompletionException e) {
+            throw new ProcessingException(e.getCause());
+        }
+    }
+
     private boolean checkNumberOfUnit(ItemStatus itemStatus, long total) {
         if (total == 0) {
             itemStatus.increment(StatusCode.KO);
@@ -416,4 +447,14 @@ public class CreateManifest extends ActionHandler {
         // TODO: add check on file listUnit.json.
     }
 
+    private static class ObjectGroupPartition {
+        private final ListMultimap<String, String> unitsForObjectGroupId;
+        private final ArrayNode objects;
+
+        private ObjectGroupPartition(ListMultimap<String, String> unitsForObjectGroupId, ArrayNode objects) {
+            this.unitsForObjectGroupId = unitsForObjectGroupId;
+            this.objects = objects;
+        }
+    }
+
 }
@@ -33,6 +33,7 @@ import fr.gouv.vitam.common.database.builder.request.multiple.SelectMultiQuery;
 import fr.gouv.vitam.common.database.parser.request.multiple.SelectParserMultiple;
 import fr.gouv.vitam.common.database.utils.ScrollSpliterator;
 import fr.gouv.vitam.common.exception.InvalidParseOperationException;
+import fr.gouv.vitam.common.iterables.PrefetchingSpliterator;
 import fr.gouv.vitam.common.iterables.SpliteratorIterator;
 import fr.gouv.vitam.common.json.JsonHandler;
 import fr.gouv.vitam.common.logging.VitamLogger;
@@ -138,12 +139,12 @@ public class EliminationAnalysisPreparationHandler extends ActionHandler {
             ScrollSpliterator<JsonNode> unitScrollSpliterator =
                 ScrollSpliteratorHelper.getUnitWithInheritedRulesScrollSpliterator(request, client);
 
-            Iterator<JsonNode> unitIterator =
-                new SpliteratorIterator<>(unitScrollSpliterator);
-
             unitDistributionFile = handler.getNewLocalFile(UNITS_JSONL_FILE);
 
-            try (JsonLineWriter unitWriter = new JsonLineWriter(new FileOutputStream(unitDistributionFile))) {
+            try (PrefetchingSpliterator<JsonNode> units = ScrollSpliteratorHelper.prefetch(unitScrollSpliterator);
+                JsonLineWriter unitWriter = new JsonLineWriter(new FileOutputStream(unitDistributionFile))) {
+
+                Iterator<JsonNode> unitIterator = new SpliteratorIterator<>(units);
 
                 while (unitIterator.hasNext()) {
 
@@ -161,6 +162,7 @@ public class EliminationAnalysisPreparationHandler extends ActionHandler {
                         unitWriter.addEntry(entry);
                     }
                 }
+                ScrollSpliteratorHelper.logPaginationTimes(ELIMINATION_ANALYSIS_PREPARATION, units);
             }
 
             handler.transferFileToWorkspace(UNITS_JSONL_FILE, unitDistributionFile, true, false);
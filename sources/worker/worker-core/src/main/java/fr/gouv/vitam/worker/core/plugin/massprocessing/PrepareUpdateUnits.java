@@ -33,6 +33,7 @@ import fr.gouv.vitam.common.database.parser.request.multiple.SelectParserMultipl
 import fr.gouv.vitam.common.database.utils.ScrollSpliterator;
 import fr.gouv.vitam.common.exception.InvalidParseOperationException;
 import fr.gouv.vitam.common.exception.VitamRuntimeException;
+import fr.gouv.vitam.common.iterables.PrefetchingSpliterator;
 import fr.gouv.vitam.common.json.JsonHandler;
 import fr.gouv.vitam.common.logging.VitamLogger;
 import fr.gouv.vitam.common.logging.VitamLoggerFactory;
@@ -146,9 +147,10 @@ public class PrepareUpdateUnits extends ActionHandler {
      */
     private void createDistributionFile(final ScrollSpliterator<JsonNode> scrollRequest, File distribFile)
         throws ProcessingException {
-        try (JsonLineWriter jsonLineWriter = new JsonLineWriter(new FileOutputStream(distribFile))) {
+        try (PrefetchingSpliterator<JsonNode> units = ScrollSpliteratorHelper.prefetch(scrollRequest, batchSize);
+            JsonLineWriter jsonLineWriter = new JsonLineWriter(new FileOutputStream(distribFile))) {
 
-            StreamSupport.stream(scrollRequest, false).forEach(
+            StreamSupport.stream(units, false).forEach(
                 item -> {
                     try {
                         jsonLineWriter.addEntry(getJsonLineForItem(item));
@@ -157,6 +159,7 @@ public class PrepareUpdateUnits extends ActionHandler {
                     }
                 }
             );
+            ScrollSpliteratorHelper.logPaginationTimes(PREPARE_UPDATE_UNIT_LIST, units);
 
         } catch (IOException | VitamRuntimeException | IllegalStateException e) {
             throw new ProcessingException("Could not generate and save file", e);
@@ -27,6 +27,8 @@
 package fr.gouv.vitam.worker.core.plugin.preservation;
 
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Stopwatch;
+import com.google.common.collect.Lists;
 import fr.gouv.vitam.batch.report.model.entry.PreservationReportEntry;
 import fr.gouv.vitam.common.VitamConfiguration;
 import fr.gouv.vitam.common.exception.InvalidParseOperationException;
@@ -39,6 +41,7 @@ import fr.gouv.vitam.common.logging.VitamLogger;
 import fr.gouv.vitam.common.logging.VitamLoggerFactory;
 import fr.gouv.vitam.common.model.ItemStatus;
 import fr.gouv.vitam.common.model.administration.preservation.ActionPreservation;
+import fr.gouv.vitam.common.thread.VitamThreadPoolExecutor;
 import fr.gouv.vitam.common.thread.VitamThreadUtils;
 import fr.gouv.vitam.processing.common.exception.ProcessingException;
 import fr.gouv.vitam.processing.common.parameter.WorkerParameters;
@@ -50,6 +53,7 @@ import fr.gouv.vitam.worker.common.HandlerIO;
 import fr.gouv.vitam.worker.core.exception.ProcessingStatusException;
 import fr.gouv.vitam.worker.core.handler.ActionHandler;
 import fr.gouv.vitam.worker.core.plugin.preservation.model.InputPreservation;
+import fr.gouv.vitam.worker.core.plugin.preservation.model.OutputPreservation;
 import fr.gouv.vitam.worker.core.plugin.preservation.model.ParametersPreservation;
 import fr.gouv.vitam.worker.core.plugin.preservation.model.PreservationDistributionLine;
 import fr.gouv.vitam.worker.core.plugin.preservation.model.ResultPreservation;
@@ -59,6 +63,7 @@ import fr.gouv.vitam.worker.core.plugin.preservation.model.WorkflowBatchResults;
 import fr.gouv.vitam.worker.core.plugin.preservation.service.PreservationReportService;
 import fr.gouv.vitam.worker.core.utils.PluginHelper.EventDetails;
 import org.apache.commons.collections4.IterableUtils;
+import org.apache.commons.io.FileUtils;
 import org.apache.commons.io.IOUtils;
 
 import javax.ws.rs.core.Response;
@@ -69,9 +74,16 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.LinkedBlockingQueue;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import java.util.stream.IntStream;
 
 import static fr.gouv.vitam.common.LocalDateUtil.now;
@@ -82,6 +94,7 @@ import static fr.gouv.vitam.storage.engine.common.model.DataCategory.OBJECT;
 import static fr.gouv.vitam.worker.core.plugin.PluginHelper.tryDeleteLocalPreservationFiles;
 import static fr.gouv.vitam.worker.core.utils.PluginHelper.buildItemStatus;
 import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static java.util.concurrent.TimeUnit.SECONDS;
 
 public class PreservationActionPlugin extends ActionHandler {
@@ -94,9 +107,16 @@ public class PreservationActionPlugin extends ActionHandler {
     private static final String PARAMETERS_JSON = "parameters.json";
     private static final String RESULT_JSON = "result.json";
     private static final String EXECUTABLE_FILE_NAME = "griffin";
+    private static final String GRIFFIN_RUN_DIRECTORY = "run-%d";
+
+    /**
+     * Shared between all plugin instances so that the number of concurrent downloads stays bounded per worker
+     */
+    private static final VitamThreadPoolExecutor FETCH_EXECUTOR = createFetchExecutor();
 
     private final String griffinInputFolder;
     private final String execFolder;
+    private final int griffinRunMaxObjects;
 
     private final StorageClientFactory storageClientFactory;
     private final PreservationReportService reportService;
@@ -105,17 +125,33 @@ public class PreservationActionPlugin extends ActionHandler {
         this(StorageClientFactory.getInstance(),
             new PreservationReportService(),
             VitamConfiguration.getVitamGriffinInputFilesFolder(),
-            VitamConfiguration.getVitamGriffinExecFolder()
+            VitamConfiguration.getVitamGriffinExecFolder(),
+            VitamConfiguration.getGriffinRunMaxObjects()
         );
     }
 
     @VisibleForTesting
     PreservationActionPlugin(StorageClientFactory storage, PreservationReportService report, String inputFolder,
         String execFolder) {
+        this(storage, report, inputFolder, execFolder, 0);
+    }
+
+    @VisibleForTesting
+    PreservationActionPlugin(StorageClientFactory storage, PreservationReportService report, String inputFolder,
+        String execFolder, int griffinRunMaxObjects) {
         this.storageClientFactory = storage;
         this.reportService = report;
         this.griffinInputFolder = inputFolder;
         this.execFolder = execFolder;
+        this.griffinRunMaxObjects = griffinRunMaxObjects;
+    }
+
+    private static VitamThreadPoolExecutor createFetchExecutor() {
+        int poolSize = Math.max(1, VitamConfiguration.getPreservationFetchThreadPoolSize());
+        VitamThreadPoolExecutor executor =
+            new VitamThreadPoolExecutor(poolSize, poolSize, 60L, SECONDS, new LinkedBlockingQueue<>());
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
     }
 
     @Override
@@ -130,13 +166,14 @@ public class PreservationActionPlugin extends ActionHandler {
         try {
             Path batchDirectory = createBatchDirectory(griffinId, batchId);
 
-            copyInputFiles(batchDirectory, entries);
             String requestId = workerParameters.getRequestId();
             Integer tenantId = VitamThreadUtils.getVitamSession().getTenantId();
-            createParametersBatchFile(entries, batchDirectory, requestId, batchId);
 
             int timeout = entries.get(0).getTimeout();
-            ResultPreservation result = launchGriffin(griffinId, batchDirectory, timeout);
+            Stopwatch stopwatch = Stopwatch.createStarted();
+            ResultPreservation result = executeGriffin(griffinId, batchId, batchDirectory, entries, requestId, timeout);
+            LOGGER.debug("Griffin {} processed {} objects in {} ms", griffinId, entries.size(),
+                stopwatch.elapsed(MILLISECONDS));
 
             List<WorkflowBatchResult> workflowResults = generateWorkflowBatchResults(result, entries);
 
@@ -171,13 +208,101 @@ public class PreservationActionPlugin extends ActionHandler {
         return Files.createDirectory(griffinDirectory.resolve(batchId));
     }
 
-    private void copyInputFiles(Path batchDirectory, List<PreservationDistributionLine> entries)
-        throws IOException, StorageNotFoundException, StorageServerClientException {
-        try (StorageClient storageClient = storageClientFactory.getClient()) {
-            Path inputFilesDirectory = Files.createDirectory(batchDirectory.resolve(INPUT_FILES));
-            for (PreservationDistributionLine entryParams : entries) {
-                copyBinaryFile(entryParams, storageClient, inputFilesDirectory);
+    /**
+     * Runs griffin on the batch. When the batch is larger than griffinRunMaxObjects, it is split into successive
+     * griffin runs : input files of run n+1 are downloaded while griffin processes run n, and input files of run n
+     * are deleted once processed, so at most two runs of input files are stored locally. Outputs of all runs are
+     * gathered in the batch output-files directory, as expected by the next steps of the workflow.
+     */
+    private ResultPreservation executeGriffin(String griffinId, String batchId, Path batchDirectory,
+        List<PreservationDistributionLine> entries, String requestId, int timeout) throws Exception {
+
+        if (griffinRunMaxObjects <= 0 || entries.size() <= griffinRunMaxObjects) {
+            awaitCompletion(copyInputFiles(batchDirectory, entries, requestId));
+            createParametersBatchFile(entries, batchDirectory, requestId, batchId);
+            return launchGriffin(griffinId, batchDirectory, timeout);
+        }
+
+        List<List<PreservationDistributionLine>> runs = Lists.partition(entries, griffinRunMaxObjects);
+        Path outputFilesDirectory = Files.createDirectory(batchDirectory.resolve(OUTPUT_FILES));
+        Map<String, List<OutputPreservation>> outputs = new HashMap<>();
+        String resultRequestId = requestId;
+
+        Path runDirectory = Files.createDirectory(batchDirectory.resolve(String.format(GRIFFIN_RUN_DIRECTORY, 0)));
+        CompletableFuture<Void> nextInputFiles = copyInputFiles(runDirectory, runs.get(0), requestId);
+        try {
+            for (int i = 0; i < runs.size(); i++) {
+                Path currentRunDirectory = runDirectory;
+                awaitCompletion(nextInputFiles);
+                nextInputFiles = null;
+
+                if (i + 1 < runs.size()) {
+                    runDirectory =
+                        Files.createDirectory(batchDirectory.resolve(String.format(GRIFFIN_RUN_DIRECTORY, i + 1)));
+                    nextInputFiles = copyInputFiles(runDirectory, runs.get(i + 1), requestId);
+                }
+
+                createParametersBatchFile(runs.get(i), currentRunDirectory, requestId, batchId);
+                ResultPreservation result = launchGriffin(griffinId, currentRunDirectory, timeout);
+
+                moveOutputFiles(currentRunDirectory.resolve(OUTPUT_FILES), outputFilesDirectory);
+                FileUtils.deleteDirectory(currentRunDirectory.resolve(INPUT_FILES).toFile());
+
+                if (result.getOutputs() != null) {
+                    outputs.putAll(result.getOutputs());
+                }
+                resultRequestId = result.getRequestId();
+            }
+        } finally {
+            if (nextInputFiles != null) {
+                // Prefetched files must not be written while the batch directory is being deleted
+                nextInputFiles.handle((ignored, e) -> null).join();
+            }
+        }
+        return ResultPreservation.of(resultRequestId, batchId, outputs);
+    }
+
+    private void moveOutputFiles(Path runOutputFilesDirectory, Path outputFilesDirectory) throws IOException {
+        if (!runOutputFilesDirectory.toFile().exists()) {
+            return;
+        }
+        List<Path> outputFiles;
+        try (Stream<Path> files = Files.list(runOutputFilesDirectory)) {
+            outputFiles = files.collect(Collectors.toList());
+        }
+        for (Path outputFile : outputFiles) {
+            Files.move(outputFile, outputFilesDirectory.resolve(outputFile.getFileName()));
+        }
+    }
+
+    private CompletableFuture<Void> copyInputFiles(Path batchDirectory, List<PreservationDistributionLine> entries,
+        String requestId) throws IOException {
+        Path inputFilesDirectory = Files.createDirectory(batchDirectory.resolve(INPUT_FILES));
+        Integer tenantId = VitamThreadUtils.getVitamSession().getTenantId();
+
+        List<CompletableFuture<Void>> copies = new ArrayList<>();
+        for (PreservationDistributionLine entryParams : entries) {
+            copies.add(CompletableFuture.runAsync(() -> {
+                VitamThreadUtils.getVitamSession().setTenantId(tenantId);
+                VitamThreadUtils.getVitamSession().setRequestId(requestId);
+                try (StorageClient storageClient = storageClientFactory.getClient()) {
+                    copyBinaryFile(entryParams, storageClient, inputFilesDirectory);
+                } catch (IOException | StorageNotFoundException | StorageServerClientException e) {
+                    throw new CompletionException(e);
+                }
+            }, FETCH_EXECUTOR));
+        }
+        return CompletableFuture.allOf(copies.toArray(new CompletableFuture[0]));
+    }
+
+    private void awaitCompletion(CompletableFuture<Void> future) throws Exception {
+        try {
+            future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof Exception) {
+                throw (Exception) e.getCause();
             }
+            throw e;
         }
     }
 
@@ -215,6 +340,11 @@ public class PreservationActionPlugin extends ActionHandler {
         return new InputPreservation(entryParams.getObjectId(), entryParams.getFormatId());
     }
 
+    /**
+     * Runs griffin on a batch directory and reads its result file.<br>
+     * A griffin still running after timeout seconds is killed, and an IllegalStateException is thrown so that the
+     * batch fails (and its local files are deleted) instead of reading a partial result.
+     */
     private ResultPreservation launchGriffin(String griffinId, Path batchDirectory, int timeout) throws IOException, InterruptedException,
         InvalidParseOperationException {
         Path griffinExecutable = Paths.get(execFolder, griffinId, EXECUTABLE_FILE_NAME);
@@ -227,6 +357,7 @@ public class PreservationActionPlugin extends ActionHandler {
         if(!griffin.waitFor(timeout, SECONDS)) {
             LOGGER.error("Griffin {} was not completed before timeout", griffinId);
             griffin.destroyForcibly();
+            throw new IllegalStateException(String.format("Griffin %s process hasn't exited before timeout", griffinId));
         }
 
         if (griffin.exitValue() > 0) {
@@ -0,0 +1,410 @@
+/*
+ * Copyright French Prime minister Office/SGMAP/DINSIC/Vitam Program (2015-2020)
+ *
+ * contact.vitam@culture.gouv.fr
+ *
+ * This software is a computer program whose purpose is to implement a digital archiving back-office system managing
+ * high volumetry securely and efficiently.
+ *
+ * This software is governed by the CeCILL 2.1 license under French law and abiding by the rules of distribution of free
+ * software. You can use, modify and/ or redistribute the software under the terms of the CeCILL 2.1 license as
+ * circulated by CEA, CNRS and INRIA at the following URL "https://cecill.info".
+ *
+ * As a counterpart to the access to the source code and rights to copy, modify and redistribute granted by the license,
+ * users are provided only with a limited warranty and the software's author, the holder of the economic rights, and the
+ * successive licensors have only limited liability.
+ *
+ * In this respect, the user's attention is drawn to the risks associated with loading, using, modifying and/or
+ * developing or reproducing the software by the user in light of its specific status of free software, that may mean
+ * that it is complicated to manipulate, and that also therefore means that it is reserved for developers and
+ * experienced professionals having in-depth computer knowledge. Users are therefore encouraged to load and test the
+ * software's suitability as regards their requirements in conditions enabling the security of their systems and/or data
+ * to be ensured and, more generally, to use and operate it in the same conditions as regards security.
+ *
+ * The fact that you are presently reading this means that you have had knowledge of the CeCILL 2.1 license and that you
+ * accept its terms.
+ */
+package fr.gouv.vitam.worker.core.utils;
+
+import fr.gouv.vitam.common.logging.VitamLogger;
+import fr.gouv.vitam.common.logging.VitamLoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * Compact String to String key/value store kept outside of the java heap, in memory mapped temporary files.
+ * <p>
+ * Records (key and value as UTF-8) are appended to fixed size data segments. An open addressing hash index (hash +
+ * record address per slot) is kept in a separate mapped file and is rebuilt when its load factor is exceeded.
+ * Updated and removed records are not reclaimed: the store is meant for write once maps living for a single
+ * handler execution. Temporary files are opened with DELETE_ON_CLOSE and released on {@link #close()}.
+ * <p>
+ * Mapped buffers are unmapped explicitly, when the index is rebuilt and on {@link #close()}, so that address space and
+ * file storage do not wait for the garbage collector. Should the JVM not allow it, they are left to the garbage
+ * collector, which bounds retention to the segments and indexes of the stores not yet collected.
+ * <p>
+ * This class is not thread safe.
+ */
+final class MappedStringStore implements Closeable {
+
+    private static final VitamLogger LOGGER = VitamLoggerFactory.getInstance(MappedStringStore.class);
+
+    private static final int SEGMENT_SIZE = 64 * 1024 * 1024;
+    private static final int RECORD_HEADER_SIZE = 2 * Integer.BYTES;
+    private static final int SLOT_SIZE = Integer.BYTES + Long.BYTES;
+    private static final int MIN_CAPACITY = 1024;
+    private static final int MAX_CAPACITY = 1 << 27;
+    private static final double LOAD_FACTOR = 0.6;
+    private static final long EMPTY = 0L;
+    private static final long DELETED = -1L;
+    private static final int NULL_LENGTH = -1;
+    private static final MethodHandle UNMAPPER = lookupUnmapper();
+
+    private final Path directory;
+    private final FileChannel dataChannel;
+    private final List<MappedByteBuffer> segments = new ArrayList<>();
+    private int writeOffset;
+
+    private FileChannel indexChannel;
+    private MappedByteBuffer index;
+    private int capacity;
+    private int size;
+    private int usedSlots;
+    private int modCount;
+
+    /**
+     * @param directory directory of the temporary files
+     * @param expectedSize expected number of entries, used to size the index
+     * @throws IOException when temporary files could not be created
+     */
+    MappedStringStore(Path directory, int expectedSize) throws IOException {
+        this.directory = directory;
+        this.dataChannel = openTemporaryChannel("data");
+        try {
+            allocateIndex(capacityFor(expectedSize));
+        } catch (IOException e) {
+            dataChannel.close();
+            throw e;
+        }
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean containsKey(String key) {
+        return findSlot(key.hashCode(), encode(key)) >= 0;
+    }
+
+    String get(String key) {
+        int slot = findSlot(key.hashCode(), encode(key));
+        if (slot < 0) {
+            return null;
+        }
+        return readValue(index.getLong(slot * SLOT_SIZE + Integer.BYTES) - 1);
+    }
+
+    String put(String key, String value) throws IOException {
+        int hash = key.hashCode();
+        byte[] keyBytes = encode(key);
+        int slot = findSlot(hash, keyBytes);
+        String previous = null;
+        if (slot >= 0) {
+            previous = readValue(index.getLong(slot * SLOT_SIZE + Integer.BYTES) - 1);
+        } else {
+            if (usedSlots + 1 > capacity * LOAD_FACTOR) {
+                rehash();
+                slot = findSlot(hash, keyBytes);
+            }
+            slot = -slot - 1;
+            if (index.getLong(slot * SLOT_SIZE + Integer.BYTES) == EMPTY) {
+                usedSlots++;
+            }
+            size++;
+            modCount++;
+        }
+        long address = append(keyBytes, null == value ? null : value.getBytes(StandardCharsets.UTF_8));
+        index.putInt(slot * SLOT_SIZE, hash);
+        index.putLong(slot * SLOT_SIZE + Integer.BYTES, address + 1);
+        return previous;
+    }
+
+    String remove(String key) {
+        int slot = findSlot(key.hashCode(), encode(key));
+        if (slot < 0) {
+            return null;
+        }
+        String previous = readValue(index.getLong(slot * SLOT_SIZE + Integer.BYTES) - 1);
+        index.putLong(slot * SLOT_SIZE + Integer.BYTES, DELETED);
+        size--;
+        modCount++;
+        return previous;
+    }
+
+    Iterator<Map.Entry<String, String>> iterator() {
+        return new Iterator<Map.Entry<String, String>>() {
+            private int expectedModCount = modCount;
+            private int nextSlot = advance(0);
+            private String lastKey;
+
+            private int advance(int from) {
+                int slot = from;
+                while (slot < capacity) {
+                    long stored = index.getLong(slot * SLOT_SIZE + Integer.BYTES);
+                    if (stored != EMPTY && stored != DELETED) {
+                        break;
+                    }
+                    slot++;
+                }
+                return slot;
+            }
+
+            @Override
+            public boolean hasNext() {
+                return nextSlot < capacity;
+            }
+
+            @Override
+            public Map.Entry<String, String> next() {
+                if (expectedModCount != modCount) {
+                    throw new ConcurrentModificationException();
+                }
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                long address = index.getLong(nextSlot * SLOT_SIZE + Integer.BYTES) - 1;
+                nextSlot = advance(nextSlot + 1);
+                lastKey = readKey(address);
+                return new AbstractMap.SimpleImmutableEntry<>(lastKey, readValue(address));
+            }
+
+            @Override
+            public void remove() {
+                if (null == lastKey) {
+                    throw new IllegalStateException();
+                }
+                if (expectedModCount != modCount) {
+                    throw new ConcurrentModificationException();
+                }
+                MappedStringStore.this.remove(lastKey);
+                expectedModCount = modCount;
+                lastKey = null;
+            }
+        };
+    }
+
+    @Override
+    public void close() throws IOException {
+        // Buffers must not be read once unmapped
+        MappedByteBuffer oldIndex = index;
+        index = null;
+        capacity = 0;
+        size = 0;
+        unmap(oldIndex);
+        for (MappedByteBuffer segment : segments) {
+            unmap(segment);
+        }
+        segments.clear();
+        try {
+            indexChannel.close();
+        } finally {
+            dataChannel.close();
+        }
+    }
+
+    private int findSlot(int hash, byte[] keyBytes) {
+        int mask = capacity - 1;
+        int slot = spread(hash) & mask;
+        int firstDeleted = -1;
+        while (true) {
+            long stored = index.getLong(slot * SLOT_SIZE + Integer.BYTES);
+            if (stored == EMPTY) {
+                return -(firstDeleted >= 0 ? firstDeleted : slot) - 1;
+            }
+            if (stored == DELETED) {
+                if (firstDeleted < 0) {
+                    firstDeleted = slot;
+                }
+            } else if (index.getInt(slot * SLOT_SIZE) == hash && keyEquals(stored - 1, keyBytes)) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    private void rehash() throws IOException {
+        int newCapacity = capacityFor(size + 1);
+        if (newCapacity < capacity) {
+            newCapacity = capacity;
+        }
+        MappedByteBuffer oldIndex = index;
+        FileChannel oldChannel = indexChannel;
+        int oldCapacity = capacity;
+        allocateIndex(newCapacity);
+        int mask = capacity - 1;
+        for (int oldSlot = 0; oldSlot < oldCapacity; oldSlot++) {
+            long stored = oldIndex.getLong(oldSlot * SLOT_SIZE + Integer.BYTES);
+            if (stored == EMPTY || stored == DELETED) {
+                continue;
+            }
+            int hash = oldIndex.getInt(oldSlot * SLOT_SIZE);
+            int slot = spread(hash) & mask;
+            while (index.getLong(slot * SLOT_SIZE + Integer.BYTES) != EMPTY) {
+                slot = (slot + 1) & mask;
+            }
+            index.putInt(slot * SLOT_SIZE, hash);
+            index.putLong(slot * SLOT_SIZE + Integer.BYTES, stored);
+        }
+        usedSlots = size;
+        unmap(oldIndex);
+        oldChannel.close();
+    }
+
+    private void allocateIndex(int newCapacity) throws IOException {
+        FileChannel channel = openTemporaryChannel("index");
+        try {
+            index = channel.map(FileChannel.MapMode.READ_WRITE, 0, (long) newCapacity * SLOT_SIZE);
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+        indexChannel = channel;
+        capacity = newCapacity;
+        usedSlots = 0;
+        modCount++;
+    }
+
+    private long append(byte[] keyBytes, byte[] valueBytes) throws IOException {
+        int recordSize = RECORD_HEADER_SIZE + keyBytes.length + (null == valueBytes ? 0 : valueBytes.length);
+        if (recordSize > SEGMENT_SIZE) {
+            throw new IllegalArgumentException("Entry too large: " + recordSize + " bytes");
+        }
+        if (segments.isEmpty() || writeOffset + recordSize > SEGMENT_SIZE) {
+            segments.add(dataChannel
+                .map(FileChannel.MapMode.READ_WRITE, (long) segments.size() * SEGMENT_SIZE, SEGMENT_SIZE));
+            writeOffset = 0;
+        }
+        int segmentIndex = segments.size() - 1;
+        ByteBuffer segment = segments.get(segmentIndex).duplicate();
+        segment.position(writeOffset);
+        segment.putInt(keyBytes.length);
+        segment.putInt(null == valueBytes ? NULL_LENGTH : valueBytes.length);
+        segment.put(keyBytes);
+        if (null != valueBytes) {
+            segment.put(valueBytes);
+        }
+        long address = ((long) segmentIndex << 32) | writeOffset;
+        writeOffset += recordSize;
+        return address;
+    }
+
+    private boolean keyEquals(long address, byte[] keyBytes) {
+        MappedByteBuffer segment = segments.get((int) (address >>> 32));
+        int offset = (int) address;
+        if (segment.getInt(offset) != keyBytes.length) {
+            return false;
+        }
+        int start = offset + RECORD_HEADER_SIZE;
+        for (int i = 0; i < keyBytes.length; i++) {
+            if (segment.get(start + i) != keyBytes[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private String readKey(long address) {
+        MappedByteBuffer segment = segments.get((int) (address >>> 32));
+        int offset = (int) address;
+        return read(segment, offset + RECORD_HEADER_SIZE, segment.getInt(offset));
+    }
+
+    private String readValue(long address) {
+        MappedByteBuffer segment = segments.get((int) (address >>> 32));
+        int offset = (int) address;
+        int keyLength = segment.getInt(offset);
+        int valueLength = segment.getInt(offset + Integer.BYTES);
+        if (valueLength == NULL_LENGTH) {
+            return null;
+        }
+        return read(segment, offset + RECORD_HEADER_SIZE + keyLength, valueLength);
+    }
+
+    private static String read(MappedByteBuffer segment, int position, int length) {
+        byte[] bytes = new byte[length];
+        ByteBuffer buffer = segment.duplicate();
+        buffer.position(position);
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private FileChannel openTemporaryChannel(String suffix) throws IOException {
+        Path file = Files.createTempFile(directory, "map-", "." + suffix);
+        return FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE,
+            StandardOpenOption.DELETE_ON_CLOSE);
+    }
+
+    private static void unmap(MappedByteBuffer buffer) {
+        if (null == UNMAPPER || null == buffer) {
+            return;
+        }
+        try {
+            UNMAPPER.invokeExact((ByteBuffer) buffer);
+        } catch (Throwable e) {
+            LOGGER.warn("Unable to unmap buffer, leaving it to the garbage collector", e);
+        }
+    }
+
+    private static MethodHandle lookupUnmapper() {
+        try {
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+            theUnsafe.setAccessible(true);
+            return MethodHandles.lookup()
+                .findVirtual(unsafeClass, "invokeCleaner", MethodType.methodType(void.class, ByteBuffer.class))
+                .bindTo(theUnsafe.get(null));
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            LOGGER.warn("Mapped buffers cannot be unmapped explicitly, leaving them to the garbage collector", e);
+            return null;
+        }
+    }
+
+    private static byte[] encode(String key) {
+        return key.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    private static int capacityFor(int expectedSize) {
+        long wanted = (long) Math.ceil(Math.max(expectedSize, 1) / LOAD_FACTOR) + 1;
+        if (wanted > MAX_CAPACITY) {
+            throw new IllegalStateException("Too many entries: " + expectedSize);
+        }
+        int newCapacity = MIN_CAPACITY;
+        while (newCapacity < wanted) {
+            newCapacity <<= 1;
+        }
+        return newCapacity;
+    }
+}
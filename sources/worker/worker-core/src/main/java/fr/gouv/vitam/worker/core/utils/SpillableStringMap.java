@@ -0,0 +1,203 @@
+/*
+ * Copyright French Prime minister Office/SGMAP/DINSIC/Vitam Program (2015-2020)
+ *
+ * contact.vitam@culture.gouv.fr
+ *
+ * This software is a computer program whose purpose is to implement a digital archiving back-office system managing
+ * high volumetry securely and efficiently.
+ *
+ * This software is governed by the CeCILL 2.1 license under French law and abiding by the rules of distribution of free
+ * software. You can use, modify and/ or redistribute the software under the terms of the CeCILL 2.1 license as
+ * circulated by CEA, CNRS and INRIA at the following URL "https://cecill.info".
+ *
+ * As a counterpart to the access to the source code and rights to copy, modify and redistribute granted by the license,
+ * users are provided only with a limited warranty and the software's author, the holder of the economic rights, and the
+ * successive licensors have only limited liability.
+ *
+ * In this respect, the user's attention is drawn to the risks associated with loading, using, modifying and/or
+ * developing or reproducing the software by the user in light of its specific status of free software, that may mean
+ * that it is complicated to manipulate, and that also therefore means that it is reserved for developers and
+ * experienced professionals having in-depth computer knowledge. Users are therefore encouraged to load and test the
+ * software's suitability as regards their requirements in conditions enabling the security of their systems and/or data
+ * to be ensured and, more generally, to use and operate it in the same conditions as regards security.
+ *
+ * The fact that you are presently reading this means that you have had knowledge of the CeCILL 2.1 license and that you
+ * accept its terms.
+ */
+package fr.gouv.vitam.worker.core.utils;
+
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
+import fr.gouv.vitam.common.ParametersChecker;
+import fr.gouv.vitam.common.exception.VitamRuntimeException;
+import fr.gouv.vitam.common.logging.VitamLogger;
+import fr.gouv.vitam.common.logging.VitamLoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * String to String map kept in memory until it reaches a threshold, then moved to a {@link MappedStringStore} outside
+ * of the java heap.
+ * <p>
+ * Used for the identifier maps of very large manifests (manifest id to GUID and the like). While in memory, keys and
+ * values are interned so that a GUID shared by several maps is only held once. Null keys are not supported; entries
+ * returned by iteration are immutable once the map is spilled.
+ * <p>
+ * This class is not thread safe. {@link #clear()} or {@link #close()} release the temporary files.
+ */
+public class SpillableStringMap extends AbstractMap<String, String> implements Closeable {
+
+    private static final VitamLogger LOGGER = VitamLoggerFactory.getInstance(SpillableStringMap.class);
+
+    private static final Interner<String> INTERNER = Interners.newWeakInterner();
+
+    private final int spillThreshold;
+    private final Path spillDirectory;
+    private Map<String, String> memoryMap = new HashMap<>();
+    private MappedStringStore store;
+    private Set<Entry<String, String>> entrySet;
+
+    /**
+     * @param spillThreshold number of entries above which the map is moved out of the heap, 0 to always stay in memory
+     * @param spillDirectory directory of the temporary files
+     */
+    public SpillableStringMap(int spillThreshold, Path spillDirectory) {
+        ParametersChecker.checkParameter("Spill directory is required", spillDirectory);
+        ParametersChecker.checkValue("spillThreshold", spillThreshold, 0);
+        this.spillThreshold = spillThreshold;
+        this.spillDirectory = spillDirectory;
+    }
+
+    /**
+     * @return true if entries are stored out of the heap
+     */
+    public boolean isSpilled() {
+        return null != store;
+    }
+
+    @Override
+    public int size() {
+        return isSpilled() ? store.size() : memoryMap.size();
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        if (isSpilled()) {
+            return key instanceof String && store.containsKey((String) key);
+        }
+        return memoryMap.containsKey(key);
+    }
+
+    @Override
+    public String get(Object key) {
+        if (isSpilled()) {
+            return key instanceof String ? store.get((String) key) : null;
+        }
+        return memoryMap.get(key);
+    }
+
+    @Override
+    public String put(String key, String value) {
+        Objects.requireNonNull(key, "key");
+        if (isSpilled()) {
+            try {
+                return store.put(key, value);
+            } catch (IOException e) {
+                throw new VitamRuntimeException("Unable to write map entry", e);
+            }
+        }
+        String previous = memoryMap.put(INTERNER.intern(key), null == value ? null : INTERNER.intern(value));
+        if (spillThreshold > 0 && memoryMap.size() > spillThreshold) {
+            spill();
+        }
+        return previous;
+    }
+
+    @Override
+    public String remove(Object key) {
+        if (isSpilled()) {
+            return key instanceof String ? store.remove((String) key) : null;
+        }
+        return memoryMap.remove(key);
+    }
+
+    @Override
+    public void clear() {
+        if (isSpilled()) {
+            closeStore();
+            memoryMap = new HashMap<>();
+        } else {
+            memoryMap.clear();
+        }
+    }
+
+    @Override
+    public Set<Entry<String, String>> entrySet() {
+        if (null == entrySet) {
+            entrySet = new AbstractSet<Entry<String, String>>() {
+                @Override
+                public Iterator<Entry<String, String>> iterator() {
+                    return isSpilled() ? store.iterator() : memoryMap.entrySet().iterator();
+                }
+
+                @Override
+                public int size() {
+                    return SpillableStringMap.this.size();
+                }
+
+                @Override
+                public void clear() {
+                    SpillableStringMap.this.clear();
+                }
+            };
+        }
+        return entrySet;
+    }
+
+    @Override
+    public void close() {
+        clear();
+    }
+
+    private void spill() {
+        LOGGER.info("Map reached {} entries, moving it out of the heap", memoryMap.size());
+        MappedStringStore newStore = null;
+        try {
+            newStore = new MappedStringStore(spillDirectory, memoryMap.size() * 2);
+            for (Entry<String, String> entry : memoryMap.entrySet()) {
+                newStore.put(entry.getKey(), entry.getValue());
+            }
+        } catch (IOException e) {
+            closeQuietly(newStore);
+            throw new VitamRuntimeException("Unable to move map out of the heap", e);
+        }
+        store = newStore;
+        memoryMap = null;
+    }
+
+    private void closeStore() {
+        MappedStringStore oldStore = store;
+        store = null;
+        closeQuietly(oldStore);
+    }
+
+    private static void closeQuietly(MappedStringStore mappedStore) {
+        if (null == mappedStore) {
+            return;
+        }
+        try {
+            mappedStore.close();
+        } catch (IOException e) {
+            LOGGER.warn("Unable to release map temporary files", e);
+        }
+    }
+}
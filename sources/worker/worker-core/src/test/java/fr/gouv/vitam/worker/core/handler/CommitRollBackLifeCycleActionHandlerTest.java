@@ -26,9 +26,18 @@
  */
 package fr.gouv.vitam.worker.core.handler;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
 import fr.gouv.vitam.common.guid.GUID;
@@ -39,11 +48,14 @@ import fr.gouv.vitam.common.model.StatusCode;
 import fr.gouv.vitam.common.model.processing.IOParameter;
 import fr.gouv.vitam.common.model.processing.ProcessingUri;
 import fr.gouv.vitam.common.model.processing.UriPrefix;
+import fr.gouv.vitam.logbook.common.exception.LogbookClientServerException;
+import fr.gouv.vitam.logbook.lifecycles.client.LogbookLifeCyclesClient;
 import fr.gouv.vitam.logbook.lifecycles.client.LogbookLifeCyclesClientFactory;
 import fr.gouv.vitam.logbook.operations.client.LogbookOperationsClientFactory;
 import fr.gouv.vitam.processing.common.parameter.WorkerParameterName;
 import fr.gouv.vitam.processing.common.parameter.WorkerParameters;
 import fr.gouv.vitam.processing.common.parameter.WorkerParametersFactory;
+import fr.gouv.vitam.worker.common.HandlerIO;
 import fr.gouv.vitam.worker.core.impl.HandlerIOImpl;
 import org.assertj.core.util.Lists;
 import org.junit.Before;
@@ -92,6 +104,54 @@ public class CommitRollBackLifeCycleActionHandlerTest {
         assertEquals(response.getGlobalStatus(), StatusCode.OK);
     }
 
+    @Test
+    public void givenBulkOfUnitsThenCommitInOneRequestAndReportNotCommittedUnits() throws Exception {
+        GUID containerName = GUIDFactory.newGUID();
+        HandlerIO handlerIO = mock(HandlerIO.class);
+        LogbookLifeCyclesClient lifeCyclesClient = mock(LogbookLifeCyclesClient.class);
+        when(handlerIO.getLifecyclesClient()).thenReturn(lifeCyclesClient);
+        when(lifeCyclesClient.commitUnits(containerName.getId(), Arrays.asList("unit_1", "unit_2", "unit_3")))
+            .thenReturn(Collections.singletonList("unit_2"));
+
+        WorkerParameters params =
+            WorkerParametersFactory.newWorkerParameters()
+                .setUrlWorkspace(WORKSPACE_URL)
+                .setUrlMetadata(METADATA_URL)
+                .setObjectNameList(Lists.newArrayList("unit_1.json", "unit_2.json", "unit_3.json"))
+                .setCurrentStep(COMMIT_STEP)
+                .setContainerName(containerName.getId());
+
+        List<ItemStatus> itemStatuses = commitUnitHandler.executeList(params, handlerIO);
+
+        assertThat(itemStatuses).extracting(ItemStatus::getGlobalStatus)
+            .containsExactly(StatusCode.OK, StatusCode.FATAL, StatusCode.OK);
+        verify(lifeCyclesClient).commitUnits(containerName.getId(), Arrays.asList("unit_1", "unit_2", "unit_3"));
+        verifyNoMoreInteractions(lifeCyclesClient);
+    }
+
+    @Test
+    public void givenBulkOfObjectGroupsWhenLogbookFailsThenReturnFatal() throws Exception {
+        GUID containerName = GUIDFactory.newGUID();
+        HandlerIO handlerIO = mock(HandlerIO.class);
+        LogbookLifeCyclesClient lifeCyclesClient = mock(LogbookLifeCyclesClient.class);
+        when(handlerIO.getLifecyclesClient()).thenReturn(lifeCyclesClient);
+        when(lifeCyclesClient.commitObjectGroups(anyString(), anyList()))
+            .thenThrow(new LogbookClientServerException("error"));
+
+        WorkerParameters params =
+            WorkerParametersFactory.newWorkerParameters()
+                .setUrlWorkspace(WORKSPACE_URL)
+                .setUrlMetadata(METADATA_URL)
+                .setObjectNameList(Lists.newArrayList("object_group_1.json", "object_group_2.json"))
+                .setCurrentStep(COMMIT_STEP)
+                .setContainerName(containerName.getId());
+
+        List<ItemStatus> itemStatuses = commitObjectGroupHandler.executeList(params, handlerIO);
+
+        assertThat(itemStatuses).extracting(ItemStatus::getGlobalStatus)
+            .containsExactly(StatusCode.FATAL, StatusCode.FATAL);
+    }
+
     @Test
     public void givenOperationIdObjectIdThenReturnRollBackOk() {
         GUID containerName = GUIDFactory.newGUID();
@@ -36,7 +36,15 @@ import fr.gouv.vitam.worker.core.impl.HandlerIOImpl;
 import fr.gouv.vitam.worker.core.impl.WorkspaceBatchRunner;
 import org.junit.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.any;
@@ -116,4 +124,74 @@ public class WorkspaceBatchRunnerTest {
         workspaceBatchRunner.start();
         workspaceBatchRunner.start();
     }
+
+    @Test
+    public void whenTransferManyThenInFlightTransfersBoundedAndMetricsOK() throws Exception {
+        HandlerIO handlerIO = mock(HandlerIOImpl.class);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        doAnswer(o -> {
+            int current = running.incrementAndGet();
+            maxRunning.accumulateAndGet(current, Math::max);
+            InputStream inputStream = o.getArgument(1);
+            while (inputStream.read() != -1) {
+                // consume
+            }
+            Thread.sleep(5);
+            running.decrementAndGet();
+            return null;
+        }).when(handlerIO).transferInputStreamToWorkspace(any(), any(), any(), anyBoolean());
+
+        WorkspaceBatchRunner workspaceBatchRunner =
+            new WorkspaceBatchRunner(handlerIO, VitamThreadPoolExecutor.getDefaultExecutor(), 10, 3);
+        workspaceBatchRunner.start();
+        for (int i = 0; i < 50; i++) {
+            workspaceBatchRunner.transfer(new WorkspaceQueue("file" + i, new ByteArrayInputStream(new byte[100])));
+        }
+        workspaceBatchRunner.join();
+
+        assertThat(maxRunning.get()).isLessThanOrEqualTo(3);
+        assertThat(workspaceBatchRunner.getTransferredFiles()).isEqualTo(50);
+        assertThat(workspaceBatchRunner.getTransferredBytes()).isEqualTo(5000);
+        assertThat(workspaceBatchRunner.getInFlightTransfers()).isEqualTo(0);
+        assertThat(workspaceBatchRunner.getQueueDepth()).isEqualTo(0);
+        assertThat(workspaceBatchRunner.getThroughput()).isGreaterThan(0);
+    }
+
+    @Test
+    public void whenTransferFailedThenFirstExceptionThrownOnJoin() throws Exception {
+        HandlerIO handlerIO = mock(HandlerIOImpl.class);
+        CountDownLatch firstFailed = new CountDownLatch(1);
+        doAnswer(o -> {
+            String path = o.getArgument(0);
+            if ("file0".equals(path)) {
+                firstFailed.countDown();
+                throw new ProcessingException("first");
+            }
+            assertThat(firstFailed.await(10, TimeUnit.SECONDS)).isTrue();
+            throw new ProcessingException("next");
+        }).when(handlerIO).transferInputStreamToWorkspace(any(), any(), any(), anyBoolean());
+
+        WorkspaceBatchRunner workspaceBatchRunner =
+            new WorkspaceBatchRunner(handlerIO, VitamThreadPoolExecutor.getDefaultExecutor(), 10, 1);
+        workspaceBatchRunner.start();
+        for (int i = 0; i < 20; i++) {
+            workspaceBatchRunner.transfer(new WorkspaceQueue("file" + i, new ByteArrayInputStream(new byte[10])));
+        }
+
+        assertThatThrownBy(workspaceBatchRunner::join)
+            .isInstanceOf(WorkerspaceQueueException.class)
+            .hasStackTraceContaining("first");
+        assertThat(workspaceBatchRunner.getTransferredFiles()).isEqualTo(0);
+    }
+
+    @Test
+    public void whenNoTransferThenJoinOK() throws WorkerspaceQueueException {
+        HandlerIO handlerIO = mock(HandlerIOImpl.class);
+        WorkspaceBatchRunner workspaceBatchRunner =
+            new WorkspaceBatchRunner(handlerIO, VitamThreadPoolExecutor.getDefaultExecutor(), 10);
+        workspaceBatchRunner.start();
+        workspaceBatchRunner.join();
+        workspaceBatchRunner.join();
+    }
 }
@@ -65,10 +65,13 @@ import org.mockito.stubbing.Answer;
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.InputStream;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import static junit.framework.TestCase.assertTrue;
@@ -77,6 +80,9 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 
@@ -251,6 +257,109 @@ public class FormatIdentificationActionPluginTest {
         });
     }
 
+    @Test
+    public void formatIdentificationShouldLoadReferentialFormatOncePerOperation() throws Exception {
+        when(formatIdentifier.analysePath(any())).thenReturn(getFormatIdentifierResponseList());
+
+        handlerIO.getInput().clear();
+        handlerIO.getInput().add(og);
+        handlerIO.getInput().add(PropertiesUtils.getResourceFile(REFERENTIAL_INGEST_CONTRACT_DEFAULT_CONFIG));
+
+        when(adminManagementClient.getFormats(any())).thenReturn(getAdminManagementJson());
+
+        plugin = new FormatIdentificationActionPlugin(adminManagementClientFactory, formatIdentifierFactory);
+        final WorkerParameters params = getDefaultWorkerParameters();
+
+        final ItemStatus response = plugin.execute(params, handlerIO);
+        assertEquals(StatusCode.WARNING, response.getGlobalStatus());
+        verify(formatIdentifier, times(4)).analysePath(any());
+        verify(adminManagementClient, times(1)).getFormats(any());
+    }
+
+    @Test
+    public void formatIdentificationShouldIdentifyBulkWithSingleCall() throws Exception {
+        when(formatIdentifier.analysePaths(any())).thenAnswer(invocation -> {
+            List<Path> paths = invocation.getArgument(0);
+            Map<Path, List<FormatIdentifierResponse>> formats = new HashMap<>();
+            paths.forEach(path -> formats.put(path, getFormatIdentifierResponseList()));
+            return formats;
+        });
+        when(adminManagementClient.getFormats(any())).thenReturn(getAdminManagementJson());
+
+        List<String> objectNames = Arrays.asList("objectGroup1", "objectGroup2");
+        for (String objectName : objectNames) {
+            handlerIO.setCurrentObjectId(objectName);
+            handlerIO.getInput().add(og.deepCopy());
+            handlerIO.getInput().add(PropertiesUtils.getResourceFile(REFERENTIAL_INGEST_CONTRACT_DEFAULT_CONFIG));
+        }
+
+        plugin = new FormatIdentificationActionPlugin(adminManagementClientFactory, formatIdentifierFactory);
+        final WorkerParameters params = WorkerParametersFactory.newWorkerParameters("pId", "stepId", guid.getId(),
+            "currentStep", objectNames, "metadataURL", "workspaceURL");
+
+        final List<ItemStatus> response = plugin.executeList(params, handlerIO);
+        assertThat(response).hasSize(2);
+        response.forEach(itemStatus -> assertEquals(StatusCode.WARNING, itemStatus.getGlobalStatus()));
+        verify(formatIdentifier, times(1)).analysePaths(any());
+        verify(formatIdentifier, never()).analysePath(any());
+        verify(adminManagementClient, times(1)).getFormats(any());
+    }
+
+    @Test
+    public void formatIdentificationShouldKeepReferentialFormatsCachedBetweenBulks() throws Exception {
+        when(formatIdentifier.analysePaths(any())).thenAnswer(invocation -> {
+            List<Path> paths = invocation.getArgument(0);
+            Map<Path, List<FormatIdentifierResponse>> formats = new HashMap<>();
+            paths.forEach(path -> formats.put(path, getFormatIdentifierResponseList()));
+            return formats;
+        });
+        when(adminManagementClient.getFormats(any())).thenReturn(getAdminManagementJson());
+        plugin = new FormatIdentificationActionPlugin(adminManagementClientFactory, formatIdentifierFactory);
+
+        for (List<String> objectNames : Arrays.asList(Arrays.asList("objectGroup1", "objectGroup2"),
+            Arrays.asList("objectGroup3", "objectGroup4"))) {
+            for (String objectName : objectNames) {
+                handlerIO.setCurrentObjectId(objectName);
+                handlerIO.getInput().add(og.deepCopy());
+                handlerIO.getInput().add(PropertiesUtils.getResourceFile(REFERENTIAL_INGEST_CONTRACT_DEFAULT_CONFIG));
+            }
+            final WorkerParameters params = WorkerParametersFactory.newWorkerParameters("pId", "stepId",
+                guid.getId(), "currentStep", objectNames, "metadataURL", "workspaceURL");
+
+            final List<ItemStatus> response = plugin.executeList(params, handlerIO);
+            assertThat(response).hasSize(2);
+
+            // Cached formats must survive garbage collection between bulks
+            System.gc();
+        }
+
+        verify(formatIdentifier, times(2)).analysePaths(any());
+        verify(adminManagementClient, times(1)).getFormats(any());
+    }
+
+    @Test
+    public void formatIdentificationShouldFallbackToSingleIdentificationWhenBulkFails() throws Exception {
+        when(formatIdentifier.analysePaths(any())).thenThrow(new FormatIdentifierTechnicalException(""));
+        when(formatIdentifier.analysePath(any())).thenReturn(getFormatIdentifierResponseList());
+        when(adminManagementClient.getFormats(any())).thenReturn(getAdminManagementJson());
+
+        List<String> objectNames = Arrays.asList("objectGroup1", "objectGroup2");
+        for (String objectName : objectNames) {
+            handlerIO.setCurrentObjectId(objectName);
+            handlerIO.getInput().add(og.deepCopy());
+            handlerIO.getInput().add(PropertiesUtils.getResourceFile(REFERENTIAL_INGEST_CONTRACT_DEFAULT_CONFIG));
+        }
+
+        plugin = new FormatIdentificationActionPlugin(adminManagementClientFactory, formatIdentifierFactory);
+        final WorkerParameters params = WorkerParametersFactory.newWorkerParameters("pId", "stepId", guid.getId(),
+            "currentStep", objectNames, "metadataURL", "workspaceURL");
+
+        final List<ItemStatus> response = plugin.executeList(params, handlerIO);
+        assertThat(response).hasSize(2);
+        response.forEach(itemStatus -> assertEquals(StatusCode.WARNING, itemStatus.getGlobalStatus()));
+        verify(formatIdentifier, times(8)).analysePath(any());
+    }
+
     @Test
     public void formatIdentificationWithPhysicalDataObject() throws Exception {
         when(formatIdentifier.analysePath(any())).thenReturn(getFormatIdentifierResponseList());
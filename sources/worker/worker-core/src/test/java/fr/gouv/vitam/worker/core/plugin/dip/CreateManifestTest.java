@@ -28,6 +28,8 @@ package fr.gouv.vitam.worker.core.plugin.dip;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import fr.gouv.vitam.common.exception.InvalidParseOperationException;
 import fr.gouv.vitam.common.guid.GUIDFactory;
 import fr.gouv.vitam.common.json.JsonHandler;
 import fr.gouv.vitam.common.model.ItemStatus;
@@ -62,14 +64,19 @@ import java.io.File;
 import java.io.FileInputStream;
 import java.io.InputStream;
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 import static fr.gouv.vitam.common.model.export.ExportRequest.EXPORT_QUERY_FILE_NAME;
@@ -87,6 +94,7 @@ import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.xmlunit.matchers.EvaluateXPathMatcher.hasXPath;
 
@@ -578,4 +586,113 @@ public class CreateManifestTest {
         verify(handlerIO).transferInputStreamToWorkspace(eq(VitamThreadUtils.getVitamSession().getRequestId() + ".jsonl"),
             any(InputStream.class), eq(null), eq(false));
     }
+    @Test
+    @RunWithCustomExecutor
+    public void should_write_object_groups_in_order_when_loaded_concurrently() throws Exception {
+        // Given
+        HandlerIO handlerIO = mock(HandlerIO.class);
+        MetaDataClient metaDataClient = mock(MetaDataClient.class);
+        given(metaDataClientFactory.getClient()).willReturn(metaDataClient);
+        VitamThreadUtils.getVitamSession().setTenantId(TENANT_ID);
+        AccessContractModel accessContractModel = new AccessContractModel();
+        accessContractModel.setEveryDataObjectVersion(true);
+        accessContractModel.setEveryOriginatingAgency(true);
+        VitamThreadUtils.getVitamSession().setContract(accessContractModel);
+
+        JsonNode queryUnit =
+            JsonHandler.getFromInputStream(getClass().getResourceAsStream("/CreateManifest/query.json"));
+        JsonNode unitTemplate = JsonHandler.getFromInputStream(
+            getClass().getResourceAsStream("/CreateManifest/resultMetadata.json")).get("$results").get(0);
+        JsonNode objectGroupTemplate = JsonHandler.getFromInputStream(
+            getClass().getResourceAsStream("/CreateManifest/resultObjectGroup.json")).get("$results").get(0);
+
+        // 5 partitions of object groups, more than the number of concurrent object group queries
+        int nbUnits = 4500;
+        ArrayNode units = JsonHandler.createArrayNode();
+        Map<String, String> objectGroupByUnit = new HashMap<>();
+        for (int i = 0; i < nbUnits; i++) {
+            String unitId = GUIDFactory.newUnitGUID(TENANT_ID).getId();
+            String objectGroupId = GUIDFactory.newObjectGroupGUID(TENANT_ID).getId();
+            ObjectNode unit = (ObjectNode) unitTemplate.deepCopy();
+            unit.put("#id", unitId);
+            unit.put("#object", objectGroupId);
+            unit.set("#unitups", JsonHandler.createArrayNode());
+            unit.set("#allunitups", JsonHandler.createArrayNode());
+            unit.set("#uds", JsonHandler.createObjectNode());
+            units.add(unit);
+            objectGroupByUnit.put(unitId, objectGroupId);
+        }
+        List<String> expectedObjectGroupOrder = new ArrayList<>(objectGroupByUnit.values());
+
+        given(metaDataClient.selectUnits(any())).willAnswer(invocation -> createResponse(units));
+        given(metaDataClient.selectObjectGroups(any())).willAnswer(invocation -> {
+            JsonNode query = invocation.getArgument(0);
+            ArrayNode objectGroups = JsonHandler.createArrayNode();
+            for (JsonNode objectGroupId : query.get("$query").get("$in").get("#id")) {
+                ObjectNode objectGroup = (ObjectNode) objectGroupTemplate.deepCopy();
+                objectGroup.put("#id", objectGroupId.asText());
+                ObjectNode version = (ObjectNode) objectGroup.get("#qualifiers").get(0).get("versions").get(0);
+                version.put("#id", GUIDFactory.newObjectGUID(TENANT_ID).getId());
+                version.put("DataObjectGroupId", objectGroupId.asText());
+                objectGroups.add(objectGroup);
+            }
+            // Random response time, so that object group queries complete out of order
+            Thread.sleep(ThreadLocalRandom.current().nextInt(50));
+            return createResponse(objectGroups);
+        });
+
+        File manifestFile = tempFolder.newFile();
+        given(handlerIO.getOutput(MANIFEST_XML_RANK))
+            .willReturn(new ProcessingUri(UriPrefix.WORKSPACE, manifestFile.getPath()));
+        given(handlerIO.getNewLocalFile(manifestFile.getPath())).willReturn(manifestFile);
+
+        File reportFile = tempFolder.newFile();
+        given(handlerIO.getOutput(REPORT)).willReturn(new ProcessingUri(UriPrefix.WORKSPACE, reportFile.getPath()));
+        given(handlerIO.getNewLocalFile(reportFile.getPath())).willReturn(reportFile);
+
+        File guidToPathFile = tempFolder.newFile();
+        given(handlerIO.getOutput(GUID_TO_INFO_RANK))
+            .willReturn(new ProcessingUri(UriPrefix.WORKSPACE, guidToPathFile.getPath()));
+        given(handlerIO.getNewLocalFile(guidToPathFile.getPath())).willReturn(guidToPathFile);
+
+        File binaryFile = tempFolder.newFile();
+        given(handlerIO.getOutput(BINARIES_RANK))
+            .willReturn(new ProcessingUri(UriPrefix.WORKSPACE, binaryFile.getPath()));
+        given(handlerIO.getNewLocalFile(binaryFile.getPath())).willReturn(binaryFile);
+
+        ExportRequest exportRequest = new ExportRequest();
+        exportRequest.setExportWithLogBookLFC(false);
+        exportRequest.setDslRequest(queryUnit);
+        given(handlerIO.getJsonFromWorkspace(EXPORT_QUERY_FILE_NAME)).willReturn(JsonHandler.toJsonNode(exportRequest));
+
+        WorkerParameters wp = WorkerParametersFactory.newWorkerParameters();
+
+        // When
+        ItemStatus itemStatus = createManifest.execute(wp, handlerIO);
+
+        // Then
+        assertThat(itemStatus.getGlobalStatus()).isEqualTo(StatusCode.OK);
+        verify(metaDataClient, times(5)).selectObjectGroups(any());
+
+        String manifest = new String(Files.readAllBytes(manifestFile.toPath()), StandardCharsets.UTF_8);
+        Matcher dataObjectGroups = Pattern.compile("<(?:\\w+:)?DataObjectGroup id=\"([^\"]+)\"").matcher(manifest);
+        List<String> objectGroupOrder = new ArrayList<>();
+        while (dataObjectGroups.find()) {
+            objectGroupOrder.add(dataObjectGroups.group(1));
+        }
+        assertThat(objectGroupOrder).containsExactlyElementsOf(expectedObjectGroupOrder);
+    }
+
+    private JsonNode createResponse(ArrayNode results) throws InvalidParseOperationException {
+        ObjectNode hits = JsonHandler.createObjectNode();
+        hits.put("total", results.size());
+        hits.put("offset", 0);
+        hits.put("limit", results.size());
+        hits.put("size", results.size());
+        ObjectNode response = JsonHandler.createObjectNode();
+        response.put("httpCode", 200);
+        response.set("$hits", hits);
+        response.set("$results", results);
+        return response;
+    }
 }
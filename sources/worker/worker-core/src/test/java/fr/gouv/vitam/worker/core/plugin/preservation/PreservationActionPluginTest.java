@@ -33,10 +33,12 @@ import static fr.gouv.vitam.worker.core.plugin.preservation.TestWorkerParameter.
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 import java.io.ByteArrayInputStream;
@@ -46,6 +48,9 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import javax.ws.rs.core.Response;
 
@@ -67,6 +72,8 @@ import fr.gouv.vitam.batch.report.model.entry.PreservationReportEntry;
 import fr.gouv.vitam.common.VitamConfiguration;
 import fr.gouv.vitam.common.exception.VitamClientInternalException;
 import fr.gouv.vitam.common.json.JsonHandler;
+import fr.gouv.vitam.common.logging.VitamLogger;
+import fr.gouv.vitam.common.logging.VitamLoggerFactory;
 import fr.gouv.vitam.common.model.ItemStatus;
 import fr.gouv.vitam.common.model.administration.ActionTypePreservation;
 import fr.gouv.vitam.common.model.administration.preservation.ActionPreservation;
@@ -80,16 +87,19 @@ import fr.gouv.vitam.storage.engine.client.StorageClient;
 import fr.gouv.vitam.storage.engine.client.StorageClientFactory;
 import fr.gouv.vitam.worker.common.HandlerIO;
 import fr.gouv.vitam.worker.core.plugin.preservation.model.PreservationDistributionLine;
+import fr.gouv.vitam.worker.core.plugin.preservation.model.WorkflowBatchResult;
 import fr.gouv.vitam.worker.core.plugin.preservation.model.WorkflowBatchResults;
 import fr.gouv.vitam.worker.core.plugin.preservation.service.PreservationReportService;
 import fr.gouv.vitam.workspace.client.WorkspaceClient;
 import fr.gouv.vitam.workspace.client.WorkspaceClientFactory;
 
 public class PreservationActionPluginTest {
+    private static final VitamLogger LOGGER = VitamLoggerFactory.getInstance(PreservationActionPluginTest.class);
 
     private final String objectId = "TEST_ID";
     private final String griffinId = "griffinId-my-test";
     private final String griffinInfinteLoopId = "griffinInfinteLoopId-my-test";
+    private final String griffinPipelineId = "griffinPipelineId-my-test";
 
     private final TestWorkerParameter parameter = workerParameterBuilder().withContainerName("CONTAINER_NAME_TEST")
         .withRequestId("REQUEST_ID_TEST")
@@ -126,6 +136,10 @@ public class PreservationActionPluginTest {
 
     private HandlerIO handler = new TestHandlerIO();
 
+    private Path inputFolder;
+
+    private Path execFolder;
+
     private static final int WORKFLOWBATCHRESULTS_IN_MEMORY = 0;
 
     @Before
@@ -141,6 +155,8 @@ public class PreservationActionPluginTest {
 
         File inputFolder = tmpGriffinFolder.newFolder("input-folder");
         File execFolder = tmpGriffinFolder.newFolder("exec-folder");
+        this.inputFolder = inputFolder.toPath();
+        this.execFolder = execFolder.toPath();
         plugin =
             new PreservationActionPlugin(storageClientFactory, reportService, inputFolder.toPath().toString(), execFolder.toPath().toString());
 
@@ -154,6 +170,11 @@ public class PreservationActionPluginTest {
         Files.copy(Paths.get(src), target.resolve("griffin"));
         target.resolve("griffin").toFile().setExecutable(true);
 
+        target = Files.createDirectory(execFolder.toPath().resolve(griffinPipelineId));
+        src = getClass().getResource("/preservation/griffin_pipeline").toURI().getPath();
+        Files.copy(Paths.get(src), target.resolve("griffin"));
+        target.resolve("griffin").toFile().setExecutable(true);
+
         VitamThreadUtils.getVitamSession().setTenantId(0);
     }
 
@@ -269,7 +290,94 @@ public class PreservationActionPluginTest {
         ThrowingCallable throwingCallable = () -> plugin.executeList(parameter, handler);
 
         // Then
-        assertThatThrownBy(throwingCallable).isInstanceOf(ProcessingException.class).hasMessageContaining("process hasn't exited");
+        assertThatThrownBy(throwingCallable).isInstanceOf(ProcessingException.class)
+            .hasCauseInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("process hasn't exited");
+
+        List<ProcessHandle> griffinProcesses = ProcessHandle.current().children()
+            .filter(process -> process.info().commandLine().map(c -> c.contains(griffinInfinteLoopId)).orElse(false))
+            .collect(Collectors.toList());
+        for (ProcessHandle griffinProcess : griffinProcesses) {
+            griffinProcess.onExit().get(10, TimeUnit.SECONDS);
+        }
+
+        String[] filesInGriffinDir = inputFolder.resolve(griffinInfinteLoopId).toFile().list();
+        assertThat(filesInGriffinDir).isEmpty();
+    }
+
+    @Test
+    @RunWithCustomExecutor
+    public void should_split_batch_in_griffin_runs_and_gather_outputs() throws Exception {
+        // Given
+        givenPipelineBatch(25);
+        given(storageClient.getContainerAsync(eq("other_binary_strategy"), anyString(), eq(OBJECT), any()))
+            .willAnswer(invocation -> createOkResponse("image-files-with-data"));
+        PreservationActionPlugin pipelinePlugin =
+            new PreservationActionPlugin(storageClientFactory, reportService, inputFolder.toString(),
+                execFolder.toString(), 10);
+
+        // When
+        List<ItemStatus> status = pipelinePlugin.executeList(parameter, handler);
+
+        // Then
+        assertThat(status).hasSize(25).extracting(ItemStatus::getGlobalStatus).containsOnly(OK);
+        verify(storageClient, times(25)).getContainerAsync(eq("other_binary_strategy"), anyString(), eq(OBJECT), any());
+
+        WorkflowBatchResults results = (WorkflowBatchResults) handler.getInput(WORKFLOWBATCHRESULTS_IN_MEMORY);
+        assertThat(results.getWorkflowBatchResults()).hasSize(25);
+        Path outputFiles = results.getBatchDirectory().resolve(PreservationActionPlugin.OUTPUT_FILES);
+        for (WorkflowBatchResult result : results.getWorkflowBatchResults()) {
+            assertThat(outputFiles.resolve(result.getOutputExtras().get(0).getOutput().getOutputName())).exists();
+        }
+        assertThat(results.getBatchDirectory().resolve("run-0").resolve("input-files")).doesNotExist();
+        assertThat(results.getBatchDirectory().resolve("run-2").resolve("input-files")).doesNotExist();
+    }
+
+    @Test
+    @RunWithCustomExecutor
+    public void should_measure_preservation_throughput() throws Exception {
+        // Given
+        int nbObjects = 60;
+        givenPipelineBatch(nbObjects);
+        given(storageClient.getContainerAsync(eq("other_binary_strategy"), anyString(), eq(OBJECT), any()))
+            .willAnswer(invocation -> {
+                // Simulate storage latency
+                Thread.sleep(20);
+                return createOkResponse("image-files-with-data");
+            });
+
+        for (int griffinRunMaxObjects : new int[] {0, 20}) {
+            PreservationActionPlugin pipelinePlugin =
+                new PreservationActionPlugin(storageClientFactory, reportService, inputFolder.toString(),
+                    execFolder.toString(), griffinRunMaxObjects);
+
+            // When
+            long start = System.nanoTime();
+            List<ItemStatus> status = pipelinePlugin.executeList(parameter, handler);
+            long durationInMillis = Math.max(1L, (System.nanoTime() - start) / 1_000_000L);
+
+            // Then
+            assertThat(status).hasSize(nbObjects).extracting(ItemStatus::getGlobalStatus).containsOnly(OK);
+            LOGGER.info("Preservation of {} objects (griffinRunMaxObjects={}) : {} ms, {} objects/s", nbObjects,
+                griffinRunMaxObjects, durationInMillis, nbObjects * 1000L / durationInMillis);
+        }
+    }
+
+    private void givenPipelineBatch(int nbObjects) throws Exception {
+        List<PreservationDistributionLine> lines = IntStream.range(0, nbObjects)
+            .mapToObj(i -> new PreservationDistributionLine("fmt/43", "photo" + i + ".jpg",
+                Collections.singletonList(new ActionPreservation(ActionTypePreservation.ANALYSE)), "unitId" + i,
+                griffinPipelineId, "objectId" + i, false, 45, "gotId" + i, "BinaryMaster", "BinaryMaster",
+                "other_binary_strategy", "ScenarioId", "griffinIdentifier"))
+            .collect(Collectors.toList());
+        parameter.setObjectNameList(lines.stream().map(PreservationDistributionLine::getId).collect(Collectors.toList()));
+        parameter.setObjectMetadataList(lines.stream().map(line -> {
+            try {
+                return JsonHandler.toJsonNode(line);
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        }).collect(Collectors.toList()));
     }
 
     private Response createOkResponse(String entity) {
@@ -0,0 +1,224 @@
+/*
+ * Copyright French Prime minister Office/SGMAP/DINSIC/Vitam Program (2015-2020)
+ *
+ * contact.vitam@culture.gouv.fr
+ *
+ * This software is a computer program whose purpose is to implement a digital archiving back-office system managing
+ * high volumetry securely and efficiently.
+ *
+ * This software is governed by the CeCILL 2.1 license under French law and abiding by the rules of distribution of free
+ * software. You can use, modify and/ or redistribute the software under the terms of the CeCILL 2.1 license as
+ * circulated by CEA, CNRS and INRIA at the following URL "https://cecill.info".
+ *
+ * As a counterpart to the access to the source code and rights to copy, modify and redistribute granted by the license,
+ * users are provided only with a limited warranty and the software's author, the holder of the economic rights, and the
+ * successive licensors have only limited liability.
+ *
+ * In this respect, the user's attention is drawn to the risks associated with loading, using, modifying and/or
+ * developing or reproducing the software by the user in light of its specific status of free software, that may mean
+ * that it is complicated to manipulate, and that also therefore means that it is reserved for developers and
+ * experienced professionals having in-depth computer knowledge. Users are therefore encouraged to load and test the
+ * software's suitability as regards their requirements in conditions enabling the security of their systems and/or data
+ * to be ensured and, more generally, to use and operate it in the same conditions as regards security.
+ *
+ * The fact that you are presently reading this means that you have had knowledge of the CeCILL 2.1 license and that you
+ * accept its terms.
+ */
+package fr.gouv.vitam.worker.core.utils;
+
+import fr.gouv.vitam.common.guid.GUIDFactory;
+import fr.gouv.vitam.common.logging.SysErrLogger;
+import org.junit.Assume;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SpillableStringMapTest {
+
+    /**
+     * Set to true to run the benchmark (opt-in, not run by the default test suite)
+     */
+    private static final String BENCHMARK_PROPERTY = "vitam.test.benchmark";
+
+    /**
+     * Comma separated numbers of units of the synthetic manifests used by the benchmark, ex: 100000,1000000,3000000
+     */
+    private static final String BENCHMARK_UNITS_PROPERTY = "vitam.test.spillableMap.units";
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void givenSizeUnderThresholdThenStayInMemory() throws Exception {
+        SpillableStringMap instance = new SpillableStringMap(10, temporaryFolder.newFolder().toPath());
+        for (int i = 0; i < 10; i++) {
+            instance.put("id" + i, "guid" + i);
+        }
+        assertThat(instance.isSpilled()).isFalse();
+        assertThat(instance).hasSize(10).containsEntry("id5", "guid5");
+    }
+
+    @Test
+    public void givenThresholdZeroThenNeverSpill() throws Exception {
+        SpillableStringMap instance = new SpillableStringMap(0, temporaryFolder.newFolder().toPath());
+        for (int i = 0; i < 5000; i++) {
+            instance.put("id" + i, "guid" + i);
+        }
+        assertThat(instance.isSpilled()).isFalse();
+    }
+
+    @Test
+    public void givenSizeOverThresholdThenSpillAndKeepSameContent() throws Exception {
+        File folder = temporaryFolder.newFolder();
+        SpillableStringMap instance = new SpillableStringMap(100, folder.toPath());
+        Map<String, String> expected = new HashMap<>();
+        Random random = new Random(42);
+
+        for (int i = 0; i < 20000; i++) {
+            String key = "ID" + random.nextInt(10000);
+            int action = random.nextInt(10);
+            if (action < 7) {
+                String value = action == 0 ? null : "aeaqaaaaaahgausqab7boak55nw5vqaaaab" + i + "é";
+                assertThat(instance.put(key, value)).isEqualTo(expected.put(key, value));
+            } else {
+                assertThat(instance.remove(key)).isEqualTo(expected.remove(key));
+            }
+            assertThat(instance.get(key)).isEqualTo(expected.get(key));
+            assertThat(instance.containsKey(key)).isEqualTo(expected.containsKey(key));
+        }
+
+        assertThat(instance.isSpilled()).isTrue();
+        assertThat(instance).hasSameSizeAs(expected);
+        assertThat(instance).isEqualTo(expected);
+        assertThat(instance.get("unknown")).isNull();
+        assertThat(instance.get(1)).isNull();
+
+        Iterator<Map.Entry<String, String>> iterator = instance.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<String, String> entry = iterator.next();
+            if (entry.getKey().endsWith("0")) {
+                iterator.remove();
+                expected.remove(entry.getKey());
+            }
+        }
+        assertThat(instance).isEqualTo(expected);
+
+        instance.clear();
+        assertThat(instance.isSpilled()).isFalse();
+        assertThat(instance).isEmpty();
+        assertThat(folder.list()).isEmpty();
+    }
+
+    @Test
+    public void givenClearedSpilledMapThenPendingIteratorDoesNotReadReleasedStore() throws Exception {
+        File folder = temporaryFolder.newFolder();
+        SpillableStringMap instance = new SpillableStringMap(10, folder.toPath());
+        for (int i = 0; i < 100; i++) {
+            instance.put("id" + i, "guid" + i);
+        }
+        Iterator<Map.Entry<String, String>> iterator = instance.entrySet().iterator();
+        assertThat(iterator.hasNext()).isTrue();
+
+        instance.clear();
+
+        assertThat(iterator.hasNext()).isFalse();
+        assertThat(folder.list()).isEmpty();
+    }
+
+    @Test
+    public void givenSyntheticManifestThenSpilledMapsReturnSameIdsAsInHeapMaps() throws Exception {
+        int units = 10_000;
+        long inHeapChecksum = runSyntheticManifest(units, 0).checksum;
+        long spilledChecksum = runSyntheticManifest(units, units / 10).checksum;
+        assertThat(spilledChecksum).isEqualTo(inHeapChecksum);
+    }
+
+    @Test
+    public void benchmarkSyntheticManifestIdMaps() throws Exception {
+        Assume.assumeTrue("Benchmark disabled, set -D" + BENCHMARK_PROPERTY + "=true to run it",
+            Boolean.getBoolean(BENCHMARK_PROPERTY));
+        String[] sizes = System.getProperty(BENCHMARK_UNITS_PROPERTY, "100000,1000000,3000000").split(",");
+        for (String size : sizes) {
+            int units = Integer.parseInt(size.trim());
+            Result heap = runSyntheticManifest(units, 0);
+            Result spilled = runSyntheticManifest(units, units / 10);
+            SysErrLogger.FAKE_LOGGER.syserr(String.format(
+                "Synthetic manifest with %d units: in heap %d ms, peak heap %d MB / spilled %d ms, peak heap %d MB",
+                units, heap.wallTime, heap.peakHeap >> 20, spilled.wallTime, spilled.peakHeap >> 20));
+            assertThat(spilled.checksum).isEqualTo(heap.checksum);
+        }
+    }
+
+    /**
+     * Fill the identifier maps the way the manifest listener does: unit id to guid (and reverse), unit id to object
+     * group id and data object id to guid, then read them back.
+     */
+    private Result runSyntheticManifest(int units, int threshold) throws Exception {
+        File folder = temporaryFolder.newFolder();
+        System.gc();
+        resetPeakUsage();
+        long start = System.currentTimeMillis();
+        long checksum = 0;
+        try (SpillableStringMap unitIdToGuid = new SpillableStringMap(threshold, folder.toPath());
+            SpillableStringMap guidToUnitId = new SpillableStringMap(threshold, folder.toPath());
+            SpillableStringMap unitIdToGroupId = new SpillableStringMap(threshold, folder.toPath());
+            SpillableStringMap dataObjectIdToGuid = new SpillableStringMap(threshold, folder.toPath())) {
+            for (int i = 0; i < units; i++) {
+                String unitId = "ID" + i;
+                String guid = GUIDFactory.newUnitGUID(0).getId();
+                unitIdToGuid.put(unitId, guid);
+                guidToUnitId.put(guid, unitId);
+                unitIdToGroupId.put(unitId, "GOT" + i);
+                dataObjectIdToGuid.put("DO" + i, GUIDFactory.newObjectGUID(0).getId());
+            }
+            assertThat(unitIdToGuid.isSpilled()).isEqualTo(threshold > 0);
+            for (int i = 0; i < units; i++) {
+                String guid = unitIdToGuid.get("ID" + i);
+                checksum += guidToUnitId.get(guid).length() + unitIdToGroupId.get("ID" + i).length() +
+                    dataObjectIdToGuid.get("DO" + i).length();
+            }
+        }
+        return new Result(System.currentTimeMillis() - start, peakHeapUsage(), checksum);
+    }
+
+    private static void resetPeakUsage() {
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) {
+                pool.resetPeakUsage();
+            }
+        }
+    }
+
+    private static long peakHeapUsage() {
+        long peak = 0;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) {
+                peak += pool.getPeakUsage().getUsed();
+            }
+        }
+        return peak;
+    }
+
+    private static class Result {
+        private final long wallTime;
+        private final long peakHeap;
+        private final long checksum;
+
+        private Result(long wallTime, long peakHeap, long checksum) {
+            this.wallTime = wallTime;
+            this.peakHeap = peakHeap;
+            this.checksum = checksum;
+        }
+    }
+}
@@ -34,6 +34,7 @@ import fr.gouv.vitam.common.serverv2.application.CommonBusinessApplication;
 import fr.gouv.vitam.functional.administration.client.AdminManagementClientFactory;
 import fr.gouv.vitam.processing.common.exception.PluginException;
 import fr.gouv.vitam.worker.core.api.Worker;
+import fr.gouv.vitam.worker.core.plugin.CachedFileFormatLoader;
 import fr.gouv.vitam.worker.core.plugin.PluginLoader;
 import fr.gouv.vitam.worker.core.validation.MetadataValidationProvider;
 import fr.gouv.vitam.workspace.client.WorkspaceClientFactory;
@@ -84,6 +85,11 @@ public class BusinessApplication extends Application {
                 configuration.getSchemaValidatorCacheMaxEntries(),
                 configuration.getSchemaValidatorCacheTimeoutInSeconds());
 
+            CachedFileFormatLoader.initialize(
+                AdminManagementClientFactory.getInstance(),
+                configuration.getFileFormatCacheMaxEntries(),
+                configuration.getFileFormatCacheTimeoutInSeconds());
+
             commonBusinessApplication = new CommonBusinessApplication();
             singletons = new HashSet<>();
             singletons.addAll(commonBusinessApplication.getResources());
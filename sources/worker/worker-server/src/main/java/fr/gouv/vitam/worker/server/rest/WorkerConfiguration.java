@@ -54,6 +54,9 @@ public final class WorkerConfiguration extends DefaultVitamApplicationConfigurat
     private int schemaValidatorCacheMaxEntries = 100;
     private int schemaValidatorCacheTimeoutInSeconds = 300;
 
+    private int fileFormatCacheMaxEntries = 1000;
+    private int fileFormatCacheTimeoutInSeconds = 300;
+
     /**
      * WorkerConfiguration empty constructor for YAMLFactory
      */
@@ -293,4 +296,22 @@ public final class WorkerConfiguration extends DefaultVitamApplicationConfigurat
         this.schemaValidatorCacheTimeoutInSeconds = schemaValidatorCacheTimeoutInSeconds;
         return this;
     }
+
+    public int getFileFormatCacheMaxEntries() {
+        return fileFormatCacheMaxEntries;
+    }
+
+    public WorkerConfiguration setFileFormatCacheMaxEntries(int fileFormatCacheMaxEntries) {
+        this.fileFormatCacheMaxEntries = fileFormatCacheMaxEntries;
+        return this;
+    }
+
+    public int getFileFormatCacheTimeoutInSeconds() {
+        return fileFormatCacheTimeoutInSeconds;
+    }
+
+    public WorkerConfiguration setFileFormatCacheTimeoutInSeconds(int fileFormatCacheTimeoutInSeconds) {
+        this.fileFormatCacheTimeoutInSeconds = fileFormatCacheTimeoutInSeconds;
+        return this;
+    }
 }
@@ -203,6 +203,27 @@ public class WorkspaceClient extends DefaultClient {
         }
     }
 
+    /**
+     * Atomically puts an object whose size is not known in advance (chunked upload). The object is only created
+     * once the whole stream has been transferred : a stream failing before its end leaves no object behind.
+     */
+    public void putAtomicObject(String containerName, String objectName, InputStream stream)
+        throws ContentAddressableStorageServerException {
+        ParametersChecker
+            .checkParameter(ErrorMessage.CONTAINER_OBJECT_NAMES_ARE_A_MANDATORY_PARAMETER.getMessage(), containerName,
+                objectName);
+        VitamRequestBuilder request = post()
+            .withPath(ATOMIC_CONTAINERS + containerName + OBJECTS + objectName)
+            .withBody(stream)
+            .withContentType(MediaType.APPLICATION_OCTET_STREAM_TYPE)
+            .withJsonAccept();
+        try (Response response = make(request)) {
+            check(response);
+        } catch (VitamClientInternalException | ContentAddressableStorageNotFoundException | ContentAddressableStorageAlreadyExistException | ContentAddressableStorageNotAcceptableException | ContentAddressableStorageBadRequestException e) {
+            throw new ContentAddressableStorageServerException(e);
+        }
+    }
+
     public void putAtomicObject(String containerName, String objectName, InputStream stream, long size)
         throws ContentAddressableStorageServerException {
         ParametersChecker
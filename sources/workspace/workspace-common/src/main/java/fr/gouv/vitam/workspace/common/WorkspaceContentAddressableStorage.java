@@ -179,6 +179,18 @@ public interface WorkspaceContentAddressableStorage {
     void putAtomicObject(String containerName, String objectName, InputStream stream, long size)
     throws ContentAddressableStorageException;
 
+    /**
+     * Atomically puts an object of unknown size : the object is only visible once the whole stream has been read
+     * successfully.
+     *
+     * @param containerName container to place the object.
+     * @param objectName fully qualified object name relative to the container.
+     * @param stream the data
+     * @throws ContentAddressableStorageException Thrown when put action failed
+     */
+    void putAtomicObject(String containerName, String objectName, InputStream stream)
+        throws ContentAddressableStorageException;
+
     /**
      * Retrieves an object representing the data at location
      * containerName/objectName
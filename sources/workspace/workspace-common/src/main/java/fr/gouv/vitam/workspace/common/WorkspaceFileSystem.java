@@ -409,6 +409,17 @@ public class WorkspaceFileSystem implements WorkspaceContentAddressableStorage {
     @Override
     public void putAtomicObject(String containerName, String objectName, InputStream stream, long size)
         throws ContentAddressableStorageException {
+        writeAtomicObject(containerName, objectName, stream, size);
+    }
+
+    @Override
+    public void putAtomicObject(String containerName, String objectName, InputStream stream)
+        throws ContentAddressableStorageException {
+        writeAtomicObject(containerName, objectName, stream, null);
+    }
+
+    private void writeAtomicObject(String containerName, String objectName, InputStream stream, Long size)
+        throws ContentAddressableStorageException {
 
         ParametersChecker.checkParameter(ErrorMessage.CONTAINER_OBJECT_NAMES_ARE_A_MANDATORY_PARAMETER.getMessage(),
             containerName, objectName);
@@ -430,7 +441,7 @@ public class WorkspaceFileSystem implements WorkspaceContentAddressableStorage {
             tmpFilePath = filePath.resolveSibling(uniqueId);
 
             try (OutputStream outputStream = Files.newOutputStream(tmpFilePath);
-                ExactSizeInputStream input = new ExactSizeInputStream(stream, size)) {
+                InputStream input = size == null ? stream : new ExactSizeInputStream(stream, size)) {
                 IOUtils.copy(input, outputStream);
             }
             FileUtil.fsyncFile(tmpFilePath);
@@ -52,6 +52,7 @@ import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.SequenceInputStream;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.time.temporal.ChronoUnit;
@@ -230,6 +231,39 @@ public class WorkspaceFileSystemTest {
         assertThat(is).hasSameContentAs(getInputStream("file1.pdf"));
     }
 
+    @Test
+    public void givenPutAtomicObjectWithUnknownSizeThenGetObjectOK() throws Exception {
+
+        // Given
+        storage.createContainer(CONTAINER_NAME);
+
+        // When
+        storage.putAtomicObject(CONTAINER_NAME, OBJECT_NAME, getInputStream("file1.pdf"));
+
+        // Then
+        assertThat(storage.isExistingObject(CONTAINER_NAME, OBJECT_NAME)).isTrue();
+        InputStream is = (InputStream) storage.getObject(CONTAINER_NAME, OBJECT_NAME, null, null).getEntity();
+        assertThat(is).hasSameContentAs(getInputStream("file1.pdf"));
+    }
+
+    @Test
+    public void givenFailingStreamWhenPutAtomicObjectWithUnknownSizeThenNoObjectCreated() throws Exception {
+
+        // Given
+        storage.createContainer(CONTAINER_NAME);
+        InputStream failingStream = new SequenceInputStream(getInputStream("file1.pdf"), new InputStream() {
+            @Override
+            public int read() throws IOException {
+                throw new IOException("Broken stream");
+            }
+        });
+
+        // When / Then
+        assertThatThrownBy(() -> storage.putAtomicObject(CONTAINER_NAME, OBJECT_NAME, failingStream))
+            .isInstanceOf(ContentAddressableStorageException.class);
+        assertThat(storage.isExistingObject(CONTAINER_NAME, OBJECT_NAME)).isFalse();
+    }
+
     @Test
     public void givenPutAtomicObjectWithSubDirectoriesThenGetObjectOK() throws Exception {
 
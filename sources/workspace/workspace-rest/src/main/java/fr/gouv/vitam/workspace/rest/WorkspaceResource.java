@@ -569,11 +569,13 @@ public class WorkspaceResource extends ApplicationStatusResource {
     }
 
     /**
-     * puts an atomic object into a container
+     * puts an atomic object into a container. When no content length header is set, the object is read until the
+     * end of the (chunked) stream.
      *
      * @param stream data input stream
      * @param objectName name of data object
      * @param containerName name of container
+     * @param size expected size of the object, if known
      * @return Response
      */
     @Path("/atomic_containers/{containerName}/objects/{objectName:.*}")
@@ -582,11 +584,15 @@ public class WorkspaceResource extends ApplicationStatusResource {
     @Produces(MediaType.APPLICATION_JSON)
     public Response putAtomicObject(InputStream stream, @PathParam(CONTAINER_NAME) String containerName,
         @PathParam(OBJECT_NAME) String objectName,
-        @HeaderParam(GlobalDataRest.X_CONTENT_LENGTH) long size) {
+        @HeaderParam(GlobalDataRest.X_CONTENT_LENGTH) Long size) {
         try {
             ParametersChecker.checkParameter(ErrorMessage.CONTAINER_NAME_IS_A_MANDATORY_PARAMETER.getMessage(),
                 containerName, objectName);
             workspace.checkWorkspaceFile(containerName, objectName);
+            if (size == null) {
+                workspace.putAtomicObject(containerName, objectName, stream);
+                return Response.status(Status.CREATED).entity(containerName + "/" + objectName).build();
+            }
             if(size < 0L) {
                 throw new IllegalArgumentException("Invalid stream size " + size);
             }
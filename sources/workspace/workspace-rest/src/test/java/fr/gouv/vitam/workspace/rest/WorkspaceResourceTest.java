@@ -837,6 +837,24 @@ public class WorkspaceResourceTest {
         getObjectOk("test 1");
     }
 
+    @Test
+    public void givenPutAtomicObjectWithoutContentLengthThenGetObjectOK() throws Exception {
+
+        // Given
+        createContainerOK();
+
+        // When
+        byte[] data = "test 1".getBytes(StandardCharsets.UTF_8);
+        with()
+            .contentType(ContentType.BINARY)
+            .body(data)
+            .when().post("/atomic_containers/" + CONTAINER_NAME + "/objects/myObject")
+            .then().statusCode(Status.CREATED.getStatusCode());
+
+        // Then
+        getObjectOk("test 1");
+    }
+
     @Test
     public void givenExistingFileWhenPutAtomicObjectThenException() throws Exception {
 